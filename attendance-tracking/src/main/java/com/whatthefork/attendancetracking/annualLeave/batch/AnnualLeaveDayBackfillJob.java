@@ -0,0 +1,70 @@
+package com.whatthefork.attendancetracking.annualLeave.batch;
+
+import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeaveHistory;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveDayJdbcRepository;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 연차 사용일(AnnualLeaveDay) 채우기
+ * 사용일 테이블이 생기기 전에 결재된 연차 중 끝난 지 backfill-days 이내인 것만 청크 단위로 등록한다.
+ * 이미 등록된 이력은 조회 조건에서 빠지므로 여러 인스턴스가 동시에 떠도 대상이 금방 0건이 된다.
+ */
+@Slf4j
+@Component
+public class AnnualLeaveDayBackfillJob {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final AnnualLeaveHistoryRepository annualLeaveHistoryRepository;
+    private final AnnualLeaveDayJdbcRepository annualLeaveDayJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int backfillDays;
+
+    public AnnualLeaveDayBackfillJob(AnnualLeaveHistoryRepository annualLeaveHistoryRepository,
+                                     AnnualLeaveDayJdbcRepository annualLeaveDayJdbcRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     Clock clock,
+                                     @Value("${annual-leave.overlap.backfill-days:400}") int backfillDays) {
+        this.annualLeaveHistoryRepository = annualLeaveHistoryRepository;
+        this.annualLeaveDayJdbcRepository = annualLeaveDayJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.backfillDays = backfillDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        LocalDate from = LocalDate.now(clock).minusDays(backfillDays);
+        int filled = 0;
+        try {
+            while (true) {
+                Integer count = transactionTemplate.execute(status -> {
+                    List<AnnualLeaveHistory> histories =
+                            annualLeaveHistoryRepository.findWithoutDaysEndingFrom(from, PageRequest.of(0, CHUNK_SIZE));
+                    annualLeaveDayJdbcRepository.insertDays(histories);
+                    return histories.size();
+                });
+                filled += count;
+                if (count < CHUNK_SIZE) {
+                    break;
+                }
+            }
+            log.info("[연차 사용일] 연차 이력 {}건 사용일 등록", filled);
+        } catch (Exception e) {
+            // 다른 인스턴스가 같은 이력을 먼저 등록했으면 유니크 키에 걸림 -> 다음 기동 때 남은 것만 다시 시도
+            log.warn("[연차 사용일] 사용일 채우기 중단 ({}건 등록): {}", filled, e.getMessage());
+        }
+    }
+}
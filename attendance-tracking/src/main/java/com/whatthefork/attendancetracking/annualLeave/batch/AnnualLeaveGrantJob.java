@@ -0,0 +1,99 @@
+package com.whatthefork.attendancetracking.annualLeave.batch;
+
+import com.whatthefork.attendancetracking.annualLeave.dto.AnnualLeaveGrantResponse;
+import com.whatthefork.attendancetracking.annualLeave.service.AnnualLeaveGrantService;
+import com.whatthefork.attendancetracking.client.UserFeignClient;
+import com.whatthefork.attendancetracking.client.dto.UserDTO;
+import com.whatthefork.attendancetracking.client.dto.UserListResponse;
+import com.whatthefork.attendancetracking.common.ApiResponse;
+import com.whatthefork.attendancetracking.common.error.BusinessException;
+import com.whatthefork.attendancetracking.common.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연초 연차 일괄 부여 배치
+ * user-service 에서 직원 목록을 직원번호 순으로 chunk-size 만큼씩 받아와 청크별로 부여/커밋한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnnualLeaveGrantJob {
+
+    private final UserFeignClient userFeignClient;
+    private final AnnualLeaveGrantService annualLeaveGrantService;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${annual-leave.grant.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${annual-leave.grant.cron:0 0 1 1 1 *}")
+    public void grantForNewYear() {
+        try {
+            run(LocalDate.now().getYear(), 0L);
+        } catch (BusinessException e) {
+            log.warn("연차 부여 배치 건너뜀 : {}", e.getMessage());
+        }
+    }
+
+    //fromMemberId 다음 직원부터 부여 (처음부터면 0)
+    public AnnualLeaveGrantResponse run(Integer year, Long fromMemberId) {
+
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.ANNUAL_LEAVE_GRANT_IN_PROGRESS);
+        }
+
+        try {
+            long lastMemberId = fromMemberId == null ? 0L : fromMemberId;
+            int processedCount = 0;
+            int grantedCount = 0;
+
+            while (true) {
+                List<UserDTO> users = fetchUsers(lastMemberId);
+                if (users.isEmpty()) {
+                    break;
+                }
+
+                List<Long> memberIds = users.stream().map(UserDTO::getId).toList();
+
+                grantedCount += annualLeaveGrantService.grantChunk(year, memberIds);
+                processedCount += memberIds.size();
+                lastMemberId = memberIds.get(memberIds.size() - 1);
+
+                log.info("연차 부여 year={} lastMemberId={} processed={} granted={}",
+                        year, lastMemberId, processedCount, grantedCount);
+
+                if (users.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            return AnnualLeaveGrantResponse.builder()
+                    .year(year)
+                    .processedCount(processedCount)
+                    .grantedCount(grantedCount)
+                    .lastMemberId(lastMemberId)
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private List<UserDTO> fetchUsers(long lastMemberId) {
+
+        ApiResponse<UserListResponse> response = userFeignClient.getUsers(lastMemberId, chunkSize);
+
+        if (response == null || response.getData() == null || response.getData().getUsers() == null) {
+            return List.of();
+        }
+        return response.getData().getUsers();
+    }
+}
@@ -1,16 +1,21 @@
 package com.whatthefork.attendancetracking.annualLeave.controller;
 
+import com.whatthefork.attendancetracking.annualLeave.batch.AnnualLeaveGrantJob;
+import com.whatthefork.attendancetracking.annualLeave.dto.AnnualLeaveGrantResponse;
 import com.whatthefork.attendancetracking.annualLeave.dto.AnnualLeaveHistoryResponse;
 import com.whatthefork.attendancetracking.annualLeave.dto.AnnualLeaveResponse;
 import com.whatthefork.attendancetracking.annualLeave.dto.LeaveAnnualRequestDto;
+import com.whatthefork.attendancetracking.annualLeave.dto.LeaveOverlapResponse;
 import com.whatthefork.attendancetracking.annualLeave.service.AnnualLeaveService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import com.whatthefork.attendancetracking.common.ApiResponse;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +27,7 @@ import static com.whatthefork.attendancetracking.common.ApiResponse.success;
 public class AnnualLeaveController {
 
     private final AnnualLeaveService annualLeaveService;
+    private final AnnualLeaveGrantJob annualLeaveGrantJob;
 
     @Operation(summary = "연차 현황 조회", description = "연차 현황을 조회합니다.(년도별)")
     @GetMapping("/{year}")
@@ -48,6 +54,18 @@ public class AnnualLeaveController {
         return ResponseEntity.ok(success(responses));
     }
 
+    @Operation(summary = "기간이 겹치는 연차 조회", description = "지정한 기간에 연차 중인 직원을 조회합니다. (memberIds 로 직원 지정, teamOf 로 해당 직원과 같은 부서만)")
+    @GetMapping("/overlaps")
+    public ResponseEntity<ApiResponse> getOverlaps(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false) List<Long> memberIds,
+            @RequestParam(required = false) Long teamOf
+    ) {
+        List<LeaveOverlapResponse> responses = annualLeaveService.getOverlaps(start, end, memberIds, teamOf);
+        return ResponseEntity.ok(success(responses));
+    }
+
     @PostMapping("/decrease")
     public ResponseEntity<ApiResponse> decreaseAnnual(@RequestBody LeaveAnnualRequestDto requestDto){
 
@@ -56,5 +74,15 @@ public class AnnualLeaveController {
         return ResponseEntity.ok(success("success"));
     }
 
+    @Operation(summary = "연차 일괄 부여", description = "해당 년도 연차를 전 직원에게 일괄 부여합니다.(관리자, 중단된 경우 fromMemberId부터 재시작)")
+    @PostMapping("/grant/{year}")
+    public ResponseEntity<ApiResponse> grantAnnualLeave(
+            @PathVariable Integer year,
+            @RequestParam(defaultValue = "0") Long fromMemberId
+    ) {
+        AnnualLeaveGrantResponse response = annualLeaveGrantJob.run(year, fromMemberId);
+        return ResponseEntity.ok(success(response));
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.whatthefork.attendancetracking.annualLeave.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+//연차 사용일 (연차 이력 1건 -> 사용 기간의 하루당 1행)
+//기간 겹침 조회를 날짜 인덱스 범위 조회 한 번으로 처리하기 위한 테이블, AnnualLeaveDayJdbcRepository 로만 씀
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_annual_leave_day_history_date",
+        columnNames = {"history_id", "leave_date"}
+), indexes = @Index(name = "idx_annual_leave_day_date", columnList = "leave_date, member_id"))
+public class AnnualLeaveDay {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "history_id", nullable = false)
+    private Long historyId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "leave_date", nullable = false)
+    private LocalDate leaveDate;
+}
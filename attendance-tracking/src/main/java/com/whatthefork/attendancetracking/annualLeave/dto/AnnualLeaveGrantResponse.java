@@ -0,0 +1,20 @@
+package com.whatthefork.attendancetracking.annualLeave.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AnnualLeaveGrantResponse {
+
+    private Integer year;
+
+    //조회한 직원 수
+    private Integer processedCount;
+
+    //새로 연차가 부여된 직원 수 (이미 부여된 직원은 제외)
+    private Integer grantedCount;
+
+    //마지막으로 커밋된 직원번호 (재시작 시 fromMemberId로 사용)
+    private Long lastMemberId;
+}
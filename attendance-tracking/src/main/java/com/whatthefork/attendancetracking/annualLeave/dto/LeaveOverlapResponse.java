@@ -0,0 +1,19 @@
+package com.whatthefork.attendancetracking.annualLeave.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class LeaveOverlapResponse {
+
+    private Long historyId;
+
+    private Long memberId;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+}
@@ -0,0 +1,47 @@
+package com.whatthefork.attendancetracking.annualLeave.repository;
+
+import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeaveHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class AnnualLeaveDayJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO annual_leave_day (history_id, member_id, leave_date)
+            VALUES (?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //연차 이력의 사용 기간을 하루씩 등록 (JDBC batch, 이력 저장과 같은 트랜잭션에서 호출)
+    public void insertDays(Collection<AnnualLeaveHistory> histories) {
+
+        List<LeaveDay> days = new ArrayList<>();
+        for (AnnualLeaveHistory history : histories) {
+            for (LocalDate day = history.getStartDate(); !day.isAfter(history.getEndDate()); day = day.plusDays(1)) {
+                days.add(new LeaveDay(history.getId(), history.getMemberId(), day));
+            }
+        }
+        if (days.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, days, days.size(), (ps, day) -> {
+            ps.setLong(1, day.historyId());
+            ps.setLong(2, day.memberId());
+            ps.setDate(3, Date.valueOf(day.leaveDate()));
+        });
+    }
+
+    private record LeaveDay(Long historyId, Long memberId, LocalDate leaveDate) {
+    }
+}
@@ -1,12 +1,49 @@
 package com.whatthefork.attendancetracking.annualLeave.repository;
 
 import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeaveHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface AnnualLeaveHistoryRepository extends JpaRepository<AnnualLeaveHistory, Long> {
 
     List<AnnualLeaveHistory> findByMemberIdAndStartDateBetween(Long memberId, LocalDate start, LocalDate end);
+
+    // [start, end] 와 하루라도 겹치는 연차 (사용일 테이블의 날짜 범위로 찾고 이력은 id 로 읽음)
+    @Query("""
+            SELECT h
+            FROM AnnualLeaveHistory h
+            WHERE h.id IN (
+                SELECT d.historyId FROM AnnualLeaveDay d
+                WHERE d.leaveDate BETWEEN :start AND :end
+            )
+            ORDER BY h.startDate, h.memberId
+        """)
+    List<AnnualLeaveHistory> findOverlapping(LocalDate start, LocalDate end);
+
+    @Query("""
+            SELECT h
+            FROM AnnualLeaveHistory h
+            WHERE h.id IN (
+                SELECT d.historyId FROM AnnualLeaveDay d
+                WHERE d.leaveDate BETWEEN :start AND :end
+                AND d.memberId IN :memberIds
+            )
+            ORDER BY h.startDate, h.memberId
+        """)
+    List<AnnualLeaveHistory> findOverlappingByMemberIdIn(LocalDate start, LocalDate end, Collection<Long> memberIds);
+
+    // 사용일이 아직 등록되지 않은 이력 (사용일 테이블 도입 전 기록 채우기용, endDate 가 from 이후인 것만)
+    @Query("""
+            SELECT h
+            FROM AnnualLeaveHistory h
+            WHERE h.endDate >= :from
+            AND NOT EXISTS (SELECT d.id FROM AnnualLeaveDay d WHERE d.historyId = h.id)
+            ORDER BY h.id
+        """)
+    List<AnnualLeaveHistory> findWithoutDaysEndingFrom(LocalDate from, Pageable pageable);
 }
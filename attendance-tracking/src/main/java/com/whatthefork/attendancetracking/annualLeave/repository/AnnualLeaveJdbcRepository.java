@@ -0,0 +1,53 @@
+package com.whatthefork.attendancetracking.annualLeave.repository;
+
+import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeave;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class AnnualLeaveJdbcRepository {
+
+    // (member_id, year) 유니크 제약에 걸리는 행은 무시 -> 배치를 다시 돌려도 중복 부여되지 않음
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO annual_leave (member_id, total_leave, used_leave, year, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //연차 일괄 등록 (JDBC batch)
+    public int batchInsert(List<AnnualLeave> annualLeaves) {
+
+        if (annualLeaves.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, annualLeaves, annualLeaves.size(), (ps, annualLeave) -> {
+            ps.setLong(1, annualLeave.getMemberId());
+            ps.setInt(2, annualLeave.getTotalLeave());
+            ps.setInt(3, annualLeave.getUsedLeave());
+            ps.setInt(4, annualLeave.getYear());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+}
@@ -1,11 +1,23 @@
 package com.whatthefork.attendancetracking.annualLeave.repository;
 
 import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeave;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AnnualLeaveRepository extends JpaRepository<AnnualLeave, Integer> {
 
     AnnualLeave findByMemberIdAndYear(Long memberId, Integer year);
+
+    // 연차 차감용 조회 (SELECT ... FOR UPDATE)
+    // 동시에 들어온 결재 완료 요청이 같은 잔여 연차를 보고 중복 차감하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    AnnualLeave findWithLockByMemberIdAndYear(Long memberId, Integer year);
+
+    // 연차 부여 배치: 청크 단위로 대상 직원들의 해당 년도 연차를 한 번에 조회
+    List<AnnualLeave> findAllByYearAndMemberIdIn(Integer year, Collection<Long> memberIds);
 }
@@ -0,0 +1,70 @@
+package com.whatthefork.attendancetracking.annualLeave.service;
+
+import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeave;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveJdbcRepository;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class AnnualLeaveGrantService {
+
+    private final AnnualLeaveRepository annualLeaveRepository;
+    private final AnnualLeaveJdbcRepository annualLeaveJdbcRepository;
+
+    //기본 부여 연차
+    private final int baseDays;
+
+    //전년도 잔여 연차 이월 최대치
+    private final int maxCarryOverDays;
+
+    public AnnualLeaveGrantService(AnnualLeaveRepository annualLeaveRepository,
+                                   AnnualLeaveJdbcRepository annualLeaveJdbcRepository,
+                                   @Value("${annual-leave.grant.base-days:15}") int baseDays,
+                                   @Value("${annual-leave.grant.max-carry-over-days:5}") int maxCarryOverDays) {
+        this.annualLeaveRepository = annualLeaveRepository;
+        this.annualLeaveJdbcRepository = annualLeaveJdbcRepository;
+        this.baseDays = baseDays;
+        this.maxCarryOverDays = maxCarryOverDays;
+    }
+
+    //청크 단위 연차 부여 (청크마다 커밋되므로 중간에 실패해도 이미 부여된 직원은 다음 실행 때 건너뜀)
+    @Transactional
+    public int grantChunk(Integer year, List<Long> memberIds) {
+
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> alreadyGranted = annualLeaveRepository.findAllByYearAndMemberIdIn(year, memberIds)
+                .stream()
+                .map(AnnualLeave::getMemberId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Integer> carryOvers = annualLeaveRepository.findAllByYearAndMemberIdIn(year - 1, memberIds)
+                .stream()
+                .collect(Collectors.toMap(AnnualLeave::getMemberId, this::carryOver));
+
+        List<AnnualLeave> grants = memberIds.stream()
+                .filter(memberId -> !alreadyGranted.contains(memberId))
+                .map(memberId -> AnnualLeave.builder()
+                        .memberId(memberId)
+                        .totalLeave(baseDays + carryOvers.getOrDefault(memberId, 0))
+                        .usedLeave(0)
+                        .year(year)
+                        .build())
+                .toList();
+
+        return annualLeaveJdbcRepository.batchInsert(grants);
+    }
+
+    private int carryOver(AnnualLeave lastYear) {
+        return Math.min(Math.max(lastYear.getRemainingLeave(), 0), maxCarryOverDays);
+    }
+}
@@ -6,26 +6,46 @@ import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeaveHistory;
 import com.whatthefork.attendancetracking.annualLeave.dto.AnnualLeaveHistoryResponse;
 import com.whatthefork.attendancetracking.annualLeave.dto.AnnualLeaveResponse;
 import com.whatthefork.attendancetracking.annualLeave.dto.LeaveAnnualRequestDto;
+import com.whatthefork.attendancetracking.annualLeave.dto.LeaveOverlapResponse;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveDayJdbcRepository;
 import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveHistoryRepository;
 import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveRepository;
+import com.whatthefork.attendancetracking.client.UserFeignClient;
+import com.whatthefork.attendancetracking.client.dto.UserDTO;
+import com.whatthefork.attendancetracking.client.dto.UserListResponse;
+import com.whatthefork.attendancetracking.common.ApiResponse;
 import com.whatthefork.attendancetracking.common.error.BusinessException;
 import com.whatthefork.attendancetracking.common.error.ErrorCode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AnnualLeaveService {
 
+    //user-service /users/batch 최대 1000명
+    private static final int USER_BATCH_SIZE = 1000;
+
     private final AnnualLeaveRepository annualLeaveRepository;
     private final AnnualLeaveHistoryRepository annualLeaveHistoryRepository;
+    private final AnnualLeaveDayJdbcRepository annualLeaveDayJdbcRepository;
+    private final UserFeignClient userFeignClient;
 
 
     //연차 년도 현황 조회
@@ -88,11 +108,13 @@ public class AnnualLeaveService {
                 .toList();
     }
 
+    //연차 차감 (결재 완료 시 호출)
+    //잔여 연차 확인 ~ usedLeave 증가까지 행 잠금을 잡고 진행해서 동시 결재로 인한 초과 차감 방지
     @Transactional
     public AnnualLeaveHistoryResponse decreaseAnnual(LeaveAnnualRequestDto requestDto) {
 
         AnnualLeave annualLeave = annualLeaveRepository
-                .findByMemberIdAndYear(requestDto.getMemberId(), requestDto.getStartDate().getYear());
+                .findWithLockByMemberIdAndYear(requestDto.getMemberId(), requestDto.getStartDate().getYear());
 
         if (annualLeave == null) {
             throw new BusinessException(ErrorCode.ANNUAL_LEAVE_NOT_FOUND);
@@ -111,6 +133,8 @@ public class AnnualLeaveService {
                 .build();
 
         annualLeaveHistoryRepository.save(history);
+        // 기간 겹침 조회용 사용일도 같은 트랜잭션에서 등록 (롤백되면 같이 사라짐)
+        annualLeaveDayJdbcRepository.insertDays(List.of(history));
 
         return AnnualLeaveHistoryResponse.builder()
                 .memberId(history.getMemberId())
@@ -120,4 +144,72 @@ public class AnnualLeaveService {
                 .approverId(history.getApproverId())
                 .build();
     }
+
+    //기간이 겹치는 연차 조회 (memberIds 가 있으면 그 직원들만, teamOf 가 있으면 그 직원과 같은 부서만)
+    //부서는 겹치는 연차를 먼저 찾은 뒤 teamOf + 해당 직원들만 user-service 에서 한 번에 조회 (트랜잭션 밖)
+    public List<LeaveOverlapResponse> getOverlaps(LocalDate start, LocalDate end, List<Long> memberIds, Long teamOf) {
+
+        if (start == null || end == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (end.isBefore(start)) {
+            throw new BusinessException(ErrorCode.ANNUAL_LEAVE_INVALID_PERIOD);
+        }
+
+        List<AnnualLeaveHistory> overlaps = memberIds != null && !memberIds.isEmpty()
+                ? annualLeaveHistoryRepository.findOverlappingByMemberIdIn(start, end, new HashSet<>(memberIds))
+                : annualLeaveHistoryRepository.findOverlapping(start, end);
+
+        Predicate<Long> memberFilter;
+        if (teamOf == null) {
+            memberFilter = memberId -> true;
+        } else {
+            Set<Long> userIds = new LinkedHashSet<>();
+            userIds.add(teamOf);
+            overlaps.forEach(history -> userIds.add(history.getMemberId()));
+            Map<Long, String> deptByUser = fetchDepts(new ArrayList<>(userIds));
+
+            if (!deptByUser.containsKey(teamOf)) {
+                throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+            }
+            String deptId = deptByUser.get(teamOf);
+            if (deptId == null) {
+                // 부서가 없는 직원은 같은 부서 동료도 없음
+                return List.of();
+            }
+            memberFilter = memberId -> deptId.equals(deptByUser.get(memberId));
+        }
+
+        return overlaps.stream()
+                .filter(history -> memberFilter.test(history.getMemberId()))
+                .map(history -> LeaveOverlapResponse.builder()
+                        .historyId(history.getId())
+                        .memberId(history.getMemberId())
+                        .startDate(history.getStartDate())
+                        .endDate(history.getEndDate())
+                        .build())
+                .toList();
+    }
+
+    //직원 -> 부서 (user-service batch 조회, 부서 없는 직원은 null 값), 조회 실패 시 캐시로 대신하지 않고 예외
+    private Map<Long, String> fetchDepts(List<Long> userIds) {
+        Map<Long, String> deptByUser = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += USER_BATCH_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + USER_BATCH_SIZE, userIds.size()));
+            ApiResponse<UserListResponse> response;
+            try {
+                response = userFeignClient.getUsersByIds(chunk);
+            } catch (Exception e) {
+                log.warn("[연차 겹침 조회] 직원 {}명 부서 조회 실패: {}", chunk.size(), e.getMessage());
+                throw new BusinessException(ErrorCode.USER_SERVICE_UNAVAILABLE);
+            }
+            if (response == null || response.getData() == null || response.getData().getUsers() == null) {
+                throw new BusinessException(ErrorCode.USER_SERVICE_UNAVAILABLE);
+            }
+            for (UserDTO user : response.getData().getUsers()) {
+                deptByUser.put(user.getId(), user.getDept_id());
+            }
+        }
+        return deptByUser;
+    }
 }
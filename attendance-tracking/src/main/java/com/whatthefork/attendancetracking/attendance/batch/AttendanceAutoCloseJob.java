@@ -0,0 +1,110 @@
+package com.whatthefork.attendancetracking.attendance.batch;
+
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceAutoCloseResponse;
+import com.whatthefork.attendancetracking.attendance.service.AttendanceAutoCloseService;
+import com.whatthefork.attendancetracking.attendance.service.AttendanceAutoCloseService.ChunkResult;
+import com.whatthefork.attendancetracking.common.error.BusinessException;
+import com.whatthefork.attendancetracking.common.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 미퇴근 기록 자동 퇴근 처리 배치
+ * 오늘 이전에 출근하고 퇴근을 안 찍은 기록을 id 순으로 chunk-size 만큼씩 닫고 청크별로 커밋한다.
+ */
+@Slf4j
+@Component
+public class AttendanceAutoCloseJob {
+
+    private final AttendanceAutoCloseService attendanceAutoCloseService;
+    private final Clock clock;
+    private final int chunkSize;
+
+    private final Counter closedCounter;
+    private final Counter skippedCounter;
+    private final Timer runTimer;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public AttendanceAutoCloseJob(AttendanceAutoCloseService attendanceAutoCloseService,
+                                  Clock clock,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${attendance.auto-close.chunk-size:500}") int chunkSize) {
+        this.attendanceAutoCloseService = attendanceAutoCloseService;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.closedCounter = meterRegistry.counter("attendance.auto_close.closed");
+        this.skippedCounter = meterRegistry.counter("attendance.auto_close.skipped");
+        this.runTimer = meterRegistry.timer("attendance.auto_close.duration");
+    }
+
+    @Scheduled(cron = "${attendance.auto-close.cron:0 0 3 * * *}")
+    public void closeForgottenCheckOuts() {
+        try {
+            run();
+        } catch (BusinessException e) {
+            log.warn("자동 퇴근 처리 배치 건너뜀 : {}", e.getMessage());
+        }
+    }
+
+    public AttendanceAutoCloseResponse run() {
+
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.ATTENDANCE_AUTO_CLOSE_IN_PROGRESS);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDate today = now.toLocalDate();
+
+            long lastId = 0L;
+            int scannedCount = 0;
+            int closedCount = 0;
+            int skippedCount = 0;
+
+            while (true) {
+                ChunkResult result = attendanceAutoCloseService.closeChunk(today.atStartOfDay(), now, lastId, chunkSize);
+
+                scannedCount += result.scanned();
+                closedCount += result.closed();
+                skippedCount += result.skipped();
+                lastId = result.lastId();
+
+                closedCounter.increment(result.closed());
+                skippedCounter.increment(result.skipped());
+
+                if (result.scanned() < chunkSize) {
+                    break;
+                }
+            }
+
+            long elapsedNanos = System.nanoTime() - startedAt;
+            runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            log.info("자동 퇴근 처리 before={} scanned={} closed={} skipped={} elapsed={}ms",
+                    today, scannedCount, closedCount, skippedCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+            return AttendanceAutoCloseResponse.builder()
+                    .before(today)
+                    .scannedCount(scannedCount)
+                    .closedCount(closedCount)
+                    .skippedCount(skippedCount)
+                    .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+}
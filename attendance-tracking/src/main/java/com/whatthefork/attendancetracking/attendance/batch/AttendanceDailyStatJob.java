@@ -0,0 +1,48 @@
+package com.whatthefork.attendancetracking.attendance.batch;
+
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceDailyStatJdbcRepository;
+import com.whatthefork.attendancetracking.attendance.service.AttendanceAnomalyDetector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * 이상 근태용 하루 요약(AttendanceDailyStat) 관리
+ * - 기동 시 최근 4주 출퇴근 기록 중 요약이 없는 날만 채움 (이미 있는 행은 출퇴근 반영 쪽 값 유지)
+ * - 매일 집계 기간(4주)이 지난 요약을 지워 테이블을 사용자 수 x 4주 크기로 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceDailyStatJob {
+
+    private final AttendanceDailyStatJdbcRepository attendanceDailyStatJdbcRepository;
+    private final Clock clock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int inserted = attendanceDailyStatJdbcRepository.backfillSince(windowStart());
+            log.info("[이상 근태 요약] 최근 {}일 요약 {}건 채움", AttendanceAnomalyDetector.DAYS, inserted);
+        } catch (Exception e) {
+            log.warn("[이상 근태 요약] 요약 채우기 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${attendance.anomaly.purge-cron:0 10 0 * * *}")
+    public void purge() {
+        int deleted = attendanceDailyStatJdbcRepository.deleteBefore(windowStart());
+        log.info("[이상 근태 요약] 지난 요약 {}건 삭제", deleted);
+    }
+
+    //오늘 포함 최근 4주의 첫날 (AttendanceAnomalyDetector 집계 기간과 같음)
+    private LocalDate windowStart() {
+        return LocalDate.now(clock).minusDays(AttendanceAnomalyDetector.DAYS - 1);
+    }
+}
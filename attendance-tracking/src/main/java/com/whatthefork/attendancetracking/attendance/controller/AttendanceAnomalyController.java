@@ -0,0 +1,27 @@
+package com.whatthefork.attendancetracking.attendance.controller;
+
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceAnomalyResponse;
+import com.whatthefork.attendancetracking.attendance.service.AttendanceAnomalyDetector;
+import com.whatthefork.attendancetracking.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class AttendanceAnomalyController {
+
+    private final AttendanceAnomalyDetector attendanceAnomalyDetector;
+
+    @Operation(summary = "이상 근태 사용자 조회", description = "최근 4주 지각이 잦거나 초과근무가 급증한 사용자를 조회합니다.")
+    @GetMapping("/anomalies")
+    public ResponseEntity<ApiResponse> getAnomalies() {
+
+        List<AttendanceAnomalyResponse> responses = attendanceAnomalyDetector.findFlagged();
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+}
@@ -1,9 +1,16 @@
 package com.whatthefork.attendancetracking.attendance.controller;
 
+import com.whatthefork.attendancetracking.attendance.batch.AttendanceAutoCloseJob;
 import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceAutoCloseResponse;
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceCalendarResponse;
 import com.whatthefork.attendancetracking.attendance.dto.AttendanceResponse;
 import com.whatthefork.attendancetracking.attendance.dto.AttendanceTotalResponse;
+import com.whatthefork.attendancetracking.attendance.dto.BulkPunchRequest;
+import com.whatthefork.attendancetracking.attendance.dto.BulkPunchResponse;
 import com.whatthefork.attendancetracking.attendance.repository.AttendanceRepository;
+import com.whatthefork.attendancetracking.attendance.service.AttendanceCalendarService;
+import com.whatthefork.attendancetracking.attendance.service.AttendanceIngestService;
 import com.whatthefork.attendancetracking.attendance.service.AttendanceService;
 import com.whatthefork.attendancetracking.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +29,9 @@ import java.util.Optional;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final AttendanceIngestService attendanceIngestService;
+    private final AttendanceCalendarService attendanceCalendarService;
+    private final AttendanceAutoCloseJob attendanceAutoCloseJob;
 
     @Operation(summary = "출근 등록", description = "출근을 등록합니다.")
     @PostMapping("/checkIn")
@@ -42,6 +52,22 @@ public class AttendanceController {
         return  ResponseEntity.ok(ApiResponse.success("success"));
     }
 
+    @Operation(summary = "출퇴근 기록 일괄 등록", description = "출입 단말기/키오스크에 쌓인 출퇴근 기록을 한 번에 반영합니다.")
+    @PostMapping("/punches/bulk")
+    public ResponseEntity<ApiResponse> bulkPunch(@RequestBody BulkPunchRequest request) {
+
+        BulkPunchResponse response = attendanceIngestService.ingest(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "미퇴근 기록 자동 퇴근 처리", description = "오늘 이전의 퇴근 안 찍힌 기록을 부서 정책 퇴근 시간으로 닫습니다. (매일 새벽 자동 실행)")
+    @PostMapping("/auto-close")
+    public ResponseEntity<ApiResponse> autoClose() {
+
+        AttendanceAutoCloseResponse response = attendanceAutoCloseJob.run();
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "당일 출퇴근 기록 조회", description = "오늘의 출퇴근 기록을 조회합니다.")
     @GetMapping("/today")
     public ResponseEntity<ApiResponse> getToday(@AuthenticationPrincipal String userIds) {
@@ -74,6 +100,15 @@ public class AttendanceController {
         return  ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    @Operation(summary = "연간 출퇴근 달력 조회", description = "지정한 연도의 출근/지각/초과근무 현황을 날짜별로 조회합니다.")
+    @GetMapping("/calendar/{year}")
+    public ResponseEntity<ApiResponse> getCalendar(@AuthenticationPrincipal String userIds, @PathVariable Integer year) {
+
+        Long userId = Long.parseLong(userIds);
+        AttendanceCalendarResponse response = attendanceCalendarService.getYear(userId, year);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "이번달 출근수, 지각, 초과근무 현황 조회", description = "이번달 출근수, 지각, 초과근무 현황을 조회합니다.")
     @GetMapping("/total")
     public ResponseEntity<ApiResponse> getTotal(@AuthenticationPrincipal String userIds) {
@@ -0,0 +1,27 @@
+package com.whatthefork.attendancetracking.attendance.controller;
+
+import com.whatthefork.attendancetracking.attendance.service.TodayAttendanceCache;
+import com.whatthefork.attendancetracking.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TodayAttendanceCacheController {
+
+    private final TodayAttendanceCache todayAttendanceCache;
+
+    @Operation(summary = "서버내부용 오늘 출퇴근 캐시 무효화", description = "다른 인스턴스에서 출퇴근이 반영된 사용자의 캐시를 지웁니다.")
+    @PostMapping("/internal/today-cache/evict")
+    public ResponseEntity<ApiResponse> evict(@RequestBody List<Long> userIds) {
+
+        todayAttendanceCache.evictLocal(userIds);
+        return ResponseEntity.ok(ApiResponse.success("success"));
+    }
+}
@@ -0,0 +1,27 @@
+package com.whatthefork.attendancetracking.attendance.controller;
+
+import com.whatthefork.attendancetracking.attendance.service.WorkScheduleResolver;
+import com.whatthefork.attendancetracking.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class WorkScheduleCacheController {
+
+    private final WorkScheduleResolver workScheduleResolver;
+
+    @Operation(summary = "서버내부용 근무 시간 정책 재로드", description = "다른 인스턴스에서 변경된 부서 근무 시간 정책을 DB 에서 다시 읽습니다.")
+    @PostMapping("/internal/work-schedule/reload")
+    public ResponseEntity<ApiResponse> reload(@RequestBody List<String> deptIds) {
+
+        deptIds.forEach(workScheduleResolver::reloadPolicy);
+        return ResponseEntity.ok(ApiResponse.success("success"));
+    }
+}
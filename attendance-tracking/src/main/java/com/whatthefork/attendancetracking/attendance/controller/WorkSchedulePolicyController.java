@@ -0,0 +1,44 @@
+package com.whatthefork.attendancetracking.attendance.controller;
+
+import com.whatthefork.attendancetracking.attendance.dto.WorkSchedulePolicyRequest;
+import com.whatthefork.attendancetracking.attendance.dto.WorkSchedulePolicyResponse;
+import com.whatthefork.attendancetracking.attendance.service.WorkSchedulePolicyService;
+import com.whatthefork.attendancetracking.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/schedules")
+public class WorkSchedulePolicyController {
+
+    private final WorkSchedulePolicyService workSchedulePolicyService;
+
+    @Operation(summary = "부서별 근무 시간 정책 목록", description = "등록된 부서별 근무 시간 정책을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<ApiResponse> getPolicies() {
+
+        List<WorkSchedulePolicyResponse> responses = workSchedulePolicyService.getPolicies();
+        return ResponseEntity.ok(ApiResponse.success(responses));
+    }
+
+    @Operation(summary = "부서 근무 시간 정책 등록/수정", description = "부서의 출근/퇴근/출근 가능 시간을 등록하거나 수정합니다.")
+    @PutMapping("/{deptId}")
+    public ResponseEntity<ApiResponse> savePolicy(@PathVariable String deptId, @RequestBody WorkSchedulePolicyRequest request) {
+
+        WorkSchedulePolicyResponse response = workSchedulePolicyService.savePolicy(deptId, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "부서 근무 시간 정책 삭제", description = "부서 정책을 삭제하고 기본 근무 시간을 적용합니다.")
+    @DeleteMapping("/{deptId}")
+    public ResponseEntity<ApiResponse> deletePolicy(@PathVariable String deptId) {
+
+        workSchedulePolicyService.deletePolicy(deptId);
+        return ResponseEntity.ok(ApiResponse.success("success"));
+    }
+}
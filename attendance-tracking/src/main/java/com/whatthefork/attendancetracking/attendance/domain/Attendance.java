@@ -5,6 +5,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,6 +19,11 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Entity
+// 퇴근 안 찍힌 기록 조회 (checkOut, 자동 퇴근 처리) / 기간별 조회 (이상 근태 하루 요약 채우기)
+@Table(indexes = {
+        @Index(name = "idx_attendance_user_open", columnList = "user_id, punch_out, punch_in"),
+        @Index(name = "idx_attendance_punch_in", columnList = "punch_in, user_id")
+})
 public class Attendance {
 
     @Id
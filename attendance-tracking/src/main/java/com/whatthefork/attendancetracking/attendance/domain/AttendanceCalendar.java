@@ -0,0 +1,64 @@
+package com.whatthefork.attendancetracking.attendance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+//사용자별 연간 출근 달력 (AttendanceYearBitmap 직렬화 값 1행)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_attendance_calendar_user_year",
+        columnNames = {"user_id", "year"}
+))
+public class AttendanceCalendar {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "year", nullable = false)
+    private Integer year;
+
+    @Column(name = "bitmap", nullable = false, columnDefinition = "VARBINARY(2048)")
+    private byte[] bitmap;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public AttendanceCalendar(Long userId, Integer year, AttendanceYearBitmap bitmap) {
+        this.userId = userId;
+        this.year = year;
+        this.bitmap = bitmap.toBytes();
+    }
+
+    public AttendanceYearBitmap toBitmap() {
+        return AttendanceYearBitmap.fromBytes(year, bitmap);
+    }
+
+    public void updateBitmap(AttendanceYearBitmap bitmap) {
+        this.bitmap = bitmap.toBytes();
+    }
+}
@@ -0,0 +1,49 @@
+package com.whatthefork.attendancetracking.attendance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+//사용자별 하루 근태 요약 (이상 근태 집계용, 최근 4주만 보관)
+//출퇴근을 반영하는 트랜잭션에서 AttendanceDailyStatJdbcRepository 로 함께 갱신
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_attendance_daily_stat_user_date",
+        columnNames = {"user_id", "work_date"}
+), indexes = @Index(name = "idx_attendance_daily_stat_date", columnList = "work_date, user_id"))
+public class AttendanceDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    //출근한 날 (야간 근무도 출근 날짜 기준)
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate;
+
+    @Column(name = "is_late", nullable = false)
+    private boolean isLate;
+
+    //퇴근이 찍힌 뒤에만 채워짐 (출근만 한 날은 0)
+    @Column(name = "overtime_minutes", nullable = false)
+    private int overtimeMinutes;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,145 @@
+package com.whatthefork.attendancetracking.attendance.domain;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * 사용자 1명의 1년치 출근 / 지각 / 초과근무 비트맵
+ *
+ * 저장 형식 (big endian)
+ * [버전 1byte][출근 46byte][지각 46byte][초과근무 46byte]
+ * [지각 분 2byte x 지각 일수][초과근무 분 2byte x 초과근무 일수]
+ * 분 단위 값은 비트가 켜진 날만 날짜 순서대로 저장 -> 1년 전부 출근해도 2KB 이하
+ */
+public class AttendanceYearBitmap {
+
+    private static final byte VERSION = 1;
+    private static final int DAYS = 366;
+    private static final int BITSET_BYTES = (DAYS + 7) / 8;
+    //unsigned short 로 저장
+    private static final int MAX_MINUTES = 0xFFFF;
+
+    private final int year;
+    private final BitSet present = new BitSet(DAYS);
+    private final BitSet late = new BitSet(DAYS);
+    private final BitSet overtime = new BitSet(DAYS);
+    private final int[] lateMinutes = new int[DAYS];
+    private final int[] overtimeMinutes = new int[DAYS];
+
+    public AttendanceYearBitmap(int year) {
+        this.year = year;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public void markCheckIn(LocalDate day, int minutesLate) {
+        int index = indexOf(day);
+        present.set(index);
+        late.set(index, minutesLate > 0);
+        lateMinutes[index] = clamp(minutesLate);
+    }
+
+    public void markCheckOut(LocalDate day, int minutesOvertime) {
+        int index = indexOf(day);
+        present.set(index);
+        overtime.set(index, minutesOvertime > 0);
+        overtimeMinutes[index] = clamp(minutesOvertime);
+    }
+
+    public boolean isPresent(LocalDate day) {
+        return present.get(indexOf(day));
+    }
+
+    public boolean isLate(LocalDate day) {
+        return late.get(indexOf(day));
+    }
+
+    public int getLateMinutes(LocalDate day) {
+        return lateMinutes[indexOf(day)];
+    }
+
+    public int getOvertimeMinutes(LocalDate day) {
+        return overtimeMinutes[indexOf(day)];
+    }
+
+    public int presentCount() {
+        return present.cardinality();
+    }
+
+    public int lateCount() {
+        return late.cardinality();
+    }
+
+    public int overtimeCount() {
+        return overtime.cardinality();
+    }
+
+    //출근한 날짜 순회용 (없으면 null)
+    public LocalDate nextPresentDay(LocalDate from) {
+        int index = present.nextSetBit(from == null ? 0 : indexOf(from));
+        return index < 0 ? null : LocalDate.ofYearDay(year, index + 1);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + BITSET_BYTES * 3 + (late.cardinality() + overtime.cardinality()) * 2);
+        buffer.put(VERSION);
+        putBitSet(buffer, present);
+        putBitSet(buffer, late);
+        putBitSet(buffer, overtime);
+        for (int i = late.nextSetBit(0); i >= 0; i = late.nextSetBit(i + 1)) {
+            buffer.putShort((short) lateMinutes[i]);
+        }
+        for (int i = overtime.nextSetBit(0); i >= 0; i = overtime.nextSetBit(i + 1)) {
+            buffer.putShort((short) overtimeMinutes[i]);
+        }
+        return buffer.array();
+    }
+
+    public static AttendanceYearBitmap fromBytes(int year, byte[] data) {
+        AttendanceYearBitmap bitmap = new AttendanceYearBitmap(year);
+        if (data == null || data.length == 0) {
+            return bitmap;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("지원하지 않는 출근 비트맵 버전: " + version);
+        }
+        readBitSet(buffer, bitmap.present);
+        readBitSet(buffer, bitmap.late);
+        readBitSet(buffer, bitmap.overtime);
+        for (int i = bitmap.late.nextSetBit(0); i >= 0; i = bitmap.late.nextSetBit(i + 1)) {
+            bitmap.lateMinutes[i] = Short.toUnsignedInt(buffer.getShort());
+        }
+        for (int i = bitmap.overtime.nextSetBit(0); i >= 0; i = bitmap.overtime.nextSetBit(i + 1)) {
+            bitmap.overtimeMinutes[i] = Short.toUnsignedInt(buffer.getShort());
+        }
+        return bitmap;
+    }
+
+    private int indexOf(LocalDate day) {
+        if (day.getYear() != year) {
+            throw new IllegalArgumentException(year + "년 비트맵에 " + day + " 날짜를 기록할 수 없습니다.");
+        }
+        return day.getDayOfYear() - 1;
+    }
+
+    private static int clamp(int minutes) {
+        return Math.max(0, Math.min(minutes, MAX_MINUTES));
+    }
+
+    private static void putBitSet(ByteBuffer buffer, BitSet bits) {
+        byte[] bytes = bits.toByteArray();
+        buffer.put(bytes);
+        buffer.position(buffer.position() + BITSET_BYTES - bytes.length);
+    }
+
+    private static void readBitSet(ByteBuffer buffer, BitSet target) {
+        byte[] bytes = new byte[BITSET_BYTES];
+        buffer.get(bytes);
+        target.or(BitSet.valueOf(bytes));
+    }
+}
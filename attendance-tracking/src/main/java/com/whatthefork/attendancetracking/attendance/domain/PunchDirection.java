@@ -0,0 +1,6 @@
+package com.whatthefork.attendancetracking.attendance.domain;
+
+public enum PunchDirection {
+    IN,
+    OUT
+}
@@ -0,0 +1,63 @@
+package com.whatthefork.attendancetracking.attendance.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 근무 시간 규칙 (지각 / 초과근무 계산 기준)
+ * 불변 객체라 캐시해서 공유하고, 계산은 초 단위 정수 연산만 사용
+ */
+@Getter
+public class WorkSchedule {
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    // (예시)회사 지정 근무 시간, 출근 찍기 가능한 시간(고민)
+    public static final WorkSchedule DEFAULT =
+            new WorkSchedule(LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(5, 0));
+
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final LocalTime checkInAllowedTime;
+
+    private final int startSecond;
+    private final int endSecond;
+    private final int checkInAllowedSecond;
+    //퇴근 시간이 출근 시간보다 빠르면 야간 교대 근무 (퇴근은 다음 날)
+    private final boolean overnight;
+
+    public WorkSchedule(LocalTime startTime, LocalTime endTime, LocalTime checkInAllowedTime) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.checkInAllowedTime = checkInAllowedTime;
+        this.startSecond = startTime.toSecondOfDay();
+        this.endSecond = endTime.toSecondOfDay();
+        this.checkInAllowedSecond = checkInAllowedTime.toSecondOfDay();
+        this.overnight = !endTime.isAfter(startTime);
+    }
+
+    public boolean isCheckInAllowed(LocalTime punchInTime) {
+        return punchInTime.toSecondOfDay() >= checkInAllowedSecond;
+    }
+
+    public boolean isLate(LocalTime punchInTime) {
+        return punchInTime.isAfter(startTime);
+    }
+
+    public int lateMinutes(LocalTime punchInTime) {
+        return isLate(punchInTime)
+                ? (punchInTime.toSecondOfDay() - startSecond) / 60
+                : 0;
+    }
+
+    //근무일 기준 퇴근 시간 이후로 찍힌 분만큼 초과근무
+    public int overtimeMinutes(LocalDate workDate, LocalDateTime punchOut) {
+        long endDay = overnight ? workDate.toEpochDay() + 1 : workDate.toEpochDay();
+        long seconds = (punchOut.toLocalDate().toEpochDay() - endDay) * SECONDS_PER_DAY
+                + punchOut.toLocalTime().toSecondOfDay() - endSecond;
+        return seconds > 0 ? (int) (seconds / 60) : 0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.whatthefork.attendancetracking.attendance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+//부서(팀)별 근무 시간 정책, 없으면 WorkSchedule.DEFAULT 적용
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_work_schedule_policy_dept",
+        columnNames = {"dept_id"}
+))
+public class WorkSchedulePolicy {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "dept_id", nullable = false)
+    private String deptId;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @Column(name = "check_in_allowed_time", nullable = false)
+    private LocalTime checkInAllowedTime;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public WorkSchedulePolicy(String deptId, LocalTime startTime, LocalTime endTime, LocalTime checkInAllowedTime) {
+        this.deptId = deptId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.checkInAllowedTime = checkInAllowedTime;
+    }
+
+    public void updateSchedule(LocalTime startTime, LocalTime endTime, LocalTime checkInAllowedTime) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.checkInAllowedTime = checkInAllowedTime;
+    }
+
+    public WorkSchedule toWorkSchedule() {
+        return new WorkSchedule(startTime, endTime, checkInAllowedTime);
+    }
+}
@@ -0,0 +1,23 @@
+package com.whatthefork.attendancetracking.attendance.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AttendanceAnomalyResponse {
+
+    private Long userId;
+
+    //최근 4주 지각 횟수
+    private int lateCount;
+
+    //최근 2주 / 그 전 2주 초과근무(분)
+    private int recentOvertimeMinutes;
+    private int previousOvertimeMinutes;
+
+    //FREQUENT_LATE, OVERTIME_RISING
+    private List<String> flags;
+}
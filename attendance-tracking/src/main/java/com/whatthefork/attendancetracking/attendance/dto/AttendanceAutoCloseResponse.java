@@ -0,0 +1,25 @@
+package com.whatthefork.attendancetracking.attendance.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class AttendanceAutoCloseResponse {
+
+    //이 날짜 이전에 출근한 기록이 대상
+    private LocalDate before;
+
+    //조회한 미퇴근 기록 수
+    private int scannedCount;
+
+    //정책 퇴근 시간으로 닫은 기록 수
+    private int closedCount;
+
+    //정책 퇴근 시간이 아직 안 된 기록 수 (야간 근무 등)
+    private int skippedCount;
+
+    private long elapsedMillis;
+}
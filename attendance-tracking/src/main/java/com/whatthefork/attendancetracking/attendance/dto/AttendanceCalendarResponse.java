@@ -0,0 +1,68 @@
+package com.whatthefork.attendancetracking.attendance.dto;
+
+import com.whatthefork.attendancetracking.attendance.domain.AttendanceYearBitmap;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Builder
+public class AttendanceCalendarResponse {
+
+    private int year;
+    private int presentCount;
+    private int lateCount;
+    private int overtimeCount;
+    private int totalLateMinutes;
+    private int totalOverTimeMinutes;
+    //출근한 날만
+    private List<CalendarDay> days;
+
+    @Getter
+    @Builder
+    public static class CalendarDay {
+
+        private LocalDate date;
+        private boolean late;
+        private int lateMinutes;
+        private int overtimeMinutes;
+    }
+
+    public static AttendanceCalendarResponse from(AttendanceYearBitmap bitmap) {
+
+        List<CalendarDay> days = new ArrayList<>(bitmap.presentCount());
+        int totalLateMinutes = 0;
+        int totalOverTimeMinutes = 0;
+
+        for (LocalDate day = bitmap.nextPresentDay(null); day != null; day = nextDay(bitmap, day)) {
+            int lateMinutes = bitmap.getLateMinutes(day);
+            int overtimeMinutes = bitmap.getOvertimeMinutes(day);
+            totalLateMinutes += lateMinutes;
+            totalOverTimeMinutes += overtimeMinutes;
+            days.add(CalendarDay.builder()
+                    .date(day)
+                    .late(bitmap.isLate(day))
+                    .lateMinutes(lateMinutes)
+                    .overtimeMinutes(overtimeMinutes)
+                    .build());
+        }
+
+        return AttendanceCalendarResponse.builder()
+                .year(bitmap.getYear())
+                .presentCount(bitmap.presentCount())
+                .lateCount(bitmap.lateCount())
+                .overtimeCount(bitmap.overtimeCount())
+                .totalLateMinutes(totalLateMinutes)
+                .totalOverTimeMinutes(totalOverTimeMinutes)
+                .days(days)
+                .build();
+    }
+
+    private static LocalDate nextDay(AttendanceYearBitmap bitmap, LocalDate day) {
+        LocalDate next = day.plusDays(1);
+        return next.getYear() == bitmap.getYear() ? bitmap.nextPresentDay(next) : null;
+    }
+}
@@ -0,0 +1,5 @@
+package com.whatthefork.attendancetracking.attendance.dto;
+
+//사용자별 최근 4주 근태 집계 (하루 요약을 user_id 로 GROUP BY 한 지각 횟수 / 최근 2주, 그 전 2주 초과근무 합계)
+public record AttendanceTrend(Long userId, Long lateCount, Long recentOvertimeMinutes, Long previousOvertimeMinutes) {
+}
@@ -0,0 +1,19 @@
+package com.whatthefork.attendancetracking.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPunchRequest {
+
+    //단말기 식별용 (로그 용도)
+    private String deviceId;
+    private List<PunchRequest> punches;
+}
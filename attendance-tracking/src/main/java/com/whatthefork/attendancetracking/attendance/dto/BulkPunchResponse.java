@@ -0,0 +1,45 @@
+package com.whatthefork.attendancetracking.attendance.dto;
+
+import com.whatthefork.attendancetracking.attendance.domain.PunchDirection;
+import com.whatthefork.attendancetracking.common.error.ErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class BulkPunchResponse {
+
+    private int receivedCount;
+    private int checkInCount;
+    private int checkOutCount;
+    //중복 / 이미 반영된 기록
+    private int duplicateCount;
+    private List<RejectedPunch> rejected;
+
+    @Getter
+    @Builder
+    public static class RejectedPunch {
+
+        //요청 목록에서의 위치
+        private int index;
+        private Long userId;
+        private LocalDateTime timestamp;
+        private PunchDirection direction;
+        private String code;
+        private String message;
+
+        public static RejectedPunch of(int index, PunchRequest punch, ErrorCode errorCode) {
+            return RejectedPunch.builder()
+                    .index(index)
+                    .userId(punch.getUserId())
+                    .timestamp(punch.getTimestamp())
+                    .direction(punch.getDirection())
+                    .code(errorCode.getCode())
+                    .message(errorCode.getMessage())
+                    .build();
+        }
+    }
+}
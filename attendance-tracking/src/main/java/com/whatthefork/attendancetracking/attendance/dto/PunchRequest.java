@@ -0,0 +1,21 @@
+package com.whatthefork.attendancetracking.attendance.dto;
+
+import com.whatthefork.attendancetracking.attendance.domain.PunchDirection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+//출입 단말기에서 찍힌 출퇴근 기록 1건
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PunchRequest {
+
+    private Long userId;
+    private LocalDateTime timestamp;
+    private PunchDirection direction;
+}
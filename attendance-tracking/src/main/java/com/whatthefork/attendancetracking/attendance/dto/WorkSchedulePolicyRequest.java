@@ -0,0 +1,20 @@
+package com.whatthefork.attendancetracking.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkSchedulePolicyRequest {
+
+    private LocalTime startTime;
+    //출근 시간보다 빠르면 야간 교대 근무 (다음 날 퇴근)
+    private LocalTime endTime;
+    private LocalTime checkInAllowedTime;
+}
@@ -0,0 +1,26 @@
+package com.whatthefork.attendancetracking.attendance.dto;
+
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedulePolicy;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+@Getter
+@Builder
+public class WorkSchedulePolicyResponse {
+
+    private String deptId;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private LocalTime checkInAllowedTime;
+
+    public static WorkSchedulePolicyResponse from(WorkSchedulePolicy policy) {
+        return WorkSchedulePolicyResponse.builder()
+                .deptId(policy.getDeptId())
+                .startTime(policy.getStartTime())
+                .endTime(policy.getEndTime())
+                .checkInAllowedTime(policy.getCheckInAllowedTime())
+                .build();
+    }
+}
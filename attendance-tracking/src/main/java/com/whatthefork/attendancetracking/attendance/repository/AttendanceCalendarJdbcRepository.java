@@ -0,0 +1,30 @@
+package com.whatthefork.attendancetracking.attendance.repository;
+
+import com.whatthefork.attendancetracking.attendance.domain.AttendanceYearBitmap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class AttendanceCalendarJdbcRepository {
+
+    // 이미 있으면 아무것도 바꾸지 않음 (동시에 첫 기록이 들어와도 유니크 키 위반 없이 한 행만 생김)
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO attendance_calendar (user_id, year, bitmap, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE user_id = user_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertIfAbsent(Long userId, int year, AttendanceYearBitmap bitmap) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(INSERT_IF_ABSENT_SQL, userId, year, bitmap.toBytes(), now, now);
+    }
+}
@@ -0,0 +1,19 @@
+package com.whatthefork.attendancetracking.attendance.repository;
+
+import com.whatthefork.attendancetracking.attendance.domain.AttendanceCalendar;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AttendanceCalendarRepository extends JpaRepository<AttendanceCalendar, Long> {
+
+    Optional<AttendanceCalendar> findByUserIdAndYear(Long userId, Integer year);
+
+    // 출근/퇴근 반영 시 같은 행을 동시에 덮어쓰지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AttendanceCalendar> findWithLockByUserIdAndYear(Long userId, Integer year);
+}
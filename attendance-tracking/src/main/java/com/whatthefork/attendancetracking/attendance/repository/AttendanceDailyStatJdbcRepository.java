@@ -0,0 +1,75 @@
+package com.whatthefork.attendancetracking.attendance.repository;
+
+import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class AttendanceDailyStatJdbcRepository {
+
+    // (사용자, 날짜)당 출근 기록은 하나라서 더하지 않고 그 기록의 현재 값으로 덮어씀 (같은 기록을 다시 반영해도 결과가 같음)
+    private static final String UPSERT_SQL = """
+            INSERT INTO attendance_daily_stat (user_id, work_date, is_late, overtime_minutes, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE is_late = VALUES(is_late), overtime_minutes = VALUES(overtime_minutes), updated_at = VALUES(updated_at)
+            """;
+
+    // 이미 있는 행은 출퇴근 반영 쪽이 최신이므로 건드리지 않음
+    private static final String BACKFILL_SQL = """
+            INSERT INTO attendance_daily_stat (user_id, work_date, is_late, overtime_minutes, updated_at)
+            SELECT a.user_id, CAST(a.punch_in AS DATE), a.is_late,
+                   CASE WHEN a.punch_out IS NOT NULL THEN a.overtime_minutes ELSE 0 END, ?
+            FROM attendance a
+            WHERE a.punch_in >= ?
+            ON DUPLICATE KEY UPDATE user_id = attendance_daily_stat.user_id
+            """;
+
+    private static final String DELETE_BEFORE_SQL = """
+            DELETE FROM attendance_daily_stat WHERE work_date < ?
+            """;
+
+    private static final Comparator<Attendance> LOCK_ORDER =
+            Comparator.comparing(Attendance::getUserId).thenComparing(Attendance::getPunchInDate);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //출퇴근 반영 트랜잭션 안에서 호출, 일괄 반영끼리 교착되지 않도록 (사용자, 날짜) 순으로 씀
+    public void upsertAll(Collection<Attendance> attendances) {
+
+        if (attendances.isEmpty()) {
+            return;
+        }
+
+        List<Attendance> sorted = attendances.stream().sorted(LOCK_ORDER).toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, sorted, sorted.size(), (ps, attendance) -> {
+            ps.setLong(1, attendance.getUserId());
+            ps.setDate(2, Date.valueOf(attendance.getPunchInDate().toLocalDate()));
+            ps.setBoolean(3, attendance.isLate());
+            ps.setInt(4, attendance.getPunchOutDate() == null ? 0 : attendance.getOvertimeMinutes());
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    //요약 테이블이 생기기 전 기록 채우기 (from 이후 출근 기록만)
+    public int backfillSince(LocalDate from) {
+
+        return jdbcTemplate.update(BACKFILL_SQL, Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(from.atStartOfDay()));
+    }
+
+    public int deleteBefore(LocalDate date) {
+
+        return jdbcTemplate.update(DELETE_BEFORE_SQL, Date.valueOf(date));
+    }
+}
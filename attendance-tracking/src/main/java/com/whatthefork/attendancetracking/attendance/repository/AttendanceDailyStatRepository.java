@@ -0,0 +1,30 @@
+package com.whatthefork.attendancetracking.attendance.repository;
+
+import com.whatthefork.attendancetracking.attendance.domain.AttendanceDailyStat;
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceTrend;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceDailyStatRepository extends JpaRepository<AttendanceDailyStat, Long> {
+
+    // 이상 근태 후보 집계 (from ~ to 하루 요약, middle 이후는 최근 2주로 계산), 기준을 하나라도 넘는 사용자만
+    @Query("""
+            SELECT new com.whatthefork.attendancetracking.attendance.dto.AttendanceTrend(
+                s.userId,
+                SUM(CASE WHEN s.isLate = true THEN 1 ELSE 0 END),
+                SUM(CASE WHEN s.workDate >= :middle THEN s.overtimeMinutes ELSE 0 END),
+                SUM(CASE WHEN s.workDate < :middle THEN s.overtimeMinutes ELSE 0 END))
+            FROM AttendanceDailyStat s
+            WHERE s.workDate >= :from
+            AND s.workDate < :to
+            GROUP BY s.userId
+            HAVING SUM(CASE WHEN s.isLate = true THEN 1 ELSE 0 END) >= :lateThreshold
+            OR SUM(CASE WHEN s.workDate >= :middle THEN s.overtimeMinutes ELSE 0 END) >= :overtimeMinMinutes
+        """)
+    List<AttendanceTrend> findTrends(LocalDate from, LocalDate middle, LocalDate to, long lateThreshold, long overtimeMinMinutes);
+}
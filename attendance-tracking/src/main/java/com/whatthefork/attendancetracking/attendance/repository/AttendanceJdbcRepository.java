@@ -0,0 +1,48 @@
+package com.whatthefork.attendancetracking.attendance.repository;
+
+import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class AttendanceJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO attendance (user_id, punch_in, punch_out, is_late, late_minutes, overtime_minutes, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //출퇴근 기록 일괄 등록 (JDBC batch, IDENTITY 전략이라 JPA saveAll 로는 배치가 안 됨)
+    public void batchInsert(List<Attendance> attendances) {
+
+        if (attendances.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, attendances, attendances.size(), (ps, attendance) -> {
+            ps.setLong(1, attendance.getUserId());
+            ps.setTimestamp(2, Timestamp.valueOf(attendance.getPunchInDate()));
+            if (attendance.getPunchOutDate() == null) {
+                ps.setNull(3, Types.TIMESTAMP);
+            } else {
+                ps.setTimestamp(3, Timestamp.valueOf(attendance.getPunchOutDate()));
+            }
+            ps.setBoolean(4, attendance.isLate());
+            ps.setInt(5, attendance.getLateMinutes());
+            ps.setInt(6, attendance.getOvertimeMinutes());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
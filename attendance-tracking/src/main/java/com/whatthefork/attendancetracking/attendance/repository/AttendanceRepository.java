@@ -1,11 +1,14 @@
 package com.whatthefork.attendancetracking.attendance.repository;
 
 import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +29,18 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
     List<Attendance> findAllByUserIdAndPunchInDateBetweenOrderByPunchInDateAsc(Long userId, LocalDateTime startDate, LocalDateTime endDate);
 
+    List<Attendance> findAllByUserIdInAndPunchInDateBetween(Collection<Long> userIds, LocalDateTime startDate, LocalDateTime endDate);
+
+    // 자동 퇴근 대상 (before 이전 출근 + 퇴근 안 찍힘), id 순으로 lastId 다음부터
+    List<Attendance> findByPunchOutDateIsNullAndPunchInDateBeforeAndIdGreaterThanOrderByIdAsc(LocalDateTime before, Long lastId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Attendance a
+            SET a.punchOutDate = :punchOut, a.overtimeMinutes = 0, a.updatedAt = :now
+            WHERE a.id IN :ids
+            AND a.punchOutDate IS NULL
+        """)
+    int closeOpenAttendances(Collection<Long> ids, LocalDateTime punchOut, LocalDateTime now);
+
 }
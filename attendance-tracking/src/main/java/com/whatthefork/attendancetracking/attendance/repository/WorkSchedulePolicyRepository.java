@@ -0,0 +1,13 @@
+package com.whatthefork.attendancetracking.attendance.repository;
+
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedulePolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface WorkSchedulePolicyRepository extends JpaRepository<WorkSchedulePolicy, Long> {
+
+    Optional<WorkSchedulePolicy> findByDeptId(String deptId);
+}
@@ -0,0 +1,91 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceAnomalyResponse;
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceTrend;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceDailyStatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 이상 근태 감지
+ * 출퇴근 원본 기록 대신 하루 요약(AttendanceDailyStat, 사용자/날짜당 1행)을 최근 4주만 집계해서 판단한다.
+ * 요약은 출근/퇴근/일괄 반영 트랜잭션에서 함께 갱신되고 4주가 지난 행은 AttendanceDailyStatJob 이 지우므로,
+ * 조회할 때마다 attendance 테이블을 훑지 않으면서도 어느 인스턴스에서 반영된 출퇴근이든 바로 보인다.
+ * (자동 퇴근 처리는 초과근무를 0 으로 닫으므로 요약을 바꾸지 않음)
+ */
+@Component
+public class AttendanceAnomalyDetector {
+
+    public static final String FREQUENT_LATE = "FREQUENT_LATE";
+    public static final String OVERTIME_RISING = "OVERTIME_RISING";
+
+    //최근 4주 (앞 2주 / 뒤 2주로 나눠 초과근무 비교)
+    public static final int DAYS = 28;
+    private static final int HALF = DAYS / 2;
+
+    private final AttendanceDailyStatRepository attendanceDailyStatRepository;
+    private final Clock clock;
+
+    private final int lateThreshold;
+    private final int overtimeMinMinutes;
+    private final double overtimeRiseRatio;
+
+    public AttendanceAnomalyDetector(AttendanceDailyStatRepository attendanceDailyStatRepository,
+                                     Clock clock,
+                                     @Value("${attendance.anomaly.late-threshold:4}") int lateThreshold,
+                                     @Value("${attendance.anomaly.overtime-min-minutes:600}") int overtimeMinMinutes,
+                                     @Value("${attendance.anomaly.overtime-rise-ratio:1.5}") double overtimeRiseRatio) {
+        this.attendanceDailyStatRepository = attendanceDailyStatRepository;
+        this.clock = clock;
+        this.lateThreshold = lateThreshold;
+        this.overtimeMinMinutes = overtimeMinMinutes;
+        this.overtimeRiseRatio = overtimeRiseRatio;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttendanceAnomalyResponse> findFlagged() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate from = today.minusDays(DAYS - 1);
+        LocalDate middle = today.minusDays(HALF - 1);
+
+        List<AttendanceTrend> trends = attendanceDailyStatRepository.findTrends(
+                from, middle, today.plusDays(1), lateThreshold, overtimeMinMinutes);
+
+        List<AttendanceAnomalyResponse> flagged = new ArrayList<>();
+        for (AttendanceTrend trend : trends) {
+            int lateCount = trend.lateCount().intValue();
+            int recentOvertime = trend.recentOvertimeMinutes().intValue();
+            int previousOvertime = trend.previousOvertimeMinutes().intValue();
+
+            List<String> flags = new ArrayList<>(2);
+            if (lateCount >= lateThreshold) {
+                flags.add(FREQUENT_LATE);
+            }
+            if (recentOvertime >= overtimeMinMinutes
+                    && recentOvertime >= previousOvertime * overtimeRiseRatio) {
+                flags.add(OVERTIME_RISING);
+            }
+            if (flags.isEmpty()) {
+                continue;
+            }
+
+            flagged.add(AttendanceAnomalyResponse.builder()
+                    .userId(trend.userId())
+                    .lateCount(lateCount)
+                    .recentOvertimeMinutes(recentOvertime)
+                    .previousOvertimeMinutes(previousOvertime)
+                    .flags(flags)
+                    .build());
+        }
+
+        flagged.sort(Comparator.comparing(AttendanceAnomalyResponse::getUserId));
+        return flagged;
+    }
+}
@@ -0,0 +1,85 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedule;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 퇴근을 안 찍은 출근 기록을 부서 정책의 퇴근 시간으로 닫음
+ * 같은 퇴근 시각끼리 묶어서 UPDATE ... WHERE id IN (...) 한 번으로 처리
+ * 근무 정책은 user-service 를 부를 수 있으므로 트랜잭션 열기 전에 청크 사용자 전체를 한 번에 조회
+ * (읽은 뒤 그 사이 퇴근한 기록은 UPDATE 의 punchOutDate IS NULL 조건으로 걸러짐)
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceAutoCloseService {
+
+    private final AttendanceRepository attendanceRepository;
+    private final WorkScheduleResolver workScheduleResolver;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChunkResult closeChunk(LocalDateTime before, LocalDateTime now, Long lastId, int size) {
+
+        List<Attendance> openAttendances = attendanceRepository
+                .findByPunchOutDateIsNullAndPunchInDateBeforeAndIdGreaterThanOrderByIdAsc(before, lastId, PageRequest.of(0, size));
+
+        if (openAttendances.isEmpty()) {
+            return new ChunkResult(0, 0, 0, lastId);
+        }
+
+        // 청크 단위로 근무 정책 한 번에 조회 (사용자마다 user-service 를 부르지 않도록)
+        Map<Long, WorkSchedule> schedules = workScheduleResolver.resolveAll(
+                openAttendances.stream().map(Attendance::getUserId).collect(Collectors.toSet()));
+
+        return transactionTemplate.execute(status -> closeChunk(openAttendances, schedules, now));
+    }
+
+    private ChunkResult closeChunk(List<Attendance> openAttendances, Map<Long, WorkSchedule> schedules, LocalDateTime now) {
+
+        Map<LocalDateTime, List<Long>> idsByPunchOut = new TreeMap<>();
+        int skipped = 0;
+
+        for (Attendance attendance : openAttendances) {
+            LocalDateTime punchOut = policyPunchOut(attendance, schedules.get(attendance.getUserId()));
+            // 야간 근무처럼 정책 퇴근 시간이 아직 안 지났으면 다음 실행에서 처리
+            if (punchOut.isAfter(now)) {
+                skipped++;
+                continue;
+            }
+            idsByPunchOut.computeIfAbsent(punchOut, key -> new ArrayList<>()).add(attendance.getId());
+        }
+
+        int closed = 0;
+        for (Map.Entry<LocalDateTime, List<Long>> entry : idsByPunchOut.entrySet()) {
+            closed += attendanceRepository.closeOpenAttendances(entry.getValue(), entry.getKey(), now);
+        }
+
+        Long nextLastId = openAttendances.get(openAttendances.size() - 1).getId();
+        return new ChunkResult(openAttendances.size(), closed, skipped, nextLastId);
+    }
+
+    //근무일 + 정책 퇴근 시간 (정책 퇴근 시간 이후에 출근했다면 출근 시각으로 닫음 -> 근무 0분)
+    private LocalDateTime policyPunchOut(Attendance attendance, WorkSchedule schedule) {
+        LocalDateTime punchIn = attendance.getPunchInDate();
+
+        LocalDateTime punchOut = punchIn.toLocalDate().atTime(schedule.getEndTime());
+        if (schedule.isOvernight()) {
+            punchOut = punchOut.plusDays(1);
+        }
+        return punchOut.isBefore(punchIn) ? punchIn : punchOut;
+    }
+
+    public record ChunkResult(int scanned, int closed, int skipped, Long lastId) {
+    }
+}
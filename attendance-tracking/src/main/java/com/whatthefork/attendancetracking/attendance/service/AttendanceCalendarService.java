@@ -0,0 +1,104 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import com.whatthefork.attendancetracking.attendance.domain.AttendanceCalendar;
+import com.whatthefork.attendancetracking.attendance.domain.AttendanceYearBitmap;
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceCalendarResponse;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceCalendarJdbcRepository;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceCalendarRepository;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 연간 출근 달력 (AttendanceCalendar) 관리
+ * - 출근/퇴근 때마다 해당 날짜 비트만 갱신
+ * - 달력 행이 아직 없으면 그 해 출퇴근 기록으로 한 번 채워서 생성
+ *   (INSERT ... ON DUPLICATE KEY UPDATE 로 만들고 다시 잠가서 읽으므로 첫 기록이 동시에 들어와도 실패하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceCalendarService {
+
+    private static final Comparator<CalendarKey> KEY_ORDER =
+            Comparator.comparing(CalendarKey::userId).thenComparing(CalendarKey::year);
+
+    private final AttendanceCalendarRepository attendanceCalendarRepository;
+    private final AttendanceCalendarJdbcRepository attendanceCalendarJdbcRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    @Transactional
+    public void record(Attendance attendance) {
+        recordAll(List.of(attendance));
+    }
+
+    //(사용자, 연도)별로 한 번씩만 읽고 씀, 잠금 순서를 고정해서 일괄 반영끼리 교착되지 않게 함
+    @Transactional
+    public void recordAll(Collection<Attendance> attendances) {
+
+        Map<CalendarKey, List<Attendance>> grouped = new TreeMap<>(KEY_ORDER);
+        for (Attendance attendance : attendances) {
+            CalendarKey key = new CalendarKey(attendance.getUserId(), attendance.getPunchInDate().getYear());
+            grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(attendance);
+        }
+
+        grouped.forEach((key, list) -> {
+            Optional<AttendanceCalendar> calendar =
+                    attendanceCalendarRepository.findWithLockByUserIdAndYear(key.userId(), key.year());
+
+            if (calendar.isEmpty()) {
+                // 방금 저장된 기록도 조회 결과에 포함되지만 같은 날 비트를 다시 켜는 것뿐이라 상관없음
+                AttendanceYearBitmap backfill = buildFromAttendances(key.userId(), key.year());
+                list.forEach(attendance -> apply(backfill, attendance));
+                // 다른 트랜잭션이 먼저 만들었으면 그 커밋을 기다렸다가 아무것도 안 함 -> 아래에서 잠그고 합침
+                attendanceCalendarJdbcRepository.insertIfAbsent(key.userId(), key.year(), backfill);
+                calendar = attendanceCalendarRepository.findWithLockByUserIdAndYear(key.userId(), key.year());
+            }
+
+            AttendanceYearBitmap bitmap = calendar.orElseThrow().toBitmap();
+            list.forEach(attendance -> apply(bitmap, attendance));
+            calendar.get().updateBitmap(bitmap);
+        });
+    }
+
+    //연간 출근 달력 조회 (행 1개 읽고 메모리에서 풀기)
+    @Transactional(readOnly = true)
+    public AttendanceCalendarResponse getYear(Long userId, int year) {
+
+        AttendanceYearBitmap bitmap = attendanceCalendarRepository.findByUserIdAndYear(userId, year)
+                .map(AttendanceCalendar::toBitmap)
+                .orElseGet(() -> buildFromAttendances(userId, year));
+
+        return AttendanceCalendarResponse.from(bitmap);
+    }
+
+    private AttendanceYearBitmap buildFromAttendances(Long userId, int year) {
+
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        AttendanceYearBitmap bitmap = new AttendanceYearBitmap(year);
+
+        attendanceRepository
+                .findAllByUserIdAndPunchInDateBetweenOrderByPunchInDateAsc(
+                        userId, firstDay.atStartOfDay(), firstDay.plusYears(1).atStartOfDay())
+                .stream()
+                .filter(attendance -> attendance.getPunchInDate().getYear() == year)
+                .forEach(attendance -> apply(bitmap, attendance));
+
+        return bitmap;
+    }
+
+    private void apply(AttendanceYearBitmap bitmap, Attendance attendance) {
+        LocalDate day = attendance.getPunchInDate().toLocalDate();
+        bitmap.markCheckIn(day, attendance.isLate() ? attendance.getLateMinutes() : 0);
+        if (attendance.getPunchOutDate() != null) {
+            bitmap.markCheckOut(day, attendance.getOvertimeMinutes());
+        }
+    }
+
+    private record CalendarKey(Long userId, Integer year) {
+    }
+}
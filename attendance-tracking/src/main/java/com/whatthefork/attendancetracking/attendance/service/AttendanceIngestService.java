@@ -0,0 +1,249 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import com.whatthefork.attendancetracking.attendance.domain.PunchDirection;
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedule;
+import com.whatthefork.attendancetracking.attendance.dto.BulkPunchRequest;
+import com.whatthefork.attendancetracking.attendance.dto.BulkPunchResponse;
+import com.whatthefork.attendancetracking.attendance.dto.BulkPunchResponse.RejectedPunch;
+import com.whatthefork.attendancetracking.attendance.dto.PunchRequest;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceDailyStatJdbcRepository;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceJdbcRepository;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceRepository;
+import com.whatthefork.attendancetracking.common.error.BusinessException;
+import com.whatthefork.attendancetracking.common.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 출입 단말기 / 오프라인 키오스크 출퇴근 기록 일괄 반영
+ * - 같은 사용자/날짜의 출근은 가장 이른 기록, 같은 근무(출근 기록)에 속한 퇴근은 가장 늦은 기록만 반영
+ * - 지각 / 초과근무 계산은 AttendanceService 와 같은 WorkSchedule 규칙 사용
+ * - 근무 정책은 트랜잭션 열기 전에 요청에 나온 사용자 전체를 한 번에 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceIngestService {
+
+    private static final int MAX_BATCH_SIZE = 5000;
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+    private final WorkScheduleResolver workScheduleResolver;
+    private final AttendanceCalendarService attendanceCalendarService;
+    private final AttendanceDailyStatJdbcRepository attendanceDailyStatJdbcRepository;
+    private final TodayAttendanceCache todayAttendanceCache;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkPunchResponse ingest(BulkPunchRequest request) {
+
+        List<PunchRequest> punches = request.getPunches();
+        if (punches == null || punches.isEmpty() || punches.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Set<Long> punchUserIds = punches.stream()
+                .filter(punch -> punch != null && punch.getUserId() != null)
+                .map(PunchRequest::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, WorkSchedule> schedules = workScheduleResolver.resolveAll(punchUserIds);
+
+        return transactionTemplate.execute(status -> ingest(request, punches, schedules));
+    }
+
+    private BulkPunchResponse ingest(BulkPunchRequest request, List<PunchRequest> punches, Map<Long, WorkSchedule> schedules) {
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<RejectedPunch> rejected = new ArrayList<>();
+
+        // 1. 검증 + 출근은 (사용자, 날짜) 기준으로 묶기 (퇴근은 어느 근무에 속하는지 정해진 뒤에 묶음)
+        Map<DayKey, IndexedPunch> firstIn = new HashMap<>();
+        List<IndexedPunch> outs = new ArrayList<>();
+        int acceptedCount = 0;
+
+        for (int i = 0; i < punches.size(); i++) {
+            PunchRequest punch = punches.get(i);
+
+            ErrorCode invalid = validate(punch, now, schedules);
+            if (invalid != null) {
+                rejected.add(RejectedPunch.of(i, punch, invalid));
+                continue;
+            }
+            acceptedCount++;
+
+            IndexedPunch indexed = new IndexedPunch(i, punch);
+            if (punch.getDirection() == PunchDirection.IN) {
+                firstIn.merge(indexed.dayKey(), indexed, (a, b) -> a.timestamp().isAfter(b.timestamp()) ? b : a);
+            } else {
+                outs.add(indexed);
+            }
+        }
+        // 같은 날 여러 번 찍힌 출근은 중복으로 처리
+        int duplicateCount = acceptedCount - firstIn.size() - outs.size();
+
+        if (firstIn.isEmpty() && outs.isEmpty()) {
+            return toResponse(punches.size(), 0, 0, duplicateCount, rejected);
+        }
+
+        // 2. 대상 사용자들의 기존 기록 한 번에 조회 (자정 넘긴 퇴근 때문에 하루 앞부터)
+        Set<Long> userIds = new HashSet<>();
+        LocalDate minDay = null;
+        LocalDate maxDay = null;
+        for (DayKey key : concat(firstIn.keySet(), outs.stream().map(IndexedPunch::dayKey).collect(Collectors.toSet()))) {
+            userIds.add(key.userId());
+            minDay = (minDay == null || key.day().isBefore(minDay)) ? key.day() : minDay;
+            maxDay = (maxDay == null || key.day().isAfter(maxDay)) ? key.day() : maxDay;
+        }
+
+        Map<DayKey, Attendance> attendanceByDay = new HashMap<>();
+        attendanceRepository.findAllByUserIdInAndPunchInDateBetween(
+                        userIds, minDay.minusDays(1).atStartOfDay(), maxDay.plusDays(1).atStartOfDay())
+                .forEach(attendance -> attendanceByDay.putIfAbsent(
+                        new DayKey(attendance.getUserId(), attendance.getPunchInDate().toLocalDate()), attendance));
+
+        // 3. 출근 반영 (이미 출근 기록이 있는 날은 기존 기록 유지)
+        List<Attendance> newAttendances = new ArrayList<>();
+        for (Map.Entry<DayKey, IndexedPunch> entry : firstIn.entrySet()) {
+            if (attendanceByDay.containsKey(entry.getKey())) {
+                duplicateCount++;
+                continue;
+            }
+            LocalDateTime punchIn = entry.getValue().timestamp();
+            WorkSchedule workSchedule = schedules.get(entry.getKey().userId());
+            Attendance attendance = Attendance.builder()
+                    .userId(entry.getKey().userId())
+                    .punchInDate(punchIn)
+                    .punchOutDate(null)
+                    .isLate(workSchedule.isLate(punchIn.toLocalTime()))
+                    .lateMinutes(workSchedule.lateMinutes(punchIn.toLocalTime()))
+                    .overtimeMinutes(0)
+                    .build();
+            attendanceByDay.put(entry.getKey(), attendance);
+            newAttendances.add(attendance);
+        }
+
+        // 4. 퇴근이 속한 근무 찾기 (당일 출근 이후면 당일, 아니면 전날 퇴근 안 찍은 근무)
+        //    새벽 퇴근이 같은 날 저녁 퇴근의 중복으로 버려지지 않도록 근무 단위로 가장 늦은 퇴근만 남김
+        Map<Attendance, IndexedPunch> lastOut = new IdentityHashMap<>();
+        for (IndexedPunch out : outs) {
+            Attendance attendance = sessionOf(attendanceByDay, out);
+            if (attendance == null) {
+                rejected.add(RejectedPunch.of(out.index(), out.punch(), ErrorCode.ATTENDANCE_NOT_CHECKED_IN));
+                continue;
+            }
+            if (lastOut.containsKey(attendance)) {
+                duplicateCount++;
+            }
+            lastOut.merge(attendance, out, (a, b) -> a.timestamp().isBefore(b.timestamp()) ? b : a);
+        }
+
+        // 5. 퇴근 반영
+        List<Attendance> checkedOut = new ArrayList<>();
+        for (Map.Entry<Attendance, IndexedPunch> entry : lastOut.entrySet()) {
+            Attendance attendance = entry.getKey();
+            LocalDateTime punchOut = entry.getValue().timestamp();
+
+            // 이미 더 늦은 퇴근이 반영되어 있으면 무시
+            if (attendance.getPunchOutDate() != null && !punchOut.isAfter(attendance.getPunchOutDate())) {
+                duplicateCount++;
+                continue;
+            }
+            LocalDate workDate = attendance.getPunchInDate().toLocalDate();
+            attendance.updateCheckOut(punchOut, schedules.get(attendance.getUserId()).overtimeMinutes(workDate, punchOut));
+            checkedOut.add(attendance);
+        }
+        int checkOutCount = checkedOut.size();
+
+        // 6. 신규 기록은 JDBC batch insert, 기존 기록 수정분은 커밋 시 dirty checking 으로 batch update
+        attendanceJdbcRepository.batchInsert(newAttendances);
+
+        // 7. 연간 출근 달력 + 이상 근태 하루 요약 갱신 (출근만 찍힌 날 + 퇴근까지 반영된 날)
+        Set<Attendance> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+        touched.addAll(newAttendances);
+        touched.addAll(checkedOut);
+        attendanceCalendarService.recordAll(touched);
+        attendanceDailyStatJdbcRepository.upsertAll(touched);
+
+        // 8. 오늘 기록이 바뀐 사용자는 오늘 출퇴근 캐시 무효화
+        LocalDate today = now.toLocalDate();
+        todayAttendanceCache.evict(touched.stream()
+                .filter(attendance -> attendance.getPunchInDate().toLocalDate().equals(today))
+                .map(Attendance::getUserId)
+                .collect(Collectors.toSet()));
+
+        log.info("[출퇴근 일괄 반영] device={}, received={}, checkIn={}, checkOut={}, duplicate={}, rejected={}",
+                request.getDeviceId(), punches.size(), newAttendances.size(), checkOutCount, duplicateCount, rejected.size());
+
+        return toResponse(punches.size(), newAttendances.size(), checkOutCount, duplicateCount, rejected);
+    }
+
+    // 퇴근 기록이 닫는 근무 (없으면 null)
+    private static Attendance sessionOf(Map<DayKey, Attendance> attendanceByDay, IndexedPunch out) {
+        LocalDateTime punchOut = out.timestamp();
+        DayKey key = out.dayKey();
+
+        Attendance sameDay = attendanceByDay.get(key);
+        if (sameDay != null && punchOut.isAfter(sameDay.getPunchInDate())) {
+            return sameDay;
+        }
+        Attendance previous = attendanceByDay.get(new DayKey(key.userId(), key.day().minusDays(1)));
+        if (previous != null && previous.getPunchOutDate() == null && punchOut.isAfter(previous.getPunchInDate())) {
+            return previous;
+        }
+        return null;
+    }
+
+    private ErrorCode validate(PunchRequest punch, LocalDateTime now, Map<Long, WorkSchedule> schedules) {
+        if (punch == null || punch.getUserId() == null || punch.getTimestamp() == null || punch.getDirection() == null) {
+            return ErrorCode.INVALID_INPUT_VALUE;
+        }
+        if (punch.getTimestamp().isAfter(now)) {
+            return ErrorCode.ATTENDANCE_FUTURE_PUNCH;
+        }
+        if (punch.getDirection() == PunchDirection.IN
+                && !schedules.get(punch.getUserId()).isCheckInAllowed(punch.getTimestamp().toLocalTime())) {
+            return ErrorCode.ATTENDANCE_NOT_CHECK_IN_TIME;
+        }
+        return null;
+    }
+
+    private BulkPunchResponse toResponse(int received, int checkIn, int checkOut, int duplicate, List<RejectedPunch> rejected) {
+        rejected.sort(Comparator.comparingInt(RejectedPunch::getIndex));
+        return BulkPunchResponse.builder()
+                .receivedCount(received)
+                .checkInCount(checkIn)
+                .checkOutCount(checkOut)
+                .duplicateCount(duplicate)
+                .rejected(rejected)
+                .build();
+    }
+
+    private static Set<DayKey> concat(Set<DayKey> a, Set<DayKey> b) {
+        Set<DayKey> keys = new HashSet<>(a);
+        keys.addAll(b);
+        return keys;
+    }
+
+    private record DayKey(Long userId, LocalDate day) {
+    }
+
+    private record IndexedPunch(int index, PunchRequest punch) {
+        LocalDateTime timestamp() {
+            return punch.getTimestamp();
+        }
+
+        DayKey dayKey() {
+            return new DayKey(punch.getUserId(), punch.getTimestamp().toLocalDate());
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.whatthefork.attendancetracking.attendance.service;
 
 import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedule;
 import com.whatthefork.attendancetracking.attendance.dto.AttendanceResponse;
 import com.whatthefork.attendancetracking.attendance.dto.AttendanceTotalResponse;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceDailyStatJdbcRepository;
 import com.whatthefork.attendancetracking.attendance.repository.AttendanceRepository;
 import com.whatthefork.attendancetracking.common.error.BusinessException;
 import com.whatthefork.attendancetracking.common.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.*;
 import java.time.temporal.TemporalAdjusters;
@@ -21,36 +24,39 @@ import java.util.Optional;
 public class AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
+    //부서별 근무 시간 / 출근 가능 시간
+    private final WorkScheduleResolver workScheduleResolver;
+    private final AttendanceCalendarService attendanceCalendarService;
+    private final AttendanceDailyStatJdbcRepository attendanceDailyStatJdbcRepository;
+    private final TodayAttendanceCache todayAttendanceCache;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+
+    //출근 (근무 정책은 user-service 호출이 생길 수 있어 트랜잭션 열기 전에 조회)
+    public void checkIn(Long userId) {
 
-    // (예시)회사 지정 근무 시간
-    private static final LocalTime START_TIME = LocalTime.of(9,0);
-    private static final LocalTime END_TIME = LocalTime.of(18,0);
+        WorkSchedule workSchedule = workScheduleResolver.resolve(userId);
+        transactionTemplate.executeWithoutResult(status -> checkIn(userId, workSchedule));
+    }
 
-    //출근 찍기 가능한 시간(고민)
-    private static final LocalTime CHECK_IN_ALLOWED_TIME = LocalTime.of(5,0);
+    private void checkIn(Long userId, WorkSchedule workSchedule) {
 
-    //출근
-    @Transactional
-    public void checkIn(Long userId) {
-
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
 
         LocalDate today = now.toLocalDate();
         LocalDateTime start = today.atStartOfDay();
         LocalDateTime end = today.plusDays(1).atStartOfDay();
 
         LocalTime nowTime = now.toLocalTime();
-        boolean isLate = now.toLocalTime().isAfter(START_TIME);
+        boolean isLate = workSchedule.isLate(nowTime);
 
         if(attendanceRepository.findAttendanceByUserId(userId,start,end).isPresent()){
             throw new BusinessException(ErrorCode.ATTENDANCE_ALREADY_CHECKED_IN);
         }
-        if(nowTime.isBefore(CHECK_IN_ALLOWED_TIME)){
+        if(!workSchedule.isCheckInAllowed(nowTime)){
             throw new BusinessException(ErrorCode.ATTENDANCE_NOT_CHECK_IN_TIME);
         }
-        int lateMinutes = isLate ?
-                (int)Duration.between(START_TIME,nowTime).toMinutes()
-                : 0;
+        int lateMinutes = workSchedule.lateMinutes(nowTime);
         Attendance attendance = Attendance.builder()
                 .userId(userId)
                 .punchInDate(now)
@@ -61,53 +67,59 @@ public class AttendanceService {
                 .build();
 
         this.attendanceRepository.save(attendance);
-
-
+        attendanceCalendarService.record(attendance);
+        attendanceDailyStatJdbcRepository.upsertAll(List.of(attendance));
+        todayAttendanceCache.put(userId, AttendanceResponse.from(attendance));
     }
 
-    //퇴근
-    @Transactional
+    //퇴근 (근무 정책은 트랜잭션 열기 전에 조회)
     public void checkOut(Long userId){
 
+        WorkSchedule workSchedule = workScheduleResolver.resolve(userId);
+        transactionTemplate.executeWithoutResult(status -> checkOut(userId, workSchedule));
+    }
+
+    private void checkOut(Long userId, WorkSchedule workSchedule) {
 
         Attendance attendance = attendanceRepository
                 .findTopByUserIdAndPunchOutDateIsNullOrderByPunchInDateDesc(userId)
                 .orElseThrow(()-> new BusinessException(ErrorCode.ATTENDANCE_NOT_CHECKED_IN));
 
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
 
         LocalDate workDate = attendance.getPunchInDate().toLocalDate();
-        LocalDateTime endWorkDate = workDate.atTime(END_TIME);
-
-        int overTimeMinutes = 0;
-        if(now.isAfter(endWorkDate)){
-            overTimeMinutes = (int)Duration.between(endWorkDate,now).toMinutes();
-        }
+        int overTimeMinutes = workSchedule.overtimeMinutes(workDate, now);
 
         attendance.updateCheckOut(now,overTimeMinutes);
+        attendanceCalendarService.record(attendance);
+        attendanceDailyStatJdbcRepository.upsertAll(List.of(attendance));
+        // 오늘 출근한 기록일 때만 오늘 현황이 바뀜
+        if (workDate.equals(now.toLocalDate())) {
+            todayAttendanceCache.put(userId, AttendanceResponse.from(attendance));
+        }
     }
 
-    //오늘 출퇴근 현황
-    @Transactional(readOnly = true)
+    //오늘 출퇴근 현황 (캐시에 있으면 트랜잭션/DB 없이 반환)
     public Optional<AttendanceResponse> getToday(Long userId) {
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDate today = now.toLocalDate();
+        return todayAttendanceCache.get(userId, () -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDate today = now.toLocalDate();
 
-        LocalDateTime start = today.atStartOfDay();
-        LocalDateTime end = today.plusDays(1).atStartOfDay();
-
-        return attendanceRepository
-                .findByUserIdAndPunchInDateBetweenOrderByPunchInDateAsc(userId,start,end)
-                .map(AttendanceResponse::from);
+            LocalDateTime start = today.atStartOfDay();
+            LocalDateTime end = today.plusDays(1).atStartOfDay();
 
+            return attendanceRepository
+                    .findByUserIdAndPunchInDateBetweenOrderByPunchInDateAsc(userId,start,end)
+                    .map(AttendanceResponse::from);
+        });
     }
 
     //이번주 출퇴근 현황
     @Transactional(readOnly = true)
     public List<AttendanceResponse> getWeek(Long userId) {
 
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         LocalDate weekStart = today.with(DayOfWeek.MONDAY);
         LocalDate weekEnd = weekStart.plusDays(6);
 
@@ -140,7 +152,7 @@ public class AttendanceService {
     // 이번달 출근수, 지각, 초과근무 현황
     @Transactional(readOnly = true)
     public Optional<AttendanceTotalResponse> getTotal(Long userId) {
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         LocalDate firstDay = LocalDate.of(today.getYear(), today.getMonth(), 1);
 
         LocalDateTime start = firstDay.atStartOfDay();
@@ -0,0 +1,100 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.whatthefork.attendancetracking.common.TransactionCallbacks.afterCommit;
+
+/**
+ * 오늘 출퇴근 현황 (/today) 인스턴스 메모리 캐시
+ * - 출근/퇴근 시 커밋 후 바로 갱신 (write-through), 다른 인스턴스에는 무효화 요청 전송
+ * - 날짜가 바뀌면 통째로 비움
+ * - 아직 출근 전인 사용자도 "기록 없음" 으로 캐시
+ */
+@Component
+@RequiredArgsConstructor
+public class TodayAttendanceCache {
+
+    private final Clock clock;
+    private final TodayAttendanceCacheBroadcaster broadcaster;
+
+    private final Map<Long, Optional<AttendanceResponse>> cache = new ConcurrentHashMap<>();
+    //DB 조회 도중 갱신/무효화가 있었는지 확인용 (오래된 값으로 덮어쓰지 않도록)
+    private final AtomicLong generation = new AtomicLong();
+    private volatile LocalDate day;
+
+    public Optional<AttendanceResponse> get(Long userId, Supplier<Optional<AttendanceResponse>> loader) {
+        rollOverIfNewDay();
+
+        Optional<AttendanceResponse> cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedGeneration = generation.get();
+        Optional<AttendanceResponse> loaded = loader.get();
+        if (generation.get() == loadedGeneration) {
+            cache.putIfAbsent(userId, loaded);
+        }
+        return loaded;
+    }
+
+    //출근/퇴근 반영 (커밋 후)
+    public void put(Long userId, AttendanceResponse response) {
+        afterCommit(() -> {
+            rollOverIfNewDay();
+            generation.incrementAndGet();
+            cache.put(userId, Optional.of(response));
+            broadcaster.broadcastEvict(List.of(userId));
+        });
+    }
+
+    //일괄 반영처럼 값을 바로 만들기 어려운 경우 무효화만 (커밋 후)
+    public void evict(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            evictLocal(userIds);
+            broadcaster.broadcastEvict(userIds);
+        });
+    }
+
+    //다른 인스턴스에서 온 무효화 요청
+    public void evictLocal(Collection<Long> userIds) {
+        generation.incrementAndGet();
+        userIds.forEach(cache::remove);
+    }
+
+    @Scheduled(cron = "0 0 0 * * *")
+    public void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+        day = LocalDate.now(clock);
+    }
+
+    private void rollOverIfNewDay() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(day)) {
+            synchronized (this) {
+                if (!today.equals(day)) {
+                    generation.incrementAndGet();
+                    cache.clear();
+                    day = today;
+                }
+            }
+        }
+    }
+}
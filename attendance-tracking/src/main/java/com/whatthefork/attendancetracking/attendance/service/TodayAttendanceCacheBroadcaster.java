@@ -0,0 +1,83 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.whatthefork.attendancetracking.common.auth.InternalTokenAuthenticationFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 다른 attendance-tracking 인스턴스에 오늘 출퇴근 캐시 무효화 요청 전송
+ * 별도 메시지 브로커 없이 Eureka 에 등록된 인스턴스 목록으로 직접 호출 (실패해도 출퇴근 처리에는 영향 없음)
+ * 자기 자신은 Eureka 에 실제로 등록된 instance-id 로 거른다.
+ * (설정값 ${eureka.instance.instance-id} 를 다시 읽으면 ${random.value} 가 새로 풀려 등록된 값과 달라진다)
+ */
+@Slf4j
+@Component
+public class TodayAttendanceCacheBroadcaster {
+
+    private static final String EVICT_PATH = "/internal/today-cache/evict";
+
+    private final DiscoveryClient discoveryClient;
+    private final String serviceId;
+    private final ApplicationInfoManager applicationInfoManager;
+    private final String internalApiToken;
+    private final RestClient restClient;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "today-cache-broadcast");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TodayAttendanceCacheBroadcaster(DiscoveryClient discoveryClient,
+                                           @Value("${spring.application.name}") String serviceId,
+                                           ApplicationInfoManager applicationInfoManager,
+                                           @Value("${internal.api-token:}") String internalApiToken) {
+        this.discoveryClient = discoveryClient;
+        this.serviceId = serviceId;
+        this.applicationInfoManager = applicationInfoManager;
+        this.internalApiToken = internalApiToken;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(1000);
+        requestFactory.setReadTimeout(1000);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    public void broadcastEvict(Collection<Long> userIds) {
+        List<Long> body = List.copyOf(userIds);
+        executor.execute(() -> {
+            String selfInstanceId = applicationInfoManager.getInfo().getInstanceId();
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                if (instance.getInstanceId() != null && instance.getInstanceId().equals(selfInstanceId)) {
+                    continue;
+                }
+                try {
+                    restClient.post()
+                            .uri(instance.getUri().resolve(EVICT_PATH))
+                            .header(InternalTokenAuthenticationFilter.HEADER, internalApiToken)
+                            .body(body)
+                            .retrieve()
+                            .toBodilessEntity();
+                } catch (Exception e) {
+                    log.warn("[오늘 출퇴근 캐시] {} 무효화 요청 실패: {}", instance.getUri(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,71 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedulePolicy;
+import com.whatthefork.attendancetracking.attendance.dto.WorkSchedulePolicyRequest;
+import com.whatthefork.attendancetracking.attendance.dto.WorkSchedulePolicyResponse;
+import com.whatthefork.attendancetracking.attendance.repository.WorkSchedulePolicyRepository;
+import com.whatthefork.attendancetracking.common.error.BusinessException;
+import com.whatthefork.attendancetracking.common.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.whatthefork.attendancetracking.common.TransactionCallbacks.afterCommit;
+
+@Service
+@RequiredArgsConstructor
+public class WorkSchedulePolicyService {
+
+    private final WorkSchedulePolicyRepository workSchedulePolicyRepository;
+    private final WorkScheduleResolver workScheduleResolver;
+    private final WorkSchedulePolicyBroadcaster workSchedulePolicyBroadcaster;
+
+    @Transactional(readOnly = true)
+    public List<WorkSchedulePolicyResponse> getPolicies() {
+        return workSchedulePolicyRepository.findAll()
+                .stream()
+                .map(WorkSchedulePolicyResponse::from)
+                .toList();
+    }
+
+    //부서 근무 시간 등록/수정
+    @Transactional
+    public WorkSchedulePolicyResponse savePolicy(String deptId, WorkSchedulePolicyRequest request) {
+
+        if (request.getStartTime() == null || request.getEndTime() == null || request.getCheckInAllowedTime() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (request.getCheckInAllowedTime().isAfter(request.getStartTime())) {
+            throw new BusinessException(ErrorCode.INVALID_WORK_SCHEDULE);
+        }
+
+        WorkSchedulePolicy policy = workSchedulePolicyRepository.findByDeptId(deptId)
+                .orElseGet(() -> WorkSchedulePolicy.builder().deptId(deptId).build());
+        policy.updateSchedule(request.getStartTime(), request.getEndTime(), request.getCheckInAllowedTime());
+        workSchedulePolicyRepository.save(policy);
+
+        // 커밋된 뒤에 캐시 반영 (롤백되면 기존 정책 유지), 다른 인스턴스에도 다시 읽도록 알림
+        afterCommit(() -> {
+            workScheduleResolver.put(deptId, policy.toWorkSchedule());
+            workSchedulePolicyBroadcaster.broadcastReload(deptId);
+        });
+
+        return WorkSchedulePolicyResponse.from(policy);
+    }
+
+    //부서 근무 시간 삭제 -> 기본 근무 시간 적용
+    @Transactional
+    public void deletePolicy(String deptId) {
+
+        WorkSchedulePolicy policy = workSchedulePolicyRepository.findByDeptId(deptId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.WORK_SCHEDULE_POLICY_NOT_FOUND));
+        workSchedulePolicyRepository.delete(policy);
+
+        afterCommit(() -> {
+            workScheduleResolver.evict(deptId);
+            workSchedulePolicyBroadcaster.broadcastReload(deptId);
+        });
+    }
+}
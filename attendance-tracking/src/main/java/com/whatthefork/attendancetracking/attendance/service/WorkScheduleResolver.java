@@ -0,0 +1,177 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedule;
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedulePolicy;
+import com.whatthefork.attendancetracking.attendance.repository.WorkSchedulePolicyRepository;
+import com.whatthefork.attendancetracking.client.UserFeignClient;
+import com.whatthefork.attendancetracking.client.dto.UserDTO;
+import com.whatthefork.attendancetracking.client.dto.UserListResponse;
+import com.whatthefork.attendancetracking.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 -> 부서 -> 근무 시간 정책 조회 (메모리 캐시)
+ * - 정책은 기동 시 전부 읽어두고, 변경 시 WorkSchedulePolicyService 가 갱신
+ *   (다른 인스턴스는 WorkSchedulePolicyBroadcaster 로 DB 에서 다시 읽고, 요청이 유실돼도 policy-reload-delay 마다 전체 재로드)
+ * - 사용자 부서는 기동 시 user-service 에서 미리 받아두고(내부 토큰), 없는 사용자만 조회
+ * - 조회 실패한 사용자는 failure-ttl 동안 기본 정책으로 처리하고 다시 조회하지 않음
+ * 외부 호출이 생길 수 있으므로 트랜잭션 밖에서 부르고, 여러 명이면 resolveAll 로 한 번에 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkScheduleResolver {
+
+    private static final int WARM_UP_PAGE_SIZE = 500;
+    private static final int BATCH_LOOKUP_SIZE = 500;
+    //부서 없는 사용자 (ConcurrentHashMap 은 null 값을 못 넣음)
+    private static final String NO_DEPT = "";
+
+    private final WorkSchedulePolicyRepository workSchedulePolicyRepository;
+    private final UserFeignClient userFeignClient;
+    private final Clock clock;
+
+    private final Map<String, WorkSchedule> scheduleByDept = new ConcurrentHashMap<>();
+    private final Map<Long, String> deptByUser = new ConcurrentHashMap<>();
+    //조회 실패한 사용자 -> 다시 조회할 시각 (epoch millis)
+    private final Map<Long, Long> retryAfterByUser = new ConcurrentHashMap<>();
+
+    @Value("${work-schedule.failure-ttl:60s}")
+    private Duration failureTtl;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reloadPolicies();
+        loadUserDepts();
+    }
+
+    //부서 이동 반영용 (정책 변경은 즉시 반영되므로 여기서는 하루 한 번이면 충분)
+    @Scheduled(cron = "${work-schedule.refresh-cron:0 30 4 * * *}")
+    public void refresh() {
+        warmUp();
+    }
+
+    //무효화 요청을 못 받은 인스턴스 보정용 (정책은 부서 수만큼이라 전체를 다시 읽어도 가벼움)
+    @Scheduled(fixedDelayString = "${work-schedule.policy-reload-delay:60000}",
+            initialDelayString = "${work-schedule.policy-reload-delay:60000}")
+    public void reloadPoliciesPeriodically() {
+        try {
+            reloadPolicies();
+        } catch (Exception e) {
+            log.warn("[근무 정책] 주기적 정책 재로드 실패: {}", e.getMessage());
+        }
+    }
+
+    public WorkSchedule resolve(Long userId) {
+        return resolveAll(List.of(userId)).get(userId);
+    }
+
+    //모르는 사용자만 모아서 user-service 한 번(500명씩) 조회
+    public Map<Long, WorkSchedule> resolveAll(Collection<Long> userIds) {
+        Set<Long> missing = new LinkedHashSet<>();
+        long nowMillis = clock.millis();
+        for (Long userId : userIds) {
+            if (!deptByUser.containsKey(userId) && retryAfterByUser.getOrDefault(userId, 0L) <= nowMillis) {
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            fetchDepts(new ArrayList<>(missing));
+        }
+
+        Map<Long, WorkSchedule> schedules = new HashMap<>();
+        for (Long userId : userIds) {
+            schedules.put(userId, scheduleOf(deptByUser.get(userId)));
+        }
+        return schedules;
+    }
+
+    public void reloadPolicies() {
+        List<WorkSchedulePolicy> policies = workSchedulePolicyRepository.findAll();
+        policies.forEach(policy -> scheduleByDept.put(policy.getDeptId(), policy.toWorkSchedule()));
+        scheduleByDept.keySet().retainAll(policies.stream().map(WorkSchedulePolicy::getDeptId).toList());
+        log.info("[근무 정책] {}개 부서 정책 로드", policies.size());
+    }
+
+    //다른 인스턴스에서 바뀐 부서 정책을 DB 에서 다시 읽음 (삭제됐으면 기본 정책)
+    public void reloadPolicy(String deptId) {
+        workSchedulePolicyRepository.findByDeptId(deptId)
+                .ifPresentOrElse(policy -> put(deptId, policy.toWorkSchedule()), () -> evict(deptId));
+    }
+
+    public void put(String deptId, WorkSchedule schedule) {
+        scheduleByDept.put(deptId, schedule);
+    }
+
+    public void evict(String deptId) {
+        scheduleByDept.remove(deptId);
+    }
+
+    private WorkSchedule scheduleOf(String deptId) {
+        if (deptId == null || deptId.isEmpty()) {
+            return WorkSchedule.DEFAULT;
+        }
+        return scheduleByDept.getOrDefault(deptId, WorkSchedule.DEFAULT);
+    }
+
+    private void loadUserDepts() {
+        try {
+            long lastId = 0L;
+            while (true) {
+                ApiResponse<UserListResponse> response = userFeignClient.getUsers(lastId, WARM_UP_PAGE_SIZE);
+                List<UserDTO> users = response.getData() == null ? null : response.getData().getUsers();
+                if (users == null || users.isEmpty()) {
+                    break;
+                }
+                users.forEach(user -> deptByUser.put(user.getId(), deptOf(user)));
+                lastId = users.get(users.size() - 1).getId();
+            }
+            retryAfterByUser.clear();
+            log.info("[근무 정책] 사용자 부서 {}명 로드", deptByUser.size());
+        } catch (Exception e) {
+            // user-service 가 아직 안 떠 있어도 기동은 계속, 사용자별로 필요할 때 조회
+            log.warn("[근무 정책] 사용자 부서 미리 불러오기 실패: {}", e.getMessage());
+        }
+    }
+
+    private void fetchDepts(List<Long> userIds) {
+        for (int from = 0; from < userIds.size(); from += BATCH_LOOKUP_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + BATCH_LOOKUP_SIZE, userIds.size()));
+            try {
+                ApiResponse<UserListResponse> response = userFeignClient.getUsersByIds(chunk);
+                List<UserDTO> users = response.getData() == null ? null : response.getData().getUsers();
+                if (users != null) {
+                    users.forEach(user -> deptByUser.put(user.getId(), deptOf(user)));
+                }
+            } catch (Exception e) {
+                log.warn("[근무 정책] 사용자 {}명 부서 조회 실패: {}", chunk.size(), e.getMessage());
+            }
+            // 실패했거나 user-service 에 없는 사용자는 잠시 기본 정책으로 (같은 미스로 계속 호출하지 않도록)
+            long retryAfter = clock.millis() + failureTtl.toMillis();
+            chunk.stream()
+                    .filter(userId -> !deptByUser.containsKey(userId))
+                    .forEach(userId -> retryAfterByUser.put(userId, retryAfter));
+        }
+    }
+
+    private String deptOf(UserDTO user) {
+        return user.getDept_id() == null ? NO_DEPT : user.getDept_id();
+    }
+}
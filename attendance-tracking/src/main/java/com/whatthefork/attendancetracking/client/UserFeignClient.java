@@ -0,0 +1,22 @@
+package com.whatthefork.attendancetracking.client;
+
+import com.whatthefork.attendancetracking.client.dto.UserListResponse;
+import com.whatthefork.attendancetracking.common.ApiResponse;
+import com.whatthefork.attendancetracking.config.FeignConfig;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@FeignClient(name = "user-service", url = "http://localhost:8000", configuration = FeignConfig.class)
+public interface UserFeignClient {
+
+    // 직원번호(lastId) 다음부터 size명씩 조회
+    @GetMapping("/api/v1/user-service/users")
+    ApiResponse<UserListResponse> getUsers(@RequestParam("lastId") Long lastId, @RequestParam("size") int size);
+
+    // 직원 여러 명 한 번에 조회 (부서 확인용, 최대 1000명)
+    @GetMapping("/api/v1/user-service/users/batch")
+    ApiResponse<UserListResponse> getUsersByIds(@RequestParam("ids") List<Long> ids);
+}
@@ -0,0 +1,12 @@
+package com.whatthefork.attendancetracking.client.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UserDTO {
+    private Long id;
+    private String name;
+    private String dept_id;
+}
@@ -0,0 +1,12 @@
+package com.whatthefork.attendancetracking.client.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class UserListResponse {
+    private List<UserDTO> users;
+}
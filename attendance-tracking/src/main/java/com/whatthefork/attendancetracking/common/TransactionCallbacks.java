@@ -0,0 +1,24 @@
+package com.whatthefork.attendancetracking.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    //트랜잭션이 커밋된 뒤에 실행 (트랜잭션 밖이면 바로 실행)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.whatthefork.attendancetracking.common.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/*
+ * 서버 간 호출 인증 (인스턴스 간 캐시 무효화처럼 사용자 토큰이 없는 호출)
+ * X-Internal-Token 이 설정된 공유 토큰과 같으면 INTERNAL 권한으로 인증한다.
+ * 토큰이 설정되지 않았으면 내부 호출을 받지 않는다.
+ * */
+public class InternalTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Internal-Token";
+    public static final String AUTHORITY = "INTERNAL";
+
+    private final byte[] internalToken;
+
+    public InternalTokenAuthenticationFilter(String internalToken) {
+        this.internalToken = internalToken == null ? new byte[0] : internalToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String token = request.getHeader(HEADER);
+
+        if (token != null && internalToken.length > 0
+                && MessageDigest.isEqual(internalToken, token.getBytes(StandardCharsets.UTF_8))) {
+            PreAuthenticatedAuthenticationToken authentication =
+                    new PreAuthenticatedAuthenticationToken("internal", null,
+                            List.of(new SimpleGrantedAuthority(AUTHORITY)));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
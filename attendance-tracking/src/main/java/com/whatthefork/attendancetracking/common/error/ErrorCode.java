@@ -10,12 +10,17 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C001", "잘못된 입력값입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C002","서버 내부 오류가 발생했습니다."),
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "C002", "해당 사용자를 찾을 수 없습니다."),
+    USER_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "C003", "사용자 정보를 조회할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     //
     ATTENDANCE_ALREADY_CHECKED_IN(HttpStatus.BAD_REQUEST, "A001","이미 출근을 찍었습니다."),
     ATTENDANCE_ALREADY_CHECKED_OUT(HttpStatus.BAD_REQUEST, "A002","이미 퇴근을 찍었습니다."),
     ATTENDANCE_NOT_CHECKED_IN(HttpStatus.BAD_REQUEST,"A003","출근한 기록이 없습니다."),
     ATTENDANCE_NOT_CHECK_IN_TIME(HttpStatus.BAD_REQUEST, "A004","출근 가능한 시간이 아닙니다."),
+    ATTENDANCE_FUTURE_PUNCH(HttpStatus.BAD_REQUEST, "A005","현재 시각 이후의 출퇴근 기록은 등록할 수 없습니다."),
+    WORK_SCHEDULE_POLICY_NOT_FOUND(HttpStatus.NOT_FOUND, "A006","해당 부서의 근무 시간 정책이 없습니다."),
+    INVALID_WORK_SCHEDULE(HttpStatus.BAD_REQUEST, "A007","출근 가능 시간은 출근 시간보다 늦을 수 없습니다."),
+    ATTENDANCE_AUTO_CLOSE_IN_PROGRESS(HttpStatus.CONFLICT, "A008","자동 퇴근 처리 작업이 이미 진행 중입니다."),
 
     ANNUAL_LEAVE_NOT_FOUND(HttpStatus.NOT_FOUND, "A100", "해당 연도의 연차 정보가 존재하지 않습니다."),
     ANNUAL_LEAVE_INSUFFICIENT(HttpStatus.BAD_REQUEST, "A101", "잔여 연차가 부족합니다."),
@@ -23,7 +28,8 @@ public enum ErrorCode {
     ANNUAL_LEAVE_INVALID_PERIOD(HttpStatus.BAD_REQUEST, "A103", "종료일은 시작일보다 빠를 수 없습니다."),
     ANNUAL_LEAVE_HISTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "A104", "연차 사용 이력을 찾을 수 없습니다."),
     ANNUAL_LEAVE_ALREADY_PROCESSED(HttpStatus.CONFLICT, "A105", "해당 연차 승인 요청은 이미 처리되었습니다."),
-    INVALID_ANNUAL_LEAVE_APPROVAL_REQUEST(HttpStatus.BAD_REQUEST, "A106", "잘못된 연차 승인 요청입니다.");
+    INVALID_ANNUAL_LEAVE_APPROVAL_REQUEST(HttpStatus.BAD_REQUEST, "A106", "잘못된 연차 승인 요청입니다."),
+    ANNUAL_LEAVE_GRANT_IN_PROGRESS(HttpStatus.CONFLICT, "A107", "연차 부여 작업이 이미 진행 중입니다.");
 
 
     private final HttpStatus status;
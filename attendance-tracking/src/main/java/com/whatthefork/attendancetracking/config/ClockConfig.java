@@ -0,0 +1,16 @@
+package com.whatthefork.attendancetracking.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/* 현재 시각은 Clock 빈으로만 가져옴 (테스트/부하 테스트에서 고정 시각으로 교체) */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
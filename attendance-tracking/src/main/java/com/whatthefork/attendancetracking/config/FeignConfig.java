@@ -0,0 +1,45 @@
+package com.whatthefork.attendancetracking.config;
+
+import com.whatthefork.attendancetracking.common.auth.InternalTokenAuthenticationFilter;
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@Configuration
+@EnableFeignClients(basePackages = "com.whatthefork.attendancetracking.client")
+public class FeignConfig {
+
+    public static final String INTERNAL_TOKEN_HEADER = InternalTokenAuthenticationFilter.HEADER;
+
+    @Bean
+    public RequestInterceptor requestInterceptor(@Value("${internal.api-token:}") String internalApiToken) {
+
+        return requestTemplate -> {
+
+            /* 서버 간 호출 토큰 (스케줄러처럼 사용자 토큰이 없어도 내부 API 호출 가능) */
+            if (!internalApiToken.isBlank()) {
+                requestTemplate.header(INTERNAL_TOKEN_HEADER, internalApiToken);
+            }
+
+            /* 현재 요청의 Http Servlet Request 를 가져옴 (스케줄러에서 호출하면 null) */
+            ServletRequestAttributes requestAttributes =
+                    (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+
+            if (requestAttributes != null) {
+
+                String authorizationHeader = requestAttributes
+                        .getRequest()
+                        .getHeader(HttpHeaders.AUTHORIZATION);
+
+                if (authorizationHeader != null) {
+                    requestTemplate.header(HttpHeaders.AUTHORIZATION, authorizationHeader);
+                }
+            }
+        };
+    }
+}
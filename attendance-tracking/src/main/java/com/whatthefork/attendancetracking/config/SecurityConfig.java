@@ -1,7 +1,9 @@
 package com.whatthefork.attendancetracking.config;
 
 import com.whatthefork.attendancetracking.common.auth.HeaderAuthenticationFilter;
+import com.whatthefork.attendancetracking.common.auth.InternalTokenAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -18,23 +20,35 @@ public class SecurityConfig {
 
     private final HeaderAuthenticationFilter headerAuthenticationFilter;
 
+    @Value("${internal.api-token:}")
+    private String internalApiToken;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/document/**", "/approval/**").permitAll()
+                        .requestMatchers("/annualLeave/grant/**").hasAuthority("ADMIN")
+                        .requestMatchers("/punches/**").hasAuthority("ADMIN") // 출입 단말기 연동 계정
+                        .requestMatchers("/schedules/**").hasAuthority("ADMIN")
+                        .requestMatchers("/auto-close").hasAuthority("ADMIN")
+                        .requestMatchers("/anomalies").hasAuthority("ADMIN")
                         .requestMatchers("/annualLeave/**").authenticated()
                         .requestMatchers(
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-resources/**"
                         ).permitAll()
+                        .requestMatchers("/actuator/health").permitAll() // 상세 정보는 숨김 (management.endpoint.health.show-details)
+                        .requestMatchers("/internal/today-cache/**").hasAuthority(InternalTokenAuthenticationFilter.AUTHORITY) // 서버내부용 (인스턴스 간 캐시 무효화)
+                        .requestMatchers("/internal/work-schedule/**").hasAuthority(InternalTokenAuthenticationFilter.AUTHORITY)
                         .requestMatchers("/api/v1/attendance-tracking/annual-leave/decrease").permitAll()
                         .requestMatchers("/attendance-tracking/annual-leave/decrease").permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(headerAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(headerAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new InternalTokenAuthenticationFilter(internalApiToken), HeaderAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,136 @@
+package com.whatthefork.attendancetracking.annualLeave.service;
+
+import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeave;
+import com.whatthefork.attendancetracking.annualLeave.dto.LeaveAnnualRequestDto;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveDayJdbcRepository;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveHistoryRepository;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveRepository;
+import com.whatthefork.attendancetracking.client.UserFeignClient;
+import com.whatthefork.attendancetracking.common.error.BusinessException;
+import com.whatthefork.attendancetracking.common.error.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AnnualLeaveService - decreaseAnnual 동시성 테스트
+ * 한 사용자에게 여러 결재 완료 요청이 동시에 들어와도 잔여 연차 이상 차감되지 않아야 한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AnnualLeaveService.class, AnnualLeaveDayJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드가 자기 트랜잭션으로 커밋해야 함
+@DisplayName("AnnualLeaveService - 연차 동시 차감 테스트")
+class AnnualLeaveConcurrencyTests {
+
+    @Autowired
+    private AnnualLeaveService annualLeaveService;
+
+    @Autowired
+    private AnnualLeaveRepository annualLeaveRepository;
+
+    @Autowired
+    private AnnualLeaveHistoryRepository annualLeaveHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private UserFeignClient userFeignClient;
+
+    private final Long MEMBER_ID = 100L;
+    private final Long APPROVER_ID = 200L;
+    private final int YEAR = 2025;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM annual_leave_day");
+        annualLeaveHistoryRepository.deleteAllInBatch();
+        annualLeaveRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("잔여 연차 15일에 1일 차감 요청 100건이 동시에 들어오면 15건만 성공하고 usedLeave는 15를 넘지 않아야 한다")
+    void decreaseAnnual_concurrentRequests_shouldNotOverdraw() throws InterruptedException {
+        // Given
+        int totalLeave = 15;
+        int requestCount = 100;
+
+        annualLeaveRepository.save(AnnualLeave.builder()
+                .memberId(MEMBER_ID)
+                .totalLeave(totalLeave)
+                .usedLeave(0)
+                .year(YEAR)
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requestCount);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientCount = new AtomicInteger();
+        AtomicInteger unexpectedCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            // 요청마다 다른 날짜(1일씩)로 차감
+            LocalDate day = LocalDate.of(YEAR, 1, 1).plusDays(i);
+
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    annualLeaveService.decreaseAnnual(LeaveAnnualRequestDto.builder()
+                            .memberId(MEMBER_ID)
+                            .startDate(day)
+                            .endDate(day)
+                            .approverId(APPROVER_ID)
+                            .build());
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.ANNUAL_LEAVE_INSUFFICIENT) {
+                        insufficientCount.incrementAndGet();
+                    } else {
+                        unexpectedCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    unexpectedCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS), "모든 요청이 시간 안에 끝나야 한다");
+        executor.shutdown();
+
+        // Then
+        AnnualLeave annualLeave = annualLeaveRepository.findByMemberIdAndYear(MEMBER_ID, YEAR);
+
+        assertEquals(0, unexpectedCount.get());
+        assertEquals(totalLeave, successCount.get());
+        assertEquals(requestCount - totalLeave, insufficientCount.get());
+        assertEquals(totalLeave, annualLeave.getUsedLeave());
+        assertEquals(0, annualLeave.getRemainingLeave());
+        assertEquals(totalLeave, annualLeaveHistoryRepository.count());
+        // 실패한 요청의 사용일은 롤백되어 남지 않아야 함
+        assertEquals(totalLeave, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM annual_leave_day", Integer.class));
+    }
+}
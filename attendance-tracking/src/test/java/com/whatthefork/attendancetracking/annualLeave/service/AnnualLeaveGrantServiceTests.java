@@ -0,0 +1,108 @@
+package com.whatthefork.attendancetracking.annualLeave.service;
+
+import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeave;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveJdbcRepository;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * AnnualLeaveGrantService - grantChunk 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnnualLeaveGrantService - 연차 일괄 부여 테스트")
+class AnnualLeaveGrantServiceTests {
+
+    @Mock
+    private AnnualLeaveRepository annualLeaveRepository;
+
+    @Mock
+    private AnnualLeaveJdbcRepository annualLeaveJdbcRepository;
+
+    private AnnualLeaveGrantService annualLeaveGrantService;
+
+    private final int YEAR = 2026;
+    private final int BASE_DAYS = 15;
+    private final int MAX_CARRY_OVER_DAYS = 5;
+
+    @BeforeEach
+    void setUp() {
+        annualLeaveGrantService = new AnnualLeaveGrantService(
+                annualLeaveRepository, annualLeaveJdbcRepository, BASE_DAYS, MAX_CARRY_OVER_DAYS);
+    }
+
+    // 1. 전년도 잔여 연차 이월 + 이미 부여된 직원 제외
+    @Test
+    @DisplayName("전년도 잔여 연차는 최대치까지 이월되고, 이미 부여된 직원은 다시 부여하지 않아야 한다")
+    @SuppressWarnings("unchecked")
+    void grantChunk_carryOverAndSkipAlreadyGranted() {
+        // Given
+        List<Long> memberIds = List.of(1L, 2L, 3L, 4L);
+
+        // 4번은 이미 올해 연차가 있음
+        given(annualLeaveRepository.findAllByYearAndMemberIdIn(YEAR, memberIds))
+                .willReturn(List.of(leave(4L, 15, 0, YEAR)));
+
+        // 1번: 잔여 2일 -> 2일 이월, 2번: 잔여 10일 -> 최대 5일 이월, 3번: 전년도 기록 없음
+        given(annualLeaveRepository.findAllByYearAndMemberIdIn(YEAR - 1, memberIds))
+                .willReturn(List.of(
+                        leave(1L, 15, 13, YEAR - 1),
+                        leave(2L, 15, 5, YEAR - 1)
+                ));
+
+        given(annualLeaveJdbcRepository.batchInsert(anyList())).willAnswer(invocation ->
+                ((List<AnnualLeave>) invocation.getArgument(0)).size());
+
+        // When
+        int granted = annualLeaveGrantService.grantChunk(YEAR, memberIds);
+
+        // Then
+        ArgumentCaptor<List<AnnualLeave>> captor = ArgumentCaptor.forClass(List.class);
+        verify(annualLeaveJdbcRepository, times(1)).batchInsert(captor.capture());
+
+        Map<Long, Integer> totalByMember = captor.getValue().stream()
+                .collect(Collectors.toMap(AnnualLeave::getMemberId, AnnualLeave::getTotalLeave));
+
+        assertEquals(3, granted);
+        assertEquals(Map.of(1L, 17, 2L, 20, 3L, 15), totalByMember);
+        captor.getValue().forEach(annualLeave -> {
+            assertEquals(YEAR, annualLeave.getYear());
+            assertEquals(0, annualLeave.getUsedLeave());
+        });
+    }
+
+    // 2. 빈 청크
+    @Test
+    @DisplayName("대상 직원이 없으면 아무것도 조회/저장하지 않아야 한다")
+    void grantChunk_emptyChunk() {
+        // When
+        int granted = annualLeaveGrantService.grantChunk(YEAR, List.of());
+
+        // Then
+        assertEquals(0, granted);
+        verifyNoInteractions(annualLeaveRepository, annualLeaveJdbcRepository);
+    }
+
+    private AnnualLeave leave(Long memberId, int total, int used, int year) {
+        return AnnualLeave.builder()
+                .memberId(memberId)
+                .totalLeave(total)
+                .usedLeave(used)
+                .year(year)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.whatthefork.attendancetracking.annualLeave.service;
+
+import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeaveHistory;
+import com.whatthefork.attendancetracking.annualLeave.dto.LeaveOverlapResponse;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveDayJdbcRepository;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveHistoryRepository;
+import com.whatthefork.attendancetracking.client.UserFeignClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AnnualLeaveService - getOverlaps 테스트
+ * 연차 사용일 테이블의 날짜 범위 조회로 겹치는 연차를 찾는지 확인 (H2)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AnnualLeaveService.class, AnnualLeaveDayJdbcRepository.class})
+@DisplayName("AnnualLeaveService - 연차 기간 겹침 조회 테스트")
+class AnnualLeaveOverlapTests {
+
+    @Autowired
+    private AnnualLeaveService annualLeaveService;
+
+    @Autowired
+    private AnnualLeaveHistoryRepository annualLeaveHistoryRepository;
+
+    @Autowired
+    private AnnualLeaveDayJdbcRepository annualLeaveDayJdbcRepository;
+
+    @MockitoBean
+    private UserFeignClient userFeignClient;
+
+    // 1. 기간 겹침 조회
+    @Test
+    @DisplayName("조회 기간과 하루라도 겹치는 연차만, 조회 시작일 훨씬 전에 시작한 긴 연차도 포함해서 찾아야 한다")
+    void getOverlaps() {
+        // Given
+        save(1L, LocalDate.of(2025, 2, 20), LocalDate.of(2025, 3, 10));  // 긴 연차, 3/3 이전 시작
+        save(2L, LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 5));
+        save(3L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 2));    // 하루 전에 끝남
+        save(4L, LocalDate.of(2025, 3, 8), LocalDate.of(2025, 3, 9));    // 조회 기간 이후
+
+        // When
+        List<LeaveOverlapResponse> overlaps = annualLeaveService.getOverlaps(
+                LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 7), null, null);
+
+        // Then
+        // 여러 날이 겹쳐도 연차 1건은 한 번만
+        assertEquals(List.of(1L, 2L), overlaps.stream().map(LeaveOverlapResponse::getMemberId).toList());
+        assertEquals(LocalDate.of(2025, 2, 20), overlaps.get(0).getStartDate());
+        assertEquals(LocalDate.of(2025, 3, 10), overlaps.get(0).getEndDate());
+    }
+
+    // 2. 직원 필터
+    @Test
+    @DisplayName("직원을 지정하면 그 직원들의 연차만 반환해야 한다")
+    void getOverlaps_filterMembers() {
+        // Given
+        save(10L, LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 2));
+        save(11L, LocalDate.of(2025, 5, 2), LocalDate.of(2025, 5, 2));
+
+        // When
+        List<LeaveOverlapResponse> overlaps = annualLeaveService.getOverlaps(
+                LocalDate.of(2025, 5, 2), LocalDate.of(2025, 5, 2), List.of(11L, 12L), null);
+
+        // Then
+        assertEquals(1, overlaps.size());
+        assertEquals(11L, overlaps.get(0).getMemberId());
+    }
+
+    private void save(Long memberId, LocalDate start, LocalDate end) {
+        AnnualLeaveHistory history = annualLeaveHistoryRepository.save(AnnualLeaveHistory.builder()
+                .memberId(memberId)
+                .usedLeave((int) (end.toEpochDay() - start.toEpochDay()) + 1)
+                .startDate(start)
+                .endDate(end)
+                .approverId(1L)
+                .build());
+        annualLeaveDayJdbcRepository.insertDays(List.of(history));
+    }
+}
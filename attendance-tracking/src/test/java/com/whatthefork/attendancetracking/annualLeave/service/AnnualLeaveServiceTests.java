@@ -5,8 +5,14 @@ import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeave;
 import com.whatthefork.attendancetracking.annualLeave.domain.AnnualLeaveHistory;
 import com.whatthefork.attendancetracking.annualLeave.dto.LeaveAnnualRequestDto;
 import com.whatthefork.attendancetracking.annualLeave.dto.AnnualLeaveHistoryResponse;
+import com.whatthefork.attendancetracking.annualLeave.dto.LeaveOverlapResponse;
+import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveDayJdbcRepository;
 import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveHistoryRepository;
 import com.whatthefork.attendancetracking.annualLeave.repository.AnnualLeaveRepository;
+import com.whatthefork.attendancetracking.client.UserFeignClient;
+import com.whatthefork.attendancetracking.client.dto.UserDTO;
+import com.whatthefork.attendancetracking.client.dto.UserListResponse;
+import com.whatthefork.attendancetracking.common.ApiResponse;
 import com.whatthefork.attendancetracking.common.error.BusinessException;
 import com.whatthefork.attendancetracking.common.error.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
@@ -17,17 +23,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 /**
- * AnnualLeaveService - decreaseAnnual 테스트
+ * AnnualLeaveService - decreaseAnnual / getOverlaps 테스트
  */
 @ExtendWith(MockitoExtension.class)
-@DisplayName("AnnualLeaveService - 연차 차감 테스트")
+@DisplayName("AnnualLeaveService - 연차 차감 / 겹침 조회 테스트")
 class AnnualLeaveServiceTests {
 
     @Mock
@@ -36,6 +45,12 @@ class AnnualLeaveServiceTests {
     @Mock
     private AnnualLeaveHistoryRepository annualLeaveHistoryRepository;
 
+    @Mock
+    private AnnualLeaveDayJdbcRepository annualLeaveDayJdbcRepository;
+
+    @Mock
+    private UserFeignClient userFeignClient;
+
     @InjectMocks
     private AnnualLeaveService annualLeaveService;
 
@@ -65,7 +80,7 @@ class AnnualLeaveServiceTests {
                 .year(start.getYear())
                 .build();
 
-        given(annualLeaveRepository.findByMemberIdAndYear(MEMBER_ID, start.getYear()))
+        given(annualLeaveRepository.findWithLockByMemberIdAndYear(MEMBER_ID, start.getYear()))
                 .willReturn(annualLeave);
 
         // history 저장 mock
@@ -82,6 +97,9 @@ class AnnualLeaveServiceTests {
         // 2. history 저장이 한 번 호출되었는지
         verify(annualLeaveHistoryRepository, times(1))
                 .save(any(AnnualLeaveHistory.class));
+        // 기간 겹침 조회용 사용일도 같은 트랜잭션에서 등록
+        verify(annualLeaveDayJdbcRepository, times(1))
+                .insertDays(argThat(histories -> histories.size() == 1));
 
         // 3. 응답값 검증
         assertNotNull(response);
@@ -106,7 +124,7 @@ class AnnualLeaveServiceTests {
                 .approverId(APPROVER_ID)
                 .build();
 
-        given(annualLeaveRepository.findByMemberIdAndYear(MEMBER_ID, start.getYear()))
+        given(annualLeaveRepository.findWithLockByMemberIdAndYear(MEMBER_ID, start.getYear()))
                 .willReturn(null); // 또는 Optional 쓰면 Optional.empty()
 
         // When & Then
@@ -142,7 +160,7 @@ class AnnualLeaveServiceTests {
                 .year(start.getYear())
                 .build();
 
-        given(annualLeaveRepository.findByMemberIdAndYear(MEMBER_ID, start.getYear()))
+        given(annualLeaveRepository.findWithLockByMemberIdAndYear(MEMBER_ID, start.getYear()))
                 .willReturn(annualLeave);
 
         // When & Then
@@ -177,7 +195,7 @@ class AnnualLeaveServiceTests {
                 .year(start.getYear())
                 .build();
 
-        given(annualLeaveRepository.findByMemberIdAndYear(MEMBER_ID, start.getYear()))
+        given(annualLeaveRepository.findWithLockByMemberIdAndYear(MEMBER_ID, start.getYear()))
                 .willReturn(annualLeave);
 
         // When & Then
@@ -189,4 +207,80 @@ class AnnualLeaveServiceTests {
         // history 저장 안 해야 함
         verify(annualLeaveHistoryRepository, never()).save(any());
     }
+
+    // 5. 같은 부서 연차만 조회
+    @Test
+    @DisplayName("teamOf 를 지정하면 겹치는 연차 직원들의 부서를 user-service 에서 한 번에 조회해 같은 부서만 반환해야 한다")
+    void getOverlaps_teamOf_shouldFilterByDept() {
+        // Given
+        LocalDate start = LocalDate.of(2025, 5, 1);
+        LocalDate end = LocalDate.of(2025, 5, 2);
+        given(annualLeaveHistoryRepository.findOverlapping(start, end)).willReturn(List.of(
+                history(11L, start, start),
+                history(12L, end, end)));
+        given(userFeignClient.getUsersByIds(List.of(MEMBER_ID, 11L, 12L))).willReturn(ApiResponse.success(users(
+                user(MEMBER_ID, "D01"), user(11L, "D01"), user(12L, "D02"))));
+
+        // When
+        List<LeaveOverlapResponse> overlaps = annualLeaveService.getOverlaps(start, end, null, MEMBER_ID);
+
+        // Then
+        assertEquals(List.of(11L), overlaps.stream().map(LeaveOverlapResponse::getMemberId).toList());
+        verify(userFeignClient, times(1)).getUsersByIds(anyList());
+    }
+
+    // 6. 부서 조회 실패
+    @Test
+    @DisplayName("user-service 조회에 실패하면 빈 결과 대신 USER_SERVICE_UNAVAILABLE 예외가 발생해야 한다")
+    void getOverlaps_userServiceDown_shouldThrowException() {
+        // Given
+        LocalDate day = LocalDate.of(2025, 5, 1);
+        given(annualLeaveHistoryRepository.findOverlapping(day, day)).willReturn(List.of(history(11L, day, day)));
+        given(userFeignClient.getUsersByIds(anyList())).willThrow(new RuntimeException("user-service down"));
+
+        // When & Then
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> annualLeaveService.getOverlaps(day, day, null, MEMBER_ID));
+
+        assertEquals(ErrorCode.USER_SERVICE_UNAVAILABLE, ex.getErrorCode());
+    }
+
+    // 7. 없는 직원 기준 조회
+    @Test
+    @DisplayName("teamOf 직원이 user-service 에 없으면 MEMBER_NOT_FOUND 예외가 발생해야 한다")
+    void getOverlaps_unknownTeamOf_shouldThrowException() {
+        // Given
+        LocalDate day = LocalDate.of(2025, 5, 1);
+        given(annualLeaveHistoryRepository.findOverlapping(day, day)).willReturn(List.of());
+        given(userFeignClient.getUsersByIds(List.of(MEMBER_ID))).willReturn(ApiResponse.success(users()));
+
+        // When & Then
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> annualLeaveService.getOverlaps(day, day, null, MEMBER_ID));
+
+        assertEquals(ErrorCode.MEMBER_NOT_FOUND, ex.getErrorCode());
+    }
+
+    private AnnualLeaveHistory history(Long memberId, LocalDate start, LocalDate end) {
+        return AnnualLeaveHistory.builder()
+                .memberId(memberId)
+                .usedLeave((int) (end.toEpochDay() - start.toEpochDay()) + 1)
+                .startDate(start)
+                .endDate(end)
+                .approverId(APPROVER_ID)
+                .build();
+    }
+
+    private UserListResponse users(UserDTO... users) {
+        UserListResponse response = new UserListResponse();
+        response.setUsers(List.of(users));
+        return response;
+    }
+
+    private UserDTO user(Long id, String deptId) {
+        UserDTO user = new UserDTO();
+        user.setId(id);
+        user.setDept_id(deptId);
+        return user;
+    }
 }
@@ -0,0 +1,96 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceAnomalyResponse;
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceTrend;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceDailyStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceAnomalyDetector - 이상 근태 감지 테스트")
+class AttendanceAnomalyDetectorTests {
+
+    @Mock
+    private AttendanceDailyStatRepository attendanceDailyStatRepository;
+
+    private AttendanceAnomalyDetector detector;
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 31);
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atTime(9, 0).atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        detector = new AttendanceAnomalyDetector(attendanceDailyStatRepository, clock, 4, 600, 1.5);
+    }
+
+    // 1. 집계 기간
+    @Test
+    @DisplayName("오늘 포함 최근 4주를 집계하고, 오늘 포함 최근 2주를 최근 초과근무 구간으로 나눠야 한다")
+    void findFlagged_queriesLastFourWeeks() {
+        // given
+        given(attendanceDailyStatRepository.findTrends(any(), any(), any(), anyLong(), anyLong())).willReturn(List.of());
+
+        // when
+        detector.findFlagged();
+
+        // then
+        verify(attendanceDailyStatRepository).findTrends(
+                LocalDate.of(2025, 3, 4),
+                LocalDate.of(2025, 3, 18),
+                LocalDate.of(2025, 4, 1),
+                4L, 600L);
+    }
+
+    // 2. 지각 잦은 사용자
+    @Test
+    @DisplayName("최근 4주 지각이 기준 이상이면 FREQUENT_LATE 로 표시되어야 한다")
+    void findFlagged_frequentLate() {
+        // given
+        given(attendanceDailyStatRepository.findTrends(any(), any(), any(), anyLong(), anyLong())).willReturn(List.of(
+                new AttendanceTrend(2L, 4L, 0L, 0L),
+                new AttendanceTrend(1L, 5L, 0L, 0L)));
+
+        // when
+        List<AttendanceAnomalyResponse> flagged = detector.findFlagged();
+
+        // then
+        assertEquals(List.of(1L, 2L), flagged.stream().map(AttendanceAnomalyResponse::getUserId).toList());
+        assertEquals(5, flagged.get(0).getLateCount());
+        assertEquals(List.of(AttendanceAnomalyDetector.FREQUENT_LATE), flagged.get(0).getFlags());
+    }
+
+    // 3. 초과근무 급증
+    @Test
+    @DisplayName("최근 2주 초과근무가 그 전 2주보다 기준 배수 이상 늘었을 때만 OVERTIME_RISING 으로 표시되어야 한다")
+    void findFlagged_overtimeRising() {
+        // given
+        given(attendanceDailyStatRepository.findTrends(any(), any(), any(), anyLong(), anyLong())).willReturn(List.of(
+                new AttendanceTrend(3L, 0L, 750L, 300L),
+                new AttendanceTrend(4L, 1L, 700L, 600L))); // 최근 2주는 많지만 급증은 아님
+
+        // when
+        List<AttendanceAnomalyResponse> flagged = detector.findFlagged();
+
+        // then
+        assertEquals(1, flagged.size());
+        assertEquals(3L, flagged.get(0).getUserId());
+        assertEquals(750, flagged.get(0).getRecentOvertimeMinutes());
+        assertEquals(300, flagged.get(0).getPreviousOvertimeMinutes());
+        assertEquals(List.of(AttendanceAnomalyDetector.OVERTIME_RISING), flagged.get(0).getFlags());
+    }
+}
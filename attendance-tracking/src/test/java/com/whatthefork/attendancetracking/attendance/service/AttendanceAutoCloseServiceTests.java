@@ -0,0 +1,123 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedule;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceRepository;
+import com.whatthefork.attendancetracking.attendance.service.AttendanceAutoCloseService.ChunkResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceAutoCloseService - 미퇴근 기록 자동 퇴근 테스트")
+class AttendanceAutoCloseServiceTests {
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private WorkScheduleResolver workScheduleResolver;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AttendanceAutoCloseService attendanceAutoCloseService;
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 5);
+    private static final LocalDateTime NOW = TODAY.atTime(3, 0);
+
+    @BeforeEach
+    void setUp() {
+        attendanceAutoCloseService = new AttendanceAutoCloseService(
+                attendanceRepository, workScheduleResolver, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("같은 정책 퇴근 시각끼리 묶어 한 번에 닫고, 야간 근무처럼 퇴근 시간이 안 지난 기록은 건너뛰어야 한다")
+    void closeChunk_groupByPolicyPunchOut() {
+        // given
+        WorkSchedule nightShift = new WorkSchedule(LocalTime.of(22, 0), LocalTime.of(6, 0), LocalTime.of(20, 0));
+        given(workScheduleResolver.resolveAll(Set.of(1L, 2L, 3L)))
+                .willReturn(Map.of(1L, WorkSchedule.DEFAULT, 2L, WorkSchedule.DEFAULT, 3L, nightShift));
+
+        LocalDate yesterday = TODAY.minusDays(1);
+        given(attendanceRepository.findByPunchOutDateIsNullAndPunchInDateBeforeAndIdGreaterThanOrderByIdAsc(
+                eq(TODAY.atStartOfDay()), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(
+                        attendance(10L, 1L, yesterday.atTime(9, 0)),
+                        attendance(11L, 2L, yesterday.atTime(8, 40)),
+                        attendance(12L, 3L, yesterday.atTime(22, 0)),   // 오늘 06:00 퇴근 예정 -> 건너뜀
+                        attendance(13L, 1L, yesterday.atTime(19, 30))   // 정책 퇴근 이후 출근 -> 출근 시각으로 닫음
+                ));
+        given(attendanceRepository.closeOpenAttendances(anyCollection(), any(), eq(NOW)))
+                .willAnswer(invocation -> ((java.util.Collection<?>) invocation.getArgument(0)).size());
+
+        // when
+        ChunkResult result = attendanceAutoCloseService.closeChunk(TODAY.atStartOfDay(), NOW, 0L, 500);
+
+        // then
+        verify(attendanceRepository, times(1)).closeOpenAttendances(List.of(10L, 11L), yesterday.atTime(18, 0), NOW);
+        verify(attendanceRepository, times(1)).closeOpenAttendances(List.of(13L), yesterday.atTime(19, 30), NOW);
+        verify(attendanceRepository, times(2)).closeOpenAttendances(anyCollection(), any(), any());
+
+        assertEquals(4, result.scanned());
+        assertEquals(3, result.closed());
+        assertEquals(1, result.skipped());
+        assertEquals(13L, result.lastId());
+
+        // 근무 정책(외부 호출 가능)은 트랜잭션 열기 전에 조회
+        InOrder inOrder = inOrder(workScheduleResolver, transactionManager);
+        inOrder.verify(workScheduleResolver).resolveAll(anyCollection());
+        inOrder.verify(transactionManager).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("대상 기록이 없으면 UPDATE 하지 않아야 한다")
+    void closeChunk_empty() {
+        // given
+        given(attendanceRepository.findByPunchOutDateIsNullAndPunchInDateBeforeAndIdGreaterThanOrderByIdAsc(
+                any(), anyLong(), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        ChunkResult result = attendanceAutoCloseService.closeChunk(TODAY.atStartOfDay(), NOW, 20L, 500);
+
+        // then
+        assertEquals(0, result.scanned());
+        assertEquals(20L, result.lastId());
+        verify(attendanceRepository, never()).closeOpenAttendances(anyCollection(), any(), any());
+        verifyNoInteractions(workScheduleResolver, transactionManager);
+    }
+
+    private Attendance attendance(Long id, Long userId, LocalDateTime punchIn) {
+        Attendance attendance = Attendance.builder()
+                .userId(userId)
+                .punchInDate(punchIn)
+                .isLate(false)
+                .lateMinutes(0)
+                .overtimeMinutes(0)
+                .build();
+        ReflectionTestUtils.setField(attendance, "id", id);
+        return attendance;
+    }
+}
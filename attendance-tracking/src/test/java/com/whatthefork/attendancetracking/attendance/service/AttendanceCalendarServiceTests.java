@@ -0,0 +1,183 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import com.whatthefork.attendancetracking.attendance.domain.AttendanceCalendar;
+import com.whatthefork.attendancetracking.attendance.domain.AttendanceYearBitmap;
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceCalendarResponse;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceCalendarJdbcRepository;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceCalendarRepository;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceCalendarService - 연간 출근 달력 테스트")
+class AttendanceCalendarServiceTests {
+
+    @Mock
+    private AttendanceCalendarRepository attendanceCalendarRepository;
+
+    @Mock
+    private AttendanceCalendarJdbcRepository attendanceCalendarJdbcRepository;
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @InjectMocks
+    private AttendanceCalendarService attendanceCalendarService;
+
+    private static final Long USER_ID = 100L;
+    private static final int YEAR = 2024; // 윤년 (366일)
+
+    // 1. 비트맵 직렬화
+    @Test
+    @DisplayName("비트맵을 바이트로 저장했다가 다시 읽으면 출근/지각/초과근무 값이 그대로여야 한다")
+    void bitmap_roundTrip() {
+        // given
+        AttendanceYearBitmap bitmap = new AttendanceYearBitmap(YEAR);
+        bitmap.markCheckIn(LocalDate.of(YEAR, 1, 1), 0);
+        bitmap.markCheckIn(LocalDate.of(YEAR, 3, 4), 15);
+        bitmap.markCheckOut(LocalDate.of(YEAR, 3, 4), 70);
+        bitmap.markCheckIn(LocalDate.of(YEAR, 12, 31), 5);
+
+        // when
+        byte[] bytes = bitmap.toBytes();
+        AttendanceYearBitmap decoded = AttendanceYearBitmap.fromBytes(YEAR, bytes);
+
+        // then
+        assertTrue(bytes.length < 200);
+        assertEquals(3, decoded.presentCount());
+        assertEquals(2, decoded.lateCount());
+        assertEquals(1, decoded.overtimeCount());
+        assertEquals(15, decoded.getLateMinutes(LocalDate.of(YEAR, 3, 4)));
+        assertEquals(70, decoded.getOvertimeMinutes(LocalDate.of(YEAR, 3, 4)));
+        assertEquals(5, decoded.getLateMinutes(LocalDate.of(YEAR, 12, 31)));
+        assertFalse(decoded.isPresent(LocalDate.of(YEAR, 6, 1)));
+    }
+
+    // 2. 기존 달력에 퇴근 반영
+    @Test
+    @DisplayName("달력 행이 있으면 해당 날짜만 갱신하고 기존 기록은 유지해야 한다")
+    void record_existingCalendar() {
+        // given
+        AttendanceYearBitmap bitmap = new AttendanceYearBitmap(YEAR);
+        bitmap.markCheckIn(LocalDate.of(YEAR, 2, 1), 0);
+        AttendanceCalendar calendar = AttendanceCalendar.builder()
+                .userId(USER_ID)
+                .year(YEAR)
+                .bitmap(bitmap)
+                .build();
+        given(attendanceCalendarRepository.findWithLockByUserIdAndYear(USER_ID, YEAR))
+                .willReturn(Optional.of(calendar));
+
+        Attendance attendance = attendance(LocalDateTime.of(YEAR, 2, 2, 9, 20), LocalDateTime.of(YEAR, 2, 2, 19, 0), 20, 60);
+
+        // when
+        attendanceCalendarService.record(attendance);
+
+        // then
+        AttendanceYearBitmap updated = calendar.toBitmap();
+        assertTrue(updated.isPresent(LocalDate.of(YEAR, 2, 1)));
+        assertTrue(updated.isLate(LocalDate.of(YEAR, 2, 2)));
+        assertEquals(20, updated.getLateMinutes(LocalDate.of(YEAR, 2, 2)));
+        assertEquals(60, updated.getOvertimeMinutes(LocalDate.of(YEAR, 2, 2)));
+        verify(attendanceRepository, never()).findAllByUserIdAndPunchInDateBetweenOrderByPunchInDateAsc(any(), any(), any());
+        verify(attendanceCalendarRepository, never()).save(any());
+    }
+
+    // 3. 달력 행이 없으면 기존 기록으로 채워서 생성
+    @Test
+    @DisplayName("달력 행이 없으면 그 해 출퇴근 기록으로 채운 행을 없을 때만 넣어야 한다")
+    void record_newCalendar_backfill() {
+        // given
+        given(attendanceRepository.findAllByUserIdAndPunchInDateBetweenOrderByPunchInDateAsc(eq(USER_ID), any(), any()))
+                .willReturn(List.of(attendance(LocalDateTime.of(YEAR, 1, 2, 8, 50), LocalDateTime.of(YEAR, 1, 2, 18, 0), 0, 0)));
+
+        Attendance today = attendance(LocalDateTime.of(YEAR, 1, 3, 9, 5), null, 5, 0);
+
+        // 넣은 값 그대로 다시 읽힘
+        AtomicReference<AttendanceYearBitmap> inserted = new AtomicReference<>();
+        willAnswer(invocation -> {
+            inserted.set(invocation.getArgument(2));
+            return null;
+        }).given(attendanceCalendarJdbcRepository).insertIfAbsent(eq(USER_ID), eq(YEAR), any());
+        given(attendanceCalendarRepository.findWithLockByUserIdAndYear(USER_ID, YEAR))
+                .willReturn(Optional.empty())
+                .willAnswer(invocation -> Optional.of(calendar(inserted.get())));
+
+        // when
+        attendanceCalendarService.record(today);
+
+        // then
+        verify(attendanceCalendarJdbcRepository, times(1)).insertIfAbsent(eq(USER_ID), eq(YEAR), any());
+        verify(attendanceCalendarRepository, never()).save(any());
+
+        AttendanceCalendarResponse response = AttendanceCalendarResponse.from(inserted.get());
+        assertEquals(2, response.getPresentCount());
+        assertEquals(1, response.getLateCount());
+        assertEquals(5, response.getTotalLateMinutes());
+        assertEquals(List.of(LocalDate.of(YEAR, 1, 2), LocalDate.of(YEAR, 1, 3)),
+                response.getDays().stream().map(AttendanceCalendarResponse.CalendarDay::getDate).toList());
+    }
+
+    // 4. 다른 요청이 먼저 달력 행을 만든 경우
+    @Test
+    @DisplayName("동시에 다른 요청이 달력 행을 먼저 만들었으면 예외 없이 그 행에 오늘 기록을 합쳐야 한다")
+    void record_newCalendar_createdConcurrently() {
+        // given
+        AttendanceYearBitmap otherBitmap = new AttendanceYearBitmap(YEAR);
+        otherBitmap.markCheckIn(LocalDate.of(YEAR, 1, 2), 0);
+        AttendanceCalendar createdByOther = calendar(otherBitmap);
+
+        given(attendanceCalendarRepository.findWithLockByUserIdAndYear(USER_ID, YEAR))
+                .willReturn(Optional.empty(), Optional.of(createdByOther));
+        given(attendanceRepository.findAllByUserIdAndPunchInDateBetweenOrderByPunchInDateAsc(eq(USER_ID), any(), any()))
+                .willReturn(List.of());
+
+        Attendance today = attendance(LocalDateTime.of(YEAR, 1, 3, 9, 5), null, 5, 0);
+
+        // when
+        attendanceCalendarService.record(today);
+
+        // then
+        verify(attendanceCalendarJdbcRepository, times(1)).insertIfAbsent(eq(USER_ID), eq(YEAR), any());
+        AttendanceYearBitmap merged = createdByOther.toBitmap();
+        assertTrue(merged.isPresent(LocalDate.of(YEAR, 1, 2)));
+        assertEquals(5, merged.getLateMinutes(LocalDate.of(YEAR, 1, 3)));
+    }
+
+    private AttendanceCalendar calendar(AttendanceYearBitmap bitmap) {
+        return AttendanceCalendar.builder()
+                .userId(USER_ID)
+                .year(YEAR)
+                .bitmap(bitmap)
+                .build();
+    }
+
+    private Attendance attendance(LocalDateTime punchIn, LocalDateTime punchOut, int lateMinutes, int overtimeMinutes) {
+        return Attendance.builder()
+                .userId(USER_ID)
+                .punchInDate(punchIn)
+                .punchOutDate(punchOut)
+                .isLate(lateMinutes > 0)
+                .lateMinutes(lateMinutes)
+                .overtimeMinutes(overtimeMinutes)
+                .build();
+    }
+}
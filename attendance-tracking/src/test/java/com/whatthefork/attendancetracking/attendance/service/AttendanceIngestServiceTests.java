@@ -0,0 +1,233 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import com.whatthefork.attendancetracking.attendance.domain.PunchDirection;
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedule;
+import com.whatthefork.attendancetracking.attendance.dto.BulkPunchRequest;
+import com.whatthefork.attendancetracking.attendance.dto.BulkPunchResponse;
+import com.whatthefork.attendancetracking.attendance.dto.PunchRequest;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceDailyStatJdbcRepository;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceJdbcRepository;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceRepository;
+import com.whatthefork.attendancetracking.common.error.BusinessException;
+import com.whatthefork.attendancetracking.common.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceIngestService - 출퇴근 기록 일괄 반영 테스트")
+class AttendanceIngestServiceTests {
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceJdbcRepository attendanceJdbcRepository;
+
+    @Mock
+    private WorkScheduleResolver workScheduleResolver;
+
+    @Mock
+    private AttendanceCalendarService attendanceCalendarService;
+
+    @Mock
+    private AttendanceDailyStatJdbcRepository attendanceDailyStatJdbcRepository;
+
+    @Mock
+    private TodayAttendanceCache todayAttendanceCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AttendanceIngestService attendanceIngestService;
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 4);
+    private static final LocalDateTime NOW = DAY.plusDays(1).atTime(8, 0);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        attendanceIngestService = new AttendanceIngestService(
+                attendanceRepository, attendanceJdbcRepository, workScheduleResolver, attendanceCalendarService, attendanceDailyStatJdbcRepository, todayAttendanceCache, clock,
+                new TransactionTemplate(transactionManager));
+        lenient().when(workScheduleResolver.resolveAll(anyCollection())).thenAnswer(invocation ->
+                ((Collection<Long>) invocation.getArgument(0)).stream()
+                        .collect(Collectors.toMap(userId -> userId, userId -> WorkSchedule.DEFAULT)));
+    }
+
+    // 1. 중복 제거 + 지각/초과근무 계산 + 기존 기록 퇴근 반영
+    @Test
+    @DisplayName("같은 날 여러 번 찍힌 기록은 하나로 합쳐지고, 지각/초과근무는 기존 규칙대로 계산되어야 한다")
+    @SuppressWarnings("unchecked")
+    void ingest_dedupeAndApplyRules() {
+        // given
+        // 2번 사용자는 온라인으로 이미 출근한 상태
+        Attendance existing = Attendance.builder()
+                .userId(2L)
+                .punchInDate(DAY.atTime(8, 50))
+                .isLate(false)
+                .lateMinutes(0)
+                .overtimeMinutes(0)
+                .build();
+        given(attendanceRepository.findAllByUserIdInAndPunchInDateBetween(anyCollection(), any(), any()))
+                .willReturn(List.of(existing));
+
+        BulkPunchRequest request = BulkPunchRequest.builder()
+                .deviceId("gate-1")
+                .punches(List.of(
+                        punch(1L, DAY.atTime(9, 20), PunchDirection.IN),
+                        punch(1L, DAY.atTime(9, 10), PunchDirection.IN),   // 더 이른 출근 -> 이 기록 반영
+                        punch(1L, DAY.atTime(9, 10), PunchDirection.IN),   // 완전 중복
+                        punch(1L, DAY.atTime(19, 0), PunchDirection.OUT),
+                        punch(2L, DAY.atTime(18, 30), PunchDirection.OUT)
+                ))
+                .build();
+
+        // when
+        BulkPunchResponse response = attendanceIngestService.ingest(request);
+
+        // then
+        ArgumentCaptor<List<Attendance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(attendanceJdbcRepository, times(1)).batchInsert(captor.capture());
+
+        assertEquals(1, captor.getValue().size());
+        Attendance inserted = captor.getValue().get(0);
+        assertEquals(DAY.atTime(9, 10), inserted.getPunchInDate());
+        assertTrue(inserted.isLate());
+        assertEquals(10, inserted.getLateMinutes());
+        assertEquals(DAY.atTime(19, 0), inserted.getPunchOutDate());
+        assertEquals(60, inserted.getOvertimeMinutes());
+
+        assertEquals(DAY.atTime(18, 30), existing.getPunchOutDate());
+        assertEquals(30, existing.getOvertimeMinutes());
+
+        // 이상 근태 하루 요약은 신규 출근 1건 + 퇴근 반영 기존 기록 1건
+        verify(attendanceDailyStatJdbcRepository, times(1)).upsertAll(argThat(touched -> touched.size() == 2));
+
+        // 근무 정책은 트랜잭션 밖에서 한 번에 조회
+        verify(workScheduleResolver, times(1)).resolveAll(anyCollection());
+        verify(workScheduleResolver, never()).resolve(anyLong());
+
+        assertEquals(5, response.getReceivedCount());
+        assertEquals(1, response.getCheckInCount());
+        assertEquals(2, response.getCheckOutCount());
+        assertEquals(2, response.getDuplicateCount());
+        assertTrue(response.getRejected().isEmpty());
+    }
+
+    // 2. 잘못된 기록은 거절 목록으로
+    @Test
+    @DisplayName("출근 가능 시간 이전 출근, 미래 시각, 출근 없는 퇴근 기록은 거절되어야 한다")
+    void ingest_rejectInvalidPunches() {
+        // given
+        given(attendanceRepository.findAllByUserIdInAndPunchInDateBetween(anyCollection(), any(), any()))
+                .willReturn(List.of());
+
+        BulkPunchRequest request = BulkPunchRequest.builder()
+                .punches(List.of(
+                        punch(1L, DAY.atTime(4, 0), PunchDirection.IN),
+                        punch(1L, NOW.plusHours(1), PunchDirection.IN),
+                        punch(3L, DAY.atTime(18, 0), PunchDirection.OUT),
+                        punch(null, DAY.atTime(9, 0), PunchDirection.IN)
+                ))
+                .build();
+
+        // when
+        BulkPunchResponse response = attendanceIngestService.ingest(request);
+
+        // then
+        Map<Integer, String> codeByIndex = response.getRejected().stream()
+                .collect(Collectors.toMap(BulkPunchResponse.RejectedPunch::getIndex, BulkPunchResponse.RejectedPunch::getCode));
+
+        assertEquals(Map.of(
+                0, ErrorCode.ATTENDANCE_NOT_CHECK_IN_TIME.getCode(),
+                1, ErrorCode.ATTENDANCE_FUTURE_PUNCH.getCode(),
+                2, ErrorCode.ATTENDANCE_NOT_CHECKED_IN.getCode(),
+                3, ErrorCode.INVALID_INPUT_VALUE.getCode()
+        ), codeByIndex);
+        assertEquals(0, response.getCheckInCount());
+        assertEquals(0, response.getCheckOutCount());
+    }
+
+    // 3. 자정 넘긴 퇴근은 전날 근무로
+    @Test
+    @DisplayName("새벽 퇴근은 전날 퇴근 안 찍은 근무를 닫고, 같은 날 저녁 퇴근의 중복으로 버려지지 않아야 한다")
+    @SuppressWarnings("unchecked")
+    void ingest_earlyMorningOutClosesPreviousSession() {
+        // given
+        // 1번 사용자는 전날 출근 후 퇴근을 안 찍은 상태
+        Attendance previous = Attendance.builder()
+                .userId(1L)
+                .punchInDate(DAY.minusDays(1).atTime(9, 0))
+                .isLate(false)
+                .lateMinutes(0)
+                .overtimeMinutes(0)
+                .build();
+        given(attendanceRepository.findAllByUserIdInAndPunchInDateBetween(anyCollection(), any(), any()))
+                .willReturn(List.of(previous));
+
+        BulkPunchRequest request = BulkPunchRequest.builder()
+                .punches(List.of(
+                        punch(1L, DAY.atTime(2, 0), PunchDirection.OUT),
+                        punch(1L, DAY.atTime(9, 0), PunchDirection.IN),
+                        punch(1L, DAY.atTime(18, 0), PunchDirection.OUT)
+                ))
+                .build();
+
+        // when
+        BulkPunchResponse response = attendanceIngestService.ingest(request);
+
+        // then
+        ArgumentCaptor<List<Attendance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(attendanceJdbcRepository, times(1)).batchInsert(captor.capture());
+
+        assertEquals(DAY.atTime(2, 0), previous.getPunchOutDate());
+        assertEquals(DAY.atTime(18, 0), captor.getValue().get(0).getPunchOutDate());
+
+        assertEquals(1, response.getCheckInCount());
+        assertEquals(2, response.getCheckOutCount());
+        assertEquals(0, response.getDuplicateCount());
+        assertTrue(response.getRejected().isEmpty());
+    }
+
+    // 4. 빈 요청
+    @Test
+    @DisplayName("빈 요청이면 INVALID_INPUT_VALUE 예외가 발생해야 한다")
+    void ingest_empty_shouldThrowException() {
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> attendanceIngestService.ingest(BulkPunchRequest.builder().punches(List.of()).build()));
+
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE, ex.getErrorCode());
+        verifyNoInteractions(attendanceRepository, attendanceJdbcRepository);
+    }
+
+    private PunchRequest punch(Long userId, LocalDateTime timestamp, PunchDirection direction) {
+        return PunchRequest.builder()
+                .userId(userId)
+                .timestamp(timestamp)
+                .direction(direction)
+                .build();
+    }
+}
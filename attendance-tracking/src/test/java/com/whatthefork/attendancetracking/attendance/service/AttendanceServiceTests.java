@@ -3,18 +3,26 @@ package com.whatthefork.attendancetracking.attendance.service;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.whatthefork.attendancetracking.attendance.domain.Attendance;
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedule;
+import com.whatthefork.attendancetracking.attendance.repository.AttendanceDailyStatJdbcRepository;
 import com.whatthefork.attendancetracking.attendance.repository.AttendanceRepository;
 import com.whatthefork.attendancetracking.common.error.BusinessException;
 import com.whatthefork.attendancetracking.common.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,11 +37,36 @@ class AttendanceServiceTests {
     @Mock
     private AttendanceRepository attendanceRepository;
 
-    @InjectMocks
+    @Mock
+    private WorkScheduleResolver workScheduleResolver;
+
+    @Mock
+    private AttendanceCalendarService attendanceCalendarService;
+
+    @Mock
+    private AttendanceDailyStatJdbcRepository attendanceDailyStatJdbcRepository;
+
+    @Mock
+    private TodayAttendanceCache todayAttendanceCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private AttendanceService attendanceService;
 
     private static final Long USER_ID = 100L;
 
+    // 테스트 기준 시각: 2025-03-04 08:30
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 4, 8, 30);
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        attendanceService = new AttendanceService(attendanceRepository, workScheduleResolver, attendanceCalendarService, attendanceDailyStatJdbcRepository, todayAttendanceCache, clock,
+                new TransactionTemplate(transactionManager));
+        lenient().when(workScheduleResolver.resolve(anyLong())).thenReturn(WorkSchedule.DEFAULT);
+    }
+
     // 1. 정상 출근
     @Test
     @DisplayName("오늘 처음 출근하면 Attendance가 저장되어야 한다")
@@ -57,7 +90,36 @@ class AttendanceServiceTests {
         assertNotNull(saved.getPunchInDate());
         assertNull(saved.getPunchOutDate());
         assertEquals(0, saved.getOvertimeMinutes());
-        // isLate,lateMinutes 는 LocalTime.now()에 따라 달라져서 여기서는 구체값까지는 검증 X
+        assertEquals(NOW, saved.getPunchInDate());
+        assertFalse(saved.isLate());
+        assertEquals(0, saved.getLateMinutes());
+        // 연간 출근 달력에도 반영
+        verify(attendanceCalendarService, times(1)).record(saved);
+        // 이상 근태 하루 요약도 같은 트랜잭션에서 갱신
+        verify(attendanceDailyStatJdbcRepository, times(1)).upsertAll(List.of(saved));
+    }
+
+    // 1-1. 부서 근무 시간 정책 적용
+    @Test
+    @DisplayName("부서 근무 시간 정책이 있으면 그 출근 시간 기준으로 지각을 계산해야 한다")
+    void checkIn_teamSchedule_lateMinutes() {
+        // given
+        // 07:00 출근 부서 -> 08:30 출근은 90분 지각
+        given(workScheduleResolver.resolve(USER_ID))
+                .willReturn(new WorkSchedule(LocalTime.of(7, 0), LocalTime.of(16, 0), LocalTime.of(5, 0)));
+        given(attendanceRepository.findAttendanceByUserId(
+                eq(USER_ID), any(LocalDateTime.class), any(LocalDateTime.class))
+        ).willReturn(Optional.empty());
+
+        // when
+        attendanceService.checkIn(USER_ID);
+
+        // then
+        ArgumentCaptor<Attendance> captor = ArgumentCaptor.forClass(Attendance.class);
+        verify(attendanceRepository, times(1)).save(captor.capture());
+
+        assertTrue(captor.getValue().isLate());
+        assertEquals(90, captor.getValue().getLateMinutes());
     }
 
     // 2. 이미 오늘 출근한 상태에서 또 출근 찍으면 예외
@@ -85,7 +147,8 @@ class AttendanceServiceTests {
     void checkOut_success() {
         // given
         // 아직 퇴근 안 찍힌 출근 기록
-        LocalDateTime punchIn = LocalDateTime.now().minusHours(9);
+        // 전날 23:30 출근 -> 전날 18:00 기준 초과근무 870분
+        LocalDateTime punchIn = NOW.minusHours(9);
         Attendance attendance = Attendance.builder()
                 .userId(USER_ID)
                 .punchInDate(punchIn)
@@ -105,8 +168,9 @@ class AttendanceServiceTests {
 
         // then
         // 같은 객체가 수정되었는지 확인 (엔티티 메서드로 상태 변경되었다고 가정)
-        assertNotNull(attendance.getPunchOutDate());
-        assertTrue(attendance.getOvertimeMinutes() >= 0);
+        assertEquals(NOW, attendance.getPunchOutDate());
+        assertEquals(870, attendance.getOvertimeMinutes());
+        verify(attendanceDailyStatJdbcRepository, times(1)).upsertAll(List.of(attendance));
     }
 
     // 4. 출근 기록 없이 퇴근 찍으면 예외
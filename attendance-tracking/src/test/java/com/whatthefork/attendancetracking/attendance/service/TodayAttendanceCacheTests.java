@@ -0,0 +1,137 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.dto.AttendanceResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TodayAttendanceCache - 오늘 출퇴근 캐시 테스트")
+class TodayAttendanceCacheTests {
+
+    @Mock
+    private TodayAttendanceCacheBroadcaster broadcaster;
+
+    private MutableClock clock;
+    private TodayAttendanceCache todayAttendanceCache;
+
+    private static final Long USER_ID = 100L;
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 4);
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(DAY.atTime(8, 0));
+        todayAttendanceCache = new TodayAttendanceCache(clock, broadcaster);
+    }
+
+    // 1. 두 번째 조회부터는 캐시
+    @Test
+    @DisplayName("출근 전 \"기록 없음\" 도 캐시되어 두 번째 조회부터는 DB를 조회하지 않아야 한다")
+    void get_cachesEmptyResult() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        todayAttendanceCache.get(USER_ID, () -> { loadCount.incrementAndGet(); return Optional.empty(); });
+        Optional<AttendanceResponse> second = todayAttendanceCache.get(USER_ID, () -> { loadCount.incrementAndGet(); return Optional.empty(); });
+
+        // then
+        assertEquals(1, loadCount.get());
+        assertTrue(second.isEmpty());
+    }
+
+    // 2. 출근 시 write-through + 다른 인스턴스 무효화
+    @Test
+    @DisplayName("출근이 반영되면 캐시 값이 바뀌고 다른 인스턴스에 무효화 요청을 보내야 한다")
+    void put_writeThroughAndBroadcast() {
+        // given
+        todayAttendanceCache.get(USER_ID, Optional::empty);
+        AttendanceResponse response = AttendanceResponse.builder().date(DAY).punchIn("08:00").punchOut("-").workTime("-").build();
+
+        // when
+        todayAttendanceCache.put(USER_ID, response);
+
+        // then
+        Optional<AttendanceResponse> cached = todayAttendanceCache.get(USER_ID, () -> fail("DB를 조회하면 안 됨"));
+        assertSame(response, cached.orElseThrow());
+        verify(broadcaster, times(1)).broadcastEvict(List.of(USER_ID));
+    }
+
+    // 3. 날짜가 바뀌면 비움
+    @Test
+    @DisplayName("날짜가 바뀌면 전날 캐시는 사용하지 않아야 한다")
+    void get_newDay_clearsCache() {
+        // given
+        AttendanceResponse yesterday = AttendanceResponse.builder().date(DAY).punchIn("08:00").punchOut("-").workTime("-").build();
+        todayAttendanceCache.get(USER_ID, () -> Optional.of(yesterday));
+
+        // when
+        clock.set(DAY.plusDays(1).atTime(0, 1));
+        Optional<AttendanceResponse> today = todayAttendanceCache.get(USER_ID, Optional::empty);
+
+        // then
+        assertTrue(today.isEmpty());
+    }
+
+    // 4. 조회 도중 무효화되면 조회 결과를 캐시하지 않음
+    @Test
+    @DisplayName("DB 조회 도중 무효화 요청이 오면 조회한 값은 캐시하지 않아야 한다")
+    void get_evictedWhileLoading_doesNotCacheStaleValue() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        todayAttendanceCache.get(USER_ID, () -> {
+            loadCount.incrementAndGet();
+            todayAttendanceCache.evictLocal(List.of(USER_ID));
+            return Optional.empty();
+        });
+        todayAttendanceCache.get(USER_ID, () -> { loadCount.incrementAndGet(); return Optional.empty(); });
+
+        // then
+        assertEquals(2, loadCount.get());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(LocalDateTime now) {
+            set(now);
+        }
+
+        void set(LocalDateTime now) {
+            this.instant = now.atZone(ZoneId.systemDefault()).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedule;
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedulePolicy;
+import com.whatthefork.attendancetracking.attendance.dto.WorkSchedulePolicyRequest;
+import com.whatthefork.attendancetracking.attendance.repository.WorkSchedulePolicyRepository;
+import com.whatthefork.attendancetracking.common.error.BusinessException;
+import com.whatthefork.attendancetracking.common.error.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkSchedulePolicyService - 부서 근무 시간 정책 테스트")
+class WorkSchedulePolicyServiceTests {
+
+    @Mock
+    private WorkSchedulePolicyRepository workSchedulePolicyRepository;
+
+    @Mock
+    private WorkScheduleResolver workScheduleResolver;
+
+    @Mock
+    private WorkSchedulePolicyBroadcaster workSchedulePolicyBroadcaster;
+
+    @InjectMocks
+    private WorkSchedulePolicyService workSchedulePolicyService;
+
+    private static final String DEPT_ID = "D01";
+
+    // 1. 정책 등록 시 캐시 갱신
+    @Test
+    @DisplayName("야간 근무 정책을 등록하면 저장 후 캐시에도 바로 반영되어야 한다")
+    void savePolicy_updatesCache() {
+        // given
+        given(workSchedulePolicyRepository.findByDeptId(DEPT_ID)).willReturn(Optional.empty());
+
+        WorkSchedulePolicyRequest request = WorkSchedulePolicyRequest.builder()
+                .startTime(LocalTime.of(22, 0))
+                .endTime(LocalTime.of(6, 0))
+                .checkInAllowedTime(LocalTime.of(20, 0))
+                .build();
+
+        // when
+        workSchedulePolicyService.savePolicy(DEPT_ID, request);
+
+        // then
+        verify(workSchedulePolicyRepository, times(1)).save(any(WorkSchedulePolicy.class));
+
+        ArgumentCaptor<WorkSchedule> captor = ArgumentCaptor.forClass(WorkSchedule.class);
+        verify(workScheduleResolver, times(1)).put(eq(DEPT_ID), captor.capture());
+        verify(workSchedulePolicyBroadcaster, times(1)).broadcastReload(DEPT_ID);
+
+        // 22:00 출근 -> 다음 날 06:00 퇴근, 06:30 퇴근이면 초과근무 30분
+        WorkSchedule schedule = captor.getValue();
+        LocalDate workDate = LocalDate.of(2025, 3, 4);
+        assertTrue(schedule.isOvernight());
+        assertEquals(30, schedule.overtimeMinutes(workDate, workDate.plusDays(1).atTime(6, 30)));
+        assertEquals(0, schedule.overtimeMinutes(workDate, workDate.atTime(23, 0)));
+    }
+
+    // 2. 출근 가능 시간이 출근 시간보다 늦으면 예외
+    @Test
+    @DisplayName("출근 가능 시간이 출근 시간보다 늦으면 INVALID_WORK_SCHEDULE 예외가 발생해야 한다")
+    void savePolicy_invalidSchedule_shouldThrowException() {
+        // given
+        WorkSchedulePolicyRequest request = WorkSchedulePolicyRequest.builder()
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .checkInAllowedTime(LocalTime.of(10, 0))
+                .build();
+
+        // when & then
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> workSchedulePolicyService.savePolicy(DEPT_ID, request));
+
+        assertEquals(ErrorCode.INVALID_WORK_SCHEDULE, ex.getErrorCode());
+        verifyNoInteractions(workSchedulePolicyRepository, workScheduleResolver, workSchedulePolicyBroadcaster);
+    }
+
+    // 3. 정책 삭제 시 캐시 제거
+    @Test
+    @DisplayName("정책을 삭제하면 캐시에서도 제거되어 기본 근무 시간이 적용되어야 한다")
+    void deletePolicy_evictsCache() {
+        // given
+        WorkSchedulePolicy policy = WorkSchedulePolicy.builder()
+                .deptId(DEPT_ID)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(19, 0))
+                .checkInAllowedTime(LocalTime.of(6, 0))
+                .build();
+        given(workSchedulePolicyRepository.findByDeptId(DEPT_ID)).willReturn(Optional.of(policy));
+
+        // when
+        workSchedulePolicyService.deletePolicy(DEPT_ID);
+
+        // then
+        verify(workSchedulePolicyRepository, times(1)).delete(policy);
+        verify(workScheduleResolver, times(1)).evict(DEPT_ID);
+        verify(workSchedulePolicyBroadcaster, times(1)).broadcastReload(DEPT_ID);
+    }
+}
@@ -0,0 +1,135 @@
+package com.whatthefork.attendancetracking.attendance.service;
+
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedule;
+import com.whatthefork.attendancetracking.attendance.domain.WorkSchedulePolicy;
+import com.whatthefork.attendancetracking.attendance.repository.WorkSchedulePolicyRepository;
+import com.whatthefork.attendancetracking.client.UserFeignClient;
+import com.whatthefork.attendancetracking.client.dto.UserDTO;
+import com.whatthefork.attendancetracking.client.dto.UserListResponse;
+import com.whatthefork.attendancetracking.common.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkScheduleResolver - 사용자 근무 정책 조회 테스트")
+class WorkScheduleResolverTests {
+
+    @Mock
+    private WorkSchedulePolicyRepository workSchedulePolicyRepository;
+
+    @Mock
+    private UserFeignClient userFeignClient;
+
+    @Mock
+    private Clock clock;
+
+    private WorkScheduleResolver workScheduleResolver;
+
+    private static final Instant NOW = Instant.parse("2025-03-04T00:00:00Z");
+    private static final WorkSchedule EARLY = new WorkSchedule(LocalTime.of(7, 0), LocalTime.of(16, 0), LocalTime.of(5, 0));
+
+    @BeforeEach
+    void setUp() {
+        workScheduleResolver = new WorkScheduleResolver(workSchedulePolicyRepository, userFeignClient, clock);
+        ReflectionTestUtils.setField(workScheduleResolver, "failureTtl", Duration.ofSeconds(60));
+        workScheduleResolver.put("D01", EARLY);
+        lenient().when(clock.millis()).thenReturn(NOW.toEpochMilli());
+    }
+
+    // 1. 모르는 사용자는 한 번에 조회
+    @Test
+    @DisplayName("캐시에 없는 사용자들은 user-service 를 한 번만 호출해 부서를 조회해야 한다")
+    void resolveAll_batchesMisses() {
+        // given
+        given(userFeignClient.getUsersByIds(List.of(1L, 2L)))
+                .willReturn(ApiResponse.success(users(user(1L, "D01"), user(2L, null))));
+
+        // when
+        Map<Long, WorkSchedule> schedules = workScheduleResolver.resolveAll(List.of(1L, 2L));
+        WorkSchedule again = workScheduleResolver.resolve(1L);
+
+        // then
+        assertSame(EARLY, schedules.get(1L));
+        assertSame(WorkSchedule.DEFAULT, schedules.get(2L));
+        assertSame(EARLY, again);
+        verify(userFeignClient, times(1)).getUsersByIds(anyList());
+    }
+
+    // 2. 조회 실패는 잠시 캐시
+    @Test
+    @DisplayName("조회에 실패한 사용자는 failure-ttl 동안 기본 정책을 쓰고 다시 호출하지 않아야 한다")
+    void resolve_cachesFailureForTtl() {
+        // given
+        given(userFeignClient.getUsersByIds(List.of(3L))).willThrow(new RuntimeException("user-service down"));
+
+        // when
+        WorkSchedule first = workScheduleResolver.resolve(3L);
+        WorkSchedule second = workScheduleResolver.resolve(3L);
+        given(clock.millis()).willReturn(NOW.plusSeconds(61).toEpochMilli());
+        workScheduleResolver.resolve(3L);
+
+        // then
+        assertSame(WorkSchedule.DEFAULT, first);
+        assertSame(WorkSchedule.DEFAULT, second);
+        // TTL 안에서는 한 번, 지난 뒤 다시 한 번
+        verify(userFeignClient, times(2)).getUsersByIds(List.of(3L));
+    }
+
+    // 3. 다른 인스턴스에서 바뀐 정책 재로드
+    @Test
+    @DisplayName("정책 재로드 요청을 받으면 DB 의 최신 정책을 반영하고, 삭제된 부서는 기본 정책으로 돌아가야 한다")
+    void reloadPolicy_readsCommittedPolicy() {
+        // given
+        WorkSchedulePolicy late = WorkSchedulePolicy.builder()
+                .deptId("D02")
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(19, 0))
+                .checkInAllowedTime(LocalTime.of(8, 0))
+                .build();
+        given(workSchedulePolicyRepository.findByDeptId("D02")).willReturn(Optional.of(late));
+        given(workSchedulePolicyRepository.findByDeptId("D01")).willReturn(Optional.empty());
+        given(userFeignClient.getUsersByIds(List.of(1L, 2L)))
+                .willReturn(ApiResponse.success(users(user(1L, "D01"), user(2L, "D02"))));
+
+        // when
+        workScheduleResolver.reloadPolicy("D02");
+        workScheduleResolver.reloadPolicy("D01");
+        Map<Long, WorkSchedule> schedules = workScheduleResolver.resolveAll(List.of(1L, 2L));
+
+        // then
+        assertSame(WorkSchedule.DEFAULT, schedules.get(1L));
+        assertEquals(LocalTime.of(10, 0), schedules.get(2L).getStartTime());
+    }
+
+    private UserListResponse users(UserDTO... users) {
+        UserListResponse response = new UserListResponse();
+        response.setUsers(List.of(users));
+        return response;
+    }
+
+    private UserDTO user(Long id, String deptId) {
+        UserDTO user = new UserDTO();
+        user.setId(id);
+        user.setDept_id(deptId);
+        return user;
+    }
+}
@@ -3,7 +3,9 @@ package com.whatthefork.communicationandalarm.comment.domain;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +20,7 @@ public interface CommentRepository{
     List<Comment> findPageByPostId(Long postId, Pageable pageable);
 
     Long countByPostId(Long postId);
+
+    // 댓글이 없는 게시글은 결과에 없음
+    Map<Long, Long> countByPostIds(Collection<Long> postIds);
 }
@@ -1,10 +1,14 @@
 package com.whatthefork.communicationandalarm.comment.infrastructure;
 
 import com.whatthefork.communicationandalarm.comment.domain.Comment;
+import com.whatthefork.communicationandalarm.common.dto.PostCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +22,8 @@ public interface CommentJpaRepository extends JpaRepository<Comment,Long> {
     Page<Comment> findByPostIdAndIsDeletedFalse(Long postId, Pageable pageable);
 
     Long countByPostIdAndIsDeletedFalse(Long postId);
+
+    @Query("SELECT c.postId AS postId, COUNT(c) AS count FROM Comment c " +
+            "WHERE c.postId IN :postIds AND c.isDeleted = false GROUP BY c.postId")
+    List<PostCount> countGroupByPostIdInAndIsDeletedFalse(@Param("postIds") Collection<Long> postIds);
 }
@@ -2,12 +2,16 @@ package com.whatthefork.communicationandalarm.comment.infrastructure;
 
 import com.whatthefork.communicationandalarm.comment.domain.Comment;
 import com.whatthefork.communicationandalarm.comment.domain.CommentRepository;
+import com.whatthefork.communicationandalarm.common.dto.PostCount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -41,4 +45,13 @@ public class CommentRepositoryImpl implements CommentRepository {
     public Long countByPostId(Long postId) {
         return commentJpaRepository.countByPostIdAndIsDeletedFalse(postId);
     }
+
+    @Override
+    public Map<Long, Long> countByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentJpaRepository.countGroupByPostIdInAndIsDeletedFalse(postIds).stream()
+                .collect(Collectors.toMap(PostCount::getPostId, PostCount::getCount));
+    }
 }
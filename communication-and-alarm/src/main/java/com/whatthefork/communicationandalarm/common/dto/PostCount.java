@@ -0,0 +1,11 @@
+package com.whatthefork.communicationandalarm.common.dto;
+
+/*
+ * 게시글별 집계 결과 (post_id 로 GROUP BY 한 조회수/댓글수)
+ * */
+public interface PostCount {
+
+    Long getPostId();
+
+    Long getCount();
+}
@@ -2,7 +2,9 @@ package com.whatthefork.communicationandalarm.post.domain;
 
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PostRepository {
@@ -13,6 +15,9 @@ public interface PostRepository {
 
     Long countViewsByPostId(Long postId);
 
+    // 조회 기록이 없는 게시글은 결과에 없음
+    Map<Long, Long> countViewsByPostIds(Collection<Long> postIds);
+
     Optional<Post> findByIdAndIsDeletedFalse(Long postId);
 
     List<Post> findAllActive(Pageable pageable);
@@ -20,8 +20,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -152,12 +152,16 @@ public class PostService {
 
         List<Post> posts = postRepository.findAllActive(pageable);
 
-        List<PostResponse> responses = new ArrayList<>();
-        for (Post post : posts) {
-            Long viewCount = postRepository.countViewsByPostId(post.getId());
-            Long commentCount = commentRepository.countByPostId(post.getId());
-            responses.add(PostResponse.from(post, viewCount, commentCount));
-        }
+        // 게시글마다 조회하지 않고 페이지 단위로 한 번씩 집계 (게시글 수와 상관없이 쿼리 3번)
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        Map<Long, Long> viewCounts = postRepository.countViewsByPostIds(postIds);
+        Map<Long, Long> commentCounts = commentRepository.countByPostIds(postIds);
+
+        List<PostResponse> responses = posts.stream()
+                .map(post -> PostResponse.from(post,
+                        viewCounts.getOrDefault(post.getId(), 0L),
+                        commentCounts.getOrDefault(post.getId(), 0L)))
+                .toList();
 
         boolean hasNext = PageUtil.hasNext(posts, limit);
 
@@ -1,5 +1,6 @@
 package com.whatthefork.communicationandalarm.post.infrastructure.post;
 
+import com.whatthefork.communicationandalarm.common.dto.PostCount;
 import com.whatthefork.communicationandalarm.post.domain.Post;
 import com.whatthefork.communicationandalarm.post.domain.PostRepository;
 import com.whatthefork.communicationandalarm.post.domain.PostViewLog;
@@ -7,8 +8,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -37,6 +41,15 @@ public class PostRepositoryImpl implements PostRepository {
         return postViewLogJpaRepository.countByPostId(postId);
     }
 
+    @Override
+    public Map<Long, Long> countViewsByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return postViewLogJpaRepository.countGroupByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostCount::getPostId, PostCount::getCount));
+    }
+
     @Override
     public List<Post> findAllActive(Pageable pageable) {
         return postJpaRepository.findByIsDeletedFalse(pageable);
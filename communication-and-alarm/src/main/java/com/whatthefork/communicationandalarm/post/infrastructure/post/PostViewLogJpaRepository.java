@@ -1,11 +1,20 @@
 package com.whatthefork.communicationandalarm.post.infrastructure.post;
 
+import com.whatthefork.communicationandalarm.common.dto.PostCount;
 import com.whatthefork.communicationandalarm.post.domain.PostViewLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PostViewLogJpaRepository extends JpaRepository<PostViewLog, Long> {
 
     Long countByPostId(Long postId);
 
+    @Query("SELECT v.postId AS postId, COUNT(v) AS count FROM PostViewLog v " +
+            "WHERE v.postId IN :postIds GROUP BY v.postId")
+    List<PostCount> countGroupByPostIdIn(@Param("postIds") Collection<Long> postIds);
 
 }
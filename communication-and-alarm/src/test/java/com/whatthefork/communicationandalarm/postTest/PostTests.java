@@ -27,12 +27,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -208,9 +210,9 @@ public class PostTests {
             given(postRepository.findAllActive(any(PageRequest.class)))
                     .willReturn(posts);
 
-            given(postRepository.countViewsByPostId(1L)).willReturn(0L);
-            given(postRepository.countViewsByPostId(2L)).willReturn(0L);
-            given(commentRepository.countByPostId(anyLong())).willReturn(0L);
+            // 페이지 단위로 한 번에 집계 (조회 기록/댓글이 없는 게시글은 결과에 없음)
+            given(postRepository.countViewsByPostIds(List.of(1L, 2L))).willReturn(Map.of(1L, 7L));
+            given(commentRepository.countByPostIds(List.of(1L, 2L))).willReturn(Map.of(2L, 3L));
 
             // when
             Page<PostResponse> page = postService.getPosts(offset, limit);
@@ -222,6 +224,16 @@ public class PostTests {
             PostResponse first = page.getContents().get(0);
             assertThat(first.getPostId()).isEqualTo(1L);
             assertThat(first.getTitle()).isEqualTo("제목1");
+            assertThat(first.getViewCount()).isEqualTo(7L);
+            assertThat(first.getCommentCount()).isEqualTo(0L);
+
+            PostResponse second = page.getContents().get(1);
+            assertThat(second.getViewCount()).isEqualTo(0L);
+            assertThat(second.getCommentCount()).isEqualTo(3L);
+
+            // 게시글마다 개별 집계 쿼리를 날리지 않아야 함
+            verify(postRepository, never()).countViewsByPostId(anyLong());
+            verify(commentRepository, never()).countByPostId(anyLong());
         }
     }
 }
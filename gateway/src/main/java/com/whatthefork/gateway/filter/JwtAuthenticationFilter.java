@@ -24,7 +24,16 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
+        // 클라이언트가 보낸 인증 헤더는 믿지 않음 (토큰을 검증한 경우에만 게이트웨이가 채움)
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove("X-User-Id");
+                    headers.remove("X-User-Role");
+                })
+                .build();
+        exchange = exchange.mutate().request(request).build();
+
+        String authHeader = request.getHeaders().getFirst("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             return chain.filter(exchange);
@@ -41,7 +50,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         Long userId = jwtTokenProvider.getUserIdFromJWT(token);
         String role = jwtTokenProvider.getRoleFromJWT(token);
 
-        ServerHttpRequest mutateRequest = exchange.getRequest().mutate()
+        ServerHttpRequest mutateRequest = request.mutate()
                 .header("X-User-Id", String.valueOf(userId))
                 .header("X-User-Role", role)
                 .build();
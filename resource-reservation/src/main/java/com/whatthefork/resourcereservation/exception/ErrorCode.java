@@ -16,7 +16,31 @@ public enum ErrorCode {
     NOT_ENOUGH_AUTHORITY("10003", "권한 부족", HttpStatus.UNAUTHORIZED),
 
     // 비품 개수 부족
-    NOT_ENOUGH_CAPACITY("10004", "비품 개수 부족", HttpStatus.BAD_REQUEST);
+    NOT_ENOUGH_CAPACITY("10004", "비품 개수 부족", HttpStatus.BAD_REQUEST),
+
+    // 예약 기간 오류
+    INVALID_RESERVATION_PERIOD("10005", "예약 시작 시각은 종료 시각보다 빨라야 함", HttpStatus.BAD_REQUEST),
+
+    // 만료 처리 배치 중복 실행
+    RESERVATION_EXPIRY_IN_PROGRESS("10006", "예약 만료 처리가 이미 실행 중", HttpStatus.CONFLICT),
+
+    // 반복 예약 규칙 오류
+    INVALID_RECURRENCE("10007", "반복 예약 규칙이 올바르지 않음", HttpStatus.BAD_REQUEST),
+
+    // 대기 불가 (비어 있는 시간대이거나 시간대로 예약하지 않는 자원)
+    WAITLIST_NOT_ALLOWED("10008", "대기 신청할 수 없는 예약 (바로 예약 가능하거나 비품)", HttpStatus.BAD_REQUEST),
+
+    // 같은 시간대 중복 대기
+    ALREADY_WAITING("10009", "같은 시간대에 이미 대기 중", HttpStatus.CONFLICT),
+
+    // 비품 대여 수량 오류
+    INVALID_QUANTITY("10010", "비품 대여 수량은 1 이상이어야 함", HttpStatus.BAD_REQUEST),
+
+    // 이용률 집계 기간 오류 (비품이거나 기간이 비었거나 너무 김)
+    INVALID_UTILIZATION_RANGE("10011", "이용률 조회는 회의실/법인차량, 1일 ~ 366일 기간만 가능", HttpStatus.BAD_REQUEST),
+
+    // 지난 시각으로 예약 (요청 DTO 의 @Future 와 같은 기준)
+    PAST_RESERVATION_TIME("10012", "현재보다 나중 시각에만 예약이 가능함", HttpStatus.BAD_REQUEST);
 
     ErrorCode(String code, String message, HttpStatus httpStatus) {
         this.code = code;
@@ -0,0 +1,62 @@
+package com.whatthefork.resourcereservation.resource.analytics;
+
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ReservationUsageBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 사용 시간 집계 갱신
+ * 회의실/법인차량 예약이 생기거나 없어질 때 호출한 트랜잭션 안에서 1시간 버킷에 분을 더하고 뺀다.
+ * (리포트는 버킷만 읽으므로 예약 원본을 훑지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationUsageRecorder {
+
+    private final ReservationUsageBulkRepository usageBulkRepository;
+
+    public void record(Reservation reservation) {
+        record(List.of(reservation));
+    }
+
+    public void record(Collection<Reservation> reservations) {
+        apply(reservations, 1);
+    }
+
+    public void erase(Reservation reservation) {
+        erase(List.of(reservation));
+    }
+
+    public void erase(Collection<Reservation> reservations) {
+        apply(reservations, -1);
+    }
+
+    // 엔티티를 수정하기 전 구간을 빼야 할 때
+    public void erase(ResourceCategory category, Long resourceId, LocalDateTime start, LocalDateTime end) {
+        if (!ResourceAvailabilityIndex.tracks(category)) {
+            return;
+        }
+        usageBulkRepository.addMinutes(UsageBucketDelta.split(category, resourceId, start, end, -1));
+    }
+
+    private void apply(Collection<Reservation> reservations, int sign) {
+
+        List<UsageBucketDelta> deltas = reservations.stream()
+                .filter(reservation -> ResourceAvailabilityIndex.tracks(reservation.getCategory()))
+                .flatMap(reservation -> UsageBucketDelta.split(reservation.getCategory(), reservation.getResourceId(),
+                        reservation.getStartDate(), reservation.getEndDate(), sign).stream())
+                .collect(Collectors.toList());
+
+        if (!deltas.isEmpty()) {
+            usageBulkRepository.addMinutes(deltas);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.whatthefork.resourcereservation.resource.analytics;
+
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+// 1시간 버킷 하나에 더할(뺄) 사용 시간(분)
+public record UsageBucketDelta(ResourceCategory category, Long resourceId, LocalDate bucketDate, int hourOfDay,
+                               int minutes) {
+
+    // [start, end) 를 1시간 버킷으로 잘라 sign(+1 생성, -1 취소) 을 곱한 분 단위로 나눔
+    public static List<UsageBucketDelta> split(ResourceCategory category, Long resourceId,
+                                               LocalDateTime start, LocalDateTime end, int sign) {
+
+        List<UsageBucketDelta> deltas = new ArrayList<>();
+        LocalDateTime cursor = start;
+        while (cursor.isBefore(end)) {
+            LocalDateTime hourStart = cursor.truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime next = hourStart.plusHours(1).isBefore(end) ? hourStart.plusHours(1) : end;
+            int minutes = (int) Duration.between(cursor, next).toMinutes();
+            if (minutes > 0) {
+                deltas.add(new UsageBucketDelta(category, resourceId, hourStart.toLocalDate(),
+                        hourStart.getHour(), sign * minutes));
+            }
+            cursor = next;
+        }
+        return deltas;
+    }
+
+    public int dayOfWeek() {
+        return bucketDate.getDayOfWeek().getValue();
+    }
+}
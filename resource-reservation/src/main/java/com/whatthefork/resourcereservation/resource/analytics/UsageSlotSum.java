@@ -0,0 +1,5 @@
+package com.whatthefork.resourcereservation.resource.analytics;
+
+// 자원별 (요일, 시각) 사용 시간 합계 (분)
+public record UsageSlotSum(Long resourceId, int dayOfWeek, int hourOfDay, long minutes) {
+}
@@ -0,0 +1,90 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 인원에 맞는 가장 작은 회의실 배정 (큰 회의실을 아껴 둠)
+ * 인원 인덱스에서 people 이상인 첫 회의실을 찾고(O(log n)), 거기서부터 큰 순으로 예약 시간 인덱스를 확인해
+ * 처음 비어 있는 회의실을 고른다.
+ * 예약 시간 인덱스는 다른 인스턴스의 취소/수정이 늦게 보일 수 있으므로, 그보다 작은 회의실 중 인덱스에서
+ * 예약돼 있다고 나온 회의실은 DB로 한 번에 다시 확인해 실제로 비어 있으면 그 회의실을 고른다.
+ *
+ * 인원 인덱스는 카탈로그 캐시가 돌려준 목록으로 만들고, 목록이 바뀔 때(무효화 후 다시 읽힘)만 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BestFitRoomAllocator {
+
+    private final ConferenceRoomRepository conferenceRoomRepository;
+    private final ResourceAvailabilityIndex availabilityIndex;
+    private final ReservationRepository reservationRepository;
+
+    private volatile IndexedCatalog indexed;
+
+    // 시간과 상관없이 people 명 이상 들어가는 가장 작은 회의실
+    public Optional<ConferenceRoom> smallestFitting(int people) {
+        return capacityIndex().smallestFitting(people);
+    }
+
+    // [start, end) 동안 비어 있고 people 명 이상 들어가는 가장 작은 회의실
+    public Optional<ConferenceRoom> allocate(int people, LocalDateTime start, LocalDateTime end) {
+
+        ConferenceRoom candidate = null;
+        List<ConferenceRoom> bookedInIndex = new ArrayList<>();
+        search:
+        for (List<ConferenceRoom> sameCapacity : capacityIndex().fittingAscending(people)) {
+            for (ConferenceRoom room : sameCapacity) {
+                if (availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, room.getId(), start, end, null)) {
+                    candidate = room;
+                    break search;
+                }
+                bookedInIndex.add(room);
+            }
+        }
+        if (bookedInIndex.isEmpty()) {
+            return Optional.ofNullable(candidate);
+        }
+
+        // 후보보다 작은(먼저 확인한) 회의실 중 실제로는 비어 있는 회의실이 있으면 그쪽을 고름
+        Set<Long> booked = reservationRepository.findOverlappingForResources(ResourceCategory.CONFERENCE_ROOM,
+                        bookedInIndex.stream().map(ConferenceRoom::getId).toList(), start, end)
+                .stream()
+                .map(Reservation::getResourceId)
+                .collect(Collectors.toSet());
+        for (ConferenceRoom room : bookedInIndex) {
+            if (!booked.contains(room.getId())) {
+                return Optional.of(room);
+            }
+        }
+        return Optional.ofNullable(candidate);
+    }
+
+    private RoomCapacityIndex capacityIndex() {
+
+        List<ConferenceRoom> rooms = conferenceRoomRepository.findAll();
+        IndexedCatalog current = indexed;
+        if (current != null && current.source() == rooms) {
+            return current.index();
+        }
+
+        RoomCapacityIndex index = RoomCapacityIndex.of(rooms);
+        indexed = new IndexedCatalog(rooms, index);
+        return index;
+    }
+
+    private record IndexedCatalog(List<ConferenceRoom> source, RoomCapacityIndex index) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 정렬된 두 구간 목록을 한 번씩만 훑어 겹치는 구간을 찾는다.
+ * ranges 는 시작 시각 순 + 서로 겹치지 않아야 하고(반복 예약 회차), slots 는 시작 시각 순이어야 한다.
+ * 슬롯의 시작 시각이 커지기만 하므로 이미 끝난 회차는 다시 볼 필요가 없다.
+ * 같은 방식으로 한 번 훑어 예약 사이 빈 구간도 찾는다.
+ */
+public final class IntervalSweep {
+
+    private IntervalSweep() {
+    }
+
+    // ranges 중 slots 와 겹치는 회차 (excludeReservationIds 에 든 예약은 무시)
+    public static List<TimeRange> conflicts(List<TimeRange> ranges, Iterable<ReservationSlot> slots,
+                                            Set<Long> excludeReservationIds) {
+
+        boolean[] conflicting = new boolean[ranges.size()];
+        int first = 0;
+
+        for (ReservationSlot slot : slots) {
+            if (excludeReservationIds.contains(slot.reservationId())) {
+                continue;
+            }
+            while (first < ranges.size() && !ranges.get(first).endDate().isAfter(slot.startDate())) {
+                first++;
+            }
+            for (int i = first; i < ranges.size() && ranges.get(i).startDate().isBefore(slot.endDate()); i++) {
+                conflicting[i] = true;
+            }
+        }
+
+        List<TimeRange> result = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            if (conflicting[i]) {
+                result.add(ranges.get(i));
+            }
+        }
+        return result;
+    }
+
+    // [start, end) 안에서 slots(시작 순)가 덮지 않는 빈 구간 (시작 시각 순으로 훑으며 예약 사이 빈틈을 모음)
+    public static List<TimeRange> gaps(LocalDateTime start, LocalDateTime end, Iterable<ReservationSlot> slots) {
+
+        List<TimeRange> free = new ArrayList<>();
+        LocalDateTime cursor = start;
+        for (ReservationSlot slot : slots) {
+            if (!slot.overlaps(start, end)) {
+                continue;
+            }
+            if (slot.startDate().isAfter(cursor)) {
+                free.add(new TimeRange(cursor, slot.startDate()));
+            }
+            if (slot.endDate().isAfter(cursor)) {
+                cursor = slot.endDate();
+            }
+        }
+        if (cursor.isBefore(end)) {
+            free.add(new TimeRange(cursor, end));
+        }
+        return free;
+    }
+}
@@ -0,0 +1,87 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.enums.RecurrenceType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반복 예약 규칙
+ * 첫 회차 [start, end) 를 stepDays 일씩 밀어가며 종료일(untilDate, 포함) 또는 횟수(count) 만큼 펼친다.
+ * 종료일과 횟수 중 정확히 하나만 지정해야 한다.
+ */
+public final class RecurrenceRule {
+
+    public static final int MAX_OCCURRENCES = 366;
+
+    private final int stepDays;
+    private final LocalDate untilDate;
+    private final Integer count;
+
+    private RecurrenceRule(int stepDays, LocalDate untilDate, Integer count) {
+        this.stepDays = stepDays;
+        this.untilDate = untilDate;
+        this.count = count;
+    }
+
+    public static RecurrenceRule of(RecurrenceType type, Integer intervalDays, LocalDate untilDate, Integer count) {
+
+        if (type == null || (untilDate == null) == (count == null)) {
+            throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+        }
+        if (count != null && (count < 1 || count > MAX_OCCURRENCES)) {
+            throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+        }
+
+        int stepDays = switch (type) {
+            case DAILY -> 1;
+            case WEEKLY -> 7;
+            case CUSTOM -> {
+                if (intervalDays == null || intervalDays < 1) {
+                    throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+                }
+                yield intervalDays;
+            }
+        };
+
+        return new RecurrenceRule(stepDays, untilDate, count);
+    }
+
+    // 회차 목록 (시작 시각 순, 서로 겹치지 않음)
+    public List<TimeRange> expand(LocalDateTime firstStart, LocalDateTime firstEnd) {
+
+        if (firstStart == null || firstEnd == null || !firstStart.isBefore(firstEnd)) {
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION_PERIOD);
+        }
+
+        // 한 회차가 반복 간격보다 길면 회차끼리 겹침
+        Duration length = Duration.between(firstStart, firstEnd);
+        if (length.compareTo(Duration.ofDays(stepDays)) > 0) {
+            throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+        }
+
+        List<TimeRange> occurrences = new ArrayList<>();
+        LocalDateTime start = firstStart;
+        while (hasNext(occurrences.size(), start)) {
+            if (occurrences.size() == MAX_OCCURRENCES) {
+                throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+            }
+            occurrences.add(new TimeRange(start, start.plus(length)));
+            start = start.plusDays(stepDays);
+        }
+
+        if (occurrences.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+        }
+        return occurrences;
+    }
+
+    private boolean hasNext(int expanded, LocalDateTime nextStart) {
+        return count != null ? expanded < count : !nextStart.toLocalDate().isAfter(untilDate);
+    }
+}
@@ -0,0 +1,29 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 자원 하나에 잡힌 예약 구간 [startDate, endDate)
+ * 끝 시각은 포함하지 않으므로 10:00~11:00 예약 뒤에 11:00~12:00 예약이 바로 붙을 수 있다.
+ */
+public record ReservationSlot(
+
+        Long reservationId,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) {
+    public static ReservationSlot from(Reservation reservation) {
+        return new ReservationSlot(reservation.getId(), reservation.getStartDate(), reservation.getEndDate());
+    }
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return startDate.isBefore(end) && endDate.isAfter(start);
+    }
+
+    public Duration duration() {
+        return Duration.between(startDate, endDate);
+    }
+}
@@ -0,0 +1,177 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 자원별 예약 시간 인덱스 (메모리)
+ * 회의실/법인차량은 같은 시간대에 한 건만 예약할 수 있으므로 시간 구간 겹침으로 예약 가능 여부를 판단한다.
+ * 비품은 시간대가 아니라 수량으로 관리하므로 인덱스 대상이 아니다.
+ * 기동 시 아직 끝나지 않은 예약으로 만들고, 예약 생성/수정/취소 커밋 후 한 건씩 반영
+ *
+ * 인스턴스마다 따로 가지므로 다른 인스턴스의 변경은 주기적인 재적재(refresh-delay) 전까지 보이지 않는다.
+ * 그래서 빠른 판단용 힌트로만 쓰고, 겹친다고 나온 경우는 호출하는 쪽에서 DB로 다시 확인한 뒤 거절한다.
+ * 재적재 중에 커밋된 변경은 따로 모아 두었다가 새로 만든 인덱스에 다시 반영하므로 빠지지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceAvailabilityIndex {
+
+    private static final Set<ResourceCategory> TIME_SLOT_CATEGORIES =
+            EnumSet.of(ResourceCategory.CONFERENCE_ROOM, ResourceCategory.CORPORATE_VEHICLE);
+
+    private final ReservationRepository reservationRepository;
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    // 재적재 중에 들어온 변경 (재적재 중이 아니면 null), this 로 잠금
+    private List<Consumer<Snapshot>> changesDuringRebuild;
+
+    public static boolean tracks(ResourceCategory category) {
+        return TIME_SLOT_CATEGORIES.contains(category);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${reservation.availability-index.refresh-delay:60000}",
+            initialDelayString = "${reservation.availability-index.refresh-delay:60000}")
+    public void rebuild() {
+        synchronized (this) {
+            if (changesDuringRebuild != null) {
+                return;
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            Snapshot rebuilt = new Snapshot();
+            List<Reservation> reservations = reservationRepository
+                    .findAllByCategoryInAndEndDateAfter(TIME_SLOT_CATEGORIES, LocalDateTime.now());
+            for (Reservation reservation : reservations) {
+                rebuilt.add(reservation.getId(), ResourceKey.of(reservation), ReservationSlot.from(reservation));
+            }
+
+            // 읽는 동안 커밋된 변경을 순서대로 다시 적용한 뒤 교체 (이미 읽힌 변경은 다시 적용해도 결과가 같음)
+            synchronized (this) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                snapshot = rebuilt;
+            }
+            log.debug("[예약 시간 인덱스] 진행 중/예정 예약 {}건 로드", reservations.size());
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    // [start, end) 동안 자원이 비어 있는지 (excludeReservationId 는 수정 중인 자기 자신)
+    public boolean isAvailable(ResourceCategory category, Long resourceId,
+                               LocalDateTime start, LocalDateTime end, Long excludeReservationId) {
+        if (!tracks(category)) {
+            return true;
+        }
+        ResourceTimeline timeline = snapshot.timelines.get(new ResourceKey(category, resourceId));
+        return timeline == null || timeline.isFree(start, end, excludeReservationId);
+    }
+
+    // [start, end) 와 겹치는 예약 구간
+    public List<ReservationSlot> getSlots(ResourceCategory category, Long resourceId,
+                                          LocalDateTime start, LocalDateTime end) {
+        ResourceTimeline timeline = snapshot.timelines.get(new ResourceKey(category, resourceId));
+        return timeline == null ? List.of() : timeline.slotsBetween(start, end);
+    }
+
+    // [start, end) 안에서 비어 있는 구간 (시간대로 관리하지 않는 자원은 구간 전체)
+    public List<TimeRange> getFreeSlots(ResourceCategory category, Long resourceId,
+                                        LocalDateTime start, LocalDateTime end) {
+        ResourceTimeline timeline = tracks(category) ? snapshot.timelines.get(new ResourceKey(category, resourceId)) : null;
+        return timeline == null ? List.of(new TimeRange(start, end)) : timeline.freeBetween(start, end);
+    }
+
+    // 여러 구간(시작 순, 서로 안 겹침)을 한 번에 확인해 기존 예약과 겹치는 구간만 돌려줌
+    public List<TimeRange> findConflicts(ResourceCategory category, Long resourceId,
+                                         List<TimeRange> ranges, Set<Long> excludeReservationIds) {
+        if (!tracks(category) || ranges.isEmpty()) {
+            return List.of();
+        }
+        ResourceTimeline timeline = snapshot.timelines.get(new ResourceKey(category, resourceId));
+        return timeline == null ? List.of() : timeline.conflictsWith(ranges, excludeReservationIds);
+    }
+
+    // 예약 추가 (이미 있던 예약이면 기존 구간을 빼고 다시 넣음)
+    public void add(Reservation reservation) {
+        Long reservationId = reservation.getId();
+        if (!tracks(reservation.getCategory())) {
+            apply(current -> current.remove(reservationId));
+            return;
+        }
+        // 재적재 후 다시 적용할 수 있게 지금 값으로 고정
+        ResourceKey key = ResourceKey.of(reservation);
+        ReservationSlot slot = ReservationSlot.from(reservation);
+        apply(current -> current.add(reservationId, key, slot));
+    }
+
+    public void remove(Long reservationId) {
+        apply(current -> current.remove(reservationId));
+    }
+
+    public int size() {
+        return snapshot.slotsByReservation.size();
+    }
+
+    private synchronized void apply(Consumer<Snapshot> change) {
+        change.accept(snapshot);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Map<ResourceKey, ResourceTimeline> timelines = new ConcurrentHashMap<>();
+        private final Map<Long, IndexedSlot> slotsByReservation = new ConcurrentHashMap<>();
+
+        void add(Long reservationId, ResourceKey key, ReservationSlot slot) {
+            remove(reservationId);
+            timelines.computeIfAbsent(key, k -> new ResourceTimeline()).add(slot);
+            slotsByReservation.put(reservationId, new IndexedSlot(key, slot));
+        }
+
+        void remove(Long reservationId) {
+            IndexedSlot indexed = slotsByReservation.remove(reservationId);
+            if (indexed == null) {
+                return;
+            }
+            ResourceTimeline timeline = timelines.get(indexed.key());
+            if (timeline != null) {
+                timeline.remove(indexed.slot());
+            }
+        }
+    }
+
+    private record ResourceKey(ResourceCategory category, Long resourceId) {
+
+        static ResourceKey of(Reservation reservation) {
+            return new ResourceKey(reservation.getCategory(), reservation.getResourceId());
+        }
+    }
+
+    private record IndexedSlot(ResourceKey key, ReservationSlot slot) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 자원별 예약 잠금 (회의실/법인차량)
+ * 같은 자원 예약은 인스턴스 안에서는 락, 인스턴스 간에는 자원 행 잠금으로 한 줄로 세운다.
+ * 인스턴스 안의 락은 자원마다 만들지 않고 고정 개수의 락에 (카테고리, 자원 ID) 해시로 나눠 담으며,
+ * 트랜잭션을 열기 전에 잡고 커밋(인덱스 반영 포함)이 끝난 뒤 푼다.
+ * 그래서 락을 기다리는 스레드는 DB 커넥션을 들고 있지 않고, 커넥션 풀은 락과 무관하게 잡으면 된다.
+ * 비품은 재고를 조건부 UPDATE 로 차감하므로 잠그지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceLocker {
+
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] locks = newLocks();
+
+    private final ConferenceRoomRepository conferenceRoomRepository;
+    private final CorporateCarRepository corporateCarRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 자원 락을 잡고 새 트랜잭션에서 실행 (호출하는 쪽이 트랜잭션 안이면 안 됨)
+    public <T> T inTransaction(ResourceCategory category, Long resourceId, Supplier<T> work) {
+
+        if (!ResourceAvailabilityIndex.tracks(category)) {
+            return transactionTemplate.execute(status -> work.get());
+        }
+
+        ReentrantLock lock = stripeOf(category, resourceId);
+        lock.lock();
+        try {
+            return transactionTemplate.execute(status -> work.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 자원 행 잠금 (트랜잭션 안에서 호출, 커밋/롤백 때 풀림)
+    public void lockRow(ResourceCategory category, Long resourceId) {
+
+        switch (category) {
+            case CONFERENCE_ROOM -> conferenceRoomRepository.findWithLockById(resourceId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+            case CORPORATE_VEHICLE -> corporateCarRepository.findWithLockById(resourceId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+            case SUPPLIES -> { }
+        }
+    }
+
+    // 두 자원 행을 (카테고리, ID) 순으로 잠금 (예약을 다른 자원으로 옮기는 수정끼리 교착되지 않도록)
+    public void lockRows(ResourceCategory category, Long resourceId,
+                         ResourceCategory otherCategory, Long otherResourceId) {
+
+        int order = category != otherCategory
+                ? category.compareTo(otherCategory)
+                : resourceId.compareTo(otherResourceId);
+        if (order == 0) {
+            lockRow(category, resourceId);
+        } else if (order < 0) {
+            lockRow(category, resourceId);
+            lockRow(otherCategory, otherResourceId);
+        } else {
+            lockRow(otherCategory, otherResourceId);
+            lockRow(category, resourceId);
+        }
+    }
+
+    private ReentrantLock stripeOf(ResourceCategory category, Long resourceId) {
+        int hash = Objects.hash(category, resourceId);
+        return locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static ReentrantLock[] newLocks() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
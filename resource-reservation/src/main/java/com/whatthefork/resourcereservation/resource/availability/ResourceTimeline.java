@@ -0,0 +1,78 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 자원 하나의 예약 구간 목록 (시작 시각 순 정렬)
+ * 가장 긴 예약 길이를 기억해두면 [start, end) 와 겹칠 수 있는 구간은
+ * 시작 시각이 [start - 최장 길이, end) 인 것뿐이라 전체를 훑지 않아도 된다.
+ */
+final class ResourceTimeline {
+
+    private static final Comparator<ReservationSlot> ORDER = Comparator
+            .comparing(ReservationSlot::startDate)
+            .thenComparing(ReservationSlot::reservationId);
+
+    private final TreeSet<ReservationSlot> slots = new TreeSet<>(ORDER);
+    private Duration maxDuration = Duration.ZERO;
+
+    synchronized boolean isFree(LocalDateTime start, LocalDateTime end, Long excludeReservationId) {
+        for (ReservationSlot slot : candidates(start, end)) {
+            if (!slot.reservationId().equals(excludeReservationId) && slot.overlaps(start, end)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized List<ReservationSlot> slotsBetween(LocalDateTime start, LocalDateTime end) {
+        List<ReservationSlot> overlapping = new ArrayList<>();
+        for (ReservationSlot slot : candidates(start, end)) {
+            if (slot.overlaps(start, end)) {
+                overlapping.add(slot);
+            }
+        }
+        return overlapping;
+    }
+
+    // [start, end) 안에서 예약이 없는 구간
+    synchronized List<TimeRange> freeBetween(LocalDateTime start, LocalDateTime end) {
+        return IntervalSweep.gaps(start, end, candidates(start, end));
+    }
+
+    // 반복 예약 회차(시작 순, 서로 안 겹침) 중 기존 예약과 겹치는 회차
+    synchronized List<TimeRange> conflictsWith(List<TimeRange> ranges, Set<Long> excludeReservationIds) {
+        LocalDateTime spanStart = ranges.get(0).startDate();
+        LocalDateTime spanEnd = ranges.get(ranges.size() - 1).endDate();
+        return IntervalSweep.conflicts(ranges, candidates(spanStart, spanEnd), excludeReservationIds);
+    }
+
+    synchronized void add(ReservationSlot slot) {
+        slots.add(slot);
+        if (slot.duration().compareTo(maxDuration) > 0) {
+            maxDuration = slot.duration();
+        }
+    }
+
+    synchronized void remove(ReservationSlot slot) {
+        slots.remove(slot);
+    }
+
+    synchronized int size() {
+        return slots.size();
+    }
+
+    private NavigableSet<ReservationSlot> candidates(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime fromStart = start.minus(maxDuration);
+        ReservationSlot from = new ReservationSlot(Long.MIN_VALUE, fromStart, fromStart);
+        ReservationSlot to = new ReservationSlot(Long.MIN_VALUE, end, end);
+        return slots.subSet(from, true, to, false);
+    }
+}
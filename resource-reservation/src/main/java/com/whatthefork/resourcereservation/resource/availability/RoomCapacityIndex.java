@@ -0,0 +1,48 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 회의실을 최대 인원 순으로 정렬해 둔 읽기 전용 인덱스
+ * people 명 이상 들어가는 가장 작은 회의실을 O(log n) 으로 찾는다. (같은 인원이면 id 순)
+ */
+public final class RoomCapacityIndex {
+
+    private final NavigableMap<Integer, List<ConferenceRoom>> roomsByCapacity;
+
+    private RoomCapacityIndex(NavigableMap<Integer, List<ConferenceRoom>> roomsByCapacity) {
+        this.roomsByCapacity = roomsByCapacity;
+    }
+
+    public static RoomCapacityIndex of(Collection<ConferenceRoom> rooms) {
+
+        NavigableMap<Integer, List<ConferenceRoom>> roomsByCapacity = new TreeMap<>();
+        rooms.stream()
+                .sorted(Comparator.comparing(ConferenceRoom::getId))
+                .forEach(room -> roomsByCapacity.computeIfAbsent(room.getMaxCapacity(), capacity -> new ArrayList<>())
+                        .add(room));
+        roomsByCapacity.replaceAll((capacity, bucket) -> List.copyOf(bucket));
+
+        return new RoomCapacityIndex(roomsByCapacity);
+    }
+
+    public Optional<ConferenceRoom> smallestFitting(int people) {
+
+        Map.Entry<Integer, List<ConferenceRoom>> entry = roomsByCapacity.ceilingEntry(people);
+        return entry == null ? Optional.empty() : Optional.of(entry.getValue().get(0));
+    }
+
+    // people 명 이상 들어가는 회의실을 작은 순으로 (필요한 만큼만 꺼내 쓰도록 뷰로 돌려줌)
+    public Iterable<List<ConferenceRoom>> fittingAscending(int people) {
+        return roomsByCapacity.tailMap(people, true).values();
+    }
+}
@@ -0,0 +1,16 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+// 빈 시간대 [startDate, endDate)
+public record TimeRange(
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime startDate,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime endDate
+) {
+}
@@ -0,0 +1,84 @@
+package com.whatthefork.resourcereservation.resource.batch;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationExpiryResponse;
+import com.whatthefork.resourcereservation.resource.service.ReservationExpiryService;
+import com.whatthefork.resourcereservation.resource.service.ReservationExpiryService.ChunkResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 예약 만료 처리 배치
+ * 종료 시각이 지난 예약을 종료 시각 순으로 chunk-size 만큼씩 만료 처리하고 청크별로 커밋한다.
+ * 만료된 예약은 조건에서 빠지므로 커서 없이 남은 게 없을 때까지 반복
+ * 끝으로 시작 시각이 지나도록 자리가 나지 않은 대기도 만료 처리한다.
+ */
+@Slf4j
+@Component
+public class ReservationExpiryJob {
+
+    private final ReservationExpiryService reservationExpiryService;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public ReservationExpiryJob(ReservationExpiryService reservationExpiryService,
+                                @Value("${reservation.expiry.chunk-size:500}") int chunkSize) {
+        this.reservationExpiryService = reservationExpiryService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${reservation.expiry.cron:0 */5 * * * *}")
+    public void expireFinishedReservations() {
+        try {
+            run();
+        } catch (BusinessException e) {
+            log.warn("예약 만료 처리 배치 건너뜀 : {}", e.getMessage());
+        }
+    }
+
+    public ReservationExpiryResponse run() {
+
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.RESERVATION_EXPIRY_IN_PROGRESS);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            int expiredCount = 0;
+            int releasedCount = 0;
+
+            while (true) {
+                ChunkResult result = reservationExpiryService.expireChunk(now, chunkSize);
+
+                expiredCount += result.expired();
+                releasedCount += result.releasedSupplies();
+
+                if (result.scanned() < chunkSize) {
+                    break;
+                }
+            }
+
+            int expiredWaitingCount = reservationExpiryService.expireStartedWaitings(now);
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            if (expiredCount > 0 || expiredWaitingCount > 0) {
+                log.info("예약 만료 처리 now={} expired={} releasedSupplies={} expiredWaitings={} elapsed={}ms",
+                        now, expiredCount, releasedCount, expiredWaitingCount, elapsedMillis);
+            }
+
+            return new ReservationExpiryResponse(now, expiredCount, releasedCount, expiredWaitingCount, elapsedMillis);
+        } finally {
+            running.set(false);
+        }
+    }
+}
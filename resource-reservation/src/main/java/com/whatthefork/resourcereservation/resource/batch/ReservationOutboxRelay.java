@@ -0,0 +1,78 @@
+package com.whatthefork.resourcereservation.resource.batch;
+
+import com.whatthefork.resourcereservation.resource.repository.SchedulerLeaseRepository;
+import com.whatthefork.resourcereservation.resource.service.ReservationOutboxService;
+import com.whatthefork.resourcereservation.resource.service.ReservationOutboxService.RelayResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 변경 이벤트 아웃박스 릴레이
+ * 커밋된 이벤트를 batch-size 만큼씩 브로커로 발행한다. 발행이 실패하면 이번 실행은 멈추고 다음 주기에 이어서 보낸다.
+ * 인스턴스가 여러 개여도 임대(scheduler_lease)를 잡은 한 곳만 발행하고, 청크마다 임대를 연장한다.
+ * 임대를 잡은 인스턴스가 죽으면 lease 시간이 지난 뒤 다른 인스턴스가 이어서 발행한다.
+ */
+@Slf4j
+@Component
+public class ReservationOutboxRelay {
+
+    private static final String LEASE_NAME = "reservation-outbox-relay";
+
+    private final ReservationOutboxService reservationOutboxService;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final int batchSize;
+    private final int retentionDays;
+    private final long leaseSeconds;
+
+    // 이 인스턴스의 임대 소유자 이름 (재시작하면 새 이름이라 이전 임대가 끝날 때까지 기다림)
+    private final String owner = UUID.randomUUID().toString();
+
+    public ReservationOutboxRelay(ReservationOutboxService reservationOutboxService,
+                                  SchedulerLeaseRepository schedulerLeaseRepository,
+                                  @Value("${reservation.outbox.batch-size:100}") int batchSize,
+                                  @Value("${reservation.outbox.retention-days:7}") int retentionDays,
+                                  @Value("${reservation.outbox.lease:30s}") Duration lease) {
+        this.reservationOutboxService = reservationOutboxService;
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.batchSize = batchSize;
+        this.retentionDays = retentionDays;
+        this.leaseSeconds = lease.toSeconds();
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.outbox.relay-delay:1000}")
+    public void relay() {
+        run();
+    }
+
+    // 발행한 이벤트 수 (다른 인스턴스가 임대를 잡고 있으면 0)
+    public int run() {
+
+        int published = 0;
+        while (true) {
+            if (!schedulerLeaseRepository.tryAcquire(LEASE_NAME, owner, leaseSeconds)) {
+                return published;
+            }
+
+            RelayResult result = reservationOutboxService.relayChunk(batchSize);
+            published += result.published();
+
+            if (result.failed() || result.scanned() < batchSize) {
+                return published;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${reservation.outbox.purge-cron:0 30 4 * * *}")
+    public void purge() {
+        int purged = reservationOutboxService.purgePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("발행된 예약 이벤트 정리 purged={}", purged);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.whatthefork.resourcereservation.resource.calendar;
+
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.CalendarFeedVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 캘린더 피드 변경 횟수
+ * 예약을 바꾼 트랜잭션 안에서 예약자 피드와 자원 피드의 버전을 올린다. (롤백되면 같이 롤백)
+ * 피드 조회는 이 버전만 보고 바뀌지 않았으면 예약을 읽지 않고 304 로 끝낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarFeedVersions {
+
+    private final CalendarFeedVersionRepository feedVersionRepository;
+
+    public static String userKey(Long userId) {
+        return "user:" + userId;
+    }
+
+    public static String resourceKey(ResourceCategory category, Long resourceId) {
+        return category.name() + ":" + resourceId;
+    }
+
+    public FeedVersion get(String feedKey) {
+        return feedVersionRepository.findByFeedKey(feedKey).orElseGet(() -> FeedVersion.initial(feedKey));
+    }
+
+    public void touch(Reservation reservation) {
+        touch(List.of(reservation));
+    }
+
+    public void touch(Collection<Reservation> reservations) {
+
+        Set<String> feedKeys = new TreeSet<>();
+        for (Reservation reservation : reservations) {
+            addKeys(feedKeys, reservation.getUserId(), reservation.getCategory(), reservation.getResourceId());
+        }
+        increment(feedKeys);
+    }
+
+    // 엔티티를 수정하기 전 자원 피드도 바뀌어야 할 때
+    public void touch(Long userId, ResourceCategory category, Long resourceId) {
+
+        Set<String> feedKeys = new TreeSet<>();
+        addKeys(feedKeys, userId, category, resourceId);
+        increment(feedKeys);
+    }
+
+    // 자원 이름이 바뀌면 자원 피드와, 그 자원 예약이 들어 있는 내 피드의 SUMMARY 가 같이 바뀜
+    public void touchRenamed(ResourceCategory category, Long resourceId, Collection<Long> userIds) {
+
+        Set<String> feedKeys = new TreeSet<>();
+        for (Long userId : userIds) {
+            addKeys(feedKeys, userId, category, resourceId);
+        }
+        if (ResourceAvailabilityIndex.tracks(category)) {
+            feedKeys.add(resourceKey(category, resourceId));
+        }
+        increment(feedKeys);
+    }
+
+    private void addKeys(Set<String> feedKeys, Long userId, ResourceCategory category, Long resourceId) {
+
+        // 피드에는 시간대로 예약하는 회의실/법인차량만 나감
+        if (ResourceAvailabilityIndex.tracks(category)) {
+            feedKeys.add(userKey(userId));
+            feedKeys.add(resourceKey(category, resourceId));
+        }
+    }
+
+    private void increment(Set<String> feedKeys) {
+
+        if (!feedKeys.isEmpty()) {
+            feedVersionRepository.increment(feedKeys, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.whatthefork.resourcereservation.resource.calendar;
+
+import java.time.LocalDateTime;
+
+// 피드가 한 번도 바뀌지 않았으면 version 0, changedAt null
+public record FeedVersion(String feedKey, long version, LocalDateTime changedAt) {
+
+    public static FeedVersion initial(String feedKey) {
+        return new FeedVersion(feedKey, 0, null);
+    }
+
+    public String eTag() {
+        return "\"" + feedKey + "-v" + version + "\"";
+    }
+}
@@ -0,0 +1,89 @@
+package com.whatthefork.resourcereservation.resource.calendar;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * 예약 목록을 iCalendar(RFC 5545) 문자열로 변환
+ * 예약 시각은 서버 로컬 시각이므로 시간대 없는 floating time 으로 내보낸다.
+ */
+public final class ICalendarWriter {
+
+    private static final DateTimeFormatter LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private ICalendarWriter() {
+    }
+
+    // resourceNames: "{category}:{resourceId}" -> 자원 이름
+    public static String write(String calendarName, Iterable<Reservation> reservations, Map<String, String> resourceNames) {
+
+        StringBuilder ics = new StringBuilder();
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//whatthefork//resource-reservation//KO");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "X-WR-CALNAME:" + escape(calendarName));
+
+        for (Reservation reservation : reservations) {
+            String resourceName = resourceNames.getOrDefault(
+                    CalendarFeedVersions.resourceKey(reservation.getCategory(), reservation.getResourceId()),
+                    reservation.getCategory().name() + " " + reservation.getResourceId());
+
+            line(ics, "BEGIN:VEVENT");
+            line(ics, "UID:reservation-" + reservation.getId() + "@resource-reservation");
+            line(ics, "DTSTAMP:" + utc(reservation.getBookedDate()));
+            line(ics, "DTSTART:" + LOCAL.format(reservation.getStartDate()));
+            line(ics, "DTEND:" + LOCAL.format(reservation.getEndDate()));
+            line(ics, "SUMMARY:" + escape("[" + resourceName + "] " + nullToEmpty(reservation.getReason())));
+            line(ics, "LOCATION:" + escape(resourceName));
+            line(ics, "END:VEVENT");
+        }
+
+        line(ics, "END:VCALENDAR");
+        return ics.toString();
+    }
+
+    private static String utc(LocalDateTime dateTime) {
+        LocalDateTime stamp = dateTime == null ? LocalDateTime.now() : dateTime;
+        return UTC.format(stamp.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC));
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    // 한 줄이 75 옥텟을 넘으면 접음 (UTF-8 문자 중간에서 자르지 않음)
+    private static void line(StringBuilder ics, String content) {
+
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + size > MAX_LINE_OCTETS) {
+                ics.append(CRLF).append(' ');
+                octets = 1;
+            }
+            ics.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        ics.append(CRLF);
+    }
+}
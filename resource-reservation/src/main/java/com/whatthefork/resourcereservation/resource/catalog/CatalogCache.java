@@ -0,0 +1,75 @@
+package com.whatthefork.resourcereservation.resource.catalog;
+
+import com.whatthefork.resourcereservation.common.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 자원 카탈로그(회의실/법인차량/비품 목록) 읽기 캐시
+ * 목록 전체를 한 번에 읽어 두고 이름/인원 조회도 이 목록에서 찾는다.
+ * 이 인스턴스의 쓰기는 바로 무효화하고, 다른 인스턴스에서 바뀐 내용은 ttl 이 지나면 다시 읽는다.
+ *
+ * 캐시된 엔티티는 여러 요청이 같이 보는 준영속 객체이므로 읽기 전용으로만 써야 한다.
+ * (수정할 엔티티는 findById 로 따로 읽음)
+ */
+public class CatalogCache<T> {
+
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot<T> snapshot;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CatalogCache(String catalog, Duration ttl, MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.hitCounter = meterRegistry.counter("resource.catalog.cache", "catalog", catalog, "result", "hit");
+        this.missCounter = meterRegistry.counter("resource.catalog.cache", "catalog", catalog, "result", "miss");
+        Gauge.builder("resource.catalog.cache.hit_ratio", this, CatalogCache::hitRatio)
+                .tag("catalog", catalog)
+                .register(meterRegistry);
+    }
+
+    public List<T> get(Supplier<List<T>> loader) {
+
+        long now = System.nanoTime();
+        Snapshot<T> current = snapshot;
+        if (current != null && current.generation() == generation.get() && now - current.loadedAt() < ttlNanos) {
+            hitCounter.increment();
+            return current.items();
+        }
+
+        missCounter.increment();
+        // 읽는 도중 무효화되면 세대가 달라져서 다음 조회 때 버려짐
+        long loadingGeneration = generation.get();
+        List<T> items = List.copyOf(loader.get());
+        snapshot = new Snapshot<>(items, loadingGeneration, now);
+        return items;
+    }
+
+    // 지금 바로, 그리고 트랜잭션이 끝난 뒤 한 번 더 무효화 (커밋 전에 다시 읽힌 옛 목록도 버림)
+    public void invalidate() {
+        evict();
+        TransactionCallbacks.afterCompletion(this::evict);
+    }
+
+    public double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private record Snapshot<T>(List<T> items, long generation, long loadedAt) {
+    }
+}
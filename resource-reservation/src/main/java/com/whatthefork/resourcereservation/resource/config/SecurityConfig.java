@@ -34,12 +34,14 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable) // CSRF 보호 비활성화 (API 서버이므로)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 미사용
                         .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/conference-rooms/**", "/corporate-cars/**", "/supplies/**", "/reservations/**").permitAll()
+                        .requestMatchers("/conference-rooms/**", "/corporate-cars/**", "/supplies/**", "/reservations/**", "/availability/**").permitAll()
+                        .requestMatchers("/calendar/feeds/**").permitAll() // 구독 토큰은 CalendarController 에서 확인
                         .requestMatchers(
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-resources/**"
                         ).permitAll()
+                        .requestMatchers("/actuator/health").permitAll() // 상세 정보는 숨김 (management.endpoint.health.show-details)
                         .anyRequest().authenticated()
                         )
                 .addFilterBefore(gatewayAuthFilter, UsernamePasswordAuthenticationFilter.class)
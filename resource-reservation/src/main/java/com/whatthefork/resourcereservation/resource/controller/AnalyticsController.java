@@ -0,0 +1,50 @@
+package com.whatthefork.resourcereservation.resource.controller;
+
+import com.whatthefork.resourcereservation.common.ApiResponse;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.service.UtilizationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@Tag(name = "Analytics", description = "자원 이용률 분석 API")
+@RestController
+@RequestMapping("/analytics/utilization")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final UtilizationService utilizationService;
+
+    @Operation(summary = "이용률 조회", description = "기간 [from, to) 동안 회의실/법인차량의 시각별, 요일별 이용률")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public ResponseEntity<ApiResponse> getUtilization(
+            @RequestParam ResourceCategory category,
+            @RequestParam(required = false) Long resourceId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+
+        return ResponseEntity.ok(ApiResponse.success(utilizationService.getReport(category, resourceId, from, to)));
+    }
+
+    @Operation(summary = "이용률 집계 재계산", description = "기간 [from, to) 의 시간 버킷 집계를 예약 원본으로 다시 계산")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse> rebuild(
+            @RequestParam ResourceCategory category,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+
+        return ResponseEntity.ok(ApiResponse.success(utilizationService.rebuild(category, from, to)));
+    }
+}
@@ -0,0 +1,51 @@
+package com.whatthefork.resourcereservation.resource.controller;
+
+import com.whatthefork.resourcereservation.common.ApiResponse;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.service.AvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "Availability", description = "빈 자원/시간대 검색 API")
+@RestController
+@RequestMapping("/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @Operation(summary = "빈 자원 검색", description = "기간, 카테고리, 최소 인원으로 예약 가능한 자원과 빈 시간대 조회")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping
+    public ResponseEntity<ApiResponse> searchFreeResources(
+            @RequestParam ResourceCategory category,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime start,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime end,
+            @RequestParam(defaultValue = "1") int minCapacity) {
+
+        return ResponseEntity.ok(ApiResponse.success(
+                availabilityService.searchFreeResources(category, start, end, minCapacity)));
+    }
+
+    @Operation(summary = "회의실 자동 배정", description = "기간 동안 비어 있고 인원이 들어가는 가장 작은 회의실 조회")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/best-fit-room")
+    public ResponseEntity<ApiResponse> findBestFitConferenceRoom(
+            @RequestParam int people,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime start,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime end) {
+
+        return ResponseEntity.ok(ApiResponse.success(
+                availabilityService.findBestFitConferenceRoom(people, start, end)));
+    }
+}
@@ -0,0 +1,128 @@
+package com.whatthefork.resourcereservation.resource.controller;
+
+import com.whatthefork.resourcereservation.common.ApiResponse;
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.calendar.FeedVersion;
+import com.whatthefork.resourcereservation.resource.dto.response.CalendarSubscriptionResponse;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.service.CalendarFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+@Tag(name = "Calendar", description = "예약 iCalendar 피드 API")
+@RestController
+@RequestMapping("/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private static final String TEXT_CALENDAR = "text/calendar;charset=UTF-8";
+
+    private final CalendarFeedService calendarFeedService;
+
+    public String getUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null) {
+            throw new BusinessException(ErrorCode.NOT_ENOUGH_AUTHORITY);
+        }
+
+        Object principal = authentication.getPrincipal();
+
+        if (principal instanceof UserDetails) {
+            return ((UserDetails) principal).getUsername();
+        }
+
+        return null;
+    }
+
+    @Operation(summary = "내 예약 캘린더 피드", description = "회의실/법인차량 예약을 iCalendar 로 조회 (If-None-Match/If-Modified-Since 지원)")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping(value = "/me.ics", produces = TEXT_CALENDAR)
+    public ResponseEntity<String> getMyFeed(WebRequest webRequest) {
+
+        Long userId = Long.parseLong(getUserId());
+
+        return feed(webRequest, calendarFeedService.getUserFeedVersion(userId),
+                () -> calendarFeedService.getUserFeed(userId));
+    }
+
+    @Operation(summary = "자원 캘린더 피드", description = "회의실/법인차량 하나의 예약을 iCalendar 로 조회 (If-None-Match/If-Modified-Since 지원)")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping(value = "/{category}/{resourceId}.ics", produces = TEXT_CALENDAR)
+    public ResponseEntity<String> getResourceFeed(@PathVariable ResourceCategory category,
+                                                  @PathVariable Long resourceId,
+                                                  WebRequest webRequest) {
+
+        return feed(webRequest, calendarFeedService.getResourceFeedVersion(category, resourceId),
+                () -> calendarFeedService.getResourceFeed(category, resourceId));
+    }
+
+    @Operation(summary = "캘린더 구독 토큰 발급", description = "캘린더 앱에 등록할 비밀 구독 주소를 발급 (다시 발급하면 이전 주소는 막힘)")
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/me/subscription")
+    public ResponseEntity<ApiResponse> issueSubscription() {
+
+        Long userId = Long.parseLong(getUserId());
+        String token = calendarFeedService.issueSubscriptionToken(userId);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                new CalendarSubscriptionResponse(token, "/calendar/feeds/" + token + ".ics")));
+    }
+
+    // 캘린더 앱은 Authorization 헤더를 못 보내므로 주소의 토큰으로 사용자를 확인 (SecurityConfig 에서 permitAll)
+    @Operation(summary = "내 예약 캘린더 구독 피드", description = "구독 토큰으로 내 예약 iCalendar 를 조회 (If-None-Match/If-Modified-Since 지원)")
+    @GetMapping(value = "/feeds/{token}.ics", produces = TEXT_CALENDAR)
+    public ResponseEntity<String> getSubscribedFeed(@PathVariable String token, WebRequest webRequest) {
+
+        Long userId = calendarFeedService.getSubscriberId(token);
+
+        return feed(webRequest, calendarFeedService.getUserFeedVersion(userId),
+                () -> calendarFeedService.getUserFeed(userId));
+    }
+
+    @Operation(summary = "자원 캘린더 구독 피드", description = "구독 토큰으로 회의실/법인차량 하나의 예약 iCalendar 를 조회 (If-None-Match/If-Modified-Since 지원)")
+    @GetMapping(value = "/feeds/{token}/{category}/{resourceId}.ics", produces = TEXT_CALENDAR)
+    public ResponseEntity<String> getSubscribedResourceFeed(@PathVariable String token,
+                                                            @PathVariable ResourceCategory category,
+                                                            @PathVariable Long resourceId,
+                                                            WebRequest webRequest) {
+
+        calendarFeedService.getSubscriberId(token);
+
+        return feed(webRequest, calendarFeedService.getResourceFeedVersion(category, resourceId),
+                () -> calendarFeedService.getResourceFeed(category, resourceId));
+    }
+
+    // 버전이 같으면 피드를 만들지 않고 304 (checkNotModified 가 ETag/Last-Modified 헤더도 써 줌)
+    private ResponseEntity<String> feed(WebRequest webRequest, FeedVersion version, Supplier<String> body) {
+
+        boolean notModified = version.changedAt() == null
+                ? webRequest.checkNotModified(version.eTag())
+                : webRequest.checkNotModified(version.eTag(),
+                        version.changedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        if (notModified) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+}
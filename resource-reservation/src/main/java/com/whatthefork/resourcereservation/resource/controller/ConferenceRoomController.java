@@ -31,7 +31,7 @@ public class ConferenceRoomController {
 
     private final ConferenceRoomService conferenceRoomService;
 
-    @Operation(summary = "회의실 전체 조회", description = "존재하는 회의실 전체 조회")
+    @Operation(summary = "회의실 전체 조회", description = "존재하는 회의실 전체 조회 (예약 여부는 /availability 로 기간을 지정해 조회)")
     @PreAuthorize("isAuthenticated()")
     @GetMapping
     public ResponseEntity<ApiResponse> conferenceRoom() {
@@ -32,7 +32,7 @@ public class CorporateCarController {
     private final CorporateCarService corporateCarService;
 
     // 법인차량 전체 목록 조회
-    @Operation(summary = "법인차량 전체 조회", description = "존재하는 법인차량 전체 조회")
+    @Operation(summary = "법인차량 전체 조회", description = "존재하는 법인차량 전체 조회 (예약 여부는 /availability 로 기간을 지정해 조회)")
     @PreAuthorize("isAuthenticated()")
     @GetMapping
     public ResponseEntity<ApiResponse> getCorporateCars() {
@@ -3,13 +3,20 @@ package com.whatthefork.resourcereservation.resource.controller;
 import com.whatthefork.resourcereservation.common.ApiResponse;
 import com.whatthefork.resourcereservation.exception.BusinessException;
 import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.batch.ReservationExpiryJob;
 import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationRequest;
+import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationSeriesRequest;
+import com.whatthefork.resourcereservation.resource.dto.request.create.SupplyCheckoutRequest;
 import com.whatthefork.resourcereservation.resource.dto.request.update.UpdateReservationRequest;
+import com.whatthefork.resourcereservation.resource.dto.request.update.UpdateReservationSeriesRequest;
 import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.service.ReservationSeriesService;
 import com.whatthefork.resourcereservation.resource.service.ReservationService;
+import com.whatthefork.resourcereservation.resource.service.ReservationWaitlistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -21,8 +28,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+
 @Tag(name = "Reservation", description = "회의실 API (추가, 수정, 삭제, 조회")
 @RestController
 @RequestMapping("/reservations")
@@ -30,6 +40,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationExpiryJob reservationExpiryJob;
+    private final ReservationSeriesService reservationSeriesService;
+    private final ReservationWaitlistService reservationWaitlistService;
 
     public String getUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -48,12 +61,19 @@ public class ReservationController {
     }
 
     // 예약 목록 확인
-    @Operation(summary = "예약 전체 조회", description = "존재하는 예약 전체 조회")
+    @Operation(summary = "예약 목록 조회", description = "기간, 카테고리, 자원으로 걸러낸 예약 목록을 최신순으로 lastId 다음부터 size 건씩 조회")
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    public ResponseEntity<ApiResponse> getAllReservations() {
-
-        return ResponseEntity.ok(ApiResponse.success(reservationService.getAllReservations()));
+    public ResponseEntity<ApiResponse> getReservations(
+            @RequestParam(required = false) ResourceCategory category,
+            @RequestParam(required = false) Long resourceId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime to,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(ApiResponse.success(
+                reservationService.getReservations(category, resourceId, from, to, lastId, size)));
     }
 
     // 카테고리에 따른 내 예약 목록 확인
@@ -97,6 +117,88 @@ public class ReservationController {
         }
     }
 
+    // 비품 일괄 대여
+    @Operation(summary = "비품 일괄 대여", description = "여러 비품을 수량과 함께 한 번에 예약 (하나라도 재고가 모자라면 전체 실패)")
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/supplies/checkout")
+    public ResponseEntity<ApiResponse> checkoutSupplies(@RequestBody SupplyCheckoutRequest checkoutRequest) {
+
+        String userName = getUserId();
+        Long userId = Long.parseLong(userName);
+
+        return ResponseEntity.ok(ApiResponse.success(reservationService.checkoutSupplies(checkoutRequest, userId)));
+    }
+
+    // 반복 예약 생성
+    @Operation(summary = "반복 예약 생성", description = "매일/매주/n일마다 반복되는 회의실, 법인차량 예약을 종료일 또는 횟수만큼 한 번에 생성")
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/series")
+    public ResponseEntity<ApiResponse> createReservationSeries(@RequestBody CreateReservationSeriesRequest seriesRequest) {
+
+        String userName = getUserId();
+        Long userId = Long.parseLong(userName);
+
+        return ResponseEntity.ok(ApiResponse.success(reservationSeriesService.createSeries(seriesRequest, userId)));
+    }
+
+    // 반복 예약 수정
+    @Operation(summary = "반복 예약 수정", description = "반복 예약 중 아직 시작하지 않은 회차 전체의 시간대, 인원, 사유를 수정")
+    @PatchMapping("/series/{seriesId}")
+    @PreAuthorize("hasRole('ADMIN') || reservationSecurity.isSeriesOwner(principal.username, #seriesId)")
+    public ResponseEntity<ApiResponse> editReservationSeries(@PathVariable Long seriesId,
+                                                             @RequestBody UpdateReservationSeriesRequest seriesRequest) {
+
+        return ResponseEntity.ok(ApiResponse.success(reservationSeriesService.editSeries(seriesId, seriesRequest)));
+    }
+
+    // 반복 예약 취소
+    @Operation(summary = "반복 예약 취소", description = "반복 예약 중 아직 시작하지 않은 회차 전체를 취소")
+    @PostMapping("/series/cancellations/{seriesId}")
+    @PreAuthorize("hasRole('ADMIN') || reservationSecurity.isSeriesOwner(principal.username, #seriesId)")
+    public ResponseEntity<ApiResponse> cancelReservationSeries(@PathVariable Long seriesId) {
+
+        String userName = getUserId();
+        Long userId = Long.parseLong(userName);
+
+        return ResponseEntity.ok(ApiResponse.success(reservationSeriesService.cancelSeries(seriesId, userId)));
+    }
+
+    // 예약 대기 신청
+    @Operation(summary = "예약 대기 신청", description = "이미 예약된 회의실, 법인차량 시간대에 대기 신청 (취소되면 신청 순서대로 자동 예약)")
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/waitlist")
+    public ResponseEntity<ApiResponse> joinWaitlist(@RequestBody CreateReservationRequest reservationRequest) {
+
+        String userName = getUserId();
+        Long userId = Long.parseLong(userName);
+
+        return ResponseEntity.ok(ApiResponse.success(reservationWaitlistService.join(reservationRequest, userId)));
+    }
+
+    // 내 대기 목록 확인
+    @Operation(summary = "내 대기 목록 조회", description = "사용자 본인의 대기 중인 신청과 대기 순번 조회")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/waitlist")
+    public ResponseEntity<ApiResponse> myWaitlist() {
+
+        String userName = getUserId();
+        Long userId = Long.parseLong(userName);
+
+        return ResponseEntity.ok(ApiResponse.success(reservationWaitlistService.getMyWaitings(userId)));
+    }
+
+    // 예약 대기 취소
+    @Operation(summary = "예약 대기 취소", description = "사용자 본인의 대기 신청을 취소")
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/waitlist/cancellations/{waitingId}")
+    public ResponseEntity<ApiResponse> leaveWaitlist(@PathVariable Long waitingId) {
+
+        String userName = getUserId();
+        Long userId = Long.parseLong(userName);
+
+        return ResponseEntity.ok(ApiResponse.success(reservationWaitlistService.leave(waitingId, userId)));
+    }
+
     // 예약 취소
     @Operation(summary = "예약 취소", description = "사용자의 예약 중 하나를 선택해 취소")
     @PostMapping("/cancellations/{id}")
@@ -130,6 +232,15 @@ public class ReservationController {
         return ResponseEntity.ok(ApiResponse.success(reservationService.getExpiredReservations(userId)));
     }
 
+    // 만료 처리 수동 실행
+    @Operation(summary = "예약 만료 처리", description = "종료 시각이 지난 예약을 즉시 만료 처리하고 비품 재고를 반납 (관리자)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/expirations")
+    public ResponseEntity<ApiResponse> expireReservations() {
+
+        return ResponseEntity.ok(ApiResponse.success(reservationExpiryJob.run()));
+    }
+
     // 내 취소 예약 목록 확인
     @Operation(summary = "취소 예약 목록 확인", description = "사용자의 예약 중 취소된 항목을 조회")
     @PreAuthorize("isAuthenticated()")
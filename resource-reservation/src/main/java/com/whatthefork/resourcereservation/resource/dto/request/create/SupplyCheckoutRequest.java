@@ -0,0 +1,44 @@
+package com.whatthefork.resourcereservation.resource.dto.request.create;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 여러 비품을 한 번에 대여 (전부 성공하거나 전부 실패)
+public record SupplyCheckoutRequest(
+
+        @NotNull
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime bookedDate,
+
+        @Future(message = "현재보다 나중 시각에만 예약이 가능합니다.")
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime startDate,
+
+        @Future(message = "현재보다 나중 시각에만 예약이 가능합니다.")
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime endDate,
+
+        @NotBlank(message = "사유를 반드시 입력하세요.")
+        String reason,
+
+        @NotEmpty(message = "대여할 비품을 하나 이상 선택해 주세요.")
+        List<@Valid Item> items
+) {
+    public record Item(
+
+            @NotNull(message = "대여할 비품을 선택해 주세요.")
+            Long supplyId,
+
+            @Min(value = 1, message = "반드시 1 이상 입력해야 합니다.")
+            int quantity
+    ) {
+    }
+}
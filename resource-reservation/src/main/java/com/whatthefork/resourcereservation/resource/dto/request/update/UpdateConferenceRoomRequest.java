@@ -3,7 +3,6 @@ package com.whatthefork.resourcereservation.resource.dto.request.update;
 import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 
 public record UpdateConferenceRoomRequest (
 
@@ -11,16 +10,12 @@ public record UpdateConferenceRoomRequest (
         String name,
 
         @Min(2)
-        int maxCapacity,
-
-        @NotNull
-        boolean isBooked
+        int maxCapacity
 ) {
     public UpdateConferenceRoomRequest(ConferenceRoom conferenceRoom) {
         this(
                 conferenceRoom.getName(),
-                conferenceRoom.getMaxCapacity(),
-                conferenceRoom.isBooked()
+                conferenceRoom.getMaxCapacity()
         );
     }
 }
\ No newline at end of file
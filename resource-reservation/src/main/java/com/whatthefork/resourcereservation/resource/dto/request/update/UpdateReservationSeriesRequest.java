@@ -0,0 +1,27 @@
+package com.whatthefork.resourcereservation.resource.dto.request.update;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalTime;
+
+// 아직 시작하지 않은 회차 전체의 시간대/인원/사유 변경 (날짜는 그대로)
+public record UpdateReservationSeriesRequest(
+
+        @NotNull
+        @JsonFormat(pattern = "HH:mm:ss")
+        LocalTime startTime,
+
+        @NotNull
+        @JsonFormat(pattern = "HH:mm:ss")
+        LocalTime endTime,
+
+        @Min(value = 1, message = "반드시 1 이상 입력해야 합니다.")
+        int capacity,
+
+        @NotBlank(message = "사유를 반드시 입력하세요.")
+        String reason
+) {
+}
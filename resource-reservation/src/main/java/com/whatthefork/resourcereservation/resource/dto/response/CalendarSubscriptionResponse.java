@@ -0,0 +1,8 @@
+package com.whatthefork.resourcereservation.resource.dto.response;
+
+public record CalendarSubscriptionResponse(
+
+        String token,       // 다시 조회할 수 없으므로 잃어버리면 재발급
+        String feedPath     // 캘린더 앱에 등록할 내 피드 주소 (자원 피드는 /calendar/feeds/{token}/{category}/{resourceId}.ics)
+) {
+}
@@ -14,17 +14,13 @@ public record ConferenceRoomResponse(
         String name,
 
         @Min(2)
-        int maxCapacity,
-
-        @NotNull
-        boolean isBooked
+        int maxCapacity
 ) {
     public ConferenceRoomResponse(ConferenceRoom conferenceRoom) {
         this(
                 conferenceRoom.getId(),
                 conferenceRoom.getName(),
-                conferenceRoom.getMaxCapacity(),
-                conferenceRoom.isBooked()
+                conferenceRoom.getMaxCapacity()
         );
     }
 }
\ No newline at end of file
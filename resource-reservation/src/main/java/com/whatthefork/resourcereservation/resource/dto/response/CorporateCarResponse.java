@@ -18,18 +18,14 @@ public record CorporateCarResponse(
         String carNumber,
 
         @Min(2)
-        int maxCapacity,
-
-        @NotNull
-        boolean isBooked
+        int maxCapacity
 ) {
     public CorporateCarResponse(CorporateCar corporateCar) {
         this(
                 corporateCar.getId(),
                 corporateCar.getName(),
                 corporateCar.getCarNumber(),
-                corporateCar.getMaxCapacity(),
-                corporateCar.isBooked()
+                corporateCar.getMaxCapacity()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.whatthefork.resourcereservation.resource.dto.response;
+
+import com.whatthefork.resourcereservation.resource.availability.TimeRange;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+
+import java.util.List;
+
+public record FreeResourceResponse(
+
+        Long resourceId,
+        ResourceCategory category,
+        String name,
+        int capacity,           // 회의실/차량은 최대 인원, 비품은 남은 재고
+        List<TimeRange> freeSlots
+) {
+}
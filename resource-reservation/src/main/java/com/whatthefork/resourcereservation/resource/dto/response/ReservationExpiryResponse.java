@@ -0,0 +1,13 @@
+package com.whatthefork.resourcereservation.resource.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ReservationExpiryResponse(
+
+        LocalDateTime now,          // 이 시각 이전에 끝난 예약이 대상
+        int expiredCount,
+        int releasedSupplyCount,    // 재고로 돌아간 비품 수
+        int expiredWaitingCount,    // 시작 시각이 지나 만료된 대기 수
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,11 @@
+package com.whatthefork.resourcereservation.resource.dto.response;
+
+import java.util.List;
+
+public record ReservationPageResponse(
+
+        List<ReservationResponse> reservations,
+        Long nextCursor,        // 다음 페이지 요청 시 lastId 로 넘길 값 (마지막 페이지면 null)
+        boolean hasNext
+) {
+}
@@ -0,0 +1,13 @@
+package com.whatthefork.resourcereservation.resource.dto.response;
+
+import com.whatthefork.resourcereservation.resource.availability.TimeRange;
+
+import java.util.List;
+
+public record ReservationSeriesResponse(
+
+        Long seriesId,
+        int reservedCount,              // 생성/수정된 회차 수
+        List<TimeRange> skippedSlots    // 기존 예약과 겹쳐서 빠진 회차
+) {
+}
@@ -0,0 +1,32 @@
+package com.whatthefork.resourcereservation.resource.dto.response;
+
+import com.whatthefork.resourcereservation.resource.entity.ReservationWaiting;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.enums.WaitingStatus;
+
+import java.time.LocalDateTime;
+
+public record ReservationWaitingResponse(
+
+        Long id,
+        Long resourceId,
+        ResourceCategory category,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        WaitingStatus status,
+        Long position,          // 대기 순번 (1부터, 대기 중일 때만)
+        Long reservationId      // 예약으로 전환된 경우 예약 id
+) {
+    public ReservationWaitingResponse(ReservationWaiting waiting, Long position) {
+        this(
+                waiting.getId(),
+                waiting.getResourceId(),
+                waiting.getCategory(),
+                waiting.getStartDate(),
+                waiting.getEndDate(),
+                waiting.getStatus(),
+                position,
+                waiting.getReservationId()
+        );
+    }
+}
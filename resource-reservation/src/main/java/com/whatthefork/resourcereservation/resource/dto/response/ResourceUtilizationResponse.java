@@ -0,0 +1,15 @@
+package com.whatthefork.resourcereservation.resource.dto.response;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+
+public record ResourceUtilizationResponse(
+
+        Long resourceId,
+        String name,
+        double utilization,                     // 기간 전체 예약된 시간 비율 (0 ~ 1)
+        List<Double> byHourOfDay,               // 0시 ~ 23시 (24개)
+        Map<DayOfWeek, Double> byDayOfWeek      // 월 ~ 일
+) {
+}
@@ -0,0 +1,20 @@
+package com.whatthefork.resourcereservation.resource.dto.response;
+
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record UtilizationReportResponse(
+
+        ResourceCategory category,
+        LocalDate from,                         // 포함
+        LocalDate to,                           // 미포함
+        double utilization,                     // 조회한 자원 전체 평균
+        List<Double> byHourOfDay,
+        Map<DayOfWeek, Double> byDayOfWeek,
+        List<ResourceUtilizationResponse> resources
+) {
+}
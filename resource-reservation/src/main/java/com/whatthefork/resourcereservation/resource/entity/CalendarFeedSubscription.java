@@ -0,0 +1,39 @@
+package com.whatthefork.resourcereservation.resource.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 캘린더 앱 구독용 사용자별 비밀 토큰 (원문은 발급할 때 한 번만 돌려주고, 여기에는 SHA-256 해시만 저장)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CalendarFeedSubscription {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private LocalDateTime issuedAt;
+
+    public CalendarFeedSubscription(Long userId, String tokenHash, LocalDateTime issuedAt) {
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.issuedAt = issuedAt;
+    }
+
+    // 재발급하면 이전 토큰으로 만든 구독 주소는 바로 막힘
+    public CalendarFeedSubscription rotate(String tokenHash, LocalDateTime issuedAt) {
+        this.tokenHash = tokenHash;
+        this.issuedAt = issuedAt;
+        return this;
+    }
+}
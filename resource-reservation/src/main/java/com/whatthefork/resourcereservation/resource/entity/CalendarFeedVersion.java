@@ -0,0 +1,27 @@
+package com.whatthefork.resourcereservation.resource.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 캘린더 피드별 변경 횟수 (ETag/Last-Modified 용, 갱신은 JdbcCalendarFeedVersionRepository 의 upsert 로만 함)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CalendarFeedVersion {
+
+    @Id
+    @Column(length = 64)
+    private String feedKey;             // user:{userId} 또는 {category}:{resourceId}
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;    // 초 단위로 잘라서 저장 (Last-Modified 정밀도)
+}
@@ -26,9 +26,6 @@ public class ConferenceRoom {
     @Column(nullable = false)
     private int maxCapacity;
 
-    @Column(nullable = false)
-    private boolean isBooked = false;
-
     @Builder
     public ConferenceRoom(String name, int maxCapacity) {
         this.name = name;
@@ -45,15 +42,9 @@ public class ConferenceRoom {
         return this;
     }
 
-    public ConferenceRoom updateIsBooked(boolean isBooked) {
-        this.isBooked = isBooked;
-        return this;
-    }
-
     public ConferenceRoom updateAll(UpdateConferenceRoomRequest roomRequest) {
         this.name = roomRequest.name();
         this.maxCapacity = roomRequest.maxCapacity();
-        this.isBooked = roomRequest.isBooked();
 
         return this;
     }
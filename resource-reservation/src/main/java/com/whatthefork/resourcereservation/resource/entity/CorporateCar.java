@@ -29,9 +29,6 @@ public class CorporateCar {
     @Column(nullable = false)
     private int maxCapacity;
 
-    @Column(nullable = false)
-    private boolean isBooked = false;
-
     @Builder
     public CorporateCar(String name, int maxCapacity, String carNumber) {
         this.name = name;
@@ -49,15 +46,9 @@ public class CorporateCar {
         return this;
     }
 
-    public CorporateCar updateIsBooked(boolean isBooked) {
-        this.isBooked = isBooked;
-        return this;
-    }
-
     public CorporateCar updateAll(UpdateCorporateCarRequest carRequest) {
         this.name = carRequest.name();
         this.maxCapacity = carRequest.maxCapacity();
-        this.isBooked = carRequest.isBooked();
         this.carNumber = carRequest.carNumber();
 
         return this;
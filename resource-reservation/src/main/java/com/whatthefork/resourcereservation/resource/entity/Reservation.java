@@ -7,6 +7,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,6 +17,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_resource_period", columnList = "category, resource_id, start_date"),
+        // 예약 목록 커서 페이지 (조건 + id 역순): 자원 지정 / 카테고리만 지정 (조건 없으면 PK)
+        @Index(name = "idx_reservation_resource_id", columnList = "category, resource_id, id"),
+        @Index(name = "idx_reservation_category_id", columnList = "category, id"),
+        @Index(name = "idx_reservation_expiry", columnList = "is_expired, end_date"),
+        @Index(name = "idx_reservation_user_expired", columnList = "user_id, is_expired, end_date"),
+        @Index(name = "idx_reservation_series", columnList = "series_id, start_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation {
@@ -50,8 +61,10 @@ public class Reservation {
     @Column(nullable = false)
     private boolean isExpired = false;
 
+    private Long seriesId;              // 반복 예약으로 만들어졌으면 reservation_series 의 pk
+
     @Builder
-    public Reservation(Long userId, Long resourceId, LocalDateTime bookedDate, LocalDateTime startDate, LocalDateTime endDate, int capacity, String reason, ResourceCategory category) {
+    public Reservation(Long userId, Long resourceId, LocalDateTime bookedDate, LocalDateTime startDate, LocalDateTime endDate, int capacity, String reason, ResourceCategory category, Long seriesId) {
         this.userId = userId;
         this.resourceId = resourceId;
         this.bookedDate = bookedDate;
@@ -60,6 +73,7 @@ public class Reservation {
         this.capacity = capacity;
         this.reason = reason;
         this.category = category;
+        this.seriesId = seriesId;
     }
 
     public Reservation updateBookedDate(LocalDateTime bookedDate) {
@@ -0,0 +1,59 @@
+package com.whatthefork.resourcereservation.resource.entity;
+
+import com.whatthefork.resourcereservation.resource.enums.ReservationEventType;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 예약 변경 이벤트 아웃박스 (예약을 바꾼 트랜잭션에서 같이 INSERT, 릴레이가 id 순으로 발행)
+@Entity
+@Table(name = "reservation_outbox", indexes = {
+        @Index(name = "idx_reservation_outbox_unpublished", columnList = "published_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;                    // 발행 순서 (같은 예약 안에서는 커밋 순서와 같음)
+
+    @Column(nullable = false)
+    private ReservationEventType eventType;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private ResourceCategory category;
+
+    @Column(nullable = false)
+    private Long resourceId;
+
+    @Column(nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(nullable = false)
+    private LocalDateTime endDate;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private LocalDateTime publishedAt;  // null 이면 아직 발행 안 됨
+}
@@ -0,0 +1,70 @@
+package com.whatthefork.resourcereservation.resource.entity;
+
+import com.whatthefork.resourcereservation.resource.enums.RecurrenceType;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long resourceId;
+
+    @Column(nullable = false)
+    private ResourceCategory category;
+
+    @Column(nullable = false)
+    private RecurrenceType recurrence;
+
+    private Integer intervalDays;       // CUSTOM 일 때만
+
+    private LocalDate untilDate;        // 종료일 또는 횟수 중 하나
+
+    private Integer occurrenceCount;
+
+    @Column(nullable = false)
+    private LocalDateTime firstStartDate;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String reason;
+
+    @Builder
+    public ReservationSeries(Long userId, Long resourceId, ResourceCategory category, RecurrenceType recurrence,
+                             Integer intervalDays, LocalDate untilDate, Integer occurrenceCount,
+                             LocalDateTime firstStartDate, String reason) {
+        this.userId = userId;
+        this.resourceId = resourceId;
+        this.category = category;
+        this.recurrence = recurrence;
+        this.intervalDays = intervalDays;
+        this.untilDate = untilDate;
+        this.occurrenceCount = occurrenceCount;
+        this.firstStartDate = firstStartDate;
+        this.reason = reason;
+    }
+
+    public ReservationSeries updateReason(String reason) {
+        this.reason = reason;
+        return this;
+    }
+}
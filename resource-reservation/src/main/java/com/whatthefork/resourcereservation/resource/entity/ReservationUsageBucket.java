@@ -0,0 +1,47 @@
+package com.whatthefork.resourcereservation.resource.entity;
+
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 자원별 1시간 단위 예약 사용 시간(분) 집계 (예약 생성/수정/취소 트랜잭션에서 함께 갱신)
+@Entity
+@Table(name = "reservation_usage_bucket", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_usage_bucket", columnNames = {"category", "resource_id", "bucket_date", "hour_of_day"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationUsageBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private ResourceCategory category;
+
+    @Column(nullable = false)
+    private Long resourceId;
+
+    @Column(nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(nullable = false)
+    private int hourOfDay;              // 0 ~ 23
+
+    @Column(nullable = false)
+    private int dayOfWeek;              // 1(월) ~ 7(일), bucketDate 에서 계산해 둔 값 (요일별 GROUP BY 용)
+
+    @Column(nullable = false)
+    private int minutes;                // 이 1시간 중 예약된 분
+}
@@ -0,0 +1,86 @@
+package com.whatthefork.resourcereservation.resource.entity;
+
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.enums.WaitingStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 이미 예약된 시간대에 대한 대기 신청 (같은 자원/시간대 안에서는 id 순서가 곧 대기 순서)
+@Entity
+@Table(name = "reservation_waitlist", indexes = {
+        @Index(name = "idx_waitlist_resource_status", columnList = "category, resource_id, status, start_date"),
+        @Index(name = "idx_waitlist_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_waitlist_status_start", columnList = "status, start_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationWaiting {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long resourceId;
+
+    @Column(nullable = false)
+    private ResourceCategory category;
+
+    @Column(nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(nullable = false)
+    private LocalDateTime endDate;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String reason;
+
+    @Column(nullable = false)
+    private WaitingStatus status = WaitingStatus.WAITING;
+
+    @Column(nullable = false)
+    private LocalDateTime requestedDate;
+
+    private Long reservationId;         // 예약으로 전환되면 생성된 예약 id
+
+    @Builder
+    public ReservationWaiting(Long userId, Long resourceId, ResourceCategory category, LocalDateTime startDate,
+                              LocalDateTime endDate, int capacity, String reason, LocalDateTime requestedDate) {
+        this.userId = userId;
+        this.resourceId = resourceId;
+        this.category = category;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.capacity = capacity;
+        this.reason = reason;
+        this.requestedDate = requestedDate;
+    }
+
+    public ReservationWaiting promote(Long reservationId) {
+        this.status = WaitingStatus.PROMOTED;
+        this.reservationId = reservationId;
+        return this;
+    }
+
+    public ReservationWaiting cancel() {
+        this.status = WaitingStatus.CANCELED;
+        return this;
+    }
+}
@@ -0,0 +1,27 @@
+package com.whatthefork.resourcereservation.resource.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 여러 인스턴스 중 한 곳에서만 돌아야 하는 스케줄 작업의 임대 (갱신은 JdbcSchedulerLeaseRepository 로만 함)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 64)
+    private String name;                // 작업 이름
+
+    @Column(nullable = false, length = 64)
+    private String owner;               // 임대를 잡은 인스턴스
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;  // DB 시각 기준, 이 시각이 지나면 다른 인스턴스가 가져갈 수 있음
+}
@@ -0,0 +1,8 @@
+package com.whatthefork.resourcereservation.resource.enums;
+
+public enum RecurrenceType {
+
+    DAILY,      // 매일
+    WEEKLY,     // 매주 같은 요일
+    CUSTOM      // intervalDays 일마다
+}
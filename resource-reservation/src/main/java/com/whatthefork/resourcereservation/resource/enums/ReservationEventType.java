@@ -0,0 +1,8 @@
+package com.whatthefork.resourcereservation.resource.enums;
+
+public enum ReservationEventType {
+
+    CREATED,    // 예약 생성 (반복 예약 회차, 대기 전환 포함)
+    UPDATED,    // 예약 수정 (바뀐 뒤 값으로 발행)
+    CANCELED    // 예약 취소 (취소 전 값으로 발행)
+}
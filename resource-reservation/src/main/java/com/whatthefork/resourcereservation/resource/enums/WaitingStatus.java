@@ -0,0 +1,9 @@
+package com.whatthefork.resourcereservation.resource.enums;
+
+public enum WaitingStatus {
+
+    WAITING,    // 자리가 나기를 기다리는 중
+    PROMOTED,   // 자리가 나서 예약으로 전환됨
+    CANCELED,   // 사용자가 대기를 취소함
+    EXPIRED     // 시작 시각이 지나도록 자리가 나지 않음
+}
@@ -0,0 +1,33 @@
+package com.whatthefork.resourcereservation.resource.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 외부 브로커 대신 쓰는 프로세스 내 브로커
+ * 받은 이벤트를 구독자와 스프링 이벤트(@EventListener)로 그대로 넘긴다.
+ * 외부 브로커를 붙일 때는 ReservationEventPublisher 구현을 이 빈 대신 등록하면 되고,
+ * 테스트에서는 subscribe 로 발행된 이벤트를 받아 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InProcessReservationEventBroker implements ReservationEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final List<Consumer<ReservationChangeEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<ReservationChangeEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void publish(ReservationChangeEvent event) {
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+        applicationEventPublisher.publishEvent(event);
+    }
+}
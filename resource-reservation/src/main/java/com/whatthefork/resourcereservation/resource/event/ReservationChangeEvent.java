@@ -0,0 +1,43 @@
+package com.whatthefork.resourcereservation.resource.event;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.entity.ReservationOutboxEvent;
+import com.whatthefork.resourcereservation.resource.enums.ReservationEventType;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+
+import java.time.LocalDateTime;
+
+// 다른 서비스로 나가는 예약 변경 이벤트 (eventId 는 아웃박스 id, 소비자가 중복 수신을 거르는 데 씀)
+public record ReservationChangeEvent(Long eventId, ReservationEventType type, Long reservationId, Long userId,
+                                     ResourceCategory category, Long resourceId, LocalDateTime startDate,
+                                     LocalDateTime endDate, int capacity, LocalDateTime occurredAt) {
+
+    // 아웃박스에 쓰기 전 (eventId 없음)
+    public static ReservationChangeEvent of(ReservationEventType type, Reservation reservation, LocalDateTime occurredAt) {
+        return new ReservationChangeEvent(
+                null,
+                type,
+                reservation.getId(),
+                reservation.getUserId(),
+                reservation.getCategory(),
+                reservation.getResourceId(),
+                reservation.getStartDate(),
+                reservation.getEndDate(),
+                reservation.getCapacity(),
+                occurredAt);
+    }
+
+    public static ReservationChangeEvent from(ReservationOutboxEvent outboxEvent) {
+        return new ReservationChangeEvent(
+                outboxEvent.getId(),
+                outboxEvent.getEventType(),
+                outboxEvent.getReservationId(),
+                outboxEvent.getUserId(),
+                outboxEvent.getCategory(),
+                outboxEvent.getResourceId(),
+                outboxEvent.getStartDate(),
+                outboxEvent.getEndDate(),
+                outboxEvent.getCapacity(),
+                outboxEvent.getOccurredAt());
+    }
+}
@@ -0,0 +1,39 @@
+package com.whatthefork.resourcereservation.resource.event;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ReservationEventType;
+import com.whatthefork.resourcereservation.resource.repository.ReservationOutboxBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 예약 변경 이벤트를 아웃박스에 기록
+ * 예약을 바꾼 트랜잭션 안에서 호출하므로 예약 변경과 이벤트는 같이 커밋되거나 같이 롤백된다.
+ * 실제 발행은 ReservationOutboxRelay 가 커밋된 이벤트만 id 순으로 한다. (같은 예약의 이벤트끼리만 순서 보장, ReservationOutboxService 참고)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationEventOutbox {
+
+    private final ReservationOutboxBulkRepository outboxBulkRepository;
+
+    public void append(ReservationEventType type, Reservation reservation) {
+        append(type, List.of(reservation));
+    }
+
+    public void append(ReservationEventType type, Collection<Reservation> reservations) {
+
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        outboxBulkRepository.batchInsert(reservations.stream()
+                .map(reservation -> ReservationChangeEvent.of(type, reservation, now))
+                .toList());
+    }
+}
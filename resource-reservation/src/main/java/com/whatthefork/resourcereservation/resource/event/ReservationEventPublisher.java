@@ -0,0 +1,8 @@
+package com.whatthefork.resourcereservation.resource.event;
+
+// 예약 변경 이벤트를 내보낼 브로커 (아웃박스 릴레이만 호출, 실패하면 예외를 던져 다음 릴레이에서 다시 보냄)
+// 같은 예약의 이벤트는 순서대로 오지만 서로 다른 예약 사이의 순서는 보장되지 않으므로, 구독자는 reservationId 별로 처리해야 함
+public interface ReservationEventPublisher {
+
+    void publish(ReservationChangeEvent event);
+}
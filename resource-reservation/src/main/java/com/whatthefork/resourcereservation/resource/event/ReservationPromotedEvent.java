@@ -0,0 +1,22 @@
+package com.whatthefork.resourcereservation.resource.event;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+
+import java.time.LocalDateTime;
+
+// 대기 신청이 예약으로 전환된 뒤 발행 (커밋 후 대기자에게 알림)
+public record ReservationPromotedEvent(Long waitingId, Long reservationId, Long userId, ResourceCategory category,
+                                       Long resourceId, LocalDateTime startDate, LocalDateTime endDate) {
+
+    public static ReservationPromotedEvent of(Long waitingId, Reservation reservation) {
+        return new ReservationPromotedEvent(
+                waitingId,
+                reservation.getId(),
+                reservation.getUserId(),
+                reservation.getCategory(),
+                reservation.getResourceId(),
+                reservation.getStartDate(),
+                reservation.getEndDate());
+    }
+}
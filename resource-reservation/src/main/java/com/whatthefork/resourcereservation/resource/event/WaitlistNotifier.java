@@ -0,0 +1,22 @@
+package com.whatthefork.resourcereservation.resource.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 대기 -> 예약 전환 알림
+ * 커밋된 전환만 알리고, 알림 실패가 예약 취소/전환 트랜잭션에 영향을 주지 않도록 커밋 후에 처리한다.
+ * (알림 서비스 연동 전까지는 로그로 남김)
+ */
+@Slf4j
+@Component
+public class WaitlistNotifier {
+
+    @TransactionalEventListener
+    public void onPromoted(ReservationPromotedEvent event) {
+        log.info("[대기 예약 전환 알림] userId={}, reservationId={}, {} #{} {} ~ {}",
+                event.userId(), event.reservationId(), event.category(), event.resourceId(),
+                event.startDate(), event.endDate());
+    }
+}
@@ -0,0 +1,74 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.catalog.CatalogCache;
+import com.whatthefork.resourcereservation.resource.entity.CorporateCar;
+import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// CorporateCarRepository 앞에 두는 카탈로그 캐시 (목록/이름/인원 조회만 캐시, 쓰기는 위임 후 무효화)
+@Primary
+@Repository
+public class CachedCorporateCarRepository implements CorporateCarRepository {
+
+    private final JpaCorporateCarRepository delegate;
+    private final CatalogCache<CorporateCar> cache;
+
+    public CachedCorporateCarRepository(JpaCorporateCarRepository delegate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${reservation.catalog-cache.ttl:60s}") Duration ttl) {
+        this.delegate = delegate;
+        this.cache = new CatalogCache<>("corporate_car", ttl, meterRegistry);
+    }
+
+    @Override
+    public CorporateCar save(CorporateCar resource) {
+        CorporateCar saved = delegate.save(resource);
+        cache.invalidate();
+        return saved;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cache.invalidate();
+    }
+
+    // 수정할 엔티티를 읽는 경로이므로 캐시하지 않음
+    @Override
+    public Optional<CorporateCar> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<CorporateCar> findWithLockById(Long id) {
+        return delegate.findWithLockById(id);
+    }
+
+    @Override
+    public Optional<CorporateCar> findByName(String name) {
+        return findAll().stream()
+                .filter(resource -> Objects.equals(resource.getName(), name))
+                .findFirst();
+    }
+
+    @Override
+    public CorporateCar findByMaxCapacity(int maxCapacity) {
+        return findAll().stream()
+                .filter(resource -> resource.getMaxCapacity() == maxCapacity)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public List<CorporateCar> findAll() {
+        return cache.get(delegate::findAll);
+    }
+}
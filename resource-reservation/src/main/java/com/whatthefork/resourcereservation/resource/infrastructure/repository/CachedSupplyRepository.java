@@ -0,0 +1,82 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.catalog.CatalogCache;
+import com.whatthefork.resourcereservation.resource.entity.Supplies;
+import com.whatthefork.resourcereservation.resource.repository.SupplyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// SupplyRepository 앞에 두는 카탈로그 캐시 (목록/이름 조회만 캐시, 쓰기는 위임 후 무효화)
+// 목록에 남은 재고(capacity)가 들어 있고 대여/반납마다 전체를 무효화하므로, 대여가 잦으면 사실상 캐시되지 않음
+// (resource.catalog.cache{catalog=supply} 적중률이 낮게 나오는 게 정상, 재고가 틀린 목록을 보여주지 않는 쪽을 택함)
+@Primary
+@Repository
+public class CachedSupplyRepository implements SupplyRepository {
+
+    private final JpaSupplyRepository delegate;
+    private final CatalogCache<Supplies> cache;
+
+    public CachedSupplyRepository(JpaSupplyRepository delegate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${reservation.catalog-cache.ttl:60s}") Duration ttl) {
+        this.delegate = delegate;
+        this.cache = new CatalogCache<>("supply", ttl, meterRegistry);
+    }
+
+    @Override
+    public Supplies save(Supplies resource) {
+        Supplies saved = delegate.save(resource);
+        cache.invalidate();
+        return saved;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        cache.invalidate();
+    }
+
+    // 수정할 엔티티를 읽는 경로이므로 캐시하지 않음
+    @Override
+    public Optional<Supplies> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    // 재고가 바뀌면 목록의 남은 수량도 바뀌므로 무효화 (빈 시간대 조회도 이 목록의 재고를 봄)
+    @Override
+    public int decreaseCapacity(Long id, int quantity) {
+        int decreased = delegate.decreaseCapacity(id, quantity);
+        if (decreased > 0) {
+            cache.invalidate();
+        }
+        return decreased;
+    }
+
+    @Override
+    public int increaseCapacity(Long id, int amount) {
+        int increased = delegate.increaseCapacity(id, amount);
+        if (increased > 0) {
+            cache.invalidate();
+        }
+        return increased;
+    }
+
+    @Override
+    public Optional<Supplies> findByName(String name) {
+        return findAll().stream()
+                .filter(resource -> Objects.equals(resource.getName(), name))
+                .findFirst();
+    }
+
+    @Override
+    public List<Supplies> findAll() {
+        return cache.get(delegate::findAll);
+    }
+}
@@ -0,0 +1,53 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.calendar.FeedVersion;
+import com.whatthefork.resourcereservation.resource.repository.CalendarFeedVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcCalendarFeedVersionRepository implements CalendarFeedVersionRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT feed_key, version, changed_at FROM calendar_feed_version WHERE feed_key = ?
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO calendar_feed_version (feed_key, version, changed_at)
+            VALUES (?, 1, ?)
+            ON DUPLICATE KEY UPDATE version = version + 1, changed_at = VALUES(changed_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<FeedVersion> findByFeedKey(String feedKey) {
+
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new FeedVersion(
+                        rs.getString("feed_key"),
+                        rs.getLong("version"),
+                        rs.getTimestamp("changed_at").toLocalDateTime()), feedKey)
+                .stream()
+                .findFirst();
+    }
+
+    // 호출하는 쪽에서 키를 정렬해서 넘기므로 동시에 바뀌는 피드끼리 잠금 순서가 같음
+    @Override
+    public void increment(Collection<String> feedKeys, LocalDateTime changedAt) {
+
+        List<String> keys = List.copyOf(feedKeys);
+        Timestamp timestamp = Timestamp.valueOf(changedAt);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, keys, keys.size(), (ps, feedKey) -> {
+            ps.setString(1, feedKey);
+            ps.setTimestamp(2, timestamp);
+        });
+    }
+}
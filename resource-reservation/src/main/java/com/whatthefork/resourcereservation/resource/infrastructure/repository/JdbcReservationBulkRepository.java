@@ -0,0 +1,49 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.repository.ReservationBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcReservationBulkRepository implements ReservationBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reservation (user_id, resource_id, booked_date, start_date, end_date, capacity, reason, category, is_expired, series_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // JDBC batch (IDENTITY 전략이라 JPA saveAll 로는 배치가 안 됨)
+    @Override
+    public void batchInsert(List<Reservation> reservations) {
+
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, reservations, reservations.size(), (ps, reservation) -> {
+            ps.setLong(1, reservation.getUserId());
+            ps.setLong(2, reservation.getResourceId());
+            ps.setTimestamp(3, Timestamp.valueOf(reservation.getBookedDate()));
+            ps.setTimestamp(4, Timestamp.valueOf(reservation.getStartDate()));
+            ps.setTimestamp(5, Timestamp.valueOf(reservation.getEndDate()));
+            ps.setInt(6, reservation.getCapacity());
+            ps.setString(7, reservation.getReason());
+            ps.setInt(8, reservation.getCategory().ordinal());   // category 는 ORDINAL 로 저장됨
+            ps.setBoolean(9, reservation.isExpired());
+            if (reservation.getSeriesId() == null) {
+                ps.setNull(10, Types.BIGINT);
+            } else {
+                ps.setLong(10, reservation.getSeriesId());
+            }
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.event.ReservationChangeEvent;
+import com.whatthefork.resourcereservation.resource.repository.ReservationOutboxBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcReservationOutboxBulkRepository implements ReservationOutboxBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reservation_outbox (event_type, reservation_id, user_id, category, resource_id, start_date, end_date, capacity, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // JDBC batch (IDENTITY 전략이라 JPA saveAll 로는 배치가 안 됨)
+    @Override
+    public void batchInsert(List<ReservationChangeEvent> events) {
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setInt(1, event.type().ordinal());       // enum 은 ORDINAL 로 저장됨
+            ps.setLong(2, event.reservationId());
+            ps.setLong(3, event.userId());
+            ps.setInt(4, event.category().ordinal());
+            ps.setLong(5, event.resourceId());
+            ps.setTimestamp(6, Timestamp.valueOf(event.startDate()));
+            ps.setTimestamp(7, Timestamp.valueOf(event.endDate()));
+            ps.setInt(8, event.capacity());
+            ps.setTimestamp(9, Timestamp.valueOf(event.occurredAt()));
+        });
+    }
+}
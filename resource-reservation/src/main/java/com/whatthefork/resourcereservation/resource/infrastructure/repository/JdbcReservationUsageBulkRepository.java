@@ -0,0 +1,56 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.analytics.UsageBucketDelta;
+import com.whatthefork.resourcereservation.resource.repository.ReservationUsageBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcReservationUsageBulkRepository implements ReservationUsageBulkRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO reservation_usage_bucket (category, resource_id, bucket_date, hour_of_day, day_of_week, minutes)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE minutes = minutes + VALUES(minutes)
+            """;
+
+    // 버킷 키 순서로 갱신해야 동시에 들어온 예약끼리 잠금 순서가 엇갈리지 않음
+    private static final Comparator<UsageBucketDelta> KEY_ORDER = Comparator
+            .comparing((UsageBucketDelta delta) -> delta.category().ordinal())
+            .thenComparing(UsageBucketDelta::resourceId)
+            .thenComparing(UsageBucketDelta::bucketDate)
+            .thenComparingInt(UsageBucketDelta::hourOfDay);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addMinutes(List<UsageBucketDelta> deltas) {
+
+        // 같은 버킷은 합쳐서 한 번만 갱신
+        Map<UsageBucketDelta, Integer> merged = new TreeMap<>(KEY_ORDER);
+        deltas.forEach(delta -> merged.merge(delta, delta.minutes(), Integer::sum));
+        merged.values().removeIf(minutes -> minutes == 0);
+        if (merged.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<UsageBucketDelta, Integer>> rows = List.copyOf(merged.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            UsageBucketDelta key = row.getKey();
+            ps.setInt(1, key.category().ordinal());     // category 는 ORDINAL 로 저장됨
+            ps.setLong(2, key.resourceId());
+            ps.setDate(3, Date.valueOf(key.bucketDate()));
+            ps.setInt(4, key.hourOfDay());
+            ps.setInt(5, key.dayOfWeek());
+            ps.setInt(6, row.getValue());
+        });
+    }
+}
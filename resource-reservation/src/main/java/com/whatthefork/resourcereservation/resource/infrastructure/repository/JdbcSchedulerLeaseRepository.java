@@ -0,0 +1,41 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.repository.SchedulerLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 만료 판단은 DB 시각으로 하므로 인스턴스끼리 시계가 달라도 임대가 겹치지 않음
+@Repository
+@RequiredArgsConstructor
+public class JdbcSchedulerLeaseRepository implements SchedulerLeaseRepository {
+
+    private static final String RENEW_SQL = """
+            UPDATE scheduler_lease
+            SET owner = ?, locked_until = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP)
+            WHERE name = ? AND (owner = ? OR locked_until <= CURRENT_TIMESTAMP)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO scheduler_lease (name, owner, locked_until)
+            VALUES (?, ?, TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryAcquire(String name, String owner, long leaseSeconds) {
+
+        if (jdbcTemplate.update(RENEW_SQL, owner, leaseSeconds, name, owner) > 0) {
+            return true;
+        }
+
+        // 처음 잡는 경우, 동시에 INSERT 한 다른 인스턴스가 있으면 그쪽이 가져감
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, leaseSeconds) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.CalendarFeedSubscription;
+import com.whatthefork.resourcereservation.resource.repository.CalendarFeedSubscriptionRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaCalendarFeedSubscriptionRepository extends CalendarFeedSubscriptionRepository,
+        JpaRepository<CalendarFeedSubscription, Long> {
+}
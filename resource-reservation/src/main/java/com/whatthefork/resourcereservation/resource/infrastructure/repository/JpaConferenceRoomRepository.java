@@ -2,7 +2,15 @@ package com.whatthefork.resourcereservation.resource.infrastructure.repository;
 
 import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
 import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
 
 public interface JpaConferenceRoomRepository extends ConferenceRoomRepository, JpaRepository<ConferenceRoom, Long> {
+
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ConferenceRoom> findWithLockById(Long id);
 }
@@ -2,7 +2,15 @@ package com.whatthefork.resourcereservation.resource.infrastructure.repository;
 
 import com.whatthefork.resourcereservation.resource.entity.CorporateCar;
 import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
 
 public interface JpaCorporateCarRepository extends CorporateCarRepository, JpaRepository<CorporateCar, Long> {
+
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CorporateCar> findWithLockById(Long id);
 }
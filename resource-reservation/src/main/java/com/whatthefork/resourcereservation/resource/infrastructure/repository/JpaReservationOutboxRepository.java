@@ -0,0 +1,33 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.ReservationOutboxEvent;
+import com.whatthefork.resourcereservation.resource.repository.ReservationOutboxRepository;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JpaReservationOutboxRepository extends ReservationOutboxRepository, JpaRepository<ReservationOutboxEvent, Long> {
+
+    // 건너뛰지 않고 기다림: 임대가 넘어가는 사이 이전 릴레이의 청크가 아직 커밋 전이면, 그 뒤 id 를 먼저 발행하지 않도록
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM ReservationOutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id ASC")
+    List<ReservationOutboxEvent> findUnpublished(Pageable pageable);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReservationOutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Override
+    @Modifying
+    @Query("DELETE FROM ReservationOutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,8 +1,115 @@
 package com.whatthefork.resourcereservation.resource.infrastructure.repository;
 
 import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
 import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface JpaReservationRepository extends ReservationRepository, JpaRepository<Reservation, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaReservationRepository extends ReservationRepository, JpaRepository<Reservation, Long>,
+        JpaSpecificationExecutor<Reservation> {
+
+    @Override
+    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM Reservation r " +
+            "WHERE r.category = :category AND r.resourceId = :resourceId " +
+            "AND r.startDate < :end AND r.endDate > :start " +
+            "AND (:excludeId IS NULL OR r.id <> :excludeId)")
+    boolean existsOverlapping(@Param("category") ResourceCategory category,
+                              @Param("resourceId") Long resourceId,
+                              @Param("start") LocalDateTime start,
+                              @Param("end") LocalDateTime end,
+                              @Param("excludeId") Long excludeId);
+
+    // 조건은 주어진 것만 동적으로 묶고, 다음 페이지 여부는 호출하는 쪽이 한 건 더 읽어서 판단 (count 쿼리 없음)
+    @Override
+    default List<Reservation> findPage(ResourceCategory category, Long resourceId, LocalDateTime from,
+                                       LocalDateTime to, Long lastId, Pageable pageable) {
+
+        return findBy(ReservationSpecifications.page(category, resourceId, from, to, lastId), query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                .limit(pageable.getPageSize())
+                .all());
+    }
+
+    @Override
+    @Query("SELECT r FROM Reservation r " +
+            "WHERE r.category = :category AND r.resourceId = :resourceId " +
+            "AND r.startDate < :end AND r.endDate > :start " +
+            "ORDER BY r.startDate ASC, r.id ASC")
+    List<Reservation> findOverlappingInSpan(@Param("category") ResourceCategory category,
+                                            @Param("resourceId") Long resourceId,
+                                            @Param("start") LocalDateTime start,
+                                            @Param("end") LocalDateTime end);
+
+    @Override
+    @Query("SELECT r FROM Reservation r " +
+            "WHERE r.category = :category AND r.resourceId IN :resourceIds " +
+            "AND r.startDate < :end AND r.endDate > :start " +
+            "ORDER BY r.startDate ASC, r.id ASC")
+    List<Reservation> findOverlappingForResources(@Param("category") ResourceCategory category,
+                                                  @Param("resourceIds") Collection<Long> resourceIds,
+                                                  @Param("start") LocalDateTime start,
+                                                  @Param("end") LocalDateTime end);
+
+    @Override
+    @Query("SELECT r FROM Reservation r " +
+            "WHERE r.category = :category " +
+            "AND r.startDate < :end AND r.endDate > :start")
+    List<Reservation> findAllOverlappingInSpan(@Param("category") ResourceCategory category,
+                                               @Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Reservation r WHERE r.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    // 만료 대상 행을 잠가 두어, 같은 예약의 취소(재고 반납)나 다른 인스턴스의 만료 처리와 겹치지 않게 함
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.isExpired = false AND r.endDate <= :now ORDER BY r.endDate ASC, r.id ASC")
+    List<Reservation> findExpiryTargets(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.isExpired = true WHERE r.id IN :ids AND r.isExpired = false")
+    int expireByIds(@Param("ids") Collection<Long> ids);
+
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Reservation r WHERE r.id = :id AND r.isExpired = false")
+    int deleteActiveById(@Param("id") Long id);
+
+    // 값은 그대로 두는 UPDATE 로 행 잠금만 잡음
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.isExpired = r.isExpired WHERE r.id = :id")
+    int lockById(@Param("id") Long id);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.isExpired = false WHERE r.id = :id AND r.isExpired = false")
+    int lockActiveById(@Param("id") Long id);
+
+    @Override
+    @Query("SELECT r FROM Reservation r WHERE r.userId = :userId AND r.isExpired = true ORDER BY r.endDate DESC")
+    List<Reservation> findExpiredByUserId(@Param("userId") Long userId);
+
+    @Override
+    @Query("SELECT DISTINCT r.userId FROM Reservation r " +
+            "WHERE r.category = :category AND r.resourceId = :resourceId AND r.endDate > :from")
+    List<Long> findUserIdsByResourceAndEndDateAfter(@Param("category") ResourceCategory category,
+                                                    @Param("resourceId") Long resourceId,
+                                                    @Param("from") LocalDateTime from);
 }
@@ -0,0 +1,8 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.ReservationSeries;
+import com.whatthefork.resourcereservation.resource.repository.ReservationSeriesRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaReservationSeriesRepository extends ReservationSeriesRepository, JpaRepository<ReservationSeries, Long> {
+}
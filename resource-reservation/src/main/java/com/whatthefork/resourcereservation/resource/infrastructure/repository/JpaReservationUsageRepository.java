@@ -0,0 +1,37 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.analytics.UsageSlotSum;
+import com.whatthefork.resourcereservation.resource.entity.ReservationUsageBucket;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ReservationUsageRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JpaReservationUsageRepository extends ReservationUsageRepository, JpaRepository<ReservationUsageBucket, Long> {
+
+    @Override
+    @Query("SELECT new com.whatthefork.resourcereservation.resource.analytics.UsageSlotSum(" +
+            "b.resourceId, b.dayOfWeek, b.hourOfDay, SUM(b.minutes)) " +
+            "FROM ReservationUsageBucket b " +
+            "WHERE b.category = :category " +
+            "AND (:resourceId IS NULL OR b.resourceId = :resourceId) " +
+            "AND b.bucketDate >= :from AND b.bucketDate < :to " +
+            "GROUP BY b.resourceId, b.dayOfWeek, b.hourOfDay")
+    List<UsageSlotSum> sumBySlot(@Param("category") ResourceCategory category,
+                                 @Param("resourceId") Long resourceId,
+                                 @Param("from") LocalDate from,
+                                 @Param("to") LocalDate to);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ReservationUsageBucket b " +
+            "WHERE b.category = :category AND b.bucketDate >= :from AND b.bucketDate < :to")
+    int deleteRange(@Param("category") ResourceCategory category,
+                    @Param("from") LocalDate from,
+                    @Param("to") LocalDate to);
+}
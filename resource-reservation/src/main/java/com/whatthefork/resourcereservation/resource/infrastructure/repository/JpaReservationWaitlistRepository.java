@@ -0,0 +1,46 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.ReservationWaiting;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ReservationWaitlistRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JpaReservationWaitlistRepository extends ReservationWaitlistRepository, JpaRepository<ReservationWaiting, Long> {
+
+    @Override
+    @Query("SELECT w FROM ReservationWaiting w " +
+            "WHERE w.category = :category AND w.resourceId = :resourceId " +
+            "AND w.status = com.whatthefork.resourcereservation.resource.enums.WaitingStatus.WAITING " +
+            "AND w.startDate < :end AND w.endDate > :start " +
+            "ORDER BY w.id ASC")
+    List<ReservationWaiting> findWaitingOverlapping(@Param("category") ResourceCategory category,
+                                                    @Param("resourceId") Long resourceId,
+                                                    @Param("start") LocalDateTime start,
+                                                    @Param("end") LocalDateTime end);
+
+    @Override
+    @Query("SELECT COUNT(w) FROM ReservationWaiting w " +
+            "WHERE w.category = :category AND w.resourceId = :resourceId " +
+            "AND w.status = com.whatthefork.resourcereservation.resource.enums.WaitingStatus.WAITING " +
+            "AND w.startDate < :end AND w.endDate > :start " +
+            "AND w.id < :id")
+    long countWaitingAhead(@Param("category") ResourceCategory category,
+                           @Param("resourceId") Long resourceId,
+                           @Param("start") LocalDateTime start,
+                           @Param("end") LocalDateTime end,
+                           @Param("id") Long id);
+
+    @Override
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReservationWaiting w " +
+            "SET w.status = com.whatthefork.resourcereservation.resource.enums.WaitingStatus.EXPIRED " +
+            "WHERE w.status = com.whatthefork.resourcereservation.resource.enums.WaitingStatus.WAITING " +
+            "AND w.startDate <= :now")
+    int expireStartedBy(@Param("now") LocalDateTime now);
+}
@@ -3,6 +3,23 @@ package com.whatthefork.resourcereservation.resource.infrastructure.repository;
 import com.whatthefork.resourcereservation.resource.entity.Supplies;
 import com.whatthefork.resourcereservation.resource.repository.SupplyRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaSupplyRepository extends SupplyRepository, JpaRepository<Supplies, Long> {
+
+    // isBooked 를 먼저 계산해야 MariaDB(왼쪽부터 적용)에서도 차감 전 재고 기준으로 판단됨
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Supplies s " +
+            "SET s.isBooked = CASE WHEN s.capacity <= :quantity THEN true ELSE false END, " +
+            "s.capacity = s.capacity - :quantity " +
+            "WHERE s.id = :id AND s.capacity >= :quantity")
+    int decreaseCapacity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Supplies s SET s.capacity = s.capacity + :amount, s.isBooked = false WHERE s.id = :id")
+    int increaseCapacity(@Param("id") Long id, @Param("amount") int amount);
 }
@@ -0,0 +1,42 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class ReservationSpecifications {
+
+    private ReservationSpecifications() {
+    }
+
+    // 값이 있는 조건만 WHERE 에 넣음 ("(:x IS NULL OR ...)" 가 남지 않아야 옵티마이저가 조건에 맞는 인덱스를 고름)
+    static Specification<Reservation> page(ResourceCategory category, Long resourceId,
+                                           LocalDateTime from, LocalDateTime to, Long lastId) {
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(5);
+            if (lastId != null) {
+                predicates.add(cb.lessThan(root.get("id"), lastId));
+            }
+            if (category != null) {
+                predicates.add(cb.equal(root.get("category"), category));
+            }
+            if (resourceId != null) {
+                predicates.add(cb.equal(root.get("resourceId"), resourceId));
+            }
+            // 기간 조건은 [from, to) 와 예약 기간이 겹치는지로 판단
+            if (from != null) {
+                predicates.add(cb.greaterThan(root.get("endDate"), from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThan(root.get("startDate"), to));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.CalendarFeedSubscription;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CalendarFeedSubscriptionRepository {
+
+    CalendarFeedSubscription save(CalendarFeedSubscription subscription);
+
+    Optional<CalendarFeedSubscription> findById(Long userId);
+
+    Optional<CalendarFeedSubscription> findByTokenHash(String tokenHash);
+}
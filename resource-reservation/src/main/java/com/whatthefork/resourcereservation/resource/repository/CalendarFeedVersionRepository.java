@@ -0,0 +1,15 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+import com.whatthefork.resourcereservation.resource.calendar.FeedVersion;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface CalendarFeedVersionRepository {
+
+    Optional<FeedVersion> findByFeedKey(String feedKey);
+
+    // 피드별 버전 +1 (행이 없으면 1 로 만듦), 호출한 트랜잭션에 참여
+    void increment(Collection<String> feedKeys, LocalDateTime changedAt);
+}
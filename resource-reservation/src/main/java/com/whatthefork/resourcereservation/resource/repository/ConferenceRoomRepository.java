@@ -15,9 +15,10 @@ public interface ConferenceRoomRepository {
 
     Optional<ConferenceRoom> findById(Long id);
 
-    Optional<ConferenceRoom> findByName(String name);
+    // 예약 생성/수정 시 같은 회의실 예약을 인스턴스 간에도 한 줄로 세우기 위한 행 잠금
+    Optional<ConferenceRoom> findWithLockById(Long id);
 
-    ConferenceRoom findByMaxCapacity(int maxCapacity);
+    Optional<ConferenceRoom> findByName(String name);
 
     List<ConferenceRoom> findAll();
 }
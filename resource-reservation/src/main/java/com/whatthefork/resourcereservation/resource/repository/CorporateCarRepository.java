@@ -15,6 +15,9 @@ public interface CorporateCarRepository {
 
     Optional<CorporateCar> findById(Long id);
 
+    // 예약 생성/수정 시 같은 차량 예약을 인스턴스 간에도 한 줄로 세우기 위한 행 잠금
+    Optional<CorporateCar> findWithLockById(Long id);
+
     Optional<CorporateCar> findByName(String name);
 
     CorporateCar findByMaxCapacity(int maxCapacity);
@@ -0,0 +1,11 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+
+import java.util.List;
+
+public interface ReservationBulkRepository {
+
+    // 예약 여러 건을 한 번에 저장 (생성된 id 는 채워지지 않음)
+    void batchInsert(List<Reservation> reservations);
+}
@@ -0,0 +1,11 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+import com.whatthefork.resourcereservation.resource.event.ReservationChangeEvent;
+
+import java.util.List;
+
+public interface ReservationOutboxBulkRepository {
+
+    // 호출한 트랜잭션에 참여해서 한 번에 INSERT
+    void batchInsert(List<ReservationChangeEvent> events);
+}
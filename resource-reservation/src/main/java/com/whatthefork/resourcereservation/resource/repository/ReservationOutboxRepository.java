@@ -0,0 +1,20 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.ReservationOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReservationOutboxRepository {
+
+    // 아직 발행 안 된 이벤트 (id 순, 행을 트랜잭션 끝까지 잠금)
+    List<ReservationOutboxEvent> findUnpublished(Pageable pageable);
+
+    int markPublished(List<Long> ids, LocalDateTime publishedAt);
+
+    // 발행된 지 오래된 이벤트 정리
+    int deletePublishedBefore(LocalDateTime before);
+}
@@ -4,8 +4,10 @@ import com.whatthefork.resourcereservation.resource.dto.request.update.UpdateRes
 import com.whatthefork.resourcereservation.resource.dto.response.ReservationResponse;
 import com.whatthefork.resourcereservation.resource.entity.Reservation;
 import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -13,8 +15,6 @@ import java.util.Optional;
 @Repository
 public interface ReservationRepository {
 
-    List<Reservation> findAll();
-
     Reservation save(Reservation reservation);
 
     void deleteById(Long id);
@@ -23,7 +23,61 @@ public interface ReservationRepository {
 
     List<Reservation> findAllByUserId(Long userId);
 
+    // 캘린더 피드용: from 이후에 끝나는 사용자 예약 (시작 시각 순)
+    List<Reservation> findAllByUserIdAndEndDateAfterOrderByStartDateAsc(Long userId, LocalDateTime from);
+
+    // 자원 이름이 바뀌었을 때 버전을 올릴 내 피드: from 이후에 끝나는 예약을 가진 사용자
+    List<Long> findUserIdsByResourceAndEndDateAfter(ResourceCategory category, Long resourceId, LocalDateTime from);
+
     Optional<Reservation> findByUserId(Long userId);
 
     List<Reservation> findAllByUserIdAndCategory(Long userId, ResourceCategory category);
+
+    // 같은 자원에 [start, end) 와 겹치는 예약이 있는지 (excludeId 는 수정 중인 자기 자신)
+    boolean existsOverlapping(ResourceCategory category, Long resourceId,
+                              LocalDateTime start, LocalDateTime end, Long excludeId);
+
+    // 조건에 맞는 예약을 id 역순으로 lastId 다음부터 (조건이 null 이면 해당 조건 없음)
+    List<Reservation> findPage(ResourceCategory category, Long resourceId, LocalDateTime from, LocalDateTime to,
+                               Long lastId, Pageable pageable);
+
+    // 종료 시각이 지났는데 아직 만료 처리 안 된 예약 (종료 시각 순)
+    List<Reservation> findExpiryTargets(LocalDateTime now, Pageable pageable);
+
+    int expireByIds(Collection<Long> ids);
+
+    // 아직 만료 처리 안 된 예약만 삭제 (삭제된 행 수 반환, 0이면 이미 만료되어 비품 재고가 반납된 예약)
+    int deleteActiveById(Long id);
+
+    // 예약 행을 만료 여부와 상관없이 트랜잭션 끝까지 잠금 (잠근 행 수 반환, 0이면 이미 삭제된 예약)
+    // 영속성 컨텍스트를 비우므로 이후에는 예약을 다시 읽어서 써야 함
+    int lockById(Long id);
+
+    // 아직 만료 처리 안 된 예약 행을 트랜잭션 끝까지 잠금 (잠근 행 수 반환, 0이면 이미 만료된 예약)
+    // 영속성 컨텍스트를 비우므로 이후에는 예약을 다시 읽어서 써야 함
+    int lockActiveById(Long id);
+
+    // 사용자의 만료된 예약 (최근 종료 순)
+    List<Reservation> findExpiredByUserId(Long userId);
+
+    // 같은 자원에 [start, end) 와 겹치는 예약 (시작 시각 순)
+    List<Reservation> findOverlappingInSpan(ResourceCategory category, Long resourceId,
+                                            LocalDateTime start, LocalDateTime end);
+
+    // 여러 자원에서 [start, end) 와 겹치는 예약 (시작 시각 순, 예약 시간 인덱스 결과를 DB로 확인할 때)
+    List<Reservation> findOverlappingForResources(ResourceCategory category, Collection<Long> resourceIds,
+                                                  LocalDateTime start, LocalDateTime end);
+
+    // 카테고리 전체에서 [start, end) 와 겹치는 예약 (사용 시간 집계 재계산용)
+    List<Reservation> findAllOverlappingInSpan(ResourceCategory category, LocalDateTime start, LocalDateTime end);
+
+    List<Reservation> findAllBySeriesId(Long seriesId);
+
+    // 반복 예약 중 아직 시작 안 한 회차 (시작 시각 순)
+    List<Reservation> findAllBySeriesIdAndStartDateAfterOrderByStartDateAsc(Long seriesId, LocalDateTime now);
+
+    int deleteAllByIds(Collection<Long> ids);
+
+    // 아직 끝나지 않은 예약 (예약 시간 인덱스 적재용)
+    List<Reservation> findAllByCategoryInAndEndDateAfter(Collection<ResourceCategory> categories, LocalDateTime now);
 }
@@ -0,0 +1,14 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.ReservationSeries;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReservationSeriesRepository {
+
+    ReservationSeries save(ReservationSeries series);
+
+    Optional<ReservationSeries> findById(Long id);
+}
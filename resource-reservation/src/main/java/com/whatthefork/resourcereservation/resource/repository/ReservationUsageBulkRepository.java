@@ -0,0 +1,11 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+import com.whatthefork.resourcereservation.resource.analytics.UsageBucketDelta;
+
+import java.util.List;
+
+public interface ReservationUsageBulkRepository {
+
+    // 버킷별로 분을 더함 (버킷이 없으면 만듦)
+    void addMinutes(List<UsageBucketDelta> deltas);
+}
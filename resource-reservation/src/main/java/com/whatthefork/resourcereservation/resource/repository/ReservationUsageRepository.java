@@ -0,0 +1,18 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+import com.whatthefork.resourcereservation.resource.analytics.UsageSlotSum;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ReservationUsageRepository {
+
+    // [from, to) 날짜의 버킷을 자원, 요일, 시각별로 합산 (resourceId 가 null 이면 카테고리 전체)
+    List<UsageSlotSum> sumBySlot(ResourceCategory category, Long resourceId, LocalDate from, LocalDate to);
+
+    // 재집계 전에 [from, to) 날짜의 버킷 삭제
+    int deleteRange(ResourceCategory category, LocalDate from, LocalDate to);
+}
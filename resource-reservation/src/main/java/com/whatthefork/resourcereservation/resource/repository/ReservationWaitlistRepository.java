@@ -0,0 +1,35 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.ReservationWaiting;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.enums.WaitingStatus;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReservationWaitlistRepository {
+
+    ReservationWaiting save(ReservationWaiting waiting);
+
+    Optional<ReservationWaiting> findById(Long id);
+
+    // 같은 자원에 [start, end) 와 겹치는 대기 (신청 순)
+    List<ReservationWaiting> findWaitingOverlapping(ResourceCategory category, Long resourceId,
+                                                    LocalDateTime start, LocalDateTime end);
+
+    // 같은 자원에 [start, end) 와 겹치면서 먼저 신청한 대기 수
+    long countWaitingAhead(ResourceCategory category, Long resourceId,
+                           LocalDateTime start, LocalDateTime end, Long id);
+
+    boolean existsByUserIdAndCategoryAndResourceIdAndStartDateAndEndDateAndStatus(
+            Long userId, ResourceCategory category, Long resourceId,
+            LocalDateTime startDate, LocalDateTime endDate, WaitingStatus status);
+
+    List<ReservationWaiting> findAllByUserIdAndStatusOrderByIdAsc(Long userId, WaitingStatus status);
+
+    // now 까지 시작한 대기를 만료 처리 (만료된 건수 반환)
+    int expireStartedBy(LocalDateTime now);
+}
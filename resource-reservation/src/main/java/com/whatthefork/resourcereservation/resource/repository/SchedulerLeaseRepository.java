@@ -0,0 +1,7 @@
+package com.whatthefork.resourcereservation.resource.repository;
+
+public interface SchedulerLeaseRepository {
+
+    // 비어 있거나 만료됐거나 이미 owner 가 잡고 있으면 leaseSeconds 만큼 잡거나 연장 (자동 커밋, 잡았으면 true)
+    boolean tryAcquire(String name, String owner, long leaseSeconds);
+}
@@ -16,6 +16,12 @@ public interface SupplyRepository {
 
     Optional<Supplies> findById(Long id);
 
+    // 재고가 quantity 이상 남아 있을 때만 차감 (차감된 행 수 반환, 0이면 재고 부족 또는 없는 비품)
+    int decreaseCapacity(Long id, int quantity);
+
+    // 반납된 수량만큼 재고 복구
+    int increaseCapacity(Long id, int amount);
+
     Optional<Supplies> findByName(String name);
 
     List<Supplies> findAll();
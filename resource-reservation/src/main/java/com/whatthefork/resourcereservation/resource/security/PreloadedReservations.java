@@ -0,0 +1,40 @@
+package com.whatthefork.resourcereservation.resource.security;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * 권한 확인(@PreAuthorize)에서 읽은 예약을 같은 요청의 서비스 메서드가 다시 쓰도록 요청 범위에 보관
+ * (open-in-view 로 요청 동안 같은 영속성 컨텍스트를 쓰므로 서비스 트랜잭션에서도 관리 상태 그대로)
+ */
+public final class PreloadedReservations {
+
+    private static final String KEY_PREFIX = PreloadedReservations.class.getName() + ".";
+
+    private PreloadedReservations() {
+    }
+
+    // 요청 밖(배치, 테스트)에서는 보관하지 않음
+    public static void put(Reservation reservation) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || reservation.getId() == null) {
+            return;
+        }
+        attributes.setAttribute(KEY_PREFIX + reservation.getId(), reservation, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    // 한 번 꺼내면 비움 (같은 요청에서 수정/삭제 뒤 다시 꺼내 쓰지 않도록)
+    public static Optional<Reservation> take(Long reservationId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        String key = KEY_PREFIX + reservationId;
+        Object reservation = attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+        attributes.removeAttribute(key, RequestAttributes.SCOPE_REQUEST);
+        return Optional.ofNullable((Reservation) reservation);
+    }
+}
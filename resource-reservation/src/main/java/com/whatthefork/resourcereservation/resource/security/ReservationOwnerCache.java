@@ -0,0 +1,37 @@
+package com.whatthefork.resourcereservation.resource.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 예약 id -> 소유자 id 캐시 (권한 확인용)
+ * 예약의 소유자는 바뀌지 않고 id 도 재사용되지 않으므로 무효화가 필요 없다.
+ * 삭제된 예약이 남아 있어도 권한 확인만 통과할 뿐, 서비스에서 RESOURCE_NOT_FOUND 로 끝난다.
+ */
+@Component
+public class ReservationOwnerCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    // 가장 오래 안 쓴 항목부터 밀어냄
+    private final Map<Long, Long> owners = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public synchronized Long get(Long reservationId) {
+        return owners.get(reservationId);
+    }
+
+    public synchronized void put(Long reservationId, Long ownerId) {
+        owners.put(reservationId, ownerId);
+    }
+
+    public synchronized int size() {
+        return owners.size();
+    }
+}
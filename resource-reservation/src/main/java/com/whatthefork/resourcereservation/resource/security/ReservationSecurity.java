@@ -3,7 +3,9 @@ package com.whatthefork.resourcereservation.resource.security;
 import com.whatthefork.resourcereservation.exception.BusinessException;
 import com.whatthefork.resourcereservation.exception.ErrorCode;
 import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.entity.ReservationSeries;
 import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationSeriesRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -12,12 +14,53 @@ import org.springframework.stereotype.Component;
 public class ReservationSecurity {
 
     private final ReservationRepository reservationRepository;
+    private final ReservationSeriesRepository reservationSeriesRepository;
+    private final ReservationOwnerCache reservationOwnerCache;
 
     public boolean isReservationOwner(String currentUserId, Long reservationId) {
 
-        return reservationRepository.findById(reservationId)
-                .map(Reservation::getUserId) // 예약 엔티티에서 소유자 ID를 가져옴
-                .map(ownerId -> ownerId.equals(currentUserId)) // 현재 사용자 ID와 비교
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_ENOUGH_AUTHORITY)); // 예약이 존재하지 않으면 접근 불가
+        Long userId = parseUserId(currentUserId);
+        if (userId == null) {
+            return false;
+        }
+
+        // 캐시에 있으면 DB 조회 없이 확인
+        Long ownerId = reservationOwnerCache.get(reservationId);
+        if (ownerId == null) {
+            Reservation reservation = reservationRepository.findById(reservationId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.NOT_ENOUGH_AUTHORITY)); // 예약이 존재하지 않으면 접근 불가
+
+            ownerId = reservation.getUserId();
+            reservationOwnerCache.put(reservationId, ownerId);
+            // 이어서 실행될 서비스 메서드가 같은 예약을 다시 읽지 않도록 보관
+            PreloadedReservations.put(reservation);
+        }
+
+        return ownerId.equals(userId);
+    }
+
+    public boolean isSeriesOwner(String currentUserId, Long seriesId) {
+
+        Long userId = parseUserId(currentUserId);
+        if (userId == null) {
+            return false;
+        }
+
+        return reservationSeriesRepository.findById(seriesId)
+                .map(ReservationSeries::getUserId)
+                .map(ownerId -> ownerId.equals(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_ENOUGH_AUTHORITY));
+    }
+
+    // principal.username 은 사용자 id 문자열 (숫자가 아니면 소유자일 수 없음)
+    private Long parseUserId(String currentUserId) {
+        if (currentUserId == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(currentUserId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.availability.BestFitRoomAllocator;
+import com.whatthefork.resourcereservation.resource.availability.IntervalSweep;
+import com.whatthefork.resourcereservation.resource.availability.ReservationSlot;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.TimeRange;
+import com.whatthefork.resourcereservation.resource.dto.response.ConferenceRoomResponse;
+import com.whatthefork.resourcereservation.resource.dto.response.FreeResourceResponse;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.SupplyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    private final ConferenceRoomRepository conferenceRoomRepository;
+    private final CorporateCarRepository corporateCarRepository;
+    private final SupplyRepository supplyRepository;
+    private final ReservationRepository reservationRepository;
+    private final ResourceAvailabilityIndex availabilityIndex;
+    private final BestFitRoomAllocator bestFitRoomAllocator;
+
+    // [start, end) 동안 빈 시간대가 있는 자원 목록 (자원 목록 조회 1번 + 메모리 인덱스)
+    // 인덱스에서 기간 내내 예약돼 있다고 나온 자원만 DB로 한 번에 다시 확인 (다른 인스턴스의 취소가 늦게 보일 수 있음)
+    public List<FreeResourceResponse> searchFreeResources(ResourceCategory category, LocalDateTime start,
+                                                          LocalDateTime end, int minCapacity) {
+
+        validatePeriod(start, end);
+
+        List<FreeResourceResponse> candidates = new ArrayList<>();
+
+        switch (category) {
+            case CONFERENCE_ROOM -> conferenceRoomRepository.findAll().stream()
+                    .filter(room -> room.getMaxCapacity() >= minCapacity)
+                    .forEach(room -> candidates.add(withFreeSlots(category, room.getId(), room.getName(),
+                            room.getMaxCapacity(), start, end)));
+            case CORPORATE_VEHICLE -> corporateCarRepository.findAll().stream()
+                    .filter(car -> car.getMaxCapacity() >= minCapacity)
+                    .forEach(car -> candidates.add(withFreeSlots(category, car.getId(), car.getName(),
+                            car.getMaxCapacity(), start, end)));
+            case SUPPLIES -> supplyRepository.findAll().stream()
+                    .filter(supply -> supply.getCapacity() >= Math.max(minCapacity, 1))
+                    .forEach(supply -> candidates.add(withFreeSlots(category, supply.getId(), supply.getName(),
+                            supply.getCapacity(), start, end)));
+        }
+
+        List<Long> bookedInIndex = candidates.stream()
+                .filter(candidate -> candidate.freeSlots().isEmpty())
+                .map(FreeResourceResponse::resourceId)
+                .toList();
+        Map<Long, List<ReservationSlot>> slotsInDb = bookedInIndex.isEmpty() ? Map.of()
+                : reservationRepository.findOverlappingForResources(category, bookedInIndex, start, end).stream()
+                        .collect(Collectors.groupingBy(Reservation::getResourceId,
+                                Collectors.mapping(ReservationSlot::from, Collectors.toList())));
+
+        List<FreeResourceResponse> freeResources = new ArrayList<>();
+        for (FreeResourceResponse candidate : candidates) {
+            if (!candidate.freeSlots().isEmpty()) {
+                freeResources.add(candidate);
+                continue;
+            }
+            List<TimeRange> freeSlots = IntervalSweep.gaps(start, end,
+                    slotsInDb.getOrDefault(candidate.resourceId(), List.of()));
+            if (!freeSlots.isEmpty()) {
+                freeResources.add(new FreeResourceResponse(candidate.resourceId(), category, candidate.name(),
+                        candidate.capacity(), freeSlots));
+            }
+        }
+
+        return freeResources;
+    }
+
+    // [start, end) 동안 비어 있는 회의실 중 people 명이 들어가는 가장 작은 회의실
+    public ConferenceRoomResponse findBestFitConferenceRoom(int people, LocalDateTime start, LocalDateTime end) {
+
+        validatePeriod(start, end);
+
+        return bestFitRoomAllocator.allocate(Math.max(people, 1), start, end)
+                .map(ConferenceRoomResponse::new)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+    }
+
+    private void validatePeriod(LocalDateTime start, LocalDateTime end) {
+
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION_PERIOD);
+        }
+    }
+
+    private FreeResourceResponse withFreeSlots(ResourceCategory category, Long resourceId, String name, int capacity,
+                                               LocalDateTime start, LocalDateTime end) {
+
+        return new FreeResourceResponse(resourceId, category, name, capacity,
+                availabilityIndex.getFreeSlots(category, resourceId, start, end));
+    }
+}
@@ -0,0 +1,146 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.calendar.FeedVersion;
+import com.whatthefork.resourcereservation.resource.calendar.ICalendarWriter;
+import com.whatthefork.resourcereservation.resource.entity.CalendarFeedSubscription;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.CalendarFeedSubscriptionRepository;
+import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별/자원별 iCalendar 피드
+ * 컨트롤러는 먼저 버전(ETag)만 확인하고, 바뀐 경우에만 피드 본문을 만든다.
+ * 캘린더 앱은 Authorization 헤더를 보낼 수 없으므로, 구독 주소에는 사용자별 비밀 토큰을 넣는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+    // 지난 예약은 최근 30일치만, 자원 피드는 앞으로 1년치까지
+    private static final int PAST_DAYS = 30;
+    private static final int RESOURCE_FUTURE_DAYS = 365;
+
+    // 256비트 토큰 (URL 에 그대로 넣을 수 있게 base64url, 패딩 없음)
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom TOKEN_RANDOM = new SecureRandom();
+
+    private final CalendarFeedVersions feedVersions;
+    private final CalendarFeedSubscriptionRepository subscriptionRepository;
+    private final ReservationRepository reservationRepository;
+    private final ConferenceRoomRepository conferenceRoomRepository;
+    private final CorporateCarRepository corporateCarRepository;
+
+    public FeedVersion getUserFeedVersion(Long userId) {
+        return feedVersions.get(CalendarFeedVersions.userKey(userId));
+    }
+
+    public FeedVersion getResourceFeedVersion(ResourceCategory category, Long resourceId) {
+
+        if (!ResourceAvailabilityIndex.tracks(category)) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+        return feedVersions.get(CalendarFeedVersions.resourceKey(category, resourceId));
+    }
+
+    // 새 구독 토큰 발급 (이미 있으면 교체), 원문은 여기서만 돌려줌
+    @Transactional
+    public String issueSubscriptionToken(Long userId) {
+
+        byte[] bytes = new byte[TOKEN_BYTES];
+        TOKEN_RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        String tokenHash = hash(token);
+        LocalDateTime now = LocalDateTime.now();
+        subscriptionRepository.save(subscriptionRepository.findById(userId)
+                .map(subscription -> subscription.rotate(tokenHash, now))
+                .orElseGet(() -> new CalendarFeedSubscription(userId, tokenHash, now)));
+
+        return token;
+    }
+
+    // 구독 주소의 토큰으로 사용자 확인 (없는 토큰은 피드가 없는 것과 같게 404)
+    @Transactional(readOnly = true)
+    public Long getSubscriberId(String token) {
+
+        return subscriptionRepository.findByTokenHash(hash(token))
+                .map(CalendarFeedSubscription::getUserId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+    }
+
+    // 자원 이름이 바뀐 트랜잭션 안에서 호출 (피드 SUMMARY 에 자원 이름이 들어가므로)
+    public void touchRenamedResource(ResourceCategory category, Long resourceId) {
+
+        feedVersions.touchRenamed(category, resourceId, reservationRepository
+                .findUserIdsByResourceAndEndDateAfter(category, resourceId, LocalDateTime.now().minusDays(PAST_DAYS)));
+    }
+
+    @Transactional(readOnly = true)
+    public String getUserFeed(Long userId) {
+
+        List<Reservation> reservations = reservationRepository
+                .findAllByUserIdAndEndDateAfterOrderByStartDateAsc(userId, LocalDateTime.now().minusDays(PAST_DAYS))
+                .stream()
+                .filter(reservation -> ResourceAvailabilityIndex.tracks(reservation.getCategory()))
+                .toList();
+
+        // 자원 이름은 카테고리별 목록 조회 1번씩
+        Map<String, String> resourceNames = new HashMap<>();
+        conferenceRoomRepository.findAll().forEach(room -> resourceNames.put(
+                CalendarFeedVersions.resourceKey(ResourceCategory.CONFERENCE_ROOM, room.getId()), room.getName()));
+        corporateCarRepository.findAll().forEach(car -> resourceNames.put(
+                CalendarFeedVersions.resourceKey(ResourceCategory.CORPORATE_VEHICLE, car.getId()), car.getName()));
+
+        return ICalendarWriter.write("내 예약", reservations, resourceNames);
+    }
+
+    @Transactional(readOnly = true)
+    public String getResourceFeed(ResourceCategory category, Long resourceId) {
+
+        String name = switch (category) {
+            case CONFERENCE_ROOM -> conferenceRoomRepository.findById(resourceId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND)).getName();
+            case CORPORATE_VEHICLE -> corporateCarRepository.findById(resourceId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND)).getName();
+            case SUPPLIES -> throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        };
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> reservations = reservationRepository.findOverlappingInSpan(category, resourceId,
+                now.minusDays(PAST_DAYS), now.plusDays(RESOURCE_FUTURE_DAYS));
+
+        return ICalendarWriter.write(name, reservations,
+                Map.of(CalendarFeedVersions.resourceKey(category, resourceId), name));
+    }
+
+    private static String hash(String token) {
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,16 +2,20 @@ package com.whatthefork.resourcereservation.resource.service;
 
 import com.whatthefork.resourcereservation.exception.BusinessException;
 import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.availability.BestFitRoomAllocator;
 import com.whatthefork.resourcereservation.resource.dto.request.create.CreateConferenceRoomRequest;
 import com.whatthefork.resourcereservation.resource.dto.request.update.UpdateConferenceRoomRequest;
 import com.whatthefork.resourcereservation.resource.dto.response.ConferenceRoomResponse;
 import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
 import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +23,8 @@ import java.util.stream.Collectors;
 public class ConferenceRoomService {
 
     private final ConferenceRoomRepository conferenceRoomRepository;
+    private final CalendarFeedService calendarFeedService;
+    private final BestFitRoomAllocator bestFitRoomAllocator;
 
     public List<ConferenceRoomResponse> getAllConferenceRooms() {
 
@@ -46,14 +52,22 @@ public class ConferenceRoomService {
         conferenceRoomRepository.deleteById(id);
     }
 
+    // 이름이 바뀌면 캘린더 피드 버전도 같은 트랜잭션에서 올림
+    @Transactional
     public ConferenceRoomResponse updateConferenceRoomById(Long id, UpdateConferenceRoomRequest roomRequest) {
 
         ConferenceRoom target = conferenceRoomRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
 
+        boolean renamed = !Objects.equals(target.getName(), roomRequest.name());
         target.updateAll(roomRequest);
+        ConferenceRoom saved = conferenceRoomRepository.save(target);
 
-        return new ConferenceRoomResponse(conferenceRoomRepository.save(target));
+        if (renamed) {
+            calendarFeedService.touchRenamedResource(ResourceCategory.CONFERENCE_ROOM, id);
+        }
+
+        return new ConferenceRoomResponse(saved);
     }
 
     public ConferenceRoomResponse getResourceById(Long id) {
@@ -70,8 +84,11 @@ public class ConferenceRoomService {
         );
     }
 
+    // 정확히 같은 인원이 아니라 maxCapacity 명 이상 들어가는 가장 작은 회의실
     public ConferenceRoomResponse getConferenceRoomByMaxCapacity(int maxCapacity) {
 
-        return new ConferenceRoomResponse(conferenceRoomRepository.findByMaxCapacity(maxCapacity));
+        return new ConferenceRoomResponse(bestFitRoomAllocator.smallestFitting(maxCapacity)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND))
+        );
     }
 }
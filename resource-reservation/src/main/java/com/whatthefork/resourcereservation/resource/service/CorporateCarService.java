@@ -6,12 +6,15 @@ import com.whatthefork.resourcereservation.resource.dto.request.create.CreateCor
 import com.whatthefork.resourcereservation.resource.dto.request.update.UpdateCorporateCarRequest;
 import com.whatthefork.resourcereservation.resource.dto.response.CorporateCarResponse;
 import com.whatthefork.resourcereservation.resource.entity.CorporateCar;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
 import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +22,7 @@ import java.util.stream.Collectors;
 public class CorporateCarService {
 
     private final CorporateCarRepository corporateCarRepository;
+    private final CalendarFeedService calendarFeedService;
 
     public List<CorporateCarResponse> getAllCorporateCars() {
 
@@ -49,14 +53,22 @@ public class CorporateCarService {
         corporateCarRepository.deleteById(id);
     }
 
+    // 이름이 바뀌면 캘린더 피드 버전도 같은 트랜잭션에서 올림
+    @Transactional
     public CorporateCarResponse updateCorporateCarById(Long id, UpdateCorporateCarRequest carRequest) {
 
         CorporateCar target = corporateCarRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
 
+        boolean renamed = !Objects.equals(target.getName(), carRequest.name());
         target.updateAll(carRequest);
+        CorporateCar saved = corporateCarRepository.save(target);
 
-        return new CorporateCarResponse(corporateCarRepository.save(target));
+        if (renamed) {
+            calendarFeedService.touchRenamedResource(ResourceCategory.CORPORATE_VEHICLE, id);
+        }
+
+        return new CorporateCarResponse(saved);
     }
 
     public CorporateCarResponse getCorporateCarById(Long id) {
@@ -0,0 +1,65 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.common.TransactionCallbacks;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationWaitlistRepository;
+import com.whatthefork.resourcereservation.resource.repository.SupplyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationExpiryService {
+
+    private final ReservationRepository reservationRepository;
+    private final SupplyRepository supplyRepository;
+    private final ReservationWaitlistRepository waitlistRepository;
+    private final ResourceAvailabilityIndex availabilityIndex;
+
+    // 종료된 예약 size 건 만료 처리 + 비품 재고 반납 (청크 하나 = 트랜잭션 하나)
+    @Transactional
+    public ChunkResult expireChunk(LocalDateTime now, int size) {
+
+        List<Reservation> targets = reservationRepository.findExpiryTargets(now, PageRequest.of(0, size));
+        if (targets.isEmpty()) {
+            return new ChunkResult(0, 0, 0);
+        }
+
+        List<Long> ids = targets.stream().map(Reservation::getId).toList();
+        int expired = reservationRepository.expireByIds(ids);
+
+        // 비품은 자원별로 대여 수량을 합쳐서 한 번에 반납
+        Map<Long, Integer> returnedBySupply = targets.stream()
+                .filter(reservation -> reservation.getCategory() == ResourceCategory.SUPPLIES)
+                .collect(Collectors.groupingBy(Reservation::getResourceId, TreeMap::new,
+                        Collectors.summingInt(Reservation::getCapacity)));
+        returnedBySupply.forEach(supplyRepository::increaseCapacity);
+
+        // 끝난 예약은 더 이상 겹침 판단에 필요 없으므로 인덱스에서 뺌
+        TransactionCallbacks.afterCommit(() -> ids.forEach(availabilityIndex::remove));
+
+        int released = returnedBySupply.values().stream().mapToInt(Integer::intValue).sum();
+        return new ChunkResult(targets.size(), expired, released);
+    }
+
+    // 시작 시각이 지나도록 전환되지 못한 대기 만료 처리 (더는 자리가 나도 쓸 수 없음)
+    @Transactional
+    public int expireStartedWaitings(LocalDateTime now) {
+
+        return waitlistRepository.expireStartedBy(now);
+    }
+
+    public record ChunkResult(int scanned, int expired, int releasedSupplies) {
+    }
+}
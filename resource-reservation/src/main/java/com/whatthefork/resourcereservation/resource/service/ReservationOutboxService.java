@@ -0,0 +1,66 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.resource.entity.ReservationOutboxEvent;
+import com.whatthefork.resourcereservation.resource.event.ReservationChangeEvent;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventPublisher;
+import com.whatthefork.resourcereservation.resource.repository.ReservationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationOutboxService {
+
+    private final ReservationOutboxRepository outboxRepository;
+    private final ReservationEventPublisher eventPublisher;
+
+    /**
+     * 발행 안 된 이벤트 size 건을 id 순으로 발행하고 발행 완료 표시 (청크 하나 = 트랜잭션 하나)
+     * 중간에 발행이 실패하면 거기서 멈추고 앞선 이벤트만 완료 표시한다. (순서 유지, 최소 한 번 발행)
+     * 순서는 같은 예약 안에서만 보장: 같은 예약을 바꾸는 트랜잭션은 예약 행 잠금으로 줄을 서므로 id 순서가 커밋 순서와 같지만,
+     * 서로 다른 예약은 id 를 먼저 받은 트랜잭션이 늦게 커밋될 수 있어서 id 가 더 작은 이벤트가 나중에 발행될 수 있다.
+     */
+    @Transactional
+    public RelayResult relayChunk(int size) {
+
+        List<ReservationOutboxEvent> events = outboxRepository.findUnpublished(PageRequest.of(0, size));
+        if (events.isEmpty()) {
+            return new RelayResult(0, 0, false);
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+        boolean failed = false;
+        for (ReservationOutboxEvent event : events) {
+            try {
+                eventPublisher.publish(ReservationChangeEvent.from(event));
+            } catch (RuntimeException e) {
+                log.warn("예약 이벤트 발행 실패 eventId={} : {}", event.getId(), e.getMessage());
+                failed = true;
+                break;
+            }
+            publishedIds.add(event.getId());
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxRepository.markPublished(publishedIds, LocalDateTime.now());
+        }
+
+        return new RelayResult(events.size(), publishedIds.size(), failed);
+    }
+
+    @Transactional
+    public int purgePublishedBefore(LocalDateTime before) {
+        return outboxRepository.deletePublishedBefore(before);
+    }
+
+    public record RelayResult(int scanned, int published, boolean failed) {
+    }
+}
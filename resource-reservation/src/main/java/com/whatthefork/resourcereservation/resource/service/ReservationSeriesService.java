@@ -0,0 +1,265 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.common.TransactionCallbacks;
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.analytics.ReservationUsageRecorder;
+import com.whatthefork.resourcereservation.resource.availability.IntervalSweep;
+import com.whatthefork.resourcereservation.resource.availability.RecurrenceRule;
+import com.whatthefork.resourcereservation.resource.availability.ReservationSlot;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.ResourceLocker;
+import com.whatthefork.resourcereservation.resource.availability.TimeRange;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationSeriesRequest;
+import com.whatthefork.resourcereservation.resource.dto.request.update.UpdateReservationSeriesRequest;
+import com.whatthefork.resourcereservation.resource.dto.response.CanceledReservationResponse;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationSeriesResponse;
+import com.whatthefork.resourcereservation.resource.entity.CanceledReservation;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.entity.ReservationSeries;
+import com.whatthefork.resourcereservation.resource.enums.ReservationEventType;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventOutbox;
+import com.whatthefork.resourcereservation.resource.repository.CanceledReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationBulkRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationSeriesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 예약 (회의실/법인차량)
+ * 회차를 서버에서 펼친 뒤 정렬된 예약 구간과 한 번에 맞춰보고, 한 트랜잭션에서 일괄 저장/수정/취소한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationSeriesService {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationBulkRepository reservationBulkRepository;
+    private final ReservationSeriesRepository reservationSeriesRepository;
+    private final CanceledReservationRepository cancelRepository;
+    private final ResourceAvailabilityIndex availabilityIndex;
+    private final ResourceLocker resourceLocker;
+    private final ReservationWaitlistService reservationWaitlistService;
+    private final ReservationUsageRecorder usageRecorder;
+    private final CalendarFeedVersions feedVersions;
+    private final ReservationEventOutbox eventOutbox;
+
+    public ReservationSeriesResponse createSeries(CreateReservationSeriesRequest request, Long userId) {
+
+        // 비품은 시간대가 아니라 수량으로 관리하므로 반복 예약 대상이 아님
+        if (!ResourceAvailabilityIndex.tracks(request.category())) {
+            throw new BusinessException(ErrorCode.INVALID_RECURRENCE);
+        }
+
+        List<TimeRange> occurrences = RecurrenceRule
+                .of(request.recurrence(), request.intervalDays(), request.untilDate(), request.count())
+                .expand(request.startDate(), request.endDate());
+
+        // 인덱스로 먼저 빠르게 거름 (겹친다고 나오면 DB로 확인한 뒤 거절)
+        if (!request.skipConflicts()) {
+            rejectIfConflicting(request.category(), request.resourceId(), occurrences, Set.of());
+        }
+
+        return resourceLocker.inTransaction(request.category(), request.resourceId(),
+                () -> saveSeries(request, userId, occurrences));
+    }
+
+    private ReservationSeriesResponse saveSeries(CreateReservationSeriesRequest request, Long userId,
+                                                 List<TimeRange> occurrences) {
+
+        // 잠금을 잡은 뒤 DB 기준으로 다시 확인 (다른 인스턴스에서 커밋된 예약 포함)
+        resourceLocker.lockRow(request.category(), request.resourceId());
+        List<TimeRange> conflicts = findConflictsInDb(request.category(), request.resourceId(), occurrences, Set.of());
+        if (!conflicts.isEmpty() && !request.skipConflicts()) {
+            throw new BusinessException(ErrorCode.REDUNDANT_RESERVATION);
+        }
+
+        Set<TimeRange> skipped = new HashSet<>(conflicts);
+        List<TimeRange> bookable = occurrences.stream()
+                .filter(occurrence -> !skipped.contains(occurrence))
+                .toList();
+        if (bookable.isEmpty()) {
+            throw new BusinessException(ErrorCode.REDUNDANT_RESERVATION);
+        }
+
+        ReservationSeries series = reservationSeriesRepository.save(ReservationSeries.builder()
+                .userId(userId)
+                .resourceId(request.resourceId())
+                .category(request.category())
+                .recurrence(request.recurrence())
+                .intervalDays(request.intervalDays())
+                .untilDate(request.untilDate())
+                .occurrenceCount(request.count())
+                .firstStartDate(request.startDate())
+                .reason(request.reason())
+                .build());
+
+        reservationBulkRepository.batchInsert(bookable.stream()
+                .map(occurrence -> Reservation.builder()
+                        .userId(userId)
+                        .resourceId(request.resourceId())
+                        .bookedDate(request.bookedDate())
+                        .startDate(occurrence.startDate())
+                        .endDate(occurrence.endDate())
+                        .capacity(request.capacity())
+                        .reason(request.reason())
+                        .category(request.category())
+                        .seriesId(series.getId())
+                        .build())
+                .toList());
+
+        // 배치 저장은 id 를 돌려주지 않으므로 인덱스 반영용으로 한 번 읽어옴
+        List<Reservation> saved = reservationRepository.findAllBySeriesId(series.getId());
+        TransactionCallbacks.afterCommit(() -> saved.forEach(availabilityIndex::add));
+        usageRecorder.record(saved);
+        feedVersions.touch(saved);
+        eventOutbox.append(ReservationEventType.CREATED, saved);
+
+        return new ReservationSeriesResponse(series.getId(), saved.size(), conflicts);
+    }
+
+    // 아직 시작하지 않은 회차 전체의 시간대/인원/사유 변경
+    public ReservationSeriesResponse editSeries(Long seriesId, UpdateReservationSeriesRequest request) {
+
+        ReservationSeries series = reservationSeriesRepository.findById(seriesId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+
+        if (!request.startTime().isBefore(request.endTime())) {
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION_PERIOD);
+        }
+
+        return resourceLocker.inTransaction(series.getCategory(), series.getResourceId(),
+                () -> moveUpcoming(seriesId, series, request));
+    }
+
+    private ReservationSeriesResponse moveUpcoming(Long seriesId, ReservationSeries series,
+                                                   UpdateReservationSeriesRequest request) {
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> upcoming = reservationRepository
+                .findAllBySeriesIdAndStartDateAfterOrderByStartDateAsc(seriesId, now);
+        if (upcoming.isEmpty()) {
+            return new ReservationSeriesResponse(seriesId, 0, List.of());
+        }
+
+        List<TimeRange> moved = upcoming.stream()
+                .map(reservation -> new TimeRange(
+                        reservation.getStartDate().toLocalDate().atTime(request.startTime()),
+                        reservation.getStartDate().toLocalDate().atTime(request.endTime())))
+                .toList();
+
+        // 단건 예약 생성/수정과 같이 현재보다 나중 시각으로만 옮길 수 있음 (오늘 회차를 지난 시각으로 당기는 경우)
+        if (moved.stream().anyMatch(occurrence -> !occurrence.startDate().isAfter(now))) {
+            throw new BusinessException(ErrorCode.PAST_RESERVATION_TIME);
+        }
+
+        Set<Long> ownIds = upcoming.stream().map(Reservation::getId).collect(Collectors.toSet());
+        LocalDateTime freedFrom = upcoming.get(0).getStartDate();
+        LocalDateTime freedUntil = upcoming.get(upcoming.size() - 1).getEndDate();
+
+        rejectIfConflicting(series.getCategory(), series.getResourceId(), moved, ownIds);
+        resourceLocker.lockRow(series.getCategory(), series.getResourceId());
+        if (!findConflictsInDb(series.getCategory(), series.getResourceId(), moved, ownIds).isEmpty()) {
+            throw new BusinessException(ErrorCode.REDUNDANT_RESERVATION);
+        }
+
+        // 옮기기 전 구간을 사용 시간 집계에서 먼저 뺌
+        usageRecorder.erase(upcoming);
+
+        // 변경 감지로 일괄 UPDATE (hibernate.jdbc.batch_size)
+        for (int i = 0; i < upcoming.size(); i++) {
+            upcoming.get(i)
+                    .updateStartDate(moved.get(i).startDate())
+                    .updateEndDate(moved.get(i).endDate())
+                    .updateCapacity(request.capacity())
+                    .updateReason(request.reason());
+        }
+        reservationSeriesRepository.save(series.updateReason(request.reason()));
+        usageRecorder.record(upcoming);
+        feedVersions.touch(upcoming);
+        eventOutbox.append(ReservationEventType.UPDATED, upcoming);
+
+        TransactionCallbacks.afterCommit(() -> upcoming.forEach(availabilityIndex::add));
+
+        // 옮기기 전 회차 구간을 기다리던 대기자를 같은 트랜잭션에서 예약으로 전환 (대기마다 DB로 다시 확인)
+        reservationWaitlistService.promoteNext(series.getCategory(), series.getResourceId(), freedFrom, freedUntil);
+
+        return new ReservationSeriesResponse(seriesId, upcoming.size(), List.of());
+    }
+
+    // 아직 시작하지 않은 회차 전체 취소
+    public CanceledReservationResponse cancelSeries(Long seriesId, Long userId) {
+
+        ReservationSeries series = reservationSeriesRepository.findById(seriesId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+
+        return resourceLocker.inTransaction(series.getCategory(), series.getResourceId(),
+                () -> cancelUpcoming(seriesId, series, userId));
+    }
+
+    private CanceledReservationResponse cancelUpcoming(Long seriesId, ReservationSeries series, Long userId) {
+
+        // 수정과 같은 순서로 자원 행부터 잠금 (비게 되는 회차의 대기자 전환도 이 트랜잭션에서 함)
+        resourceLocker.lockRow(series.getCategory(), series.getResourceId());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> upcoming = reservationRepository
+                .findAllBySeriesIdAndStartDateAfterOrderByStartDateAsc(seriesId, now);
+        List<Long> ids = upcoming.stream()
+                .map(Reservation::getId)
+                .toList();
+
+        if (!ids.isEmpty()) {
+            reservationRepository.deleteAllByIds(ids);
+            usageRecorder.erase(upcoming);
+            feedVersions.touch(upcoming);
+            eventOutbox.append(ReservationEventType.CANCELED, upcoming);
+
+            // 비게 된 회차 구간을 기다리던 대기자를 같은 트랜잭션에서 예약으로 전환 (대기마다 DB로 다시 확인)
+            reservationWaitlistService.promoteNext(series.getCategory(), series.getResourceId(),
+                    upcoming.get(0).getStartDate(), upcoming.get(upcoming.size() - 1).getEndDate());
+        }
+
+        CanceledReservation canceledReservation = cancelRepository.save(CanceledReservation.builder()
+                .reason("[반복 예약 " + ids.size() + "건 취소] " + series.getReason())
+                .canceledDate(now)
+                .userId(userId)
+                .build());
+
+        TransactionCallbacks.afterCommit(() -> ids.forEach(availabilityIndex::remove));
+
+        return new CanceledReservationResponse(canceledReservation);
+    }
+
+    // 인덱스는 힌트 (다른 인스턴스의 취소/수정이 아직 안 보일 수 있음) -> 겹친다고 나온 경우만 DB로 확인
+    private void rejectIfConflicting(ResourceCategory category, Long resourceId,
+                                     List<TimeRange> ranges, Set<Long> excludeReservationIds) {
+
+        if (!availabilityIndex.findConflicts(category, resourceId, ranges, excludeReservationIds).isEmpty()
+                && !findConflictsInDb(category, resourceId, ranges, excludeReservationIds).isEmpty()) {
+            throw new BusinessException(ErrorCode.REDUNDANT_RESERVATION);
+        }
+    }
+
+    // 첫 회차 시작 ~ 마지막 회차 종료 사이 예약을 한 번만 읽어 회차와 맞춰봄
+    private List<TimeRange> findConflictsInDb(ResourceCategory category, Long resourceId,
+                                              List<TimeRange> ranges, Set<Long> excludeReservationIds) {
+
+        List<ReservationSlot> slots = reservationRepository.findOverlappingInSpan(category, resourceId,
+                        ranges.get(0).startDate(), ranges.get(ranges.size() - 1).endDate())
+                .stream()
+                .map(ReservationSlot::from)
+                .toList();
+
+        return IntervalSweep.conflicts(ranges, slots, excludeReservationIds);
+    }
+}
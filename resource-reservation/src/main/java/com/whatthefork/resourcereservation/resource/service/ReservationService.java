@@ -1,8 +1,14 @@
 package com.whatthefork.resourcereservation.resource.service;
 
+import com.whatthefork.resourcereservation.common.TransactionCallbacks;
 import com.whatthefork.resourcereservation.exception.BusinessException;
 import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.analytics.ReservationUsageRecorder;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.ResourceLocker;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
 import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationRequest;
+import com.whatthefork.resourcereservation.resource.dto.request.create.SupplyCheckoutRequest;
 import com.whatthefork.resourcereservation.resource.dto.request.update.UpdateReservationRequest;
 import com.whatthefork.resourcereservation.resource.dto.response.CanceledReservationResponse;
 import com.whatthefork.resourcereservation.resource.dto.response.ConferenceRoomResponse;
@@ -10,6 +16,7 @@ import com.whatthefork.resourcereservation.resource.dto.response.CorporateCarRes
 import com.whatthefork.resourcereservation.resource.dto.response.ReservationAndConferenceRoom;
 import com.whatthefork.resourcereservation.resource.dto.response.ReservationAndCorporateCar;
 import com.whatthefork.resourcereservation.resource.dto.response.ReservationAndSupply;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationPageResponse;
 import com.whatthefork.resourcereservation.resource.dto.response.ReservationResponse;
 import com.whatthefork.resourcereservation.resource.dto.response.SuppliesResponse;
 import com.whatthefork.resourcereservation.resource.entity.CanceledReservation;
@@ -17,19 +24,26 @@ import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
 import com.whatthefork.resourcereservation.resource.entity.CorporateCar;
 import com.whatthefork.resourcereservation.resource.entity.Reservation;
 import com.whatthefork.resourcereservation.resource.entity.Supplies;
+import com.whatthefork.resourcereservation.resource.enums.ReservationEventType;
 import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventOutbox;
 import com.whatthefork.resourcereservation.resource.repository.CanceledReservationRepository;
 import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
 import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
 import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
 import com.whatthefork.resourcereservation.resource.repository.SupplyRepository;
+import com.whatthefork.resourcereservation.resource.security.PreloadedReservations;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,94 +56,160 @@ public class ReservationService {
     private final CorporateCarRepository corporateCarRepository;
     private final SupplyRepository supplyRepository;
     private final CanceledReservationRepository cancelRepository;
+    private final ResourceAvailabilityIndex availabilityIndex;
+    private final ResourceLocker resourceLocker;
+    private final ReservationWaitlistService reservationWaitlistService;
+    private final ReservationUsageRecorder usageRecorder;
+    private final CalendarFeedVersions feedVersions;
+    private final ReservationEventOutbox eventOutbox;
 
-    public List<ReservationResponse> getAllReservations() {
+    private static final int MAX_PAGE_SIZE = 100;
 
-        return reservationRepository.findAll().stream()
-                .map(reservation -> { return new ReservationResponse(reservation); })
-                .collect(Collectors.toList());
+    // 예약 목록 (조건 검색 + id 기준 커서 페이지, 한 번에 최대 MAX_PAGE_SIZE 건)
+    public ReservationPageResponse getReservations(ResourceCategory category, Long resourceId, LocalDateTime from,
+                                                   LocalDateTime to, Long lastId, int size) {
+
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION_PERIOD);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 한 건 더 읽어서 다음 페이지가 있는지 판단
+        List<Reservation> reservations = reservationRepository
+                .findPage(category, resourceId, from, to, lastId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = reservations.size() > pageSize;
+        List<ReservationResponse> page = reservations.stream()
+                .limit(pageSize)
+                .map(ReservationResponse::new)
+                .toList();
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+
+        return new ReservationPageResponse(page, nextCursor, hasNext);
     }
 
-    @Transactional
     public ReservationAndConferenceRoom createRoomReservation(CreateReservationRequest reservationRequest, Long userId) {
 
-        ReservationResponse response = getReservationResponse(reservationRequest, userId);
+        // 같은 회의실에 시간이 겹치는 예약이 있으면 불가 (인덱스로 먼저 빠르게 거르고, 겹치면 DB로 확인 후 거절)
+        validateAvailability(reservationRequest.category(), reservationRequest.resourceId(),
+                reservationRequest.startDate(), reservationRequest.endDate(), null);
 
-        ConferenceRoom conferenceRoom = conferenceRoomRepository.findById(reservationRequest.resourceId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        return resourceLocker.inTransaction(reservationRequest.category(), reservationRequest.resourceId(), () -> {
+            ConferenceRoom conferenceRoom = conferenceRoomRepository.findWithLockById(reservationRequest.resourceId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
 
-        if (conferenceRoom.isBooked()) {
-            throw new BusinessException(ErrorCode.REDUNDANT_RESERVATION);
-        }
+            validateNoOverlapInDb(reservationRequest.category(), reservationRequest.resourceId(),
+                    reservationRequest.startDate(), reservationRequest.endDate(), null);
 
-        conferenceRoom.updateIsBooked(true);
-        conferenceRoomRepository.save(conferenceRoom);
+            ReservationResponse response = getReservationResponse(reservationRequest, userId);
 
-        ConferenceRoomResponse conferenceRoomResponse = new ConferenceRoomResponse(conferenceRoomRepository
-                .findById(reservationRequest.resourceId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND)));
+            ConferenceRoomResponse conferenceRoomResponse = new ConferenceRoomResponse(conferenceRoom);
 
-        ReservationAndConferenceRoom reservationAndConferenceRoom =
-                new ReservationAndConferenceRoom(response, conferenceRoomResponse);
-
-        return reservationAndConferenceRoom;
+            return new ReservationAndConferenceRoom(response, conferenceRoomResponse);
+        });
     }
 
-    @Transactional
     public ReservationAndCorporateCar createVehicleReservation(CreateReservationRequest reservationRequest, Long userId) {
 
-        ReservationResponse response = getReservationResponse(reservationRequest, userId);
+        // 같은 차량에 시간이 겹치는 예약이 있으면 불가 (인덱스로 먼저 빠르게 거르고, 겹치면 DB로 확인 후 거절)
+        validateAvailability(reservationRequest.category(), reservationRequest.resourceId(),
+                reservationRequest.startDate(), reservationRequest.endDate(), null);
 
-        CorporateCar corporateCar = corporateCarRepository.findById(reservationRequest.resourceId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
-
-        if (corporateCar.isBooked()) {
-            throw new BusinessException(ErrorCode.REDUNDANT_RESERVATION);
-        }
+        return resourceLocker.inTransaction(reservationRequest.category(), reservationRequest.resourceId(), () -> {
+            CorporateCar corporateCar = corporateCarRepository.findWithLockById(reservationRequest.resourceId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
 
-        corporateCar.updateIsBooked(true);
-        corporateCarRepository.save(corporateCar);
+            validateNoOverlapInDb(reservationRequest.category(), reservationRequest.resourceId(),
+                    reservationRequest.startDate(), reservationRequest.endDate(), null);
 
-        CorporateCarResponse corporateCarResponse = new CorporateCarResponse(corporateCarRepository
-                .findById(reservationRequest.resourceId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND)));
+            ReservationResponse response = getReservationResponse(reservationRequest, userId);
 
-        ReservationAndCorporateCar reservationAndCorporateCar =
-                new ReservationAndCorporateCar(response, corporateCarResponse);
+            CorporateCarResponse corporateCarResponse = new CorporateCarResponse(corporateCar);
 
-        return reservationAndCorporateCar;
+            return new ReservationAndCorporateCar(response, corporateCarResponse);
+        });
     }
 
     @Transactional
     public ReservationAndSupply createSupplyReservation(CreateReservationRequest reservationRequest, Long userId) {
 
+        validateAvailability(reservationRequest.category(), reservationRequest.resourceId(),
+                reservationRequest.startDate(), reservationRequest.endDate(), null);
+
+        // 예약의 capacity 가 비품 대여 수량 (예약 행이 곧 대여 장부)
+        Supplies supply = takeSupplyStock(reservationRequest.resourceId(), reservationRequest.capacity());
+
         ReservationResponse response = getReservationResponse(reservationRequest, userId);
 
-        Supplies supply = supplyRepository.findById(reservationRequest.resourceId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        SuppliesResponse suppliesResponse = new SuppliesResponse(supply);
 
-        if (supply.isBooked()) {
-            throw new BusinessException(ErrorCode.NOT_ENOUGH_CAPACITY);
-        } else {
-            supply.updateCapacity(supply.getCapacity() - 1);
+        ReservationAndSupply reservationAndSupply =
+                new ReservationAndSupply(response, suppliesResponse);
 
-            SuppliesResponse suppliesResponse = new SuppliesResponse(supplyRepository
-                    .findById(reservationRequest.resourceId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND)));
+        return reservationAndSupply;
+    }
 
-            ReservationAndSupply reservationAndSupply =
-                    new ReservationAndSupply(response, suppliesResponse);
+    // 여러 비품 일괄 대여 (하나라도 재고가 모자라면 전체 롤백)
+    @Transactional
+    public List<ReservationAndSupply> checkoutSupplies(SupplyCheckoutRequest checkoutRequest, Long userId) {
 
-            if (supply.getCapacity() == 0) supply.updateIsBooked(true);
+        if (checkoutRequest.items() == null || checkoutRequest.items().isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+        }
+        validatePeriod(checkoutRequest.startDate(), checkoutRequest.endDate());
 
-            return reservationAndSupply;
+        // 같은 비품은 수량을 합치고, 비품 id 순서로 차감해 동시에 들어온 일괄 대여끼리 교착되지 않게 함
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (SupplyCheckoutRequest.Item item : checkoutRequest.items()) {
+            if (item.supplyId() == null || item.quantity() < 1) {
+                throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+            }
+            quantities.merge(item.supplyId(), item.quantity(), Integer::sum);
         }
+
+        Map<Long, Supplies> supplies = new LinkedHashMap<>();
+        quantities.forEach((supplyId, quantity) -> supplies.put(supplyId, takeSupplyStock(supplyId, quantity)));
+
+        return supplies.entrySet().stream()
+                .map(entry -> new ReservationAndSupply(
+                        getReservationResponse(new CreateReservationRequest(
+                                entry.getKey(),
+                                checkoutRequest.bookedDate(),
+                                checkoutRequest.startDate(),
+                                checkoutRequest.endDate(),
+                                quantities.get(entry.getKey()),
+                                checkoutRequest.reason(),
+                                ResourceCategory.SUPPLIES), userId),
+                        new SuppliesResponse(entry.getValue())))
+                .toList();
     }
 
-    @Transactional
     public CanceledReservationResponse cancelReservation(Long id, Long userId) {
 
-        // 취소할 예약 가져오기
+        // 취소할 예약 가져오기 (권한 확인에서 이미 읽었으면 그대로 사용)
+        Reservation reservation = loadReservation(id);
+
+        // 대기자 전환이 같은 자원의 새 예약과 한 줄로 서도록 자원 락 안에서 취소
+        return resourceLocker.inTransaction(reservation.getCategory(), reservation.getResourceId(),
+                () -> cancel(id, userId));
+    }
+
+    // 예약 수정
+    public ReservationResponse editReservation(UpdateReservationRequest request, Long id) {
+
+        // 옮겨 갈 자원 락 안에서 수정
+        return resourceLocker.inTransaction(request.category(), request.resourceId(), () -> edit(request, id));
+    }
+
+    private CanceledReservationResponse cancel(Long id, Long userId) {
+
+        // 같은 예약을 동시에 취소해도 한 번만 처리되도록 예약 행부터 잠금 (0건이면 이미 취소된 예약)
+        if (reservationRepository.lockById(id) == 0) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+
+        // 권한 확인에서 읽은 엔티티는 잠그기 전 상태일 수 있으므로 잠근 뒤 다시 읽음
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
 
@@ -140,61 +220,84 @@ public class ReservationService {
                         .userId(userId)
                         .build()
                 );
-
-        // 잡혀 있던 자원 상태 예약 가능으로 바꾸기
-        switch (reservation.getCategory()) {
-            case CONFERENCE_ROOM -> {
-                conferenceRoomRepository.findById(reservation.getResourceId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND))
-                        .updateIsBooked(false);
-            }
-            case CORPORATE_VEHICLE -> {
-                corporateCarRepository.findById(reservation.getResourceId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND))
-                        .updateIsBooked(false);
-            }
-            case SUPPLIES -> {
-                supplyRepository.findById(reservation.getResourceId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND))
-                        .updateIsBooked(false);
+        eventOutbox.append(ReservationEventType.CANCELED, reservation);
+
+        // 비품은 대여 수량만큼 재고 반납 (회의실/법인차량은 예약 시간 인덱스에서 구간만 빼면 됨)
+        if (reservation.getCategory() == ResourceCategory.SUPPLIES) {
+            // 만료 처리로 이미 반납된 예약이면 조건부 삭제가 0건 -> 재고는 그대로 두고 기록만 삭제
+            if (reservationRepository.deleteActiveById(id) == 0) {
+                reservationRepository.deleteById(id);
+            } else {
+                returnSupplyStock(reservation.getResourceId(), reservation.getCapacity());
             }
+            return new CanceledReservationResponse(canceledReservation);
         }
 
         // 있던 예약 삭제
         reservationRepository.deleteById(id);
+        usageRecorder.erase(reservation);
+        feedVersions.touch(reservation);
+        TransactionCallbacks.afterCommit(() -> availabilityIndex.remove(id));
+
+        // 비게 된 시간대를 기다리던 대기자를 같은 트랜잭션에서 예약으로 전환
+        if (ResourceAvailabilityIndex.tracks(reservation.getCategory())) {
+            reservationWaitlistService.promoteNext(reservation);
+        }
 
         return new CanceledReservationResponse(canceledReservation);
     }
 
-    // 예약 수정
-    @Transactional
-    public ReservationResponse editReservation(UpdateReservationRequest request, Long id) {
+    private ReservationResponse edit(UpdateReservationRequest request, Long id) {
+
+        // 만료 처리와 엇갈리지 않도록 예약 행부터 조건부 UPDATE 로 잠금 (0건이면 이미 만료된 예약)
+        // 만료된 예약은 이미 재고가 반납되었고 다시 반납되지도 않으므로 재고를 건드리지 않음
+        boolean expired = reservationRepository.lockActiveById(id) == 0;
+
+        // 권한 확인에서 읽은 엔티티는 잠그기 전 상태일 수 있으므로 잠근 뒤 다시 읽음
+        Reservation reservation = reservationRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        ResourceCategory beforeCategory = reservation.getCategory();
+        Long beforeResourceId = reservation.getResourceId();
+        int beforeQuantity = reservation.getCapacity();
+        LocalDateTime beforeStart = reservation.getStartDate();
+        LocalDateTime beforeEnd = reservation.getEndDate();
+
+        // 바뀐 시간대가 같은 자원의 다른 예약과 겹치면 불가 (자기 자신은 제외)
+        validateAvailability(request.category(), request.resourceId(), request.startDate(), request.endDate(), id);
+
+        // 옮기기 전/후 자원 행을 함께 잠금 (비게 되는 구간의 대기자 전환도 이 트랜잭션에서 함)
+        resourceLocker.lockRows(beforeCategory, beforeResourceId, request.category(), request.resourceId());
+        if (ResourceAvailabilityIndex.tracks(request.category())) {
+            validateNoOverlapInDb(request.category(), request.resourceId(), request.startDate(), request.endDate(), id);
+        }
+
+        Reservation updated = reservationRepository.save(reservation.updateAll(request));
+        TransactionCallbacks.afterCommit(() -> availabilityIndex.add(updated));
+
+        // 사용 시간 집계는 수정 전 구간을 빼고 바뀐 구간을 더함
+        usageRecorder.erase(beforeCategory, beforeResourceId, beforeStart, beforeEnd);
+        usageRecorder.record(updated);
+
+        // 다른 자원으로 옮겼으면 옮기기 전 자원의 캘린더 피드도 바뀜
+        feedVersions.touch(reservation.getUserId(), beforeCategory, beforeResourceId);
+        feedVersions.touch(updated);
+        eventOutbox.append(ReservationEventType.UPDATED, updated);
+
+        // 비품 수량/종류가 바뀌면 차이만큼 재고 조정 (모자라면 수정 전체 롤백)
+        if (!expired) {
+            adjustSupplyStock(beforeCategory, beforeResourceId, beforeQuantity, request);
+        }
+
+        // 옮기면서 비게 된 구간을 기다리던 대기자를 같은 트랜잭션에서 예약으로 전환
+        reservationWaitlistService.promoteNext(beforeCategory, beforeResourceId, beforeStart, beforeEnd);
 
-        return new ReservationResponse(reservationRepository.save(
-                reservationRepository.findById(id)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND))
-                        .updateAll(request)
-        ));
+        return new ReservationResponse(updated);
     }
 
-    // 만료 예약 확인
-    @Transactional
+    // 만료 예약 확인 (만료 처리는 ReservationExpiryJob 이 주기적으로 함)
     public List<ReservationResponse> getExpiredReservations(Long userId) {
-        log.info("get in");
-
-        List<Reservation> allReservations = reservationRepository.findAllByUserId(userId);
-
-        List<Reservation> expiredReservations = allReservations.stream()
-                .filter(reservation -> {
-                    if (reservation.getEndDate().isBefore(LocalDateTime.now())) {
-                        reservation.updateIsExpired(true);
-                        return true;
-                    }
-                    return false;
-                })
-                .toList();
 
-        return expiredReservations.stream()
+        return reservationRepository.findExpiredByUserId(userId).stream()
                 .map(ReservationResponse::new)
                 .toList();
     }
@@ -206,9 +309,10 @@ public class ReservationService {
                 .toList();
     }
 
+    // INSERT 한 번으로 저장하고, 응답은 저장된 엔티티로 바로 만듦 (다시 조회하지 않음)
     public ReservationResponse getReservationResponse(CreateReservationRequest reservationRequest, Long userId) {
 
-        return new ReservationResponse(reservationRepository.save(
+        Reservation reservation = reservationRepository.save(
                 Reservation.builder()
                         .userId(userId)
                         .resourceId(reservationRequest.resourceId())
@@ -219,7 +323,98 @@ public class ReservationService {
                         .reason(reservationRequest.reason())
                         .category(reservationRequest.category())
                         .build()
-        ));
+        );
+        TransactionCallbacks.afterCommit(() -> availabilityIndex.add(reservation));
+        usageRecorder.record(reservation);
+        feedVersions.touch(reservation);
+        eventOutbox.append(ReservationEventType.CREATED, reservation);
+
+        return new ReservationResponse(reservation);
+    }
+
+    private Reservation loadReservation(Long id) {
+
+        return PreloadedReservations.take(id)
+                .or(() -> reservationRepository.findById(id))
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+    }
+
+    // 재고가 quantity 이상 남아 있을 때만 DB에서 바로 차감 (읽고-빼고-저장 사이에 끼어드는 요청이 없음)
+    private Supplies takeSupplyStock(Long supplyId, int quantity) {
+
+        if (quantity < 1) {
+            throw new BusinessException(ErrorCode.INVALID_QUANTITY);
+        }
+
+        int decreased = supplyRepository.decreaseCapacity(supplyId, quantity);
+
+        // 차감한 행은 커밋까지 잠겨 있으므로 바로 읽은 재고가 곧 이 예약이 반영된 값 (없는 비품 확인도 겸함)
+        Supplies supply = supplyRepository.findById(supplyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+        if (decreased == 0) {
+            throw new BusinessException(ErrorCode.NOT_ENOUGH_CAPACITY);
+        }
+        return supply;
+    }
+
+    private void adjustSupplyStock(ResourceCategory beforeCategory, Long beforeSupplyId, int beforeQuantity,
+                                   UpdateReservationRequest request) {
+
+        boolean wasSupply = beforeCategory == ResourceCategory.SUPPLIES;
+        boolean isSupply = request.category() == ResourceCategory.SUPPLIES;
+
+        // 같은 비품이면 차이만 반영 (재고가 적을 때 줄이는 수정도 통과하도록)
+        if (wasSupply && isSupply && request.resourceId().equals(beforeSupplyId)) {
+            int delta = request.capacity() - beforeQuantity;
+            if (delta > 0) {
+                takeSupplyStock(beforeSupplyId, delta);
+            } else if (delta < 0) {
+                returnSupplyStock(beforeSupplyId, -delta);
+            }
+            return;
+        }
+
+        if (isSupply) {
+            takeSupplyStock(request.resourceId(), request.capacity());
+        }
+        if (wasSupply) {
+            returnSupplyStock(beforeSupplyId, beforeQuantity);
+        }
+    }
+
+    private void returnSupplyStock(Long supplyId, int quantity) {
+
+        if (supplyRepository.increaseCapacity(supplyId, quantity) == 0) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+    }
+
+    private void validateAvailability(ResourceCategory category, Long resourceId,
+                                      LocalDateTime start, LocalDateTime end, Long excludeReservationId) {
+
+        validatePeriod(start, end);
+
+        // 인덱스는 힌트 (다른 인스턴스의 취소/수정이 아직 안 보일 수 있음) -> 겹친다고 나오면 DB로 확인한 뒤 거절
+        if (!availabilityIndex.isAvailable(category, resourceId, start, end, excludeReservationId)
+                && reservationRepository.existsOverlapping(category, resourceId, start, end, excludeReservationId)) {
+            throw new BusinessException(ErrorCode.REDUNDANT_RESERVATION);
+        }
+    }
+
+    private void validatePeriod(LocalDateTime start, LocalDateTime end) {
+
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION_PERIOD);
+        }
+    }
+
+    // 다른 인스턴스에서 커밋된 예약은 이 인스턴스 인덱스에 없으므로, 자원 행 잠금을 잡은 뒤 DB로 한 번 더 확인
+    private void validateNoOverlapInDb(ResourceCategory category, Long resourceId,
+                                       LocalDateTime start, LocalDateTime end, Long excludeReservationId) {
+
+        if (reservationRepository.existsOverlapping(category, resourceId, start, end, excludeReservationId)) {
+            throw new BusinessException(ErrorCode.REDUNDANT_RESERVATION);
+        }
     }
 
     public List<ReservationResponse> getMyReservationsByCategory(Long userId, ResourceCategory category) {
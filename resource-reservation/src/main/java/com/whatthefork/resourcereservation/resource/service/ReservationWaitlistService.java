@@ -0,0 +1,191 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.common.TransactionCallbacks;
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.analytics.ReservationUsageRecorder;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.ResourceLocker;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationRequest;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationWaitingResponse;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.entity.ReservationWaiting;
+import com.whatthefork.resourcereservation.resource.enums.ReservationEventType;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.enums.WaitingStatus;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventOutbox;
+import com.whatthefork.resourcereservation.resource.event.ReservationPromotedEvent;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationWaitlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 대기열 (회의실/법인차량)
+ * 이미 찬 시간대는 재시도 대신 대기 신청으로 받고, 예약이 취소되면 같은 트랜잭션 안에서
+ * 겹치던 대기를 신청 순서대로 빈 자리에 예약으로 전환한 뒤 커밋 후 알린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationWaitlistService {
+
+    private final ReservationWaitlistRepository waitlistRepository;
+    private final ReservationRepository reservationRepository;
+    private final ResourceAvailabilityIndex availabilityIndex;
+    private final ResourceLocker resourceLocker;
+    private final ReservationUsageRecorder usageRecorder;
+    private final CalendarFeedVersions feedVersions;
+    private final ReservationEventOutbox eventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ReservationWaitingResponse join(CreateReservationRequest request, Long userId) {
+
+        // 비품은 시간대가 아니라 수량으로 관리하므로 대기 대상이 아님
+        if (!ResourceAvailabilityIndex.tracks(request.category())) {
+            throw new BusinessException(ErrorCode.WAITLIST_NOT_ALLOWED);
+        }
+        if (request.startDate() == null || request.endDate() == null
+                || !request.startDate().isBefore(request.endDate())) {
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION_PERIOD);
+        }
+
+        // 비어 있는 시간대면 대기할 필요 없이 바로 예약
+        if (!reservationRepository.existsOverlapping(request.category(), request.resourceId(),
+                request.startDate(), request.endDate(), null)) {
+            throw new BusinessException(ErrorCode.WAITLIST_NOT_ALLOWED);
+        }
+
+        if (waitlistRepository.existsByUserIdAndCategoryAndResourceIdAndStartDateAndEndDateAndStatus(
+                userId, request.category(), request.resourceId(),
+                request.startDate(), request.endDate(), WaitingStatus.WAITING)) {
+            throw new BusinessException(ErrorCode.ALREADY_WAITING);
+        }
+
+        ReservationWaiting waiting = waitlistRepository.save(ReservationWaiting.builder()
+                .userId(userId)
+                .resourceId(request.resourceId())
+                .category(request.category())
+                .startDate(request.startDate())
+                .endDate(request.endDate())
+                .capacity(request.capacity())
+                .reason(request.reason())
+                .requestedDate(LocalDateTime.now())
+                .build());
+
+        return new ReservationWaitingResponse(waiting, position(waiting));
+    }
+
+    @Transactional
+    public ReservationWaitingResponse leave(Long waitingId, Long userId) {
+
+        ReservationWaiting waiting = waitlistRepository.findById(waitingId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+
+        if (!waiting.getUserId().equals(userId)) {
+            throw new BusinessException(ErrorCode.NOT_ENOUGH_AUTHORITY);
+        }
+
+        // 이미 전환/취소된 대기는 그대로 돌려줌
+        if (waiting.getStatus() == WaitingStatus.WAITING) {
+            waiting.cancel();
+        }
+
+        return new ReservationWaitingResponse(waiting, null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReservationWaitingResponse> getMyWaitings(Long userId) {
+
+        return waitlistRepository.findAllByUserIdAndStatusOrderByIdAsc(userId, WaitingStatus.WAITING).stream()
+                .map(waiting -> new ReservationWaitingResponse(waiting, position(waiting)))
+                .toList();
+    }
+
+    /**
+     * 취소된 예약 구간과 겹치던 대기를 신청 순서대로 예약으로 전환 (호출한 취소 트랜잭션에 참여)
+     * 취소된 예약은 이미 삭제된 상태여야 하며, 앞선 대기가 전환되면서 다시 찬 구간은 건너뛴다.
+     */
+    @Transactional
+    public List<Reservation> promoteNext(Reservation canceled) {
+
+        return promoteNext(canceled.getCategory(), canceled.getResourceId(),
+                canceled.getStartDate(), canceled.getEndDate());
+    }
+
+    /**
+     * 비게 된 [start, end) 와 겹치던 대기를 신청 순서대로 예약으로 전환 (호출한 취소/수정 트랜잭션에 참여)
+     * 예약을 옮기거나 지운 변경은 이미 반영된 상태여야 하며, 대기마다 DB로 다시 비었는지 확인한다.
+     */
+    @Transactional
+    public List<Reservation> promoteNext(ResourceCategory category, Long resourceId,
+                                         LocalDateTime start, LocalDateTime end) {
+
+        if (!ResourceAvailabilityIndex.tracks(category)) {
+            return List.of();
+        }
+
+        List<ReservationWaiting> candidates = waitlistRepository
+                .findWaitingOverlapping(category, resourceId, start, end);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        // 인스턴스 안의 락은 호출한 쪽이 트랜잭션을 열기 전에 잡았으므로 자원 행만 잠금
+        resourceLocker.lockRow(category, resourceId);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> promoted = new ArrayList<>();
+        for (ReservationWaiting waiting : candidates) {
+            // 이미 시작한 시간대는 전환하지 않음
+            if (!waiting.getStartDate().isAfter(now)) {
+                continue;
+            }
+            // 앞선 대기자가 전환되면서 다시 찬 구간이면 다음 취소를 기다림
+            if (reservationRepository.existsOverlapping(
+                    category, resourceId, waiting.getStartDate(), waiting.getEndDate(), null)) {
+                continue;
+            }
+            promoted.add(promote(waiting, now));
+        }
+
+        return promoted;
+    }
+
+    private Reservation promote(ReservationWaiting waiting, LocalDateTime now) {
+
+        // 다음 대기자의 겹침 확인 쿼리 전에 flush 되므로 바로 반영됨
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .userId(waiting.getUserId())
+                .resourceId(waiting.getResourceId())
+                .bookedDate(now)
+                .startDate(waiting.getStartDate())
+                .endDate(waiting.getEndDate())
+                .capacity(waiting.getCapacity())
+                .reason(waiting.getReason())
+                .category(waiting.getCategory())
+                .build());
+        waiting.promote(reservation.getId());
+        usageRecorder.record(reservation);
+        feedVersions.touch(reservation);
+        eventOutbox.append(ReservationEventType.CREATED, reservation);
+
+        TransactionCallbacks.afterCommit(() -> availabilityIndex.add(reservation));
+        eventPublisher.publishEvent(ReservationPromotedEvent.of(waiting.getId(), reservation));
+
+        return reservation;
+    }
+
+    private long position(ReservationWaiting waiting) {
+
+        return waitlistRepository.countWaitingAhead(waiting.getCategory(), waiting.getResourceId(),
+                waiting.getStartDate(), waiting.getEndDate(), waiting.getId()) + 1;
+    }
+}
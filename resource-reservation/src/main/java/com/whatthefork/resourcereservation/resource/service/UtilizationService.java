@@ -0,0 +1,182 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.analytics.UsageBucketDelta;
+import com.whatthefork.resourcereservation.resource.analytics.UsageSlotSum;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.dto.response.ResourceUtilizationResponse;
+import com.whatthefork.resourcereservation.resource.dto.response.UtilizationReportResponse;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationUsageBulkRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationUsageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회의실/법인차량 이용률 (시각별, 요일별)
+ * 예약 원본 대신 1시간 버킷 집계(reservation_usage_bucket)를 GROUP BY 로 한 번만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UtilizationService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final ReservationUsageRepository usageRepository;
+    private final ReservationUsageBulkRepository usageBulkRepository;
+    private final ReservationRepository reservationRepository;
+    private final ConferenceRoomRepository conferenceRoomRepository;
+    private final CorporateCarRepository corporateCarRepository;
+
+    // [from, to) 날짜의 이용률 (resourceId 가 null 이면 카테고리 전체, 예약이 없는 자원도 0 으로 포함)
+    @Transactional(readOnly = true)
+    public UtilizationReportResponse getReport(ResourceCategory category, Long resourceId, LocalDate from, LocalDate to) {
+
+        validateRange(category, from, to);
+
+        Map<Long, String> resources = findResources(category, resourceId);
+
+        // 자원별 [요일][시각] 예약된 분
+        Map<Long, long[][]> minutesByResource = new HashMap<>();
+        for (UsageSlotSum sum : usageRepository.sumBySlot(category, resourceId, from, to)) {
+            if (resources.containsKey(sum.resourceId())) {
+                minutesByResource.computeIfAbsent(sum.resourceId(), id -> new long[8][24])
+                        [sum.dayOfWeek()][sum.hourOfDay()] += sum.minutes();
+            }
+        }
+
+        // 분모: 기간 안에 각 요일이 몇 번 있었는지
+        int[] daysOfWeek = new int[8];
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            daysOfWeek[date.getDayOfWeek().getValue()]++;
+        }
+
+        long[][] total = new long[8][24];
+        List<ResourceUtilizationResponse> responses = new ArrayList<>();
+        resources.forEach((id, name) -> {
+            long[][] minutes = minutesByResource.getOrDefault(id, new long[8][24]);
+            for (int day = 1; day <= 7; day++) {
+                for (int hour = 0; hour < 24; hour++) {
+                    total[day][hour] += minutes[day][hour];
+                }
+            }
+            Rates rates = Rates.of(minutes, daysOfWeek, 1);
+            responses.add(new ResourceUtilizationResponse(id, name, rates.overall(), rates.byHour(), rates.byDay()));
+        });
+
+        Rates overall = Rates.of(total, daysOfWeek, Math.max(resources.size(), 1));
+        return new UtilizationReportResponse(category, from, to,
+                overall.overall(), overall.byHour(), overall.byDay(), responses);
+    }
+
+    // 집계 도입 전 예약이나 어긋난 집계를 예약 원본으로 [from, to) 만큼 다시 계산
+    @Transactional
+    public int rebuild(ResourceCategory category, LocalDate from, LocalDate to) {
+
+        validateRange(category, from, to);
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atStartOfDay();
+
+        usageRepository.deleteRange(category, from, to);
+
+        List<Reservation> reservations = reservationRepository.findAllOverlappingInSpan(category, start, end);
+        List<UsageBucketDelta> deltas = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            // 기간 밖 버킷은 지우지 않았으므로 기간 안쪽만 다시 더함
+            LocalDateTime clippedStart = reservation.getStartDate().isBefore(start) ? start : reservation.getStartDate();
+            LocalDateTime clippedEnd = reservation.getEndDate().isAfter(end) ? end : reservation.getEndDate();
+            deltas.addAll(UsageBucketDelta.split(category, reservation.getResourceId(), clippedStart, clippedEnd, 1));
+        }
+        if (!deltas.isEmpty()) {
+            usageBulkRepository.addMinutes(deltas);
+        }
+
+        return reservations.size();
+    }
+
+    private void validateRange(ResourceCategory category, LocalDate from, LocalDate to) {
+
+        if (!ResourceAvailabilityIndex.tracks(category) || from == null || to == null || !from.isBefore(to)
+                || ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_UTILIZATION_RANGE);
+        }
+    }
+
+    // 자원 id -> 이름 (id 순)
+    private Map<Long, String> findResources(ResourceCategory category, Long resourceId) {
+
+        Map<Long, String> resources = new LinkedHashMap<>();
+        switch (category) {
+            case CONFERENCE_ROOM -> conferenceRoomRepository.findAll()
+                    .forEach(room -> resources.put(room.getId(), room.getName()));
+            case CORPORATE_VEHICLE -> corporateCarRepository.findAll()
+                    .forEach(car -> resources.put(car.getId(), car.getName()));
+            case SUPPLIES -> { }
+        }
+
+        if (resourceId == null) {
+            return resources;
+        }
+        if (!resources.containsKey(resourceId)) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+        return Map.of(resourceId, resources.get(resourceId));
+    }
+
+    // [요일][시각] 분 합계를 비율로 (분모 = 해당 요일 수 x 60분 x 자원 수)
+    private record Rates(double overall, List<Double> byHour, Map<DayOfWeek, Double> byDay) {
+
+        static Rates of(long[][] minutes, int[] daysOfWeek, int resourceCount) {
+
+            int days = 0;
+            for (int day = 1; day <= 7; day++) {
+                days += daysOfWeek[day];
+            }
+
+            long totalMinutes = 0;
+            List<Double> byHour = new ArrayList<>(24);
+            for (int hour = 0; hour < 24; hour++) {
+                long hourMinutes = 0;
+                for (int day = 1; day <= 7; day++) {
+                    hourMinutes += minutes[day][hour];
+                }
+                totalMinutes += hourMinutes;
+                byHour.add(ratio(hourMinutes, (long) days * 60 * resourceCount));
+            }
+
+            Map<DayOfWeek, Double> byDay = new EnumMap<>(DayOfWeek.class);
+            for (int day = 1; day <= 7; day++) {
+                long dayMinutes = 0;
+                for (int hour = 0; hour < 24; hour++) {
+                    dayMinutes += minutes[day][hour];
+                }
+                byDay.put(DayOfWeek.of(day), ratio(dayMinutes, (long) daysOfWeek[day] * 24 * 60 * resourceCount));
+            }
+
+            return new Rates(ratio(totalMinutes, (long) days * 24 * 60 * resourceCount), byHour, byDay);
+        }
+
+        // 소수점 넷째 자리까지
+        private static double ratio(long minutes, long capacityMinutes) {
+            return capacityMinutes == 0 ? 0.0 : Math.round(minutes * 10_000.0 / capacityMinutes) / 10_000.0;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BestFitRoomAllocator - 인원 맞춤 회의실 배정 테스트")
+class BestFitRoomAllocatorTests {
+
+    @Mock
+    private ConferenceRoomRepository conferenceRoomRepository;
+
+    @Mock
+    private ResourceAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private BestFitRoomAllocator bestFitRoomAllocator;
+
+    private final LocalDateTime START = LocalDateTime.of(2099, 3, 2, 10, 0);
+    private final LocalDateTime END = LocalDateTime.of(2099, 3, 2, 11, 0);
+
+    private final List<ConferenceRoom> ROOMS = List.of(
+            room(1L, "대회의실", 20),
+            room(2L, "소회의실 A", 4),
+            room(3L, "중회의실", 8),
+            room(4L, "소회의실 B", 4)
+    );
+
+    @BeforeEach
+    void setUp() {
+        bestFitRoomAllocator = new BestFitRoomAllocator(conferenceRoomRepository, availabilityIndex, reservationRepository);
+    }
+
+    // 1. 정확히 같은 인원이 없어도 더 큰 회의실 중 가장 작은 것
+    @Test
+    @DisplayName("인원과 같은 회의실이 없으면 그보다 큰 회의실 중 가장 작은 회의실을 돌려줘야 한다")
+    void smallestFitting_picksNextLargerCapacity() {
+        // Given
+        given(conferenceRoomRepository.findAll()).willReturn(ROOMS);
+
+        // When & Then
+        assertEquals(2L, bestFitRoomAllocator.smallestFitting(3).orElseThrow().getId());
+        assertEquals(3L, bestFitRoomAllocator.smallestFitting(5).orElseThrow().getId());
+        assertEquals(1L, bestFitRoomAllocator.smallestFitting(20).orElseThrow().getId());
+        assertTrue(bestFitRoomAllocator.smallestFitting(21).isEmpty());
+    }
+
+    // 2. 가장 작은 회의실이 예약돼 있으면 다음 회의실
+    @Test
+    @DisplayName("맞는 회의실이 모두 예약돼 있으면 같은 인원의 다음 회의실, 그다음 더 큰 회의실 순으로 배정해야 한다")
+    void allocate_skipsBookedRooms() {
+        // Given
+        given(conferenceRoomRepository.findAll()).willReturn(ROOMS);
+        given(availabilityIndex.isAvailable(eq(ResourceCategory.CONFERENCE_ROOM), anyLong(), eq(START), eq(END), any()))
+                .willAnswer(invocation -> invocation.getArgument(1, Long.class) == 1L);
+        given(reservationRepository.findOverlappingForResources(ResourceCategory.CONFERENCE_ROOM, List.of(2L, 4L, 3L), START, END))
+                .willReturn(List.of(reservation(2L), reservation(4L), reservation(3L)));
+
+        // When
+        Optional<ConferenceRoom> allocated = bestFitRoomAllocator.allocate(4, START, END);
+
+        // Then
+        assertEquals(1L, allocated.orElseThrow().getId());
+        verify(availabilityIndex).isAvailable(ResourceCategory.CONFERENCE_ROOM, 2L, START, END, null);
+        verify(availabilityIndex).isAvailable(ResourceCategory.CONFERENCE_ROOM, 4L, START, END, null);
+        verify(availabilityIndex).isAvailable(ResourceCategory.CONFERENCE_ROOM, 3L, START, END, null);
+    }
+
+    // 3. 인원보다 작은 회의실은 확인하지 않음
+    @Test
+    @DisplayName("인원보다 작은 회의실은 예약 여부를 확인하지 않고, 맞는 회의실이 없으면 빈 값을 돌려줘야 한다")
+    void allocate_ignoresSmallerRooms() {
+        // Given
+        given(conferenceRoomRepository.findAll()).willReturn(ROOMS);
+        given(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, 1L, START, END, null)).willReturn(false);
+        given(reservationRepository.findOverlappingForResources(ResourceCategory.CONFERENCE_ROOM, List.of(1L), START, END))
+                .willReturn(List.of(reservation(1L)));
+
+        // When
+        Optional<ConferenceRoom> allocated = bestFitRoomAllocator.allocate(10, START, END);
+
+        // Then
+        assertTrue(allocated.isEmpty());
+        verify(availabilityIndex, never()).isAvailable(ResourceCategory.CONFERENCE_ROOM, 3L, START, END, null);
+    }
+
+    // 3-1. 다른 인스턴스에서 취소되어 인덱스만 낡은 경우
+    @Test
+    @DisplayName("인덱스에서 예약돼 있다고 나온 더 작은 회의실이 DB에서는 비어 있으면 그 회의실을 배정해야 한다")
+    void allocate_confirmsBookedRoomsWithDb() {
+        // Given
+        given(conferenceRoomRepository.findAll()).willReturn(ROOMS);
+        given(availabilityIndex.isAvailable(eq(ResourceCategory.CONFERENCE_ROOM), anyLong(), eq(START), eq(END), any()))
+                .willAnswer(invocation -> invocation.getArgument(1, Long.class) == 3L);
+        given(reservationRepository.findOverlappingForResources(ResourceCategory.CONFERENCE_ROOM, List.of(2L, 4L), START, END))
+                .willReturn(List.of(reservation(2L)));
+
+        // When
+        Optional<ConferenceRoom> allocated = bestFitRoomAllocator.allocate(4, START, END);
+
+        // Then
+        assertEquals(4L, allocated.orElseThrow().getId());
+    }
+
+    // 4. 카탈로그가 바뀌면 인덱스 다시 생성
+    @Test
+    @DisplayName("회의실 목록이 바뀌면 새 목록으로 인덱스를 다시 만들어야 한다")
+    void smallestFitting_rebuildsWhenCatalogChanges() {
+        // Given
+        given(conferenceRoomRepository.findAll()).willReturn(ROOMS, ROOMS, List.of(room(5L, "신규 회의실", 6)));
+
+        // When & Then
+        assertEquals(3L, bestFitRoomAllocator.smallestFitting(5).orElseThrow().getId());
+        assertEquals(3L, bestFitRoomAllocator.smallestFitting(5).orElseThrow().getId());
+        assertEquals(5L, bestFitRoomAllocator.smallestFitting(5).orElseThrow().getId());
+    }
+
+    private Reservation reservation(Long roomId) {
+        return Reservation.builder()
+                .userId(100L)
+                .resourceId(roomId)
+                .bookedDate(START.minusDays(1))
+                .startDate(START)
+                .endDate(END)
+                .capacity(4)
+                .reason("회의")
+                .category(ResourceCategory.CONFERENCE_ROOM)
+                .build();
+    }
+
+    private static ConferenceRoom room(Long id, String name, int maxCapacity) {
+        ConferenceRoom room = ConferenceRoom.builder().name(name).maxCapacity(maxCapacity).build();
+        ReflectionTestUtils.setField(room, "id", id);
+        return room;
+    }
+}
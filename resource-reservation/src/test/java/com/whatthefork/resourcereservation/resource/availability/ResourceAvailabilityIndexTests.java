@@ -0,0 +1,200 @@
+package com.whatthefork.resourcereservation.resource.availability;
+
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResourceAvailabilityIndex - 예약 시간 겹침 테스트")
+class ResourceAvailabilityIndexTests {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private ResourceAvailabilityIndex availabilityIndex;
+
+    private final Long ROOM_ID = 1L;
+    private final LocalDateTime DAY = LocalDateTime.of(2099, 3, 2, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        availabilityIndex = new ResourceAvailabilityIndex(reservationRepository);
+    }
+
+    // 1. 기동 시 적재된 예약과 겹침 판단
+    @Test
+    @DisplayName("기동 시 적재한 예약과 시간이 겹치면 불가, 끝 시각에 바로 붙는 예약은 가능해야 한다")
+    void rebuild_thenCheckOverlap() {
+        // Given
+        given(reservationRepository.findAllByCategoryInAndEndDateAfter(any(), any()))
+                .willReturn(List.of(room(10L, 10, 11), room(11L, 14, 16)));
+
+        // When
+        availabilityIndex.rebuild();
+
+        // Then
+        assertEquals(2, availabilityIndex.size());
+        assertFalse(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(10, 30), at(12, 0), null));
+        assertFalse(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(9, 0), at(17, 0), null));
+        assertTrue(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(11, 0), at(14, 0), null));
+        // 다른 회의실, 다른 카테고리는 영향 없음
+        assertTrue(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, 2L, at(10, 0), at(11, 0), null));
+        assertTrue(availabilityIndex.isAvailable(ResourceCategory.CORPORATE_VEHICLE, ROOM_ID, at(10, 0), at(11, 0), null));
+    }
+
+    // 1-1. 재적재 중에 커밋된 변경
+    @Test
+    @DisplayName("재적재하는 동안 추가/취소된 예약은 새로 만든 인덱스에도 반영되어야 한다")
+    void rebuild_keepsChangesCommittedDuringRebuild() {
+        // Given
+        availabilityIndex.add(room(10L, 10, 11));
+        given(reservationRepository.findAllByCategoryInAndEndDateAfter(any(), any())).willAnswer(invocation -> {
+            // DB를 읽은 뒤 교체 전에 다른 요청이 커밋
+            availabilityIndex.add(room(12L, 14, 15));
+            availabilityIndex.remove(10L);
+            return List.of(room(10L, 10, 11), room(11L, 12, 13));
+        });
+
+        // When
+        availabilityIndex.rebuild();
+
+        // Then
+        assertEquals(2, availabilityIndex.size());
+        assertTrue(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(10, 0), at(11, 0), null));
+        assertFalse(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(12, 0), at(13, 0), null));
+        assertFalse(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(14, 0), at(15, 0), null));
+    }
+
+    // 2. 긴 예약 뒤에 시작한 짧은 구간
+    @Test
+    @DisplayName("훨씬 앞에서 시작한 긴 예약도 겹침으로 찾아야 한다")
+    void isAvailable_longReservationStartedEarlier() {
+        // Given
+        availabilityIndex.add(room(10L, 8, 20));
+        availabilityIndex.add(room(11L, 21, 22));
+
+        // When & Then
+        assertFalse(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(19, 0), at(19, 30), null));
+        assertEquals(List.of(10L), availabilityIndex.getSlots(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(19, 0), at(21, 0))
+                .stream().map(ReservationSlot::reservationId).toList());
+    }
+
+    // 3. 수정 시 자기 자신 제외 + 재등록
+    @Test
+    @DisplayName("수정 중인 예약 자신은 겹침에서 제외하고, 다시 추가하면 기존 구간을 대체해야 한다")
+    void add_existingReservation_replacesSlot() {
+        // Given
+        Reservation reservation = room(10L, 10, 11);
+        availabilityIndex.add(reservation);
+
+        // When
+        assertTrue(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(10, 30), at(11, 30), 10L));
+        reservation.updateStartDate(at(15, 0)).updateEndDate(at(16, 0));
+        availabilityIndex.add(reservation);
+
+        // Then
+        assertEquals(1, availabilityIndex.size());
+        assertTrue(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(10, 0), at(11, 0), null));
+        assertFalse(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(15, 30), at(16, 30), null));
+    }
+
+    // 4. 취소
+    @Test
+    @DisplayName("취소된 예약의 시간대는 다시 예약 가능해야 하고, 비품은 인덱스에 들어가지 않아야 한다")
+    void remove_andSuppliesNotTracked() {
+        // Given
+        availabilityIndex.add(room(10L, 10, 11));
+        availabilityIndex.add(reservation(12L, ResourceCategory.SUPPLIES, 10, 11));
+
+        // When
+        availabilityIndex.remove(10L);
+
+        // Then
+        assertEquals(0, availabilityIndex.size());
+        assertTrue(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(10, 0), at(11, 0), null));
+        assertTrue(availabilityIndex.isAvailable(ResourceCategory.SUPPLIES, ROOM_ID, at(10, 0), at(11, 0), null));
+    }
+
+    // 5. 빈 시간대
+    @Test
+    @DisplayName("예약 사이의 빈틈과 앞뒤 남는 시간을 빈 시간대로 돌려줘야 한다")
+    void getFreeSlots_gapsBetweenReservations() {
+        // Given
+        availabilityIndex.add(room(10L, 10, 11));
+        availabilityIndex.add(room(11L, 11, 12));
+        availabilityIndex.add(room(12L, 14, 16));
+
+        // When
+        List<TimeRange> free = availabilityIndex.getFreeSlots(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(9, 0), at(18, 0));
+
+        // Then
+        assertEquals(List.of(
+                new TimeRange(at(9, 0), at(10, 0)),
+                new TimeRange(at(12, 0), at(14, 0)),
+                new TimeRange(at(16, 0), at(18, 0))
+        ), free);
+        assertEquals(List.of(), availabilityIndex.getFreeSlots(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, at(10, 0), at(12, 0)));
+    }
+
+    // 6. 여러 회차 한 번에 확인
+    @Test
+    @DisplayName("여러 회차를 한 번에 확인하면 기존 예약과 겹치는 회차만 돌려줘야 한다")
+    void findConflicts_multipleRanges() {
+        // Given
+        availabilityIndex.add(room(10L, 10, 12));
+        availabilityIndex.add(room(11L, 15, 16));
+        List<TimeRange> ranges = List.of(
+                new TimeRange(at(9, 0), at(10, 0)),
+                new TimeRange(at(11, 0), at(13, 0)),
+                new TimeRange(at(13, 0), at(15, 0)),
+                new TimeRange(at(15, 30), at(17, 0)));
+
+        // When
+        List<TimeRange> conflicts = availabilityIndex.findConflicts(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, ranges, Set.of());
+        List<TimeRange> excludingOwn = availabilityIndex.findConflicts(ResourceCategory.CONFERENCE_ROOM, ROOM_ID, ranges, Set.of(11L));
+
+        // Then
+        assertEquals(List.of(ranges.get(1), ranges.get(3)), conflicts);
+        assertEquals(List.of(ranges.get(1)), excludingOwn);
+    }
+
+    private Reservation room(Long id, int startHour, int endHour) {
+        return reservation(id, ResourceCategory.CONFERENCE_ROOM, startHour, endHour);
+    }
+
+    private Reservation reservation(Long id, ResourceCategory category, int startHour, int endHour) {
+        Reservation reservation = Reservation.builder()
+                .userId(100L)
+                .resourceId(ROOM_ID)
+                .bookedDate(DAY.minusDays(1))
+                .startDate(at(startHour, 0))
+                .endDate(at(endHour, 0))
+                .capacity(4)
+                .reason("회의")
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return DAY.withHour(hour).withMinute(minute);
+    }
+}
@@ -0,0 +1,88 @@
+package com.whatthefork.resourcereservation.resource.infrastructure.repository;
+
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachedConferenceRoomRepository - 회의실 카탈로그 캐시 테스트")
+class CachedConferenceRoomRepositoryTests {
+
+    @Mock
+    private JpaConferenceRoomRepository delegate;
+
+    private MeterRegistry meterRegistry;
+    private CachedConferenceRoomRepository cachedRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachedRepository = new CachedConferenceRoomRepository(delegate, meterRegistry, Duration.ofMinutes(1));
+    }
+
+    // 1. 목록/이름 조회는 한 번만 DB 조회
+    @Test
+    @DisplayName("목록을 한 번 읽은 뒤의 목록, 이름 조회는 DB를 다시 조회하지 않고 적중률에 반영되어야 한다")
+    void findAll_servesLookupsFromCache() {
+        // Given
+        given(delegate.findAll()).willReturn(List.of(room(1L, "대회의실", 12), room(2L, "소회의실", 4)));
+
+        // When
+        cachedRepository.findAll();
+        cachedRepository.findAll();
+        ConferenceRoom byName = cachedRepository.findByName("소회의실").orElseThrow();
+        ConferenceRoom large = cachedRepository.findByName("대회의실").orElseThrow();
+        boolean missing = cachedRepository.findByName("없는 회의실").isPresent();
+
+        // Then
+        verify(delegate, times(1)).findAll();
+        assertEquals(2L, byName.getId());
+        assertEquals(1L, large.getId());
+        assertFalse(missing);
+        assertEquals(0.8, meterRegistry.get("resource.catalog.cache.hit_ratio")
+                .tag("catalog", "conference_room").gauge().value());
+    }
+
+    // 2. 쓰기 후 무효화
+    @Test
+    @DisplayName("저장이나 삭제 후에는 목록을 DB에서 다시 읽어야 한다")
+    void save_invalidatesCache() {
+        // Given
+        ConferenceRoom room = room(1L, "대회의실", 12);
+        given(delegate.findAll()).willReturn(List.of(room));
+        given(delegate.save(room)).willReturn(room);
+
+        // When
+        cachedRepository.findAll();
+        cachedRepository.save(room);
+        cachedRepository.findAll();
+        cachedRepository.deleteById(1L);
+        cachedRepository.findAll();
+
+        // Then
+        verify(delegate, times(3)).findAll();
+        verify(delegate).deleteById(1L);
+    }
+
+    private ConferenceRoom room(Long id, String name, int maxCapacity) {
+        ConferenceRoom room = ConferenceRoom.builder().name(name).maxCapacity(maxCapacity).build();
+        ReflectionTestUtils.setField(room, "id", id);
+        return room;
+    }
+}
@@ -0,0 +1,137 @@
+package com.whatthefork.resourcereservation.resource.security;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationSeriesRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationSecurity - 예약 소유자 확인 테스트")
+class ReservationSecurityTests {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ReservationSeriesRepository reservationSeriesRepository;
+
+    private ReservationSecurity reservationSecurity;
+
+    private final Long RESERVATION_ID = 1L;
+    private final Long OWNER_ID = 100L;
+
+    @BeforeEach
+    void setUp() {
+        reservationSecurity = new ReservationSecurity(
+                reservationRepository, reservationSeriesRepository, new ReservationOwnerCache());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    // 1. 문자열 사용자 id 와 Long 소유자 id 비교
+    @Test
+    @DisplayName("principal.username 의 사용자 id 가 예약 소유자 id 와 같으면 true, 다르면 false 여야 한다")
+    void isReservationOwner_comparesAsLong() {
+        // Given
+        given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(reservation()));
+
+        // When & Then
+        assertTrue(reservationSecurity.isReservationOwner("100", RESERVATION_ID));
+        assertFalse(reservationSecurity.isReservationOwner("101", RESERVATION_ID));
+        assertFalse(reservationSecurity.isReservationOwner("admin", RESERVATION_ID));
+    }
+
+    // 2. 소유자 캐시
+    @Test
+    @DisplayName("같은 예약을 다시 확인하면 DB를 조회하지 않고 캐시된 소유자로 판단해야 한다")
+    void isReservationOwner_usesOwnerCache() {
+        // Given
+        given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(reservation()));
+
+        // When
+        reservationSecurity.isReservationOwner("100", RESERVATION_ID);
+        boolean second = reservationSecurity.isReservationOwner("100", RESERVATION_ID);
+
+        // Then
+        assertTrue(second);
+        verify(reservationRepository, times(1)).findById(RESERVATION_ID);
+    }
+
+    // 3. 읽은 예약을 서비스와 공유
+    @Test
+    @DisplayName("권한 확인에서 읽은 예약은 같은 요청에서 한 번만 꺼내 쓸 수 있어야 한다")
+    void isReservationOwner_sharesLoadedReservation() {
+        // Given
+        Reservation reservation = reservation();
+        given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(reservation));
+
+        // When
+        reservationSecurity.isReservationOwner("100", RESERVATION_ID);
+
+        // Then
+        assertSame(reservation, PreloadedReservations.take(RESERVATION_ID).orElseThrow());
+        assertTrue(PreloadedReservations.take(RESERVATION_ID).isEmpty());
+    }
+
+    // 4. 없는 예약 / 숫자가 아닌 사용자
+    @Test
+    @DisplayName("예약이 없으면 NOT_ENOUGH_AUTHORITY 예외, 사용자 id 가 숫자가 아니면 조회 없이 false 여야 한다")
+    void isReservationOwner_missingOrInvalidUser() {
+        // Given
+        given(reservationRepository.findById(2L)).willReturn(Optional.empty());
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationSecurity.isReservationOwner("100", 2L));
+        assertEquals(ErrorCode.NOT_ENOUGH_AUTHORITY, exception.getErrorCode());
+
+        assertFalse(reservationSecurity.isReservationOwner(null, RESERVATION_ID));
+        verify(reservationRepository, never()).findById(RESERVATION_ID);
+        verify(reservationSeriesRepository, never()).findById(any());
+    }
+
+    private Reservation reservation() {
+        Reservation reservation = Reservation.builder()
+                .userId(OWNER_ID)
+                .resourceId(10L)
+                .bookedDate(LocalDateTime.of(2099, 3, 1, 9, 0))
+                .startDate(LocalDateTime.of(2099, 3, 2, 10, 0))
+                .endDate(LocalDateTime.of(2099, 3, 2, 11, 0))
+                .capacity(4)
+                .reason("주간 회의")
+                .category(ResourceCategory.CONFERENCE_ROOM)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", RESERVATION_ID);
+        return reservation;
+    }
+}
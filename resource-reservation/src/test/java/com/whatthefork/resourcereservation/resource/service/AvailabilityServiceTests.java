@@ -0,0 +1,136 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.availability.BestFitRoomAllocator;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.TimeRange;
+import com.whatthefork.resourcereservation.resource.dto.response.FreeResourceResponse;
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.SupplyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailabilityService - 빈 자원 검색 테스트")
+class AvailabilityServiceTests {
+
+    @Mock
+    private ConferenceRoomRepository conferenceRoomRepository;
+    @Mock
+    private CorporateCarRepository corporateCarRepository;
+    @Mock
+    private SupplyRepository supplyRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ResourceAvailabilityIndex availabilityIndex;
+    @Mock
+    private BestFitRoomAllocator bestFitRoomAllocator;
+
+    @InjectMocks
+    private AvailabilityService availabilityService;
+
+    private final LocalDateTime START = LocalDateTime.of(2099, 3, 2, 9, 0);
+    private final LocalDateTime END = LocalDateTime.of(2099, 3, 2, 18, 0);
+
+    // 1. 인원 조건 + 빈 시간대 없는 회의실 제외
+    @Test
+    @DisplayName("최소 인원보다 작은 회의실과 기간 내내 예약된 회의실은 제외해야 한다")
+    void searchFreeResources_filtersByCapacityAndFreeSlots() {
+        // Given
+        ConferenceRoom small = room(1L, "소회의실", 4);
+        ConferenceRoom fullyBooked = room(2L, "중회의실", 8);
+        ConferenceRoom partlyFree = room(3L, "대회의실", 12);
+        given(conferenceRoomRepository.findAll()).willReturn(List.of(small, fullyBooked, partlyFree));
+
+        given(availabilityIndex.getFreeSlots(ResourceCategory.CONFERENCE_ROOM, 2L, START, END)).willReturn(List.of());
+        given(reservationRepository.findOverlappingForResources(ResourceCategory.CONFERENCE_ROOM, List.of(2L), START, END))
+                .willReturn(List.of(reservation(2L, START, END)));
+        List<TimeRange> freeSlots = List.of(new TimeRange(START, START.plusHours(2)));
+        given(availabilityIndex.getFreeSlots(ResourceCategory.CONFERENCE_ROOM, 3L, START, END)).willReturn(freeSlots);
+
+        // When
+        List<FreeResourceResponse> result =
+                availabilityService.searchFreeResources(ResourceCategory.CONFERENCE_ROOM, START, END, 6);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(3L, result.get(0).resourceId());
+        assertEquals(freeSlots, result.get(0).freeSlots());
+        verify(availabilityIndex, never()).getFreeSlots(ResourceCategory.CONFERENCE_ROOM, 1L, START, END);
+    }
+
+    // 1-1. 다른 인스턴스에서 취소되어 인덱스만 낡은 경우
+    @Test
+    @DisplayName("인덱스에서 기간 내내 예약돼 있다고 나온 회의실은 DB 기준 빈 시간대로 다시 계산해야 한다")
+    void searchFreeResources_confirmsFullyBookedWithDb() {
+        // Given
+        given(conferenceRoomRepository.findAll()).willReturn(List.of(room(2L, "중회의실", 8)));
+        given(availabilityIndex.getFreeSlots(ResourceCategory.CONFERENCE_ROOM, 2L, START, END)).willReturn(List.of());
+        given(reservationRepository.findOverlappingForResources(ResourceCategory.CONFERENCE_ROOM, List.of(2L), START, END))
+                .willReturn(List.of(reservation(2L, START.plusHours(1), START.plusHours(3))));
+
+        // When
+        List<FreeResourceResponse> result =
+                availabilityService.searchFreeResources(ResourceCategory.CONFERENCE_ROOM, START, END, 1);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(List.of(
+                new TimeRange(START, START.plusHours(1)),
+                new TimeRange(START.plusHours(3), END)
+        ), result.get(0).freeSlots());
+    }
+
+    // 2. 잘못된 기간
+    @Test
+    @DisplayName("종료 시각이 시작 시각보다 빠르면 INVALID_RESERVATION_PERIOD 예외를 던져야 한다")
+    void searchFreeResources_invalidPeriod() {
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                availabilityService.searchFreeResources(ResourceCategory.CONFERENCE_ROOM, END, START, 1));
+
+        assertEquals(ErrorCode.INVALID_RESERVATION_PERIOD, exception.getErrorCode());
+        verifyNoInteractions(conferenceRoomRepository, availabilityIndex);
+    }
+
+    private Reservation reservation(Long roomId, LocalDateTime start, LocalDateTime end) {
+        return Reservation.builder()
+                .userId(100L)
+                .resourceId(roomId)
+                .bookedDate(START.minusDays(1))
+                .startDate(start)
+                .endDate(end)
+                .capacity(4)
+                .reason("회의")
+                .category(ResourceCategory.CONFERENCE_ROOM)
+                .build();
+    }
+
+    private ConferenceRoom room(Long id, String name, int maxCapacity) {
+        ConferenceRoom room = ConferenceRoom.builder().name(name).maxCapacity(maxCapacity).build();
+        ReflectionTestUtils.setField(room, "id", id);
+        return room;
+    }
+}
@@ -0,0 +1,197 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.calendar.FeedVersion;
+import com.whatthefork.resourcereservation.resource.entity.CalendarFeedSubscription;
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.CalendarFeedSubscriptionRepository;
+import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CalendarFeedService - iCalendar 피드 테스트")
+class CalendarFeedServiceTests {
+
+    @Mock
+    private CalendarFeedVersions feedVersions;
+    @Mock
+    private CalendarFeedSubscriptionRepository subscriptionRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ConferenceRoomRepository conferenceRoomRepository;
+    @Mock
+    private CorporateCarRepository corporateCarRepository;
+
+    @InjectMocks
+    private CalendarFeedService calendarFeedService;
+
+    private final Long USER_ID = 1L;
+    private final LocalDateTime START = LocalDateTime.of(2099, 3, 2, 9, 0);
+
+    // 1. 버전 확인은 예약을 읽지 않음
+    @Test
+    @DisplayName("피드 버전 조회는 버전 저장소만 보고 예약은 조회하지 않아야 한다")
+    void getUserFeedVersion_doesNotQueryReservations() {
+        // Given
+        FeedVersion version = new FeedVersion("user:1", 3, START);
+        given(feedVersions.get("user:1")).willReturn(version);
+
+        // When
+        FeedVersion result = calendarFeedService.getUserFeedVersion(USER_ID);
+
+        // Then
+        assertEquals("\"user:1-v3\"", result.eTag());
+        verifyNoInteractions(reservationRepository, conferenceRoomRepository, corporateCarRepository);
+    }
+
+    // 2. 회의실/차량 예약만, 특수문자 이스케이프 + 긴 줄 접기
+    @Test
+    @DisplayName("내 피드에는 회의실/차량 예약만 들어가고, 특수문자는 이스케이프되며 75 옥텟 넘는 줄은 접혀야 한다")
+    void getUserFeed_writesEscapedAndFoldedEvents() {
+        // Given
+        String longReason = "주간 회의; 안건, 공유 " + "가".repeat(40);
+        Reservation room = reservation(10L, ResourceCategory.CONFERENCE_ROOM, 5L, longReason);
+        Reservation supply = reservation(11L, ResourceCategory.SUPPLIES, 7L, "노트북");
+
+        given(reservationRepository.findAllByUserIdAndEndDateAfterOrderByStartDateAsc(eq(USER_ID), any()))
+                .willReturn(List.of(room, supply));
+        given(conferenceRoomRepository.findAll()).willReturn(List.of(room(5L, "대회의실")));
+        given(corporateCarRepository.findAll()).willReturn(List.of());
+
+        // When
+        String ics = calendarFeedService.getUserFeed(USER_ID);
+
+        // Then
+        String unfolded = ics.replace("\r\n ", "");
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(unfolded.contains("UID:reservation-10@resource-reservation\r\n"));
+        assertTrue(unfolded.contains("DTSTART:20990302T090000\r\nDTEND:20990302T100000\r\n"));
+        assertTrue(unfolded.contains("SUMMARY:[대회의실] 주간 회의\\; 안건\\, 공유 "));
+        assertFalse(unfolded.contains("reservation-11@"));
+        assertEquals(1, unfolded.split("BEGIN:VEVENT", -1).length - 1);
+        Arrays.stream(ics.split("\r\n")).forEach(line ->
+                assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line));
+    }
+
+    // 3. 비품 피드 없음
+    @Test
+    @DisplayName("비품은 자원 피드를 제공하지 않아야 한다")
+    void getResourceFeedVersion_supplies() {
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                calendarFeedService.getResourceFeedVersion(ResourceCategory.SUPPLIES, 7L));
+
+        assertEquals(ErrorCode.RESOURCE_NOT_FOUND, exception.getErrorCode());
+        verifyNoInteractions(feedVersions);
+    }
+
+    // 4. 구독 토큰은 해시만 저장
+    @Test
+    @DisplayName("구독 토큰은 해시만 저장하고, 발급한 원문 토큰으로 사용자를 찾을 수 있어야 한다")
+    void issueSubscriptionToken_storesHashOnly() {
+        // Given
+        given(subscriptionRepository.findById(USER_ID)).willReturn(Optional.empty());
+        ArgumentCaptor<CalendarFeedSubscription> captor = ArgumentCaptor.forClass(CalendarFeedSubscription.class);
+
+        // When
+        String token = calendarFeedService.issueSubscriptionToken(USER_ID);
+
+        // Then
+        verify(subscriptionRepository).save(captor.capture());
+        CalendarFeedSubscription saved = captor.getValue();
+        assertEquals(43, token.length());
+        assertEquals(64, saved.getTokenHash().length());
+        assertNotEquals(token, saved.getTokenHash());
+
+        given(subscriptionRepository.findByTokenHash(saved.getTokenHash())).willReturn(Optional.of(saved));
+        assertEquals(USER_ID, calendarFeedService.getSubscriberId(token));
+    }
+
+    // 4-1. 재발급하면 이전 토큰은 막힘
+    @Test
+    @DisplayName("구독 토큰을 재발급하면 기존 구독의 해시가 바뀌고, 모르는 토큰은 404 여야 한다")
+    void issueSubscriptionToken_rotates() {
+        // Given
+        CalendarFeedSubscription existing = new CalendarFeedSubscription(USER_ID, "0".repeat(64), START);
+        given(subscriptionRepository.findById(USER_ID)).willReturn(Optional.of(existing));
+        given(subscriptionRepository.findByTokenHash(any())).willReturn(Optional.empty());
+
+        // When
+        calendarFeedService.issueSubscriptionToken(USER_ID);
+
+        // Then
+        verify(subscriptionRepository).save(existing);
+        assertNotEquals("0".repeat(64), existing.getTokenHash());
+
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                calendarFeedService.getSubscriberId("old-token"));
+        assertEquals(ErrorCode.RESOURCE_NOT_FOUND, exception.getErrorCode());
+    }
+
+    // 5. 자원 이름 변경
+    @Test
+    @DisplayName("자원 이름이 바뀌면 그 자원의 예약이 들어 있는 사용자 피드와 자원 피드 버전을 올려야 한다")
+    void touchRenamedResource_touchesResourceAndUserFeeds() {
+        // Given
+        given(reservationRepository.findUserIdsByResourceAndEndDateAfter(
+                eq(ResourceCategory.CONFERENCE_ROOM), eq(5L), any())).willReturn(List.of(1L, 2L));
+
+        // When
+        calendarFeedService.touchRenamedResource(ResourceCategory.CONFERENCE_ROOM, 5L);
+
+        // Then
+        verify(feedVersions).touchRenamed(ResourceCategory.CONFERENCE_ROOM, 5L, List.of(1L, 2L));
+    }
+
+    private Reservation reservation(Long id, ResourceCategory category, Long resourceId, String reason) {
+        Reservation reservation = Reservation.builder()
+                .userId(USER_ID)
+                .resourceId(resourceId)
+                .bookedDate(START.minusDays(1))
+                .startDate(START)
+                .endDate(START.plusHours(1))
+                .capacity(4)
+                .reason(reason)
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+
+    private ConferenceRoom room(Long id, String name) {
+        ConferenceRoom room = ConferenceRoom.builder().name(name).maxCapacity(10).build();
+        ReflectionTestUtils.setField(room, "id", id);
+        return room;
+    }
+}
@@ -0,0 +1,266 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.analytics.ReservationUsageRecorder;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.ResourceLocker;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationRequest;
+import com.whatthefork.resourcereservation.resource.dto.request.create.SupplyCheckoutRequest;
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import com.whatthefork.resourcereservation.resource.entity.Supplies;
+import com.whatthefork.resourcereservation.resource.enums.ReservationEventType;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventOutbox;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcCalendarFeedVersionRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcReservationOutboxBulkRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcReservationUsageBulkRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaCanceledReservationRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaReservationOutboxRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaReservationRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaSupplyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ReservationService - 예약 생성/취소 동시성 테스트
+ * 같은 자원에 수백 건의 예약 요청이 동시에 들어와도 이중 예약/재고 초과 차감이 없어야 하고,
+ * 같은 예약을 동시에 취소해도 취소는 한 번만 처리되어야 한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ReservationService.class, ReservationWaitlistService.class, ResourceAvailabilityIndex.class, ResourceLocker.class,
+        ReservationUsageRecorder.class, JdbcReservationUsageBulkRepository.class,
+        CalendarFeedVersions.class, JdbcCalendarFeedVersionRepository.class,
+        ReservationEventOutbox.class, JdbcReservationOutboxBulkRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드가 자기 트랜잭션으로 커밋해야 함
+@DisplayName("ReservationService - 예약 동시 생성 테스트")
+class ReservationConcurrencyTests {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private JpaReservationRepository reservationRepository;
+
+    @Autowired
+    private JpaConferenceRoomRepository conferenceRoomRepository;
+
+    @Autowired
+    private JpaSupplyRepository supplyRepository;
+
+    @Autowired
+    private JpaCanceledReservationRepository canceledReservationRepository;
+
+    @Autowired
+    private JpaReservationOutboxRepository outboxRepository;
+
+    private final int REQUEST_COUNT = 300;
+    private final LocalDateTime START = LocalDateTime.of(2099, 3, 2, 10, 0);
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAllInBatch();
+        canceledReservationRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        conferenceRoomRepository.deleteAllInBatch();
+        supplyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 회의실 같은 시간대에 300건이 동시에 들어오면 1건만 성공해야 한다")
+    void createRoomReservation_concurrentSameSlot_onlyOneSucceeds() throws InterruptedException {
+        // Given
+        Long roomId = conferenceRoomRepository.save(ConferenceRoom.builder().name("회의실A").maxCapacity(8).build()).getId();
+
+        // When
+        Result result = runConcurrently(i -> reservationService.createRoomReservation(
+                request(roomId, ResourceCategory.CONFERENCE_ROOM, START.plusMinutes(i % 30), START.plusMinutes(60 + i % 30)),
+                (long) i), ErrorCode.REDUNDANT_RESERVATION);
+
+        // Then
+        assertEquals(0, result.unexpected().get());
+        assertEquals(1, result.success().get());
+        assertEquals(REQUEST_COUNT - 1, result.rejected().get());
+        assertEquals(1, reservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("같은 회의실에 30분 단위 시간대 10개를 300건이 동시에 노리면 시간대마다 1건씩만 성공해야 한다")
+    void createRoomReservation_concurrentDistinctSlots_noDoubleBooking() throws InterruptedException {
+        // Given
+        Long roomId = conferenceRoomRepository.save(ConferenceRoom.builder().name("회의실B").maxCapacity(8).build()).getId();
+        int slotCount = 10;
+
+        // When
+        Result result = runConcurrently(i -> {
+            LocalDateTime slotStart = START.plusMinutes(30L * (i % slotCount));
+            reservationService.createRoomReservation(
+                    request(roomId, ResourceCategory.CONFERENCE_ROOM, slotStart, slotStart.plusMinutes(30)), (long) i);
+        }, ErrorCode.REDUNDANT_RESERVATION);
+
+        // Then
+        assertEquals(0, result.unexpected().get());
+        assertEquals(slotCount, result.success().get());
+        assertEquals(slotCount, reservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("재고 50개 비품에 300건이 동시에 들어오면 50건만 성공하고 재고는 0이 되어야 한다")
+    void createSupplyReservation_concurrent_shouldNotOverdraw() throws InterruptedException {
+        // Given
+        int stock = 50;
+        Long supplyId = supplyRepository.save(Supplies.builder().name("노트북").capacity(stock).build()).getId();
+
+        // When
+        Result result = runConcurrently(i -> reservationService.createSupplyReservation(
+                request(supplyId, ResourceCategory.SUPPLIES, START, START.plusHours(1)),
+                (long) i), ErrorCode.NOT_ENOUGH_CAPACITY);
+
+        // Then
+        Supplies supply = supplyRepository.findById(supplyId).orElseThrow();
+
+        assertEquals(0, result.unexpected().get());
+        assertEquals(stock, result.success().get());
+        assertEquals(REQUEST_COUNT - stock, result.rejected().get());
+        assertEquals(0, supply.getCapacity());
+        assertTrue(supply.isBooked());
+        assertEquals(stock, reservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("재고 30개 비품 두 개를 300건이 서로 다른 순서로 동시에 일괄 대여하면 30건만 성공하고 교착 없이 둘 다 재고가 0이 되어야 한다")
+    void checkoutSupplies_concurrent_allOrNothingWithoutDeadlock() throws InterruptedException {
+        // Given
+        int stock = 30;
+        Long laptopId = supplyRepository.save(Supplies.builder().name("노트북").capacity(stock).build()).getId();
+        Long monitorId = supplyRepository.save(Supplies.builder().name("모니터").capacity(stock * 2).build()).getId();
+
+        // When (짝수 요청은 노트북부터, 홀수 요청은 모니터부터 담음)
+        Result result = runConcurrently(i -> {
+            List<SupplyCheckoutRequest.Item> items = i % 2 == 0
+                    ? List.of(new SupplyCheckoutRequest.Item(laptopId, 1), new SupplyCheckoutRequest.Item(monitorId, 2))
+                    : List.of(new SupplyCheckoutRequest.Item(monitorId, 2), new SupplyCheckoutRequest.Item(laptopId, 1));
+            reservationService.checkoutSupplies(new SupplyCheckoutRequest(
+                    START.minusDays(1), START, START.plusHours(1), "동시성 테스트", items), (long) i);
+        }, ErrorCode.NOT_ENOUGH_CAPACITY);
+
+        // Then
+        assertEquals(0, result.unexpected().get());
+        assertEquals(stock, result.success().get());
+        assertEquals(0, supplyRepository.findById(laptopId).orElseThrow().getCapacity());
+        assertEquals(0, supplyRepository.findById(monitorId).orElseThrow().getCapacity());
+        assertEquals(stock * 2L, reservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("같은 회의실 예약을 300건이 동시에 취소하면 1건만 성공하고 취소 기록과 취소 이벤트도 1건씩만 남아야 한다")
+    void cancelReservation_concurrentSameId_cancelsOnce() throws InterruptedException {
+        // Given
+        Long roomId = conferenceRoomRepository.save(ConferenceRoom.builder().name("회의실C").maxCapacity(8).build()).getId();
+        Long reservationId = reservationService.createRoomReservation(
+                request(roomId, ResourceCategory.CONFERENCE_ROOM, START, START.plusHours(1)), 1L)
+                .reservationResponse().id();
+
+        // When
+        Result result = runConcurrently(i -> reservationService.cancelReservation(reservationId, 1L),
+                ErrorCode.RESOURCE_NOT_FOUND);
+
+        // Then
+        assertEquals(0, result.unexpected().get());
+        assertEquals(1, result.success().get());
+        assertEquals(REQUEST_COUNT - 1, result.rejected().get());
+        assertEquals(0, reservationRepository.count());
+        assertEquals(1, canceledReservationRepository.count());
+        assertEquals(1, outboxRepository.findAll().stream()
+                .filter(event -> event.getEventType() == ReservationEventType.CANCELED)
+                .count());
+    }
+
+    @Test
+    @DisplayName("같은 비품 예약을 300건이 동시에 취소하면 재고는 대여 수량만큼 한 번만 반납되어야 한다")
+    void cancelSupplyReservation_concurrentSameId_restocksOnce() throws InterruptedException {
+        // Given
+        int stock = 5;
+        Long supplyId = supplyRepository.save(Supplies.builder().name("노트북").capacity(stock).build()).getId();
+        Long reservationId = reservationService.createSupplyReservation(
+                request(supplyId, ResourceCategory.SUPPLIES, START, START.plusHours(1)), 1L)
+                .reservationResponse().id();
+
+        // When
+        Result result = runConcurrently(i -> reservationService.cancelReservation(reservationId, 1L),
+                ErrorCode.RESOURCE_NOT_FOUND);
+
+        // Then
+        assertEquals(0, result.unexpected().get());
+        assertEquals(1, result.success().get());
+        assertEquals(stock, supplyRepository.findById(supplyId).orElseThrow().getCapacity());
+        assertEquals(1, canceledReservationRepository.count());
+    }
+
+    private Result runConcurrently(Request action, ErrorCode expectedRejection) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        Result result = new Result(new AtomicInteger(), new AtomicInteger(), new AtomicInteger());
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    action.run(index);
+                    result.success().incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == expectedRejection) {
+                        result.rejected().incrementAndGet();
+                    } else {
+                        result.unexpected().incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    result.unexpected().incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS), "모든 요청이 시간 안에 끝나야 한다");
+        executor.shutdown();
+        return result;
+    }
+
+    private CreateReservationRequest request(Long resourceId, ResourceCategory category,
+                                             LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationRequest(resourceId, START.minusDays(1), start, end, 1, "동시성 테스트", category);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void run(int index);
+    }
+
+    private record Result(AtomicInteger success, AtomicInteger rejected, AtomicInteger unexpected) {
+    }
+}
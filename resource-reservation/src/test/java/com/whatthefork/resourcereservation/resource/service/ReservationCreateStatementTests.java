@@ -0,0 +1,209 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.resource.analytics.ReservationUsageRecorder;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.ResourceLocker;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationRequest;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationAndConferenceRoom;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationAndSupply;
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import com.whatthefork.resourcereservation.resource.entity.Supplies;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventOutbox;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcCalendarFeedVersionRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcReservationOutboxBulkRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcReservationUsageBulkRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaReservationRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaSupplyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ReservationService - 예약 생성 1건당 DB 로 나가는 SQL 수 측정
+ * DataSource 를 감싸 JDBC 실행 수를 직접 세므로 Hibernate 와 JdbcTemplate 으로 나간 SQL 이 모두 잡힌다.
+ * (JdbcTemplate 배치는 executeBatch 한 번 = 한 번 왕복으로 셈)
+ * - 회의실: 잠금 조회, 겹침 확인, 예약 INSERT (Hibernate) + 이용률 upsert, 피드 버전 upsert, 아웃박스 INSERT (배치) = 6
+ * - 비품: 재고 UPDATE, 재고 조회, 예약 INSERT (Hibernate) + 아웃박스 INSERT (배치) = 4
+ * 응답을 만들려고 자원이나 예약을 다시 조회하지 않아야 한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@ActiveProfiles("test")
+@Import({ReservationService.class, ReservationWaitlistService.class, ResourceAvailabilityIndex.class, ResourceLocker.class,
+        ReservationUsageRecorder.class, JdbcReservationUsageBulkRepository.class,
+        CalendarFeedVersions.class, JdbcCalendarFeedVersionRepository.class,
+        ReservationEventOutbox.class, JdbcReservationOutboxBulkRepository.class,
+        ReservationCreateStatementTests.JdbcStatementCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 예약마다 실제 트랜잭션으로 커밋
+@DisplayName("ReservationService - 예약 생성 SQL 수 테스트")
+class ReservationCreateStatementTests {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private JpaReservationRepository reservationRepository;
+
+    @Autowired
+    private JpaConferenceRoomRepository conferenceRoomRepository;
+
+    @Autowired
+    private JpaSupplyRepository supplyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcStatementCounter statementCounter;
+
+    private Statistics statistics;
+
+    private final int BOOKING_COUNT = 50;
+    private final LocalDateTime START = LocalDateTime.of(2099, 3, 2, 9, 0);
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        conferenceRoomRepository.deleteAllInBatch();
+        supplyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("회의실 예약 1건은 Hibernate 3개 + JdbcTemplate 배치 3개, 모두 6번의 SQL 실행으로 끝나고 응답은 메모리 상태로 만들어야 한다")
+    void createRoomReservation_sixStatementsPerBooking() {
+        // Given
+        Long roomId = conferenceRoomRepository.save(ConferenceRoom.builder().name("회의실A").maxCapacity(8).build()).getId();
+        statistics.clear();
+        statementCounter.reset();
+
+        // When
+        ReservationAndConferenceRoom last = null;
+        for (int i = 0; i < BOOKING_COUNT; i++) {
+            LocalDateTime slotStart = START.plusHours(i);
+            last = reservationService.createRoomReservation(
+                    request(roomId, ResourceCategory.CONFERENCE_ROOM, slotStart, slotStart.plusHours(1)), (long) i);
+        }
+
+        // Then
+        assertEquals(6L * BOOKING_COUNT, statementCounter.executions());
+        assertEquals(3L * BOOKING_COUNT, statistics.getPrepareStatementCount());
+        assertEquals(BOOKING_COUNT, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals("회의실A", last.conferenceRoomResponse().name());
+        assertEquals(BOOKING_COUNT, reservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("비품 예약 1건은 재고 UPDATE, 재고 조회, INSERT + 아웃박스 배치, 모두 4번의 SQL 실행으로 끝나고 응답 재고는 차감이 반영된 값이어야 한다")
+    void createSupplyReservation_fourStatementsPerBooking() {
+        // Given
+        Long supplyId = supplyRepository.save(Supplies.builder().name("노트북").capacity(BOOKING_COUNT).build()).getId();
+        statistics.clear();
+        statementCounter.reset();
+
+        // When
+        ReservationAndSupply last = null;
+        for (int i = 0; i < BOOKING_COUNT; i++) {
+            last = reservationService.createSupplyReservation(
+                    request(supplyId, ResourceCategory.SUPPLIES, START, START.plusHours(1)), (long) i);
+        }
+
+        // Then
+        assertEquals(4L * BOOKING_COUNT, statementCounter.executions());
+        assertEquals(3L * BOOKING_COUNT, statistics.getPrepareStatementCount());
+        assertEquals(BOOKING_COUNT, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());     // 재고는 엔티티 수정이 아니라 UPDATE 쿼리 한 번
+        assertEquals(0, last.supplies().capacity());
+        assertTrue(last.supplies().isBooked());
+    }
+
+    private CreateReservationRequest request(Long resourceId, ResourceCategory category,
+                                             LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationRequest(resourceId, START.minusDays(1), start, end, 1, "SQL 수 측정", category);
+    }
+
+    /**
+     * DataSource 를 감싸 Statement 의 execute* 호출 수를 셈 (어떤 경로로 나간 SQL 이든 DB 왕복 한 번 = 1)
+     */
+    static class JdbcStatementCounter implements BeanPostProcessor {
+
+        private final AtomicLong executions = new AtomicLong();
+
+        long executions() {
+            return executions.get();
+        }
+
+        void reset() {
+            executions.set(0);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return wrap(DataSource.class, dataSource);
+            }
+            return bean;
+        }
+
+        private <T> T wrap(Class<T> type, T target) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+                if (target instanceof Statement && method.getName().startsWith("execute")) {
+                    executions.incrementAndGet();
+                }
+                if (result instanceof Connection connection) {
+                    return wrap(Connection.class, connection);
+                }
+                if (result instanceof CallableStatement statement) {
+                    return wrap(CallableStatement.class, statement);
+                }
+                if (result instanceof PreparedStatement statement) {
+                    return wrap(PreparedStatement.class, statement);
+                }
+                if (result instanceof Statement statement) {
+                    return wrap(Statement.class, statement);
+                }
+                return result;
+            }));
+        }
+    }
+}
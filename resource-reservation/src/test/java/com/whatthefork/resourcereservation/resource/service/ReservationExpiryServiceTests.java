@@ -0,0 +1,113 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationWaitlistRepository;
+import com.whatthefork.resourcereservation.resource.repository.SupplyRepository;
+import com.whatthefork.resourcereservation.resource.service.ReservationExpiryService.ChunkResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationExpiryService - 예약 만료 처리 테스트")
+class ReservationExpiryServiceTests {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private SupplyRepository supplyRepository;
+    @Mock
+    private ReservationWaitlistRepository waitlistRepository;
+    @Mock
+    private ResourceAvailabilityIndex availabilityIndex;
+
+    @InjectMocks
+    private ReservationExpiryService reservationExpiryService;
+
+    private final LocalDateTime NOW = LocalDateTime.of(2025, 3, 4, 12, 0);
+    private final int SIZE = 500;
+
+    // 1. 만료 + 비품 반납
+    @Test
+    @DisplayName("종료된 예약을 한 번에 만료 처리하고, 비품은 자원별로 대여 수량을 합쳐 재고를 반납해야 한다")
+    void expireChunk_expiresAndReleasesSupplies() {
+        // Given
+        List<Reservation> targets = List.of(
+                reservation(1L, ResourceCategory.CONFERENCE_ROOM, 10L, 6),
+                reservation(2L, ResourceCategory.SUPPLIES, 20L, 3),
+                reservation(3L, ResourceCategory.SUPPLIES, 20L, 2),
+                reservation(4L, ResourceCategory.SUPPLIES, 21L, 1));
+        given(reservationRepository.findExpiryTargets(NOW, PageRequest.of(0, SIZE))).willReturn(targets);
+        given(reservationRepository.expireByIds(List.of(1L, 2L, 3L, 4L))).willReturn(4);
+
+        // When
+        ChunkResult result = reservationExpiryService.expireChunk(NOW, SIZE);
+
+        // Then
+        assertEquals(new ChunkResult(4, 4, 6), result);
+        verify(supplyRepository, times(1)).increaseCapacity(20L, 5);
+        verify(supplyRepository, times(1)).increaseCapacity(21L, 1);
+        verify(availabilityIndex, times(1)).remove(1L);
+    }
+
+    // 2. 대상 없음
+    @Test
+    @DisplayName("만료 대상이 없으면 아무것도 갱신하지 않아야 한다")
+    void expireChunk_noTargets() {
+        // Given
+        given(reservationRepository.findExpiryTargets(NOW, PageRequest.of(0, SIZE))).willReturn(List.of());
+
+        // When
+        ChunkResult result = reservationExpiryService.expireChunk(NOW, SIZE);
+
+        // Then
+        assertEquals(new ChunkResult(0, 0, 0), result);
+        verifyNoInteractions(supplyRepository, availabilityIndex);
+    }
+
+    // 3. 시작 시각이 지난 대기 만료
+    @Test
+    @DisplayName("시작 시각이 지나도록 전환되지 못한 대기는 한 번에 만료 처리해야 한다")
+    void expireStartedWaitings() {
+        // Given
+        given(waitlistRepository.expireStartedBy(NOW)).willReturn(3);
+
+        // When
+        int expired = reservationExpiryService.expireStartedWaitings(NOW);
+
+        // Then
+        assertEquals(3, expired);
+    }
+
+    private Reservation reservation(Long id, ResourceCategory category, Long resourceId, int quantity) {
+        Reservation reservation = Reservation.builder()
+                .userId(100L)
+                .resourceId(resourceId)
+                .bookedDate(NOW.minusDays(2))
+                .startDate(NOW.minusDays(1))
+                .endDate(NOW.minusHours(1))
+                .capacity(quantity)
+                .reason("회의")
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+}
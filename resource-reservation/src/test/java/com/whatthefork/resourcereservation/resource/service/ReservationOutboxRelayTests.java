@@ -0,0 +1,150 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.resource.analytics.ReservationUsageRecorder;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.ResourceLocker;
+import com.whatthefork.resourcereservation.resource.batch.ReservationOutboxRelay;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationRequest;
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import com.whatthefork.resourcereservation.resource.enums.ReservationEventType;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.event.InProcessReservationEventBroker;
+import com.whatthefork.resourcereservation.resource.event.ReservationChangeEvent;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventOutbox;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcCalendarFeedVersionRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcReservationOutboxBulkRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcReservationUsageBulkRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JdbcSchedulerLeaseRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaReservationOutboxRepository;
+import com.whatthefork.resourcereservation.resource.infrastructure.repository.JpaReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 예약 변경 이벤트 아웃박스 -> 릴레이 -> 프로세스 내 브로커
+ * 커밋된 변경만 순서대로 한 번씩 발행되어야 한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ReservationService.class, ReservationWaitlistService.class, ResourceAvailabilityIndex.class, ResourceLocker.class,
+        ReservationUsageRecorder.class, JdbcReservationUsageBulkRepository.class,
+        CalendarFeedVersions.class, JdbcCalendarFeedVersionRepository.class,
+        ReservationEventOutbox.class, JdbcReservationOutboxBulkRepository.class,
+        ReservationOutboxService.class, ReservationOutboxRelay.class, InProcessReservationEventBroker.class,
+        JdbcSchedulerLeaseRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 예약 변경이 실제로 커밋되어야 릴레이가 읽음
+@DisplayName("ReservationOutboxRelay - 예약 변경 이벤트 발행 테스트")
+class ReservationOutboxRelayTests {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationOutboxRelay reservationOutboxRelay;
+
+    @Autowired
+    private InProcessReservationEventBroker broker;
+
+    @Autowired
+    private ReservationOutboxService reservationOutboxService;
+
+    @Autowired
+    private JdbcSchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private JpaReservationRepository reservationRepository;
+
+    @Autowired
+    private JpaConferenceRoomRepository conferenceRoomRepository;
+
+    @Autowired
+    private JpaReservationOutboxRepository outboxRepository;
+
+    private final List<ReservationChangeEvent> received = new CopyOnWriteArrayList<>();
+    private final LocalDateTime START = LocalDateTime.of(2099, 3, 2, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        broker.subscribe(received::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        conferenceRoomRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("생성과 취소는 순서대로 한 번씩 발행되고, 롤백된 예약은 발행되지 않아야 한다")
+    void relay_publishesCommittedChangesInOrder() {
+        // Given
+        Long roomId = conferenceRoomRepository.save(ConferenceRoom.builder().name("회의실A").maxCapacity(8).build()).getId();
+
+        Long reservationId = reservationService.createRoomReservation(request(roomId), 1L).reservationResponse().id();
+        // 같은 시간대 두 번째 예약은 실패 -> 아웃박스 INSERT 도 롤백
+        assertThrows(BusinessException.class, () -> reservationService.createRoomReservation(request(roomId), 2L));
+        reservationService.cancelReservation(reservationId, 1L);
+
+        // When
+        int published = reservationOutboxRelay.run();
+        int republished = reservationOutboxRelay.run();
+
+        // Then
+        assertEquals(2, published);
+        assertEquals(0, republished);
+        assertEquals(List.of(ReservationEventType.CREATED, ReservationEventType.CANCELED),
+                received.stream().map(ReservationChangeEvent::type).toList());
+        received.forEach(event -> {
+            assertEquals(reservationId, event.reservationId());
+            assertEquals(roomId, event.resourceId());
+            assertEquals(START, event.startDate());
+        });
+    }
+
+    @Test
+    @DisplayName("임대를 잡은 인스턴스만 발행하고, 다른 인스턴스의 릴레이는 아무것도 발행하지 않아야 한다")
+    void relay_onlyLeaseHolderPublishes() {
+        // Given
+        ReservationOutboxRelay otherInstance = new ReservationOutboxRelay(
+                reservationOutboxService, schedulerLeaseRepository, 100, 7, Duration.ofSeconds(30));
+        reservationOutboxRelay.run(); // 임대 잡기
+
+        Long roomId = conferenceRoomRepository.save(ConferenceRoom.builder().name("회의실A").maxCapacity(8).build()).getId();
+        reservationService.createRoomReservation(request(roomId), 1L);
+
+        // When
+        int publishedByOther = otherInstance.run();
+        int publishedByHolder = reservationOutboxRelay.run();
+
+        // Then
+        assertEquals(0, publishedByOther);
+        assertEquals(1, publishedByHolder);
+        assertEquals(List.of(ReservationEventType.CREATED),
+                received.stream().map(ReservationChangeEvent::type).toList());
+    }
+
+    private CreateReservationRequest request(Long roomId) {
+        return new CreateReservationRequest(roomId, START.minusDays(1), START, START.plusHours(1), 4, "주간 회의",
+                ResourceCategory.CONFERENCE_ROOM);
+    }
+}
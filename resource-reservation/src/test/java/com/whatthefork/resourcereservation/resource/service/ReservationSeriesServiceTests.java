@@ -0,0 +1,259 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.analytics.ReservationUsageRecorder;
+import com.whatthefork.resourcereservation.resource.availability.RecurrenceRule;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.ResourceLocker;
+import com.whatthefork.resourcereservation.resource.availability.TimeRange;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationSeriesRequest;
+import com.whatthefork.resourcereservation.resource.dto.request.update.UpdateReservationSeriesRequest;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationSeriesResponse;
+import com.whatthefork.resourcereservation.resource.entity.CanceledReservation;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.entity.ReservationSeries;
+import com.whatthefork.resourcereservation.resource.enums.RecurrenceType;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventOutbox;
+import com.whatthefork.resourcereservation.resource.repository.CanceledReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationBulkRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationSeriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationSeriesService - 반복 예약 테스트")
+class ReservationSeriesServiceTests {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ReservationBulkRepository reservationBulkRepository;
+    @Mock
+    private ReservationSeriesRepository reservationSeriesRepository;
+    @Mock
+    private CanceledReservationRepository cancelRepository;
+    @Mock
+    private ResourceAvailabilityIndex availabilityIndex;
+    @Mock
+    private ResourceLocker resourceLocker;
+    @Mock
+    private ReservationWaitlistService reservationWaitlistService;
+
+    @Mock
+    private ReservationUsageRecorder usageRecorder;
+
+    @Mock
+    private CalendarFeedVersions feedVersions;
+
+    @Mock
+    private ReservationEventOutbox eventOutbox;
+
+    @InjectMocks
+    private ReservationSeriesService reservationSeriesService;
+
+    private final Long USER_ID = 100L;
+    private final Long ROOM_ID = 1L;
+    private final Long SERIES_ID = 7L;
+    private final LocalDateTime FIRST_START = LocalDateTime.of(2099, 3, 2, 10, 0);   // 월요일
+    private final LocalDateTime FIRST_END = LocalDateTime.of(2099, 3, 2, 11, 0);
+
+    @BeforeEach
+    void setUp() {
+        // 자원 락은 잡은 셈 치고 작업만 실행
+        lenient().when(resourceLocker.inTransaction(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
+    // 1. 규칙 펼치기
+    @Test
+    @DisplayName("매주 4회 규칙은 7일 간격 4개 회차로, n일 규칙은 종료일(포함)까지 펼쳐야 한다")
+    void recurrenceRule_expand() {
+        // When
+        List<TimeRange> weekly = RecurrenceRule.of(RecurrenceType.WEEKLY, null, null, 4).expand(FIRST_START, FIRST_END);
+        List<TimeRange> custom = RecurrenceRule.of(RecurrenceType.CUSTOM, 3, LocalDate.of(2099, 3, 11), null)
+                .expand(FIRST_START, FIRST_END);
+
+        // Then
+        assertEquals(4, weekly.size());
+        assertEquals(FIRST_START.plusWeeks(3), weekly.get(3).startDate());
+        assertEquals(List.of(FIRST_START, FIRST_START.plusDays(3), FIRST_START.plusDays(6), FIRST_START.plusDays(9)),
+                custom.stream().map(TimeRange::startDate).toList());
+    }
+
+    // 2. 잘못된 규칙
+    @Test
+    @DisplayName("종료일과 횟수를 함께 주거나, 한 회차가 반복 간격보다 길면 INVALID_RECURRENCE 예외를 던져야 한다")
+    void recurrenceRule_invalid() {
+        // When & Then
+        BusinessException both = assertThrows(BusinessException.class, () ->
+                RecurrenceRule.of(RecurrenceType.DAILY, null, LocalDate.of(2099, 4, 1), 3));
+        BusinessException tooLong = assertThrows(BusinessException.class, () ->
+                RecurrenceRule.of(RecurrenceType.DAILY, null, null, 3).expand(FIRST_START, FIRST_START.plusHours(25)));
+
+        assertEquals(ErrorCode.INVALID_RECURRENCE, both.getErrorCode());
+        assertEquals(ErrorCode.INVALID_RECURRENCE, tooLong.getErrorCode());
+    }
+
+    // 3. 겹치는 회차가 있으면 전체 거절
+    @Test
+    @DisplayName("skipConflicts 가 false 이고 인덱스에서 겹치는 회차가 DB로도 확인되면 잠금/저장 없이 REDUNDANT_RESERVATION 예외를 던져야 한다")
+    void createSeries_conflict_rejectsWholeSeries() {
+        // Given
+        CreateReservationSeriesRequest request = weeklyRequest(4, false);
+        given(availabilityIndex.findConflicts(any(), any(), anyList(), any()))
+                .willReturn(List.of(new TimeRange(FIRST_START.plusWeeks(1), FIRST_END.plusWeeks(1))));
+        given(reservationRepository.findOverlappingInSpan(ResourceCategory.CONFERENCE_ROOM, ROOM_ID,
+                FIRST_START, FIRST_END.plusWeeks(3)))
+                .willReturn(List.of(reservation(50L, FIRST_START.plusWeeks(1), FIRST_END.plusWeeks(1), null)));
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationSeriesService.createSeries(request, USER_ID));
+
+        assertEquals(ErrorCode.REDUNDANT_RESERVATION, exception.getErrorCode());
+        verify(resourceLocker, never()).inTransaction(any(), any(), any());
+        verify(reservationBulkRepository, never()).batchInsert(anyList());
+    }
+
+    // 4. 겹치는 회차만 빼고 일괄 저장
+    @Test
+    @DisplayName("skipConflicts 가 true 이면 DB에서 겹친 회차만 빼고 나머지를 한 번에 배치 저장해야 한다")
+    @SuppressWarnings("unchecked")
+    void createSeries_skipConflicts_batchInsertsRest() {
+        // Given
+        CreateReservationSeriesRequest request = weeklyRequest(4, true);
+        given(availabilityIndex.findConflicts(any(), any(), anyList(), any())).willReturn(List.of());
+
+        // 다른 인스턴스에서 2주차 10:30~12:00 에 예약이 잡혀 있음
+        Reservation existing = reservation(50L, FIRST_START.plusWeeks(1).plusMinutes(30), FIRST_END.plusWeeks(1).plusHours(1), null);
+        given(reservationRepository.findOverlappingInSpan(ResourceCategory.CONFERENCE_ROOM, ROOM_ID,
+                FIRST_START, FIRST_END.plusWeeks(3))).willReturn(List.of(existing));
+
+        given(reservationSeriesRepository.save(any(ReservationSeries.class))).willAnswer(invocation -> {
+            ReservationSeries series = invocation.getArgument(0);
+            ReflectionTestUtils.setField(series, "id", SERIES_ID);
+            return series;
+        });
+        given(reservationRepository.findAllBySeriesId(SERIES_ID)).willReturn(List.of(
+                reservation(60L, FIRST_START, FIRST_END, SERIES_ID),
+                reservation(61L, FIRST_START.plusWeeks(2), FIRST_END.plusWeeks(2), SERIES_ID),
+                reservation(62L, FIRST_START.plusWeeks(3), FIRST_END.plusWeeks(3), SERIES_ID)));
+
+        // When
+        ReservationSeriesResponse response = reservationSeriesService.createSeries(request, USER_ID);
+
+        // Then
+        ArgumentCaptor<List<Reservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservationBulkRepository, times(1)).batchInsert(captor.capture());
+
+        assertEquals(List.of(FIRST_START, FIRST_START.plusWeeks(2), FIRST_START.plusWeeks(3)),
+                captor.getValue().stream().map(Reservation::getStartDate).toList());
+        captor.getValue().forEach(reservation -> assertEquals(SERIES_ID, reservation.getSeriesId()));
+
+        assertEquals(SERIES_ID, response.seriesId());
+        assertEquals(3, response.reservedCount());
+        assertEquals(List.of(new TimeRange(FIRST_START.plusWeeks(1), FIRST_END.plusWeeks(1))), response.skippedSlots());
+        verify(availabilityIndex, times(3)).add(any(Reservation.class));
+    }
+
+    // 5. 반복 예약 취소
+    @Test
+    @DisplayName("반복 예약을 취소하면 아직 시작 안 한 회차를 한 번에 지우고 인덱스에서 빼고, 비게 된 회차 구간의 대기를 전환해야 한다")
+    void cancelSeries_deletesUpcoming() {
+        // Given
+        ReservationSeries series = ReservationSeries.builder()
+                .userId(USER_ID).resourceId(ROOM_ID).category(ResourceCategory.CONFERENCE_ROOM)
+                .recurrence(RecurrenceType.WEEKLY).occurrenceCount(4).firstStartDate(FIRST_START).reason("주간 회의")
+                .build();
+        given(reservationSeriesRepository.findById(SERIES_ID)).willReturn(Optional.of(series));
+        given(reservationRepository.findAllBySeriesIdAndStartDateAfterOrderByStartDateAsc(any(), any())).willReturn(List.of(
+                reservation(61L, FIRST_START.plusWeeks(2), FIRST_END.plusWeeks(2), SERIES_ID),
+                reservation(62L, FIRST_START.plusWeeks(3), FIRST_END.plusWeeks(3), SERIES_ID)));
+        given(cancelRepository.save(any(CanceledReservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        reservationSeriesService.cancelSeries(SERIES_ID, USER_ID);
+
+        // Then
+        verify(reservationRepository, times(1)).deleteAllByIds(List.of(61L, 62L));
+        verify(availabilityIndex, times(1)).remove(61L);
+        verify(availabilityIndex, times(1)).remove(62L);
+        verify(reservationWaitlistService, times(1)).promoteNext(ResourceCategory.CONFERENCE_ROOM, ROOM_ID,
+                FIRST_START.plusWeeks(2), FIRST_END.plusWeeks(3));
+    }
+
+    // 6. 오늘 회차를 지난 시각으로 옮기는 수정
+    @Test
+    @DisplayName("아직 시작 안 한 오늘 회차가 지난 시각으로 옮겨지면 PAST_RESERVATION_TIME 예외를 던지고 아무것도 바꾸지 않아야 한다")
+    void editSeries_movesIntoPast_shouldThrowException() {
+        // Given
+        ReservationSeries series = ReservationSeries.builder()
+                .userId(USER_ID).resourceId(ROOM_ID).category(ResourceCategory.CONFERENCE_ROOM)
+                .recurrence(RecurrenceType.DAILY).occurrenceCount(2).firstStartDate(FIRST_START).reason("일일 점검")
+                .build();
+        LocalDateTime tonight = LocalDate.now().atTime(23, 59);
+        Reservation today = reservation(61L, tonight, tonight.plusSeconds(59), SERIES_ID);
+        given(reservationSeriesRepository.findById(SERIES_ID)).willReturn(Optional.of(series));
+        given(reservationRepository.findAllBySeriesIdAndStartDateAfterOrderByStartDateAsc(any(), any()))
+                .willReturn(List.of(today));
+
+        // When & Then (오늘 23:59 회차를 오늘 00:00 으로 당김)
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationSeriesService.editSeries(SERIES_ID,
+                        new UpdateReservationSeriesRequest(LocalTime.MIDNIGHT, LocalTime.of(0, 30), 4, "일일 점검")));
+
+        assertEquals(ErrorCode.PAST_RESERVATION_TIME, exception.getErrorCode());
+        assertEquals(tonight, today.getStartDate());
+        verify(reservationWaitlistService, never()).promoteNext(any(), any(), any(), any());
+    }
+
+    private CreateReservationSeriesRequest weeklyRequest(int count, boolean skipConflicts) {
+        return new CreateReservationSeriesRequest(ROOM_ID, FIRST_START.minusDays(1), FIRST_START, FIRST_END, 4,
+                "주간 회의", ResourceCategory.CONFERENCE_ROOM, RecurrenceType.WEEKLY, null, null, count, skipConflicts);
+    }
+
+    private Reservation reservation(Long id, LocalDateTime start, LocalDateTime end, Long seriesId) {
+        Reservation reservation = Reservation.builder()
+                .userId(USER_ID)
+                .resourceId(ROOM_ID)
+                .bookedDate(FIRST_START.minusDays(1))
+                .startDate(start)
+                .endDate(end)
+                .capacity(4)
+                .reason("주간 회의")
+                .category(ResourceCategory.CONFERENCE_ROOM)
+                .seriesId(seriesId)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+}
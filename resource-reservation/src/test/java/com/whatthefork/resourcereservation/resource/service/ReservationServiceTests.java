@@ -2,13 +2,23 @@ package com.whatthefork.resourcereservation.resource.service;
 
 import com.whatthefork.resourcereservation.exception.BusinessException;
 import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.analytics.ReservationUsageRecorder;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.ResourceLocker;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationRequest;
+import com.whatthefork.resourcereservation.resource.dto.request.create.SupplyCheckoutRequest;
+import com.whatthefork.resourcereservation.resource.dto.request.update.UpdateReservationRequest;
 import com.whatthefork.resourcereservation.resource.dto.response.CanceledReservationResponse;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationAndConferenceRoom;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationAndSupply;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationPageResponse;
 import com.whatthefork.resourcereservation.resource.entity.CanceledReservation;
 import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
-import com.whatthefork.resourcereservation.resource.entity.CorporateCar;
 import com.whatthefork.resourcereservation.resource.entity.Reservation;
 import com.whatthefork.resourcereservation.resource.entity.Supplies;
 import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventOutbox;
 import com.whatthefork.resourcereservation.resource.repository.CanceledReservationRepository;
 import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
 import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
@@ -21,17 +31,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -52,6 +68,21 @@ class ReservationServiceTest {
     private SupplyRepository supplyRepository;
     @Mock
     private CanceledReservationRepository cancelRepository;
+    @Mock
+    private ResourceAvailabilityIndex availabilityIndex;
+    @Mock
+    private ResourceLocker resourceLocker;
+    @Mock
+    private ReservationWaitlistService reservationWaitlistService;
+
+    @Mock
+    private ReservationUsageRecorder usageRecorder;
+
+    @Mock
+    private CalendarFeedVersions feedVersions;
+
+    @Mock
+    private ReservationEventOutbox eventOutbox;
 
     // 테스트 대상 Service에 Mock들을 주입
     @InjectMocks
@@ -62,6 +93,15 @@ class ReservationServiceTest {
     private final Long USER_ID = 100L;
     private final Long RESOURCE_ID = 200L;
     private final String REASON = "일정 변경";
+    private final LocalDateTime START = LocalDateTime.of(2099, 3, 2, 10, 0);
+    private final LocalDateTime END = LocalDateTime.of(2099, 3, 2, 11, 0);
+
+    @BeforeEach
+    void setUp() {
+        // 자원 락은 잡은 셈 치고 작업만 실행
+        lenient().when(resourceLocker.inTransaction(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
 
 
     // 1. 예약이 존재하지 않는 경우
@@ -84,21 +124,17 @@ class ReservationServiceTest {
 
     // 2. 회의실 예약 취소 성공
     @Test
-    @DisplayName("회의실 예약 취소 시, 회의실 상태를 false로 업데이트하고 예약을 삭제해야 한다")
+    @DisplayName("회의실 예약 취소 시, 예약 시간 인덱스에서 구간을 빼고 예약을 삭제해야 한다")
     void cancelReservation_ConferenceRoom_Success() {
         // Given
         // 1. 예약 객체 Mocking
         Reservation mockReservation = mock(Reservation.class);
         given(mockReservation.getCategory()).willReturn(ResourceCategory.CONFERENCE_ROOM);
-        given(mockReservation.getResourceId()).willReturn(RESOURCE_ID);
         given(mockReservation.getReason()).willReturn(REASON);
         given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(mockReservation));
+        given(reservationRepository.lockById(RESERVATION_ID)).willReturn(1);
 
-        // 2. 자원 객체 Mocking (updateIsBooked 메서드 호출 검증을 위해 필요)
-        ConferenceRoom mockRoom = mock(ConferenceRoom.class);
-        given(conferenceRoomRepository.findById(RESOURCE_ID)).willReturn(Optional.of(mockRoom));
-
-        // 3. 취소 기록 저장 Mocking
+        // 2. 취소 기록 저장 Mocking
         CanceledReservation mockCanceled = CanceledReservation.builder().userId(50L).build();
         given(cancelRepository.save(any(CanceledReservation.class))).willReturn(mockCanceled);
 
@@ -108,32 +144,31 @@ class ReservationServiceTest {
         // Then
         // 1. 취소 기록 저장 검증
         verify(cancelRepository, times(1)).save(any(CanceledReservation.class));
-        // 2. 자원 상태 업데이트 검증
-        verify(mockRoom, times(1)).updateIsBooked(eq(false));
+        // 2. 회의실은 DB 상태를 바꾸지 않고 인덱스에서만 제거
+        verify(conferenceRoomRepository, never()).findById(any());
+        verify(availabilityIndex, times(1)).remove(RESERVATION_ID);
         // 3. 예약 삭제 검증
         verify(reservationRepository, times(1)).deleteById(RESERVATION_ID);
-        // 4. 응답 확인
+        // 4. 비게 된 시간대의 대기자 전환
+        verify(reservationWaitlistService, times(1)).promoteNext(mockReservation);
+        // 5. 응답 확인
         assertNotNull(response);
     }
 
 
     // 3. 법인차량 예약 취소 성공
     @Test
-    @DisplayName("법인차량 예약 취소 시, 차량 상태를 false로 업데이트하고 예약을 삭제해야 한다")
+    @DisplayName("법인차량 예약 취소 시, 예약 시간 인덱스에서 구간을 빼고 예약을 삭제해야 한다")
     void cancelReservation_CorporateCar_Success() {
         // Given
         // 1. 예약 객체 Mocking
         Reservation mockReservation = mock(Reservation.class);
         given(mockReservation.getCategory()).willReturn(ResourceCategory.CORPORATE_VEHICLE);
-        given(mockReservation.getResourceId()).willReturn(RESOURCE_ID);
         given(mockReservation.getReason()).willReturn(REASON);
         given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(mockReservation));
+        given(reservationRepository.lockById(RESERVATION_ID)).willReturn(1);
 
-        // 2. 자원 객체 Mocking
-        CorporateCar mockCar = mock(CorporateCar.class);
-        given(corporateCarRepository.findById(RESOURCE_ID)).willReturn(Optional.of(mockCar));
-
-        // 3. 취소 기록 저장 Mocking
+        // 2. 취소 기록 저장 Mocking
         CanceledReservation mockCanceled = CanceledReservation.builder().userId(51L).build();
         given(cancelRepository.save(any(CanceledReservation.class))).willReturn(mockCanceled);
 
@@ -143,28 +178,30 @@ class ReservationServiceTest {
         // Then
         // 1. 취소 기록 저장 검증
         verify(cancelRepository, times(1)).save(any(CanceledReservation.class));
-        // 2. 자원 상태 업데이트 검증
-        verify(mockCar, times(1)).updateIsBooked(eq(false));
+        // 2. 차량은 DB 상태를 바꾸지 않고 인덱스에서만 제거
+        verify(corporateCarRepository, never()).findById(any());
+        verify(availabilityIndex, times(1)).remove(RESERVATION_ID);
         // 3. 예약 삭제 검증
         verify(reservationRepository, times(1)).deleteById(RESERVATION_ID);
-        // (ConferenceRoom, Supplies Repository는 호출되지 않았는지 확인도 가능)
     }
 
     // 4. 비품 예약 취소 성공
     @Test
-    @DisplayName("비품 예약 취소 시, 비품 상태를 false로 업데이트하고 예약을 삭제해야 한다")
+    @DisplayName("비품 예약 취소 시, 대여 수량만큼 재고를 반납하고 예약을 삭제해야 한다")
     void cancelReservation_Supplies_Success() {
         // Given
-        // 1. 예약 객체 Mocking
+        // 1. 예약 객체 Mocking (3개 대여)
         Reservation mockReservation = mock(Reservation.class);
         given(mockReservation.getCategory()).willReturn(ResourceCategory.SUPPLIES);
         given(mockReservation.getResourceId()).willReturn(RESOURCE_ID);
+        given(mockReservation.getCapacity()).willReturn(3);
         given(mockReservation.getReason()).willReturn(REASON);
         given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(mockReservation));
+        given(reservationRepository.lockById(RESERVATION_ID)).willReturn(1);
 
-        // 2. 자원 객체 Mocking
-        Supplies mockSupply = mock(Supplies.class);
-        given(supplyRepository.findById(RESOURCE_ID)).willReturn(Optional.of(mockSupply));
+        // 2. 아직 만료되지 않은 예약이 삭제되고 재고가 반납됨
+        given(reservationRepository.deleteActiveById(RESERVATION_ID)).willReturn(1);
+        given(supplyRepository.increaseCapacity(RESOURCE_ID, 3)).willReturn(1);
 
         // 3. 취소 기록 저장 Mocking
         CanceledReservation mockCanceled = CanceledReservation.builder().userId(52L).build();
@@ -176,37 +213,392 @@ class ReservationServiceTest {
         // Then
         // 1. 취소 기록 저장 검증
         verify(cancelRepository, times(1)).save(any(CanceledReservation.class));
-        // 2. 자원 상태 업데이트 검증
-        verify(mockSupply, times(1)).updateIsBooked(eq(false));
-        // 3. 예약 삭제 검증
+        // 2. 대여 수량만큼 재고 반납 검증
+        verify(supplyRepository, times(1)).increaseCapacity(RESOURCE_ID, 3);
+        // 3. 조건부 삭제로 끝나고 따로 삭제하지 않음
+        verify(reservationRepository, never()).deleteById(any());
+        verify(reservationWaitlistService, never()).promoteNext(any());
+    }
+
+    // 4-1. 이미 만료된 비품 예약 취소
+    @Test
+    @DisplayName("만료 처리로 이미 재고가 반납된 비품 예약을 취소하면 재고를 다시 반납하지 않아야 한다")
+    void cancelReservation_ExpiredSupplies_ShouldNotRestockTwice() {
+        // Given
+        Reservation mockReservation = mock(Reservation.class);
+        given(mockReservation.getCategory()).willReturn(ResourceCategory.SUPPLIES);
+        given(mockReservation.getReason()).willReturn(REASON);
+        given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(mockReservation));
+        given(reservationRepository.lockById(RESERVATION_ID)).willReturn(1);
+        given(reservationRepository.deleteActiveById(RESERVATION_ID)).willReturn(0);
+        given(cancelRepository.save(any(CanceledReservation.class))).willReturn(mock(CanceledReservation.class));
+
+        // When
+        reservationService.cancelReservation(RESERVATION_ID, USER_ID);
+
+        // Then
+        verify(supplyRepository, never()).increaseCapacity(any(), anyInt());
         verify(reservationRepository, times(1)).deleteById(RESERVATION_ID);
     }
 
     // 5. 예약은 있으나 자원이 DB에 없는 경우
     @Test
-    @DisplayName("예약된 자원(ConferenceRoom)이 DB에 없으면 RESOURCE_NOT_FOUND 예외를 던져야 한다")
+    @DisplayName("예약된 자원(Supplies)이 DB에 없으면 RESOURCE_NOT_FOUND 예외를 던져야 한다")
     void cancelReservation_ResourceMissing_ShouldThrowException() {
         // Given
-        // 1. 예약 객체 Mocking: 회의실 예약이었으나
+        // 1. 예약 객체 Mocking: 비품 예약이었으나
         Reservation mockReservation = mock(Reservation.class);
-        given(mockReservation.getCategory()).willReturn(ResourceCategory.CONFERENCE_ROOM);
+        given(mockReservation.getCategory()).willReturn(ResourceCategory.SUPPLIES);
         given(mockReservation.getResourceId()).willReturn(RESOURCE_ID);
+        given(mockReservation.getCapacity()).willReturn(1);
         given(mockReservation.getReason()).willReturn(REASON);
         given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(mockReservation));
+        given(reservationRepository.lockById(RESERVATION_ID)).willReturn(1);
+        given(reservationRepository.deleteActiveById(RESERVATION_ID)).willReturn(1);
 
-        // 2. 해당 회의실이 Repository에 없는 경우 (Optional.empty())
-        given(conferenceRoomRepository.findById(RESOURCE_ID)).willReturn(Optional.empty());
+        // 2. 해당 비품이 DB에 없어 반납된 행이 없음
+        given(supplyRepository.increaseCapacity(RESOURCE_ID, 1)).willReturn(0);
 
         // 3. 취소 기록 저장 Mocking (예외 발생 직전에 save는 호출될 수 있음)
         given(cancelRepository.save(any(CanceledReservation.class))).willReturn(mock(CanceledReservation.class));
 
-        // When & Then
+        // When & Then (예외로 트랜잭션 전체가 롤백되어 삭제도 되돌려짐)
         BusinessException exception = assertThrows(BusinessException.class, () -> {
             reservationService.cancelReservation(RESERVATION_ID, USER_ID);
         });
 
         assertEquals(ErrorCode.RESOURCE_NOT_FOUND, exception.getErrorCode());
-        // 자원 업데이트가 실패했으므로 예약 삭제는 호출되지 않아야 함 (트랜잭션 롤백 기대)
+    }
+
+    // 5-1. 동시에 먼저 취소된 예약
+    @Test
+    @DisplayName("예약 행을 잠갔을 때 이미 삭제되어 있으면 취소 기록/이벤트/집계/대기자 전환 없이 RESOURCE_NOT_FOUND 예외를 던져야 한다")
+    void cancelReservation_AlreadyCanceled_ShouldHaveNoSideEffects() {
+        // Given
+        Reservation mockReservation = mock(Reservation.class);
+        given(mockReservation.getCategory()).willReturn(ResourceCategory.CONFERENCE_ROOM);
+        given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(mockReservation));
+        given(reservationRepository.lockById(RESERVATION_ID)).willReturn(0);
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationService.cancelReservation(RESERVATION_ID, USER_ID));
+
+        assertEquals(ErrorCode.RESOURCE_NOT_FOUND, exception.getErrorCode());
+        verify(cancelRepository, never()).save(any(CanceledReservation.class));
+        verify(eventOutbox, never()).append(any(), any(Reservation.class));
+        verify(usageRecorder, never()).erase(any(Reservation.class));
+        verify(feedVersions, never()).touch(any(Reservation.class));
+        verify(reservationWaitlistService, never()).promoteNext(any());
         verify(reservationRepository, never()).deleteById(any());
     }
-}
\ No newline at end of file
+
+    // 6. 시간이 겹치는 회의실 예약
+    @Test
+    @DisplayName("같은 회의실에 시간이 겹치는 예약이 있으면 REDUNDANT_RESERVATION 예외를 던지고 저장하지 않아야 한다")
+    void createRoomReservation_Overlapping_ShouldThrowException() {
+        // Given
+        CreateReservationRequest request = roomRequest(START, END);
+        given(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, null))
+                .willReturn(false);
+        given(reservationRepository.existsOverlapping(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, null))
+                .willReturn(true);
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationService.createRoomReservation(request, USER_ID));
+
+        assertEquals(ErrorCode.REDUNDANT_RESERVATION, exception.getErrorCode());
+        // 인덱스에서 겹치고 DB로도 확인되면 잠금 없이 끝나야 함
+        verify(conferenceRoomRepository, never()).findWithLockById(any());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    // 6-1. 다른 인스턴스에서 취소되어 인덱스만 낡은 경우
+    @Test
+    @DisplayName("인덱스에는 겹친다고 나와도 DB에서 비어 있으면 회의실 예약을 저장해야 한다")
+    void createRoomReservation_StaleIndex_ShouldConfirmWithDb() {
+        // Given
+        CreateReservationRequest request = roomRequest(START, END);
+        given(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, null))
+                .willReturn(false);
+        given(conferenceRoomRepository.findWithLockById(RESOURCE_ID))
+                .willReturn(Optional.of(ConferenceRoom.builder().name("회의실A").maxCapacity(8).build()));
+        given(reservationRepository.existsOverlapping(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, null))
+                .willReturn(false);
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ReservationAndConferenceRoom response = reservationService.createRoomReservation(request, USER_ID);
+
+        // Then
+        assertEquals(START, response.reservationResponse().startDate());
+        verify(reservationRepository, times(1)).save(any(Reservation.class));
+    }
+
+    // 7. 비어 있는 시간대 회의실 예약
+    @Test
+    @DisplayName("시간이 겹치지 않으면 회의실 예약을 저장하고 예약 시간 인덱스에 반영해야 한다")
+    void createRoomReservation_Available_Success() {
+        // Given
+        CreateReservationRequest request = roomRequest(START, END);
+        given(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, null))
+                .willReturn(true);
+        given(conferenceRoomRepository.findWithLockById(RESOURCE_ID))
+                .willReturn(Optional.of(ConferenceRoom.builder().name("회의실A").maxCapacity(8).build()));
+        given(reservationRepository.existsOverlapping(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, null))
+                .willReturn(false);
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ReservationAndConferenceRoom response = reservationService.createRoomReservation(request, USER_ID);
+
+        // Then
+        assertEquals(START, response.reservationResponse().startDate());
+        assertEquals("회의실A", response.conferenceRoomResponse().name());
+        verify(resourceLocker, times(1)).inTransaction(eq(ResourceCategory.CONFERENCE_ROOM), eq(RESOURCE_ID), any());
+        verify(availabilityIndex, times(1)).add(any(Reservation.class));
+    }
+
+    // 8. 종료 시각이 시작 시각보다 빠른 예약
+    @Test
+    @DisplayName("종료 시각이 시작 시각보다 빠르면 INVALID_RESERVATION_PERIOD 예외를 던져야 한다")
+    void createRoomReservation_InvalidPeriod_ShouldThrowException() {
+        // Given
+        CreateReservationRequest request = roomRequest(END, START);
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationService.createRoomReservation(request, USER_ID));
+
+        assertEquals(ErrorCode.INVALID_RESERVATION_PERIOD, exception.getErrorCode());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    // 9. 다른 인스턴스에서 먼저 잡힌 예약
+    @Test
+    @DisplayName("인덱스에는 없어도 DB에 겹치는 예약이 있으면 REDUNDANT_RESERVATION 예외를 던져야 한다")
+    void createRoomReservation_OverlappingInDb_ShouldThrowException() {
+        // Given
+        CreateReservationRequest request = roomRequest(START, END);
+        given(availabilityIndex.isAvailable(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, null))
+                .willReturn(true);
+        given(conferenceRoomRepository.findWithLockById(RESOURCE_ID))
+                .willReturn(Optional.of(ConferenceRoom.builder().name("회의실A").maxCapacity(8).build()));
+        given(reservationRepository.existsOverlapping(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, null))
+                .willReturn(true);
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationService.createRoomReservation(request, USER_ID));
+
+        assertEquals(ErrorCode.REDUNDANT_RESERVATION, exception.getErrorCode());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    // 10. 비품 재고 부족
+    @Test
+    @DisplayName("비품 재고 차감이 0건이면 NOT_ENOUGH_CAPACITY 예외를 던지고 예약을 저장하지 않아야 한다")
+    void createSupplyReservation_OutOfStock_ShouldThrowException() {
+        // Given
+        CreateReservationRequest request = new CreateReservationRequest(
+                RESOURCE_ID, LocalDateTime.of(2099, 3, 1, 9, 0), START, END, 1, "노트북 대여", ResourceCategory.SUPPLIES);
+        given(availabilityIndex.isAvailable(ResourceCategory.SUPPLIES, RESOURCE_ID, START, END, null)).willReturn(true);
+        given(supplyRepository.decreaseCapacity(RESOURCE_ID, 1)).willReturn(0);
+        given(supplyRepository.findById(RESOURCE_ID))
+                .willReturn(Optional.of(Supplies.builder().name("노트북").capacity(0).build()));
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationService.createSupplyReservation(request, USER_ID));
+
+        assertEquals(ErrorCode.NOT_ENOUGH_CAPACITY, exception.getErrorCode());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    // 10-1. 비품 일괄 대여 중 재고 부족
+    @Test
+    @DisplayName("일괄 대여 중 한 비품이라도 재고가 모자라면 NOT_ENOUGH_CAPACITY 예외를 던지고 예약을 하나도 저장하지 않아야 한다")
+    void checkoutSupplies_OneOutOfStock_ShouldThrowException() {
+        // Given
+        // 같은 비품(200)은 수량을 합치고, id 순서(200 -> 300)로 차감
+        SupplyCheckoutRequest request = new SupplyCheckoutRequest(
+                LocalDateTime.of(2099, 3, 1, 9, 0), START, END, "신입 입사 준비",
+                List.of(new SupplyCheckoutRequest.Item(300L, 1),
+                        new SupplyCheckoutRequest.Item(RESOURCE_ID, 2),
+                        new SupplyCheckoutRequest.Item(RESOURCE_ID, 1)));
+        given(supplyRepository.decreaseCapacity(RESOURCE_ID, 3)).willReturn(1);
+        given(supplyRepository.findById(RESOURCE_ID))
+                .willReturn(Optional.of(Supplies.builder().name("노트북").capacity(7).build()));
+        given(supplyRepository.decreaseCapacity(300L, 1)).willReturn(0);
+        given(supplyRepository.findById(300L))
+                .willReturn(Optional.of(Supplies.builder().name("모니터").capacity(0).build()));
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationService.checkoutSupplies(request, USER_ID));
+
+        assertEquals(ErrorCode.NOT_ENOUGH_CAPACITY, exception.getErrorCode());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    // 10-2. 비품 일괄 대여 성공
+    @Test
+    @DisplayName("일괄 대여가 성공하면 비품마다 대여 수량을 담은 예약을 하나씩 저장해야 한다")
+    void checkoutSupplies_Success() {
+        // Given
+        SupplyCheckoutRequest request = new SupplyCheckoutRequest(
+                LocalDateTime.of(2099, 3, 1, 9, 0), START, END, "신입 입사 준비",
+                List.of(new SupplyCheckoutRequest.Item(RESOURCE_ID, 2), new SupplyCheckoutRequest.Item(300L, 1)));
+        given(supplyRepository.decreaseCapacity(RESOURCE_ID, 2)).willReturn(1);
+        given(supplyRepository.decreaseCapacity(300L, 1)).willReturn(1);
+        given(supplyRepository.findById(RESOURCE_ID))
+                .willReturn(Optional.of(Supplies.builder().name("노트북").capacity(8).build()));
+        given(supplyRepository.findById(300L))
+                .willReturn(Optional.of(Supplies.builder().name("모니터").capacity(4).build()));
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<ReservationAndSupply> result = reservationService.checkoutSupplies(request, USER_ID);
+
+        // Then
+        assertEquals(List.of(2, 1), result.stream().map(r -> r.reservationResponse().capacity()).toList());
+        assertEquals(List.of("노트북", "모니터"), result.stream().map(r -> r.supplies().name()).toList());
+        verify(reservationRepository, times(2)).save(any(Reservation.class));
+    }
+
+    // 11. 예약 목록 커서 페이지
+    @Test
+    @DisplayName("size 보다 한 건 더 조회되면 size 건만 돌려주고 마지막 id를 다음 커서로 줘야 한다")
+    void getReservations_hasNextPage() {
+        // Given
+        given(reservationRepository.findPage(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, 100L,
+                PageRequest.of(0, 3)))
+                .willReturn(List.of(reservation(99L), reservation(98L), reservation(97L)));
+
+        // When
+        ReservationPageResponse page = reservationService.getReservations(
+                ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END, 100L, 2);
+
+        // Then
+        assertEquals(List.of(99L, 98L), page.reservations().stream().map(r -> r.id()).toList());
+        assertEquals(98L, page.nextCursor());
+        assertEquals(true, page.hasNext());
+    }
+
+    // 12. 마지막 페이지 + 최대 페이지 크기
+    @Test
+    @DisplayName("size 는 최대 100건으로 제한되고, 남은 건이 size 이하이면 다음 커서가 없어야 한다")
+    void getReservations_lastPageAndMaxSize() {
+        // Given
+        given(reservationRepository.findPage(null, null, null, null, null, PageRequest.of(0, 101)))
+                .willReturn(List.of(reservation(2L), reservation(1L)));
+
+        // When
+        ReservationPageResponse page = reservationService.getReservations(null, null, null, null, null, 10_000);
+
+        // Then
+        assertEquals(2, page.reservations().size());
+        assertEquals(null, page.nextCursor());
+        assertEquals(false, page.hasNext());
+    }
+
+    // 13. 만료 처리와 엇갈린 비품 예약 수정
+    @Test
+    @DisplayName("수정하려고 잠글 때 이미 만료 처리된 비품 예약이면 수량을 늘려도 재고를 차감하지 않아야 한다")
+    void editReservation_ExpiredSupplies_ShouldNotTouchStock() {
+        // Given
+        given(reservationRepository.lockActiveById(RESERVATION_ID)).willReturn(0);
+        given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(supplyReservation(2)));
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        reservationService.editReservation(supplyUpdate(5), RESERVATION_ID);
+
+        // Then
+        verify(supplyRepository, never()).decreaseCapacity(any(), anyInt());
+        verify(supplyRepository, never()).increaseCapacity(any(), anyInt());
+    }
+
+    // 13-1. 만료 전 비품 예약 수정
+    @Test
+    @DisplayName("잠근 비품 예약이 아직 만료 전이면 다시 읽은 수량과의 차이만큼 재고를 차감해야 한다")
+    void editReservation_ActiveSupplies_ShouldTakeDelta() {
+        // Given
+        given(reservationRepository.lockActiveById(RESERVATION_ID)).willReturn(1);
+        given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(supplyReservation(2)));
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(supplyRepository.decreaseCapacity(RESOURCE_ID, 3)).willReturn(1);
+        given(supplyRepository.findById(RESOURCE_ID))
+                .willReturn(Optional.of(Supplies.builder().name("노트북").capacity(5).build()));
+
+        // When
+        reservationService.editReservation(supplyUpdate(5), RESERVATION_ID);
+
+        // Then
+        verify(supplyRepository, times(1)).decreaseCapacity(RESOURCE_ID, 3);
+    }
+
+    // 14. 다른 회의실로 옮기는 수정
+    @Test
+    @DisplayName("회의실 예약을 다른 회의실로 옮기면 두 회의실 행을 잠그고, 옮기기 전 구간의 대기를 전환해야 한다")
+    void editReservation_MoveRoom_ShouldPromoteFreedSlot() {
+        // Given
+        Long otherRoomId = 300L;
+        Reservation reservation = reservation(RESERVATION_ID);
+        given(reservationRepository.lockActiveById(RESERVATION_ID)).willReturn(1);
+        given(reservationRepository.findById(RESERVATION_ID)).willReturn(Optional.of(reservation));
+        given(reservationRepository.existsOverlapping(ResourceCategory.CONFERENCE_ROOM, otherRoomId, START, END, RESERVATION_ID))
+                .willReturn(false);
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        reservationService.editReservation(new UpdateReservationRequest(otherRoomId, START.minusDays(1), START, END, 4,
+                REASON, ResourceCategory.CONFERENCE_ROOM), RESERVATION_ID);
+
+        // Then
+        verify(resourceLocker, times(1)).lockRows(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID,
+                ResourceCategory.CONFERENCE_ROOM, otherRoomId);
+        verify(reservationWaitlistService, times(1)).promoteNext(ResourceCategory.CONFERENCE_ROOM, RESOURCE_ID, START, END);
+    }
+
+    private Reservation reservation(Long id) {
+        Reservation reservation = Reservation.builder()
+                .userId(USER_ID)
+                .resourceId(RESOURCE_ID)
+                .bookedDate(START.minusDays(1))
+                .startDate(START)
+                .endDate(END)
+                .capacity(4)
+                .reason(REASON)
+                .category(ResourceCategory.CONFERENCE_ROOM)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+
+    private Reservation supplyReservation(int quantity) {
+        Reservation reservation = Reservation.builder()
+                .userId(USER_ID)
+                .resourceId(RESOURCE_ID)
+                .bookedDate(START.minusDays(1))
+                .startDate(START)
+                .endDate(END)
+                .capacity(quantity)
+                .reason(REASON)
+                .category(ResourceCategory.SUPPLIES)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", RESERVATION_ID);
+        return reservation;
+    }
+
+    private UpdateReservationRequest supplyUpdate(int quantity) {
+        return new UpdateReservationRequest(
+                RESOURCE_ID, LocalDateTime.of(2099, 3, 1, 9, 0), START, END, quantity, REASON, ResourceCategory.SUPPLIES);
+    }
+
+    private CreateReservationRequest roomRequest(LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationRequest(
+                RESOURCE_ID, LocalDateTime.of(2099, 3, 1, 9, 0), start, end, 4, "주간 회의", ResourceCategory.CONFERENCE_ROOM);
+    }
+}
@@ -0,0 +1,215 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.analytics.ReservationUsageRecorder;
+import com.whatthefork.resourcereservation.resource.availability.ResourceAvailabilityIndex;
+import com.whatthefork.resourcereservation.resource.availability.ResourceLocker;
+import com.whatthefork.resourcereservation.resource.calendar.CalendarFeedVersions;
+import com.whatthefork.resourcereservation.resource.dto.request.create.CreateReservationRequest;
+import com.whatthefork.resourcereservation.resource.dto.response.ReservationWaitingResponse;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.entity.ReservationWaiting;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.enums.WaitingStatus;
+import com.whatthefork.resourcereservation.resource.event.ReservationEventOutbox;
+import com.whatthefork.resourcereservation.resource.event.ReservationPromotedEvent;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationWaitlistRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationWaitlistService - 예약 대기열 테스트")
+class ReservationWaitlistServiceTests {
+
+    @Mock
+    private ReservationWaitlistRepository waitlistRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ResourceAvailabilityIndex availabilityIndex;
+    @Mock
+    private ResourceLocker resourceLocker;
+
+    @Mock
+    private ReservationUsageRecorder usageRecorder;
+
+    @Mock
+    private CalendarFeedVersions feedVersions;
+
+    @Mock
+    private ReservationEventOutbox eventOutbox;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReservationWaitlistService reservationWaitlistService;
+
+    private final Long USER_ID = 100L;
+    private final Long ROOM_ID = 1L;
+    private final ResourceCategory ROOM = ResourceCategory.CONFERENCE_ROOM;
+    private final LocalDateTime START = LocalDateTime.of(2099, 3, 2, 10, 0);
+    private final LocalDateTime END = LocalDateTime.of(2099, 3, 2, 12, 0);
+
+    // 1. 비어 있는 시간대 대기 신청
+    @Test
+    @DisplayName("겹치는 예약이 없는 시간대에 대기 신청하면 WAITLIST_NOT_ALLOWED 예외를 던져야 한다")
+    void join_freeSlot_shouldThrowException() {
+        // Given
+        given(reservationRepository.existsOverlapping(ROOM, ROOM_ID, START, END, null)).willReturn(false);
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationWaitlistService.join(request(START, END), USER_ID));
+
+        assertEquals(ErrorCode.WAITLIST_NOT_ALLOWED, exception.getErrorCode());
+        verify(waitlistRepository, never()).save(any(ReservationWaiting.class));
+    }
+
+    // 2. 대기 신청 성공
+    @Test
+    @DisplayName("이미 예약된 시간대에 대기 신청하면 앞선 대기 수 + 1 을 대기 순번으로 돌려줘야 한다")
+    void join_takenSlot_returnsPosition() {
+        // Given
+        given(reservationRepository.existsOverlapping(ROOM, ROOM_ID, START, END, null)).willReturn(true);
+        given(waitlistRepository.save(any(ReservationWaiting.class))).willAnswer(invocation -> {
+            ReservationWaiting waiting = invocation.getArgument(0);
+            ReflectionTestUtils.setField(waiting, "id", 30L);
+            return waiting;
+        });
+        given(waitlistRepository.countWaitingAhead(ROOM, ROOM_ID, START, END, 30L)).willReturn(2L);
+
+        // When
+        ReservationWaitingResponse response = reservationWaitlistService.join(request(START, END), USER_ID);
+
+        // Then
+        assertEquals(30L, response.id());
+        assertEquals(3L, response.position());
+        assertEquals(WaitingStatus.WAITING, response.status());
+    }
+
+    // 3. 취소 시 신청 순서대로 전환
+    @Test
+    @DisplayName("예약이 취소되면 겹치던 대기를 신청 순서대로 전환하고, 앞선 전환으로 다시 찬 구간의 대기는 남겨야 한다")
+    void promoteNext_promotesInFifoOrder() {
+        // Given
+        // 10~11 (먼저 신청), 10:30~11:30 (10~11 과 겹침), 11~12
+        ReservationWaiting first = waiting(31L, START, START.plusHours(1));
+        ReservationWaiting second = waiting(32L, START.plusMinutes(30), START.plusMinutes(90));
+        ReservationWaiting third = waiting(33L, START.plusHours(1), END);
+        given(waitlistRepository.findWaitingOverlapping(ROOM, ROOM_ID, START, END))
+                .willReturn(List.of(first, second, third));
+
+        given(reservationRepository.existsOverlapping(ROOM, ROOM_ID, first.getStartDate(), first.getEndDate(), null))
+                .willReturn(false);
+        given(reservationRepository.existsOverlapping(ROOM, ROOM_ID, second.getStartDate(), second.getEndDate(), null))
+                .willReturn(true);
+        given(reservationRepository.existsOverlapping(ROOM, ROOM_ID, third.getStartDate(), third.getEndDate(), null))
+                .willReturn(false);
+
+        AtomicLong ids = new AtomicLong(60L);
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            ReflectionTestUtils.setField(reservation, "id", ids.getAndIncrement());
+            return reservation;
+        });
+
+        // When
+        List<Reservation> promoted = reservationWaitlistService.promoteNext(canceled());
+
+        // Then
+        assertEquals(List.of(START, START.plusHours(1)), promoted.stream().map(Reservation::getStartDate).toList());
+        assertEquals(WaitingStatus.PROMOTED, first.getStatus());
+        assertEquals(60L, first.getReservationId());
+        assertEquals(WaitingStatus.WAITING, second.getStatus());
+        assertEquals(WaitingStatus.PROMOTED, third.getStatus());
+        verify(resourceLocker, times(1)).lockRow(ROOM, ROOM_ID);
+        verify(eventPublisher, times(2)).publishEvent(any(ReservationPromotedEvent.class));
+        verify(availabilityIndex, times(2)).add(any(Reservation.class));
+    }
+
+    // 4. 대기자 없음
+    @Test
+    @DisplayName("겹치는 대기가 없으면 잠금 없이 아무것도 전환하지 않아야 한다")
+    void promoteNext_noWaiting() {
+        // Given
+        given(waitlistRepository.findWaitingOverlapping(ROOM, ROOM_ID, START, END)).willReturn(List.of());
+
+        // When
+        List<Reservation> promoted = reservationWaitlistService.promoteNext(canceled());
+
+        // Then
+        assertTrue(promoted.isEmpty());
+        verify(resourceLocker, never()).lockRow(any(), any());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    // 5. 다른 사람의 대기 취소
+    @Test
+    @DisplayName("다른 사용자의 대기를 취소하려 하면 NOT_ENOUGH_AUTHORITY 예외를 던져야 한다")
+    void leave_notOwner_shouldThrowException() {
+        // Given
+        given(waitlistRepository.findById(31L)).willReturn(Optional.of(waiting(31L, START, END)));
+
+        // When & Then
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                reservationWaitlistService.leave(31L, 999L));
+
+        assertEquals(ErrorCode.NOT_ENOUGH_AUTHORITY, exception.getErrorCode());
+    }
+
+    private CreateReservationRequest request(LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationRequest(ROOM_ID, START.minusDays(1), start, end, 4, "주간 회의", ROOM);
+    }
+
+    private ReservationWaiting waiting(Long id, LocalDateTime start, LocalDateTime end) {
+        ReservationWaiting waiting = ReservationWaiting.builder()
+                .userId(USER_ID)
+                .resourceId(ROOM_ID)
+                .category(ROOM)
+                .startDate(start)
+                .endDate(end)
+                .capacity(4)
+                .reason("주간 회의")
+                .requestedDate(START.minusDays(1))
+                .build();
+        ReflectionTestUtils.setField(waiting, "id", id);
+        return waiting;
+    }
+
+    private Reservation canceled() {
+        Reservation reservation = Reservation.builder()
+                .userId(200L)
+                .resourceId(ROOM_ID)
+                .bookedDate(START.minusDays(2))
+                .startDate(START)
+                .endDate(END)
+                .capacity(6)
+                .reason("취소된 회의")
+                .category(ROOM)
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", 50L);
+        return reservation;
+    }
+}
@@ -0,0 +1,141 @@
+package com.whatthefork.resourcereservation.resource.service;
+
+import com.whatthefork.resourcereservation.exception.BusinessException;
+import com.whatthefork.resourcereservation.exception.ErrorCode;
+import com.whatthefork.resourcereservation.resource.analytics.UsageBucketDelta;
+import com.whatthefork.resourcereservation.resource.analytics.UsageSlotSum;
+import com.whatthefork.resourcereservation.resource.dto.response.ResourceUtilizationResponse;
+import com.whatthefork.resourcereservation.resource.dto.response.UtilizationReportResponse;
+import com.whatthefork.resourcereservation.resource.entity.ConferenceRoom;
+import com.whatthefork.resourcereservation.resource.entity.Reservation;
+import com.whatthefork.resourcereservation.resource.enums.ResourceCategory;
+import com.whatthefork.resourcereservation.resource.repository.ConferenceRoomRepository;
+import com.whatthefork.resourcereservation.resource.repository.CorporateCarRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationUsageBulkRepository;
+import com.whatthefork.resourcereservation.resource.repository.ReservationUsageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UtilizationService - 자원 이용률 테스트")
+class UtilizationServiceTests {
+
+    @Mock
+    private ReservationUsageRepository usageRepository;
+    @Mock
+    private ReservationUsageBulkRepository usageBulkRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ConferenceRoomRepository conferenceRoomRepository;
+    @Mock
+    private CorporateCarRepository corporateCarRepository;
+
+    @InjectMocks
+    private UtilizationService utilizationService;
+
+    // 2099-03-02 는 월요일, 일주일 범위
+    private final LocalDate FROM = LocalDate.of(2099, 3, 2);
+    private final LocalDate TO = LocalDate.of(2099, 3, 9);
+
+    // 1. 시각별/요일별 비율 + 예약 없는 회의실 포함
+    @Test
+    @DisplayName("월요일 9~11시 예약 하나는 해당 시각/요일 비율에만 반영되고, 예약 없는 회의실은 0으로 포함되어야 한다")
+    void getReport_ratesByHourAndDay() {
+        // Given
+        given(conferenceRoomRepository.findAll()).willReturn(List.of(room(1L, "대회의실"), room(2L, "소회의실")));
+        given(usageRepository.sumBySlot(ResourceCategory.CONFERENCE_ROOM, null, FROM, TO)).willReturn(List.of(
+                new UsageSlotSum(1L, 1, 9, 60),
+                new UsageSlotSum(1L, 1, 10, 60)
+        ));
+
+        // When
+        UtilizationReportResponse report =
+                utilizationService.getReport(ResourceCategory.CONFERENCE_ROOM, null, FROM, TO);
+
+        // Then
+        ResourceUtilizationResponse busy = report.resources().get(0);
+        ResourceUtilizationResponse idle = report.resources().get(1);
+
+        assertEquals(1L, busy.resourceId());
+        assertEquals(0.1429, busy.byHourOfDay().get(9));          // 60분 / (7일 x 60분)
+        assertEquals(0.0, busy.byHourOfDay().get(11));
+        assertEquals(0.0833, busy.byDayOfWeek().get(DayOfWeek.MONDAY)); // 120분 / 1440분
+        assertEquals(0.0, busy.byDayOfWeek().get(DayOfWeek.TUESDAY));
+        assertEquals(0.0119, busy.utilization());                  // 120분 / (7일 x 1440분)
+
+        assertEquals(2L, idle.resourceId());
+        assertEquals(0.0, idle.utilization());
+
+        assertEquals(24, report.byHourOfDay().size());
+        assertEquals(0.0714, report.byHourOfDay().get(9));         // 회의실 2개 평균
+    }
+
+    // 2. 비품 / 너무 긴 기간
+    @Test
+    @DisplayName("비품이거나 기간이 366일을 넘으면 INVALID_UTILIZATION_RANGE 예외를 던져야 한다")
+    void getReport_invalidRange() {
+        // When & Then
+        BusinessException supplies = assertThrows(BusinessException.class, () ->
+                utilizationService.getReport(ResourceCategory.SUPPLIES, null, FROM, TO));
+        BusinessException tooLong = assertThrows(BusinessException.class, () ->
+                utilizationService.getReport(ResourceCategory.CONFERENCE_ROOM, null, FROM, FROM.plusDays(400)));
+
+        assertEquals(ErrorCode.INVALID_UTILIZATION_RANGE, supplies.getErrorCode());
+        assertEquals(ErrorCode.INVALID_UTILIZATION_RANGE, tooLong.getErrorCode());
+        verifyNoInteractions(usageRepository, conferenceRoomRepository);
+    }
+
+    // 3. 재계산은 기간 안쪽만 다시 더함
+    @Test
+    @DisplayName("재계산 시 기간 경계에 걸친 예약은 기간 안쪽 시간만 버킷에 더해야 한다")
+    @SuppressWarnings("unchecked")
+    void rebuild_clipsToRange() {
+        // Given
+        Reservation crossing = Reservation.builder()
+                .resourceId(1L)
+                .category(ResourceCategory.CONFERENCE_ROOM)
+                .startDate(LocalDateTime.of(2099, 3, 1, 23, 30))
+                .endDate(LocalDateTime.of(2099, 3, 2, 1, 0))
+                .build();
+        given(reservationRepository.findAllOverlappingInSpan(
+                ResourceCategory.CONFERENCE_ROOM, FROM.atStartOfDay(), TO.atStartOfDay()))
+                .willReturn(List.of(crossing));
+
+        // When
+        int rebuilt = utilizationService.rebuild(ResourceCategory.CONFERENCE_ROOM, FROM, TO);
+
+        // Then
+        ArgumentCaptor<List<UsageBucketDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(usageRepository).deleteRange(ResourceCategory.CONFERENCE_ROOM, FROM, TO);
+        verify(usageBulkRepository).addMinutes(captor.capture());
+
+        assertEquals(1, rebuilt);
+        assertEquals(List.of(new UsageBucketDelta(ResourceCategory.CONFERENCE_ROOM, 1L, FROM, 0, 60)),
+                captor.getValue());
+    }
+
+    private ConferenceRoom room(Long id, String name) {
+        ConferenceRoom room = ConferenceRoom.builder().name(name).maxCapacity(10).build();
+        ReflectionTestUtils.setField(room, "id", id);
+        return room;
+    }
+}
@@ -2,6 +2,7 @@ package com.whatthefork.userservice.config;
 
 import com.whatthefork.userservice.jwt.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,6 +25,9 @@ public class SecurityConfig {
     private final RestAuthenticationEntryPoint restAuthenticationEntryPoint;
     private final RestAccessDeniedHandler restAccessDeniedHandler;
 
+    @Value("${internal.api-token:}")
+    private String internalApiToken;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -42,6 +46,9 @@ public class SecurityConfig {
         .authorizeHttpRequests(auth ->
                 auth.requestMatchers(HttpMethod.POST, "/register", "/auth/login", "/auth/refresh", "/auth/logout").permitAll()
                         .requestMatchers("/users/me").permitAll()
+                        // 서버내부용 직원 목록 (@PreAuthorize 예외는 GlobalExceptionHandler 가 500 으로 바꾸므로 URL 단위로 막음)
+                        .requestMatchers(HttpMethod.GET, "/users", "/users/batch").hasAnyAuthority(
+                                InternalTokenAuthenticationFilter.AUTHORITY, "ADMIN")
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers(
                                 "/v3/api-docs/**",
@@ -50,7 +57,8 @@ public class SecurityConfig {
                         ).permitAll()
                         .anyRequest().authenticated()
         )
-        .addFilterBefore(headerAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(headerAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+        .addFilterAfter(new InternalTokenAuthenticationFilter(internalApiToken), HeaderAuthenticationFilter.class);
 
         return http.build();
     }
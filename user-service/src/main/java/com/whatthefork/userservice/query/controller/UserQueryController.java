@@ -3,6 +3,7 @@ package com.whatthefork.userservice.query.controller;
 import com.whatthefork.userservice.common.ApiResponse;
 import com.whatthefork.userservice.query.dto.UserDetailResponse;
 import com.whatthefork.userservice.query.dto.UserListResponse;
+import com.whatthefork.userservice.query.dto.UserSummaryListResponse;
 import com.whatthefork.userservice.query.service.UserQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -13,8 +14,11 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "User Query", description = "정보 조회 관련 API)")
 @RestController
 @RequiredArgsConstructor
@@ -53,6 +57,37 @@ public class UserQueryController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "서버내부용 직원 목록 페이지 조회", description = "직원번호 순으로 lastId 다음부터 size명씩(최대 1000명) 직원번호/이름/부서만 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "lastId보다 큰 직원번호를 가진 직원들의 정보를 최대 size명 조회"
+            )
+    })
+    @GetMapping("/users")
+    public ResponseEntity<ApiResponse<UserSummaryListResponse>> findUsers(
+            @RequestParam(defaultValue = "0") Long lastId,
+            @RequestParam(defaultValue = "500") int size
+    ) {
+        UserSummaryListResponse response = userQueryService.getUsersAfter(lastId, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "서버내부용 직원 일괄 조회", description = "직원번호 목록(최대 1000명)의 직원번호/이름/부서를 한 번에 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "요청된 직원번호 중 존재하는 직원들의 정보 조회"
+            )
+    })
+    @GetMapping("/users/batch")
+    public ResponseEntity<ApiResponse<UserSummaryListResponse>> findUsersByIds(
+            @RequestParam List<Long> ids
+    ) {
+        UserSummaryListResponse response = userQueryService.getUsersByIds(ids);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @Operation(summary = "전체 직원 목록 조회", description = "등록된 모든 직원들의 정보를 조회합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
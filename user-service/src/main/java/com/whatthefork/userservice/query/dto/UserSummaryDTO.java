@@ -0,0 +1,13 @@
+package com.whatthefork.userservice.query.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 서버내부용 직원 목록 (연차 부여/근무 정책에 필요한 컬럼만)
+@Getter
+@Setter
+public class UserSummaryDTO {
+    private Long id;
+    private String name;
+    private String dept_id;
+}
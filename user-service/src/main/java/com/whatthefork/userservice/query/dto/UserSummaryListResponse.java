@@ -0,0 +1,12 @@
+package com.whatthefork.userservice.query.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class UserSummaryListResponse {
+    private List<UserSummaryDTO> users;
+}
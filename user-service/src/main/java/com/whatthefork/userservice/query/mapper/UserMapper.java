@@ -1,7 +1,9 @@
 package com.whatthefork.userservice.query.mapper;
 
 import com.whatthefork.userservice.query.dto.UserDTO;
+import com.whatthefork.userservice.query.dto.UserSummaryDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -13,4 +15,8 @@ public interface UserMapper {
     UserDTO findUserById(Long userId);
 
     UserDTO findUserByEmail(String email);
+
+    List<UserSummaryDTO> findUsersAfterId(@Param("lastId") Long lastId, @Param("size") int size);
+
+    List<UserSummaryDTO> findUsersByIds(@Param("ids") List<Long> ids);
 }
@@ -4,6 +4,8 @@ import com.whatthefork.userservice.exception.UserNotFoundException;
 import com.whatthefork.userservice.query.dto.UserDTO;
 import com.whatthefork.userservice.query.dto.UserDetailResponse;
 import com.whatthefork.userservice.query.dto.UserListResponse;
+import com.whatthefork.userservice.query.dto.UserSummaryDTO;
+import com.whatthefork.userservice.query.dto.UserSummaryListResponse;
 import com.whatthefork.userservice.query.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,6 +17,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserQueryService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final UserMapper userMapper;
 
     public UserDetailResponse getUserDetail(Long userId) {
@@ -40,6 +44,22 @@ public class UserQueryService {
                 .build();
     }
 
+    public UserSummaryListResponse getUsersAfter(Long lastId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<UserSummaryDTO> users = userMapper.findUsersAfterId(lastId == null ? 0L : lastId, pageSize);
+        return UserSummaryListResponse.builder()
+                .users(users)
+                .build();
+    }
+
+    public UserSummaryListResponse getUsersByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().limit(MAX_PAGE_SIZE).toList();
+        List<UserSummaryDTO> users = distinctIds.isEmpty() ? List.of() : userMapper.findUsersByIds(distinctIds);
+        return UserSummaryListResponse.builder()
+                .users(users)
+                .build();
+    }
+
 //    public String getUserGrade(Long userId) {
 //        UserDTO user = userMapper.findUserById(userId);
 //        if (user == null) {